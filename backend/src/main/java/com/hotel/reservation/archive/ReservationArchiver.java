@@ -0,0 +1,63 @@
+package com.hotel.reservation.archive;
+
+import com.hotel.reservation.repository.ReservationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Scheduled job that moves checked-out and cancelled reservations whose stay
+ * ended before the retention horizon, with their payments, to the archive
+ * collections. Keeps the hot collections, and their indexes, sized to the
+ * reservations that can still change.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.archive", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ReservationArchiver {
+
+    private final ReservationRepository reservationRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.archive.horizon-days:365}")
+    private int horizonDays;
+
+    @Value("${app.archive.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.archive.max-batches:200}")
+    private int maxBatches;
+
+    public ReservationArchiver(ReservationRepository reservationRepository, MeterRegistry meterRegistry) {
+        this.reservationRepository = reservationRepository;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Archive in batches until a batch comes back short or the per-run cap is reached.
+     */
+    @Scheduled(cron = "${app.archive.cron:0 30 3 * * *}")
+    public void archive() {
+        LocalDate cutoff = LocalDate.now().minusDays(horizonDays);
+        long moved = 0;
+        for (int i = 0; i < maxBatches; i++) {
+            int batch = reservationRepository.archiveBatch(cutoff, batchSize);
+            moved += batch;
+            if (batch < batchSize) {
+                break;
+            }
+        }
+        meterRegistry.counter("hotelx.archive.reservations").increment(moved);
+        if (moved > 0) {
+            log.info("Archived {} reservations checked out before {}", moved, cutoff);
+        }
+    }
+}
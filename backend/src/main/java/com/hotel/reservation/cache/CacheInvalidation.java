@@ -0,0 +1,69 @@
+package com.hotel.reservation.cache;
+
+/**
+ * Invalidation events published to local caches when a room, user or
+ * reservation changes on any instance. Listen for the type you cache with
+ * {@code @EventListener}. A null id means any document of that kind may have
+ * changed (version polling, a dropped collection or a gap in the change
+ * stream), so the whole cache should be dropped.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+public sealed interface CacheInvalidation {
+
+    /**
+     * @return ID of the changed document, or null if everything may have changed
+     */
+    String id();
+
+    /**
+     * @return true if the whole cache should be dropped
+     */
+    default boolean all() {
+        return id() == null;
+    }
+
+    /**
+     * A room was inserted, updated or deleted.
+     *
+     * @param id room ID, or null for all rooms
+     */
+    record RoomChanged(String id) implements CacheInvalidation {
+    }
+
+    /**
+     * A user was inserted, updated or deleted.
+     *
+     * @param id user ID, or null for all users
+     */
+    record UserChanged(String id) implements CacheInvalidation {
+    }
+
+    /**
+     * A reservation was inserted, updated or deleted, so the availability of
+     * its room may have changed.
+     *
+     * @param id reservation ID, or null for all reservations
+     * @param roomId room of the reservation, or null if unknown (e.g. after a delete)
+     */
+    record ReservationChanged(String id, String roomId) implements CacheInvalidation {
+    }
+
+    /**
+     * Event for one document of a watched collection.
+     *
+     * @param collection collection name
+     * @param id document ID, or null for the whole collection
+     * @param roomId room of a reservation, if known
+     * @return the event, or null if the collection is not watched
+     */
+    static CacheInvalidation of(String collection, String id, String roomId) {
+        return switch (collection) {
+            case CacheVersions.ROOMS -> new RoomChanged(id);
+            case CacheVersions.USERS -> new UserChanged(id);
+            case CacheVersions.RESERVATIONS -> new ReservationChanged(id, roomId);
+            default -> null;
+        };
+    }
+}
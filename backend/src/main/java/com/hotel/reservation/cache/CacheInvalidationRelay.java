@@ -0,0 +1,344 @@
+package com.hotel.reservation.cache;
+
+import com.mongodb.DBRef;
+import com.mongodb.MongoCommandException;
+import com.mongodb.MongoException;
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Turns changes to rooms, users and reservations made by any instance into
+ * {@link CacheInvalidation} events for this instance's local caches.
+ *
+ * One background thread follows a change stream over the three collections.
+ * Its resume token is saved to cache_resume_tokens (per node) every few
+ * seconds and on shutdown, so a reconnect or restart continues where it left
+ * off; if the server no longer has that history, every cache is dropped and
+ * the stream starts afresh. In auto mode, when the server rejects the first
+ * change stream (standalone servers, DocumentDB without change streams) the
+ * thread falls back to polling {@link CacheVersions} instead.
+ *
+ * Metrics: hotelx.cache.invalidation.lag times each change from the write
+ * (server wall clock, or writer clock when polling) to the event, tagged with
+ * collection and source; hotelx.cache.invalidation.staleness is how long ago
+ * the thread last knew it had seen every change, which bounds how stale a
+ * cache can be.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.cache-invalidation", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+public class CacheInvalidationRelay {
+
+    static final String TOKEN_COLLECTION = "cache_resume_tokens";
+
+    /** Server codes meaning the saved resume token is no longer usable. */
+    private static final Set<Integer> HISTORY_LOST = Set.of(260, 280, 286);
+
+    private final MongoTemplate mongoTemplate;
+    private final CacheVersions cacheVersions;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.cache-invalidation.mode:auto}")
+    private String mode;
+
+    @Value("${app.cache-invalidation.node-id:local}")
+    private String nodeId;
+
+    @Value("${app.cache-invalidation.poll-interval-ms:2000}")
+    private long pollIntervalMs;
+
+    @Value("${app.cache-invalidation.token-save-interval-ms:5000}")
+    private long tokenSaveIntervalMs;
+
+    @Value("${app.cache-invalidation.retry-ms:5000}")
+    private long retryMs;
+
+    @Value("${app.cache-invalidation.token-ttl-days:7}")
+    private long tokenTtlDays;
+
+    private final Map<String, Timer> lagTimers = new HashMap<>();
+    private volatile long caughtUpAt = System.currentTimeMillis();
+    private volatile boolean running;
+    private boolean streamOpened;
+    private Thread thread;
+
+    private BsonDocument resumeToken;
+    private long tokenSavedAt;
+
+    public CacheInvalidationRelay(MongoTemplate mongoTemplate,
+                                  CacheVersions cacheVersions,
+                                  ApplicationEventPublisher eventPublisher,
+                                  MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.cacheVersions = cacheVersions;
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void start() {
+        Gauge.builder("hotelx.cache.invalidation.staleness", this,
+                        relay -> System.currentTimeMillis() - relay.caughtUpAt)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        running = true;
+        thread = new Thread(this::run, "cache-invalidation");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        thread.interrupt();
+        thread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private void run() {
+        boolean changeStreams = !"poll".equalsIgnoreCase(mode);
+        if (changeStreams) {
+            resumeToken = loadToken();
+        }
+        while (running) {
+            try {
+                if (changeStreams) {
+                    follow();
+                } else {
+                    poll();
+                }
+            } catch (MongoCommandException e) {
+                if (changeStreams && HISTORY_LOST.contains(e.getErrorCode())) {
+                    log.warn("Change stream history lost ({}); dropping all caches", e.getErrorCodeName());
+                    resumeToken = null;
+                    publishAll("resync");
+                } else if (changeStreams && !streamOpened && "auto".equalsIgnoreCase(mode)) {
+                    log.warn("Change streams unavailable ({}); polling {} instead",
+                            e.getErrorMessage(), CacheVersions.COLLECTION);
+                    changeStreams = false;
+                } else {
+                    log.error("Cache invalidation failed; retrying in {} ms", retryMs, e);
+                    sleep(retryMs);
+                }
+            } catch (MongoException | DataAccessException e) {
+                if (running) {
+                    log.warn("Cache invalidation interrupted; retrying in {} ms: {}", retryMs, e.getMessage());
+                    sleep(retryMs);
+                }
+            }
+        }
+        // Clear a pending interrupt so the final token save can reach the server
+        Thread.interrupted();
+        saveToken();
+    }
+
+    /**
+     * Follow the change stream until it ends (collection dropped) or the thread stops.
+     */
+    private void follow() {
+        cacheVersions.setBumping(false);
+        List<Bson> pipeline = List.of(
+                Aggregates.match(Filters.in("ns.coll", CacheVersions.WATCHED)),
+                Aggregates.project(Projections.include("_id", "ns", "documentKey", "operationType",
+                        "clusterTime", "wallTime", "fullDocument.room")));
+        ChangeStreamIterable<Document> stream = mongoTemplate.getDb().watch(pipeline)
+                .fullDocument(FullDocument.UPDATE_LOOKUP)
+                .maxAwaitTime(1, TimeUnit.SECONDS);
+        if (resumeToken != null) {
+            stream = stream.startAfter(resumeToken);
+        }
+
+        try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = stream.cursor()) {
+            streamOpened = true;
+            while (running) {
+                ChangeStreamDocument<Document> change = cursor.tryNext();
+                if (change == null) {
+                    caughtUpAt = System.currentTimeMillis();
+                } else if (!handle(change)) {
+                    resumeToken = change.getResumeToken();
+                    return;
+                }
+                if (cursor.getResumeToken() != null) {
+                    resumeToken = cursor.getResumeToken();
+                }
+                if (System.currentTimeMillis() - tokenSavedAt >= tokenSaveIntervalMs) {
+                    saveToken();
+                }
+            }
+        }
+    }
+
+    /**
+     * Publish the event for one change.
+     *
+     * @return false if the stream was invalidated and has to be reopened
+     */
+    private boolean handle(ChangeStreamDocument<Document> change) {
+        String collection = change.getNamespace() != null ? change.getNamespace().getCollectionName() : null;
+        String operation = change.getOperationTypeString();
+        if (collection == null || "drop".equals(operation) || "rename".equals(operation)
+                || "invalidate".equals(operation)) {
+            if (collection != null) {
+                publish(CacheInvalidation.of(collection, null, null), collection, "change-stream",
+                        lagMillis(change));
+            } else {
+                publishAll("change-stream");
+            }
+            return !"invalidate".equals(operation);
+        }
+
+        String roomId = null;
+        Document fullDocument = change.getFullDocument();
+        if (fullDocument != null && fullDocument.get("room") instanceof DBRef room) {
+            roomId = room.getId().toString();
+        }
+        publish(CacheInvalidation.of(collection, documentId(change.getDocumentKey()), roomId), collection,
+                "change-stream", lagMillis(change));
+        return true;
+    }
+
+    /**
+     * Poll the version documents until the thread stops.
+     */
+    private void poll() {
+        cacheVersions.setBumping(true);
+        Map<String, CacheVersions.Version> seen = cacheVersions.read();
+        caughtUpAt = System.currentTimeMillis();
+        while (running) {
+            sleep(pollIntervalMs);
+            Map<String, CacheVersions.Version> current = cacheVersions.read();
+            current.forEach((collection, version) -> {
+                CacheVersions.Version previous = seen.get(collection);
+                if (previous == null || previous.version() != version.version()) {
+                    long lag = version.changedAt() == null ? -1
+                            : System.currentTimeMillis() - version.changedAt().getTime();
+                    publish(CacheInvalidation.of(collection, null, null), collection, "version-poll", lag);
+                }
+            });
+            seen.clear();
+            seen.putAll(current);
+            caughtUpAt = System.currentTimeMillis();
+        }
+    }
+
+    private void publishAll(String source) {
+        for (String collection : CacheVersions.WATCHED) {
+            publish(CacheInvalidation.of(collection, null, null), collection, source, -1);
+        }
+    }
+
+    private void publish(CacheInvalidation event, String collection, String source, long lagMillis) {
+        if (event == null) {
+            return;
+        }
+        try {
+            eventPublisher.publishEvent(event);
+        } catch (RuntimeException e) {
+            log.error("Cache invalidation listener failed for {}", event, e);
+        }
+        if (lagMillis >= 0) {
+            lagTimers.computeIfAbsent(collection + '/' + source, key -> Timer.builder("hotelx.cache.invalidation.lag")
+                    .tag("collection", collection)
+                    .tag("source", source)
+                    .register(meterRegistry))
+                    .record(lagMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static long lagMillis(ChangeStreamDocument<Document> change) {
+        long writtenAt;
+        if (change.getWallTime() != null) {
+            writtenAt = change.getWallTime().getValue();
+        } else if (change.getClusterTime() != null) {
+            writtenAt = change.getClusterTime().getTime() * 1000L;
+        } else {
+            return -1;
+        }
+        return Math.max(0, System.currentTimeMillis() - writtenAt);
+    }
+
+    private static String documentId(BsonDocument documentKey) {
+        BsonValue id = documentKey == null ? null : documentKey.get("_id");
+        if (id == null) {
+            return null;
+        }
+        if (id.isObjectId()) {
+            return id.asObjectId().getValue().toHexString();
+        }
+        return id.isString() ? id.asString().getValue() : id.toString();
+    }
+
+    private BsonDocument loadToken() {
+        try {
+            MongoCollection<Document> tokens = mongoTemplate.getCollection(TOKEN_COLLECTION);
+            // Tokens of replaced nodes (e.g. old ECS tasks) expire on their own
+            tokens.createIndex(Indexes.ascending("updatedAt"),
+                    new IndexOptions().expireAfter(tokenTtlDays, TimeUnit.DAYS));
+            Document saved = tokens.find(Filters.eq("_id", nodeId)).first();
+            Document token = saved == null ? null : saved.get("token", Document.class);
+            return token == null ? null : token.toBsonDocument();
+        } catch (MongoException | DataAccessException e) {
+            log.warn("Could not load change stream resume token: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void saveToken() {
+        if (resumeToken == null) {
+            return;
+        }
+        tokenSavedAt = System.currentTimeMillis();
+        try {
+            mongoTemplate.getCollection(TOKEN_COLLECTION).replaceOne(Filters.eq("_id", nodeId),
+                    new Document("_id", nodeId).append("token", resumeToken).append("updatedAt", new Date()),
+                    new ReplaceOptions().upsert(true));
+        } catch (MongoException | DataAccessException e) {
+            log.warn("Could not save change stream resume token: {}", e.getMessage());
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.hotel.reservation.cache;
+
+import com.mongodb.MongoException;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.Updates;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Per-collection version counters in cache_versions, the fallback for
+ * servers without change streams (standalone servers, DocumentDB clusters
+ * with change streams disabled). While polling is active, every save or
+ * delete of a room, user or reservation through a repository or
+ * MongoTemplate save/delete bumps its collection's version, and
+ * {@link CacheInvalidationRelay} drops the matching caches when it sees a
+ * new version. Conditional updates (findAndModify, updateMulti) raise no
+ * mapping event and are only caught by the caches' own max age.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class CacheVersions extends AbstractMongoEventListener<Object> {
+
+    static final String COLLECTION = "cache_versions";
+    static final String ROOMS = "rooms";
+    static final String USERS = "users";
+    static final String RESERVATIONS = "reservations";
+    static final Set<String> WATCHED = Set.of(ROOMS, USERS, RESERVATIONS);
+
+    private final MongoTemplate mongoTemplate;
+
+    private volatile boolean bumping;
+
+    public CacheVersions(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * A collection's version and when it last changed (writer's clock).
+     */
+    record Version(long version, Date changedAt) {
+    }
+
+    /**
+     * Start or stop bumping versions on writes.
+     *
+     * @param bumping true while this instance polls versions (instances share
+     *                one database, so they all fall back together)
+     */
+    void setBumping(boolean bumping) {
+        this.bumping = bumping;
+    }
+
+    /**
+     * @return current versions by collection
+     */
+    Map<String, Version> read() {
+        Map<String, Version> versions = new HashMap<>();
+        for (Document document : mongoTemplate.getCollection(COLLECTION).find()) {
+            Number version = document.get("version", Number.class);
+            versions.put(document.getString("_id"),
+                    new Version(version == null ? 0 : version.longValue(), document.getDate("changedAt")));
+        }
+        return versions;
+    }
+
+    /**
+     * Record a change to a watched collection.
+     *
+     * @param collection collection name
+     */
+    void bump(String collection) {
+        mongoTemplate.getCollection(COLLECTION).updateOne(Filters.eq("_id", collection),
+                Updates.combine(Updates.inc("version", 1L), Updates.set("changedAt", new Date())),
+                new UpdateOptions().upsert(true));
+    }
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<Object> event) {
+        bumpIfWatched(event.getCollectionName());
+    }
+
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<Object> event) {
+        bumpIfWatched(event.getCollectionName());
+    }
+
+    private void bumpIfWatched(String collection) {
+        if (!bumping || !WATCHED.contains(collection)) {
+            return;
+        }
+        try {
+            bump(collection);
+        } catch (DataAccessException | MongoException e) {
+            // The write itself succeeded; other instances catch up through their max age
+            log.warn("Could not bump cache version of {}: {}", collection, e.getMessage());
+        }
+    }
+}
@@ -7,6 +7,7 @@ import com.hotel.reservation.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
@@ -15,8 +16,10 @@ import java.util.List;
 
 /**
  * Data loader to initialize the database with sample data.
+ * Skipped under the datagen profile, which loads its own dataset.
  */
 @Component
+@Profile("!datagen")
 @RequiredArgsConstructor
 @Slf4j
 public class DataLoader implements CommandLineRunner {
@@ -0,0 +1,103 @@
+package com.hotel.reservation.config;
+
+import com.hotel.reservation.persistence.IdentityMapDbRefResolver;
+import com.hotel.reservation.persistence.ReadRoute;
+import com.hotel.reservation.persistence.ReadRouteInterceptor;
+import com.hotel.reservation.persistence.RequestUnitOfWork;
+import com.hotel.reservation.persistence.RoutingMongoTemplate;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.MongoTransactionManager;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.DefaultDbRefResolver;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+/**
+ * MongoDB configuration.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Configuration
+public class MongoConfig {
+
+    /**
+     * Transaction manager backing the services' @Transactional methods, so a
+     * state change and its outbox event commit atomically.
+     * Requires a replica set (or sharded cluster); standalone servers reject
+     * transactions, so it is opt-in.
+     *
+     * @param databaseFactory MongoDB database factory
+     * @return MongoTransactionManager
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "app.mongodb.transactions", name = "enabled", havingValue = "true")
+    public MongoTransactionManager transactionManager(MongoDatabaseFactory databaseFactory) {
+        return new MongoTransactionManager(databaseFactory);
+    }
+
+    /**
+     * Mapping converter whose DBRef lookups go through the request identity map.
+     * Otherwise configured like Spring Boot's default converter.
+     *
+     * @param databaseFactory MongoDB database factory
+     * @param mappingContext mapping context
+     * @param conversions custom conversions
+     * @param unitOfWork request identity map
+     * @return MappingMongoConverter
+     */
+    @Bean
+    public MappingMongoConverter mappingMongoConverter(MongoDatabaseFactory databaseFactory,
+                                                       MongoMappingContext mappingContext,
+                                                       MongoCustomConversions conversions,
+                                                       RequestUnitOfWork unitOfWork) {
+        IdentityMapDbRefResolver dbRefResolver =
+                new IdentityMapDbRefResolver(new DefaultDbRefResolver(databaseFactory), unitOfWork);
+        MappingMongoConverter converter = new MappingMongoConverter(dbRefResolver, mappingContext);
+        converter.setCustomConversions(conversions);
+        return converter;
+    }
+
+    /**
+     * MongoTemplate that honours {@link ReadRoute} routes; replaces Spring
+     * Boot's default template, so repositories use it too.
+     *
+     * @param databaseFactory MongoDB database factory
+     * @param converter mapping converter
+     * @return RoutingMongoTemplate
+     */
+    @Bean
+    public MongoTemplate mongoTemplate(MongoDatabaseFactory databaseFactory, MappingMongoConverter converter) {
+        return new RoutingMongoTemplate(databaseFactory, converter);
+    }
+
+    /**
+     * Advisor activating {@link ReadRoute} routes on annotated service,
+     * controller and repository methods (or classes). Without it every read
+     * goes to the primary.
+     *
+     * @param meterRegistry registry for the per-route timers
+     * @return advisor
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    @ConditionalOnProperty(prefix = "app.mongodb.read-routing", name = "enabled", havingValue = "true",
+            matchIfMissing = true)
+    public static Advisor readRouteAdvisor(ObjectProvider<MeterRegistry> meterRegistry) {
+        ComposablePointcut pointcut = new ComposablePointcut(new AnnotationMatchingPointcut(ReadRoute.class, true))
+                .union(new AnnotationMatchingPointcut(null, ReadRoute.class, true));
+        return new DefaultPointcutAdvisor(pointcut, new ReadRouteInterceptor(meterRegistry));
+    }
+}
@@ -0,0 +1,35 @@
+package com.hotel.reservation.config;
+
+import com.hotel.reservation.security.ratelimit.LocalRateLimitStore;
+import com.hotel.reservation.security.ratelimit.MongoRateLimitStore;
+import com.hotel.reservation.security.ratelimit.RateLimitProperties;
+import com.hotel.reservation.security.ratelimit.RateLimitStore;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+/**
+ * Rate limiting configuration.
+ * Selects the bucket store according to app.rate-limit.store.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Configuration
+public class RateLimitConfig {
+
+    /**
+     * Configure the rate limit bucket store.
+     *
+     * @param properties rate limit properties
+     * @param mongoTemplate MongoDB template for the shared store
+     * @return RateLimitStore
+     */
+    @Bean
+    public RateLimitStore rateLimitStore(RateLimitProperties properties, MongoTemplate mongoTemplate) {
+        if (properties.getStore() == RateLimitProperties.Store.MONGO) {
+            return new MongoRateLimitStore(mongoTemplate);
+        }
+        return new LocalRateLimitStore(properties.getMaxBuckets());
+    }
+}
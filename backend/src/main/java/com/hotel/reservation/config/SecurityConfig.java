@@ -2,6 +2,7 @@ package com.hotel.reservation.config;
 
 import com.hotel.reservation.security.CustomUserDetailsService;
 import com.hotel.reservation.security.JwtAuthenticationFilter;
+import com.hotel.reservation.security.ratelimit.RateLimitFilter;
 import com.hotel.reservation.security.oauth2.CustomOAuth2UserService;
 import com.hotel.reservation.security.oauth2.CustomOidcUserService;
 import com.hotel.reservation.security.oauth2.OAuth2AuthenticationSuccessHandler;
@@ -48,6 +49,7 @@ public class SecurityConfig {
     private final OAuth2AuthenticationSuccessHandler oAuth2AuthenticationSuccessHandler;
     private final OAuth2AuthenticationFailureHandler oAuth2AuthenticationFailureHandler;
     private final SecurityHeadersConfig securityHeadersConfig;
+    private final RateLimitFilter rateLimitFilter;
 
     @Value("${app.cors.allowed-origins}")
     private String allowedOrigins;
@@ -90,6 +92,7 @@ public class SecurityConfig {
             )
             .authenticationProvider(authenticationProvider())
             .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+            .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class)
             .addFilterAfter(securityHeadersConfig, SecurityContextHolderFilter.class);
 
         return http.build();
@@ -2,25 +2,36 @@ package com.hotel.reservation.controller;
 
 import com.hotel.reservation.dto.ManagerBookingRequest;
 import com.hotel.reservation.dto.ManagerBookingResponse;
+import com.hotel.reservation.dto.view.PaymentSummary;
+import com.hotel.reservation.dto.view.ReservationDetail;
+import com.hotel.reservation.dto.view.ReservationSummary;
 import com.hotel.reservation.dto.TokenBookingRequest;
 import com.hotel.reservation.dto.UserDto;
+import com.hotel.reservation.exception.NotFoundException;
 import com.hotel.reservation.model.Payment;
+import com.hotel.reservation.model.ReconciliationReport;
 import com.hotel.reservation.model.Reservation;
 import com.hotel.reservation.model.Room;
 import com.hotel.reservation.model.User;
+import com.hotel.reservation.payment.StripeUnavailableException;
+import com.hotel.reservation.persistence.ReadRoute;
+import com.hotel.reservation.repository.ReconciliationReportRepository;
 import com.hotel.reservation.repository.ReservationRepository;
 import com.hotel.reservation.repository.RoomRepository;
 import com.hotel.reservation.repository.UserRepository;
 import com.hotel.reservation.service.PaymentService;
 import com.hotel.reservation.service.ReservationService;
+import com.hotel.reservation.stream.SseHub;
 import com.stripe.exception.StripeException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -38,11 +49,14 @@ public class AdminController {
     private final ReservationRepository reservationRepository;
     private final ReservationService reservationService;
     private final PaymentService paymentService;
+    private final ReconciliationReportRepository reconciliationReportRepository;
     private final PasswordEncoder passwordEncoder;
+    private final SseHub sseHub;
 
     // Dashboard Overview
     @GetMapping("/dashboard")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    @ReadRoute(value = "reporting", maxStalenessSeconds = 300)
     public ResponseEntity<Map<String, Object>> getDashboardOverview() {
         log.info("Getting dashboard overview");
 
@@ -99,6 +113,7 @@ public class AdminController {
     // User Management
     @GetMapping("/users")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    @ReadRoute(value = "reporting", maxStalenessSeconds = 300)
     public ResponseEntity<List<UserDto>> getAllUsers() {
         log.info("Getting all users");
         List<User> users = userRepository.findAll();
@@ -113,7 +128,7 @@ public class AdminController {
     public ResponseEntity<UserDto> getUserById(@PathVariable String id) {
         log.info("Getting user by id: {}", id);
         User user = userRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+                .orElseThrow(() -> new NotFoundException("User", id));
         return ResponseEntity.ok(convertToDto(user));
     }
 
@@ -125,7 +140,7 @@ public class AdminController {
         log.info("Updating user status: {}", id);
 
         User user = userRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+                .orElseThrow(() -> new NotFoundException("User", id));
 
         user.setEnabled(request.get("enabled"));
         User updatedUser = userRepository.save(user);
@@ -144,6 +159,7 @@ public class AdminController {
     // Room Management
     @GetMapping("/rooms")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    @ReadRoute(value = "reporting", maxStalenessSeconds = 300)
     public ResponseEntity<List<Room>> getAllRooms() {
         log.info("Getting all rooms");
         return ResponseEntity.ok(roomRepository.findAll());
@@ -151,6 +167,7 @@ public class AdminController {
 
     @GetMapping("/rooms/statistics")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    @ReadRoute(value = "reporting", maxStalenessSeconds = 300)
     public ResponseEntity<Map<String, Object>> getRoomStatistics() {
         log.info("Getting room statistics");
 
@@ -193,17 +210,41 @@ public class AdminController {
         return ResponseEntity.ok(statistics);
     }
 
+    /**
+     * Latest Stripe reconciliation reports, newest first.
+     */
+    @GetMapping("/reconciliation/reports")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<ReconciliationReport>> getReconciliationReports() {
+        return ResponseEntity.ok(reconciliationReportRepository.findTop50ByOrderByStartedAtDesc());
+    }
+
+    /**
+     * Stream dashboard counter increments driven by reservation and payment events.
+     * Clients load the dashboard once, then apply deltas and reload on "resync".
+     */
+    @GetMapping(value = "/dashboard/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<SseEmitter> streamDashboard() {
+        SseEmitter emitter = sseHub.subscribe(SseHub.Topic.DASHBOARD, data -> true);
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return ResponseEntity.ok(emitter);
+    }
+
     // Reservation Management
     @GetMapping("/reservations")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
-    public ResponseEntity<List<Reservation>> getAllReservations() {
+    @ReadRoute(value = "reporting", maxStalenessSeconds = 300)
+    public ResponseEntity<List<ReservationSummary>> getAllReservations() {
         log.info("Getting all reservations");
-        return ResponseEntity.ok(reservationRepository.findAll());
+        return ResponseEntity.ok(reservationService.getAllReservations());
     }
 
     @GetMapping("/reservations/date-range")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
-    public ResponseEntity<List<Reservation>> getReservationsByDateRange(
+    public ResponseEntity<List<ReservationSummary>> getReservationsByDateRange(
             @RequestParam String startDate,
             @RequestParam String endDate) {
         log.info("Getting reservations by date range: {} to {}", startDate, endDate);
@@ -211,33 +252,29 @@ public class AdminController {
         LocalDate start = LocalDate.parse(startDate);
         LocalDate end = LocalDate.parse(endDate);
 
-        List<Reservation> reservations = reservationRepository
-                .findByCheckInDateBetween(start, end);
+        List<ReservationSummary> reservations = reservationService.getReservationsByCheckInDate(start, end);
 
         return ResponseEntity.ok(reservations);
     }
 
     @PutMapping("/reservations/{id}/status")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
-    public ResponseEntity<Reservation> updateReservationStatus(
+    public ResponseEntity<ReservationDetail> updateReservationStatus(
             @PathVariable String id,
             @RequestBody Map<String, String> request) {
         log.info("Updating reservation status: {}", id);
 
-        Reservation reservation = reservationRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Reservation not found"));
-
         String statusStr = request.get("status");
         Reservation.ReservationStatus status = Reservation.ReservationStatus.valueOf(statusStr);
 
-        reservation.setStatus(status);
-        Reservation updatedReservation = reservationRepository.save(reservation);
+        Reservation updatedReservation = reservationService.updateStatus(id, status);
 
-        return ResponseEntity.ok(updatedReservation);
+        return ResponseEntity.ok(ReservationDetail.from(updatedReservation));
     }
 
     @GetMapping("/reservations/statistics")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    @ReadRoute(value = "reporting", maxStalenessSeconds = 300)
     public ResponseEntity<Map<String, Object>> getReservationStatistics() {
         log.info("Getting reservation statistics");
 
@@ -351,8 +388,8 @@ public class AdminController {
 
             // Build response
             ManagerBookingResponse response = new ManagerBookingResponse();
-            response.setReservation(reservation);
-            response.setPayment(payment);
+            response.setReservation(ReservationDetail.from(reservation));
+            response.setPayment(PaymentSummary.from(payment));
             response.setCustomerId(customer.getId());
             response.setMessage("Booking created successfully and payment processed securely");
 
@@ -361,6 +398,13 @@ public class AdminController {
 
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
 
+        } catch (StripeUnavailableException e) {
+            log.warn("Payment not attempted, Stripe unavailable: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(Map.of(
+                            "error", "Payments unavailable",
+                            "message", "Payments are temporarily unavailable. Please try again in a few minutes."
+                    ));
         } catch (StripeException e) {
             log.error("Payment processing failed: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.PAYMENT_REQUIRED)
@@ -489,8 +533,8 @@ public class AdminController {
 
             // Build response
             ManagerBookingResponse response = new ManagerBookingResponse();
-            response.setReservation(reservation);
-            response.setPayment(payment);
+            response.setReservation(ReservationDetail.from(reservation));
+            response.setPayment(PaymentSummary.from(payment));
             response.setCustomerId(customer.getId());
             response.setMessage("Booking created successfully and payment processed");
 
@@ -499,6 +543,13 @@ public class AdminController {
 
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
 
+        } catch (StripeUnavailableException e) {
+            log.warn("Payment not attempted, Stripe unavailable: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(Map.of(
+                            "error", "Payments unavailable",
+                            "message", "Payments are temporarily unavailable. Please try again in a few minutes."
+                    ));
         } catch (StripeException e) {
             log.error("Payment processing failed: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.PAYMENT_REQUIRED)
@@ -4,7 +4,9 @@ import com.hotel.reservation.dto.AuthResponse;
 import com.hotel.reservation.dto.LoginRequest;
 import com.hotel.reservation.dto.RegisterRequest;
 import com.hotel.reservation.dto.UserDto;
+import com.hotel.reservation.exception.NotFoundException;
 import com.hotel.reservation.model.User;
+import com.hotel.reservation.persistence.RequestUnitOfWork;
 import com.hotel.reservation.repository.UserRepository;
 import com.hotel.reservation.security.UserPrincipal;
 import com.hotel.reservation.service.AuthService;
@@ -28,6 +30,7 @@ public class AuthController {
 
     private final AuthService authService;
     private final UserRepository userRepository;
+    private final RequestUnitOfWork unitOfWork;
 
     /**
      * Register a new user.
@@ -65,8 +68,9 @@ public class AuthController {
             throw new org.springframework.security.core.AuthenticationException("User not authenticated") {};
         }
 
-        User user = userRepository.findById(userPrincipal.getId())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        // Already loaded by the JWT filter in this request
+        User user = unitOfWork.find(User.class, userPrincipal.getId(), userRepository::findById)
+                .orElseThrow(() -> new NotFoundException("User", userPrincipal.getId()));
 
         UserDto userDto = mapToUserDto(user);
         return ResponseEntity.ok(userDto);
@@ -88,8 +92,8 @@ public class AuthController {
             throw new org.springframework.security.core.AuthenticationException("User not authenticated") {};
         }
 
-        User user = userRepository.findById(userPrincipal.getId())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        User user = unitOfWork.find(User.class, userPrincipal.getId(), userRepository::findById)
+                .orElseThrow(() -> new NotFoundException("User", userPrincipal.getId()));
 
         user.setFirstName(userDto.getFirstName());
         user.setLastName(userDto.getLastName());
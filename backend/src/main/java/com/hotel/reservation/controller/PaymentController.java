@@ -1,5 +1,6 @@
 package com.hotel.reservation.controller;
 
+import com.hotel.reservation.dto.view.PaymentSummary;
 import com.hotel.reservation.model.Payment;
 import com.hotel.reservation.model.Reservation;
 import com.hotel.reservation.security.UserPrincipal;
@@ -7,6 +8,7 @@ import com.hotel.reservation.service.PaymentService;
 import com.hotel.reservation.service.ReservationService;
 import com.stripe.exception.StripeException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -27,6 +29,7 @@ import java.util.Map;
 @RestController
 @RequestMapping("/api/payments")
 @RequiredArgsConstructor
+@Slf4j
 public class PaymentController {
 
     private final PaymentService paymentService;
@@ -69,10 +72,10 @@ public class PaymentController {
      * @return confirmed payment
      */
     @PostMapping("/confirm")
-    public ResponseEntity<Payment> confirmPayment(@RequestBody Map<String, String> paymentData) {
+    public ResponseEntity<PaymentSummary> confirmPayment(@RequestBody Map<String, String> paymentData) {
         String paymentIntentId = paymentData.get("paymentIntentId");
         Payment payment = paymentService.confirmPayment(paymentIntentId);
-        return ResponseEntity.ok(payment);
+        return ResponseEntity.ok(PaymentSummary.from(payment));
     }
 
     /**
@@ -82,9 +85,9 @@ public class PaymentController {
      * @return list of payments
      */
     @GetMapping("/history")
-    public ResponseEntity<List<Payment>> getPaymentHistory(
+    public ResponseEntity<List<PaymentSummary>> getPaymentHistory(
             @AuthenticationPrincipal UserPrincipal userPrincipal) {
-        List<Payment> payments = paymentService.getUserPaymentHistory(userPrincipal.getId());
+        List<PaymentSummary> payments = paymentService.getUserPaymentHistory(userPrincipal.getId());
         return ResponseEntity.ok(payments);
     }
 
@@ -95,8 +98,8 @@ public class PaymentController {
      */
     @GetMapping("/all")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
-    public ResponseEntity<List<Payment>> getAllPayments() {
-        List<Payment> payments = paymentService.getAllPayments();
+    public ResponseEntity<List<PaymentSummary>> getAllPayments() {
+        List<PaymentSummary> payments = paymentService.getAllPayments();
         return ResponseEntity.ok(payments);
     }
 
@@ -105,10 +108,10 @@ public class PaymentController {
      *
      * @param id payment ID
      * @param userPrincipal authenticated user
-     * @return payment entity
+     * @return payment view
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Payment> getPaymentById(
+    public ResponseEntity<PaymentSummary> getPaymentById(
             @PathVariable String id,
             @AuthenticationPrincipal UserPrincipal userPrincipal) {
 
@@ -134,7 +137,7 @@ public class PaymentController {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
         }
 
-        return ResponseEntity.ok(payment);
+        return ResponseEntity.ok(PaymentSummary.from(payment));
     }
 
     /**
@@ -147,7 +150,7 @@ public class PaymentController {
      */
     @PostMapping("/{id}/refund")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
-    public ResponseEntity<Payment> processRefund(
+    public ResponseEntity<PaymentSummary> processRefund(
             @PathVariable String id,
             @RequestBody Map<String, Object> refundData) throws StripeException {
 
@@ -155,7 +158,7 @@ public class PaymentController {
         String reason = (String) refundData.getOrDefault("reason", "Customer request");
 
         Payment payment = paymentService.processRefund(id, amount, reason);
-        return ResponseEntity.ok(payment);
+        return ResponseEntity.ok(PaymentSummary.from(payment));
     }
 
     /**
@@ -184,8 +187,7 @@ public class PaymentController {
                 .body("Invalid signature");
         } catch (Exception e) {
             // Log error but return 200 to prevent Stripe retries
-            org.slf4j.LoggerFactory.getLogger(PaymentController.class)
-                .error("Error processing webhook", e);
+            log.error("Error processing webhook", e);
             return ResponseEntity.ok("Webhook received");
         }
     }
@@ -0,0 +1,62 @@
+package com.hotel.reservation.controller;
+
+import com.hotel.reservation.dto.pricing.RateCalendarView;
+import com.hotel.reservation.dto.pricing.RateUpdateRequest;
+import com.hotel.reservation.model.Room;
+import com.hotel.reservation.service.RateService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+/**
+ * REST controller for the per-type rate calendars.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@RestController
+@RequestMapping("/api/admin/rates")
+@RequiredArgsConstructor
+public class RateController {
+
+    private final RateService rateService;
+
+    /**
+     * Get nightly rates for a room type (Admin/Manager only).
+     *
+     * @param type room type
+     * @param startDate first night (inclusive)
+     * @param endDate day after the last night (exclusive)
+     * @return nightly rates
+     */
+    @GetMapping("/{type}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<RateCalendarView> getRates(
+            @PathVariable Room.RoomType type,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+
+        return ResponseEntity.ok(rateService.getRates(type, startDate, endDate));
+    }
+
+    /**
+     * Bulk update nightly rates and length-of-stay discounts (Admin only).
+     *
+     * @param type room type
+     * @param request rate ranges and discounts
+     * @return rates over the updated span
+     */
+    @PutMapping("/{type}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<RateCalendarView> updateRates(
+            @PathVariable Room.RoomType type,
+            @Valid @RequestBody RateUpdateRequest request) {
+
+        return ResponseEntity.ok(rateService.updateRates(type, request));
+    }
+}
@@ -0,0 +1,43 @@
+package com.hotel.reservation.controller;
+
+import com.hotel.reservation.dto.report.OccupancyReport;
+import com.hotel.reservation.service.OccupancyReportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+/**
+ * REST controller for revenue management reports.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@RestController
+@RequestMapping("/api/admin/reports")
+@RequiredArgsConstructor
+public class ReportController {
+
+    private final OccupancyReportService occupancyReportService;
+
+    /**
+     * Get daily occupancy, ADR and RevPAR per room type (Admin/Manager only).
+     *
+     * @param startDate first night (inclusive)
+     * @param endDate last night (inclusive)
+     * @param includeArchived also count archived reservations
+     * @return occupancy report
+     */
+    @GetMapping("/occupancy")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<OccupancyReport> getOccupancyReport(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
+
+        return ResponseEntity.ok(occupancyReportService.occupancy(startDate, endDate, includeArchived));
+    }
+}
@@ -2,13 +2,21 @@ package com.hotel.reservation.controller;
 
 import com.hotel.reservation.dto.CancellationRequest;
 import com.hotel.reservation.dto.CancellationResponse;
+import com.hotel.reservation.dto.GroupBookingRequest;
+import com.hotel.reservation.dto.GroupBookingResponse;
 import com.hotel.reservation.dto.RefundCalculation;
+import com.hotel.reservation.dto.view.ReservationDetail;
+import com.hotel.reservation.dto.view.ReservationSummary;
+import com.hotel.reservation.exception.NotFoundException;
 import com.hotel.reservation.model.Reservation;
 import com.hotel.reservation.model.User;
+import com.hotel.reservation.persistence.RequestUnitOfWork;
 import com.hotel.reservation.repository.UserRepository;
 import com.hotel.reservation.security.UserPrincipal;
 import com.hotel.reservation.service.CancellationService;
+import com.hotel.reservation.service.GroupBookingService;
 import com.hotel.reservation.service.ReservationService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
@@ -36,6 +44,8 @@ public class ReservationController {
     private final ReservationService reservationService;
     private final UserRepository userRepository;
     private final CancellationService cancellationService;
+    private final GroupBookingService groupBookingService;
+    private final RequestUnitOfWork unitOfWork;
 
     /**
      * Get all reservations (Admin/Manager only).
@@ -44,8 +54,8 @@ public class ReservationController {
      */
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
-    public ResponseEntity<List<Reservation>> getAllReservations() {
-        List<Reservation> reservations = reservationService.getAllReservations();
+    public ResponseEntity<List<ReservationSummary>> getAllReservations() {
+        List<ReservationSummary> reservations = reservationService.getAllReservations();
         return ResponseEntity.ok(reservations);
     }
 
@@ -56,9 +66,9 @@ public class ReservationController {
      * @return list of user's reservations
      */
     @GetMapping("/my-reservations")
-    public ResponseEntity<List<Reservation>> getUserReservations(
+    public ResponseEntity<List<ReservationSummary>> getUserReservations(
             @AuthenticationPrincipal UserPrincipal userPrincipal) {
-        List<Reservation> reservations = reservationService.getUserReservations(userPrincipal.getId());
+        List<ReservationSummary> reservations = reservationService.getUserReservations(userPrincipal.getId());
         return ResponseEntity.ok(reservations);
     }
 
@@ -67,10 +77,10 @@ public class ReservationController {
      *
      * @param id reservation ID
      * @param userPrincipal authenticated user
-     * @return reservation entity
+     * @return reservation detail
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Reservation> getReservationById(
+    public ResponseEntity<ReservationDetail> getReservationById(
             @PathVariable String id,
             @AuthenticationPrincipal UserPrincipal userPrincipal) {
 
@@ -96,7 +106,7 @@ public class ReservationController {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
         }
 
-        return ResponseEntity.ok(reservation);
+        return ResponseEntity.ok(ReservationDetail.from(reservation));
     }
 
     /**
@@ -107,12 +117,13 @@ public class ReservationController {
      * @return created reservation
      */
     @PostMapping
-    public ResponseEntity<Reservation> createReservation(
+    public ResponseEntity<ReservationDetail> createReservation(
             @AuthenticationPrincipal UserPrincipal userPrincipal,
             @RequestBody Map<String, Object> reservationData) {
 
-        User user = userRepository.findById(userPrincipal.getId())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        // Already loaded by the JWT filter in this request
+        User user = unitOfWork.find(User.class, userPrincipal.getId(), userRepository::findById)
+                .orElseThrow(() -> new NotFoundException("User", userPrincipal.getId()));
 
         // Input validation
         String roomId = (String) reservationData.get("roomId");
@@ -147,7 +158,25 @@ public class ReservationController {
         Reservation reservation = reservationService.createReservation(
                 user, roomId, checkInDate, checkOutDate, numberOfGuests, specialRequests);
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(reservation);
+        return ResponseEntity.status(HttpStatus.CREATED).body(ReservationDetail.from(reservation));
+    }
+
+    /**
+     * Book several rooms for the same dates, all or nothing.
+     *
+     * @param userPrincipal authenticated user
+     * @param request rooms or room type and quantity
+     * @return the group's reservations and shared payment
+     */
+    @PostMapping("/group")
+    public ResponseEntity<GroupBookingResponse> createGroupBooking(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @Valid @RequestBody GroupBookingRequest request) {
+
+        User user = unitOfWork.find(User.class, userPrincipal.getId(), userRepository::findById)
+                .orElseThrow(() -> new NotFoundException("User", userPrincipal.getId()));
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(groupBookingService.book(user, request));
     }
 
     /**
@@ -159,7 +188,7 @@ public class ReservationController {
      * @return updated reservation
      */
     @PutMapping("/{id}")
-    public ResponseEntity<Reservation> updateReservation(
+    public ResponseEntity<ReservationDetail> updateReservation(
             @PathVariable String id,
             @AuthenticationPrincipal UserPrincipal userPrincipal,
             @RequestBody Map<String, Object> reservationData) {
@@ -178,7 +207,7 @@ public class ReservationController {
         int numberOfGuests = (int) reservationData.get("numberOfGuests");
 
         Reservation updated = reservationService.updateReservation(id, checkInDate, checkOutDate, numberOfGuests);
-        return ResponseEntity.ok(updated);
+        return ResponseEntity.ok(ReservationDetail.from(updated));
     }
 
     /**
@@ -190,7 +219,7 @@ public class ReservationController {
      * @return cancelled reservation
      */
     @PostMapping("/{id}/cancel")
-    public ResponseEntity<Reservation> cancelReservation(
+    public ResponseEntity<ReservationDetail> cancelReservation(
             @PathVariable String id,
             @AuthenticationPrincipal UserPrincipal userPrincipal,
             @RequestBody(required = false) Map<String, String> cancellationData) {
@@ -209,7 +238,7 @@ public class ReservationController {
                 "User requested cancellation";
 
         Reservation cancelled = reservationService.cancelReservation(id, reason);
-        return ResponseEntity.ok(cancelled);
+        return ResponseEntity.ok(ReservationDetail.from(cancelled));
     }
 
     /**
@@ -277,11 +306,11 @@ public class ReservationController {
      */
     @GetMapping("/date-range")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
-    public ResponseEntity<List<Reservation>> getReservationsByDateRange(
+    public ResponseEntity<List<ReservationSummary>> getReservationsByDateRange(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
 
-        List<Reservation> reservations = reservationService.getReservationsByDateRange(startDate, endDate);
+        List<ReservationSummary> reservations = reservationService.getReservationsByDateRange(startDate, endDate);
         return ResponseEntity.ok(reservations);
     }
 }
@@ -1,17 +1,30 @@
 package com.hotel.reservation.controller;
 
+import com.hotel.reservation.dto.quote.QuoteRequest;
+import com.hotel.reservation.dto.quote.StayQuote;
+import com.hotel.reservation.dto.search.AlternativeStay;
+import com.hotel.reservation.dto.search.RoomSearchResult;
 import com.hotel.reservation.model.Room;
+import com.hotel.reservation.search.RoomSearchQuery;
+import com.hotel.reservation.service.QuoteService;
 import com.hotel.reservation.service.RoomService;
+import com.hotel.reservation.stream.AvailabilityDelta;
+import com.hotel.reservation.stream.SseHub;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 
 /**
  * REST controller for room management endpoints.
@@ -26,6 +39,8 @@ import java.util.List;
 public class RoomController {
 
     private final RoomService roomService;
+    private final QuoteService quoteService;
+    private final SseHub sseHub;
 
     /**
      * Get all rooms with optional filtering.
@@ -51,6 +66,40 @@ public class RoomController {
         return ResponseEntity.ok(rooms);
     }
 
+    /**
+     * Faceted room search.
+     *
+     * @param amenities amenities the room must all have (optional)
+     * @param types room types, any of (optional)
+     * @param minPrice minimum price (optional)
+     * @param maxPrice maximum price (optional)
+     * @param guests minimum capacity (optional)
+     * @param checkInDate check-in date (optional, with checkOutDate)
+     * @param checkOutDate check-out date (optional, with checkInDate)
+     * @return matching rooms with facet counts
+     */
+    @GetMapping("/search")
+    public ResponseEntity<RoomSearchResult> searchRooms(
+            @RequestParam(required = false) List<String> amenities,
+            @RequestParam(name = "type", required = false) Set<Room.RoomType> types,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) Integer guests,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkInDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkOutDate) {
+
+        RoomSearchQuery query = RoomSearchQuery.builder()
+                .amenities(amenities)
+                .types(types)
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .guests(guests)
+                .checkInDate(checkInDate)
+                .checkOutDate(checkOutDate)
+                .build();
+        return ResponseEntity.ok(roomService.searchRooms(query));
+    }
+
     /**
      * Get room by ID.
      *
@@ -70,7 +119,10 @@ public class RoomController {
      * @param checkOutDate check-out date
      * @param guests number of guests
      * @return list of available rooms
+     * @deprecated prices only by {@code pricePerNight}; use {@code /search} with the same
+     *             parameters, whose {@code stayTotals} carry the exact price of the stay
      */
+    @Deprecated
     @GetMapping("/available")
     public ResponseEntity<List<Room>> getAvailableRooms(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkInDate,
@@ -78,7 +130,73 @@ public class RoomController {
             @RequestParam int guests) {
 
         List<Room> rooms = roomService.getAvailableRooms(checkInDate, checkOutDate, guests);
-        return ResponseEntity.ok(rooms);
+        return ResponseEntity.ok()
+                .header("Deprecation", "true")
+                .header(HttpHeaders.LINK, "</api/rooms/search>; rel=\"successor-version\"")
+                .body(rooms);
+    }
+
+    /**
+     * Suggest the nearest free stays when the requested dates are sold out.
+     *
+     * @param roomId room to search (either this or type)
+     * @param type room type to search (either this or roomId)
+     * @param checkInDate preferred check-in date
+     * @param nights stay length
+     * @param flexDays how many days earlier or later the stay may move
+     * @param limit maximum number of suggestions
+     * @return suggestions, nearest first
+     */
+    @GetMapping("/alternatives")
+    public ResponseEntity<List<AlternativeStay>> getAlternatives(
+            @RequestParam(required = false) String roomId,
+            @RequestParam(required = false) Room.RoomType type,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkInDate,
+            @RequestParam int nights,
+            @RequestParam(defaultValue = "7") int flexDays,
+            @RequestParam(defaultValue = "5") int limit) {
+
+        return ResponseEntity.ok(roomService.findAlternatives(roomId, type, checkInDate, nights, flexDays, limit));
+    }
+
+    /**
+     * Price and check availability of many stays in one call. Nothing is booked.
+     *
+     * @param request stays to quote
+     * @return one quote per stay, in request order
+     */
+    @PostMapping("/quotes")
+    public ResponseEntity<List<StayQuote>> getQuotes(@Valid @RequestBody QuoteRequest request) {
+        return ResponseEntity.ok(quoteService.quote(request.getItems()));
+    }
+
+    /**
+     * Stream room-night availability changes for a date window.
+     * Clients load availability once, then apply BOOKED / RELEASED deltas and
+     * reload on a "resync" event.
+     *
+     * @param startDate first night of the window
+     * @param endDate day after the last night of the window
+     * @return event stream
+     */
+    @GetMapping(value = "/availability/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamAvailability(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+
+        if (!endDate.isAfter(startDate)) {
+            throw new IllegalArgumentException("End date must be after start date");
+        }
+        if (endDate.isAfter(startDate.plusDays(366))) {
+            throw new IllegalArgumentException("Availability window cannot exceed 366 days");
+        }
+
+        SseEmitter emitter = sseHub.subscribe(SseHub.Topic.AVAILABILITY,
+                data -> ((AvailabilityDelta) data).overlaps(startDate, endDate));
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return ResponseEntity.ok(emitter);
     }
 
     /**
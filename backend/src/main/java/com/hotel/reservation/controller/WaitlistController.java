@@ -0,0 +1,79 @@
+package com.hotel.reservation.controller;
+
+import com.hotel.reservation.dto.WaitlistRequest;
+import com.hotel.reservation.exception.NotFoundException;
+import com.hotel.reservation.model.User;
+import com.hotel.reservation.model.WaitlistEntry;
+import com.hotel.reservation.persistence.RequestUnitOfWork;
+import com.hotel.reservation.repository.UserRepository;
+import com.hotel.reservation.security.UserPrincipal;
+import com.hotel.reservation.service.WaitlistService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST controller for the room waitlist.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@RestController
+@RequestMapping("/api/waitlist")
+@RequiredArgsConstructor
+public class WaitlistController {
+
+    private final WaitlistService waitlistService;
+    private final UserRepository userRepository;
+    private final RequestUnitOfWork unitOfWork;
+
+    /**
+     * Join the waitlist for a sold-out room or room type.
+     *
+     * @param userPrincipal authenticated user
+     * @param request room or room type, dates and guests
+     * @return the new entry
+     */
+    @PostMapping
+    public ResponseEntity<WaitlistEntry> join(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @Valid @RequestBody WaitlistRequest request) {
+
+        User user = unitOfWork.find(User.class, userPrincipal.getId(), userRepository::findById)
+                .orElseThrow(() -> new NotFoundException("User", userPrincipal.getId()));
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(waitlistService.join(user, request));
+    }
+
+    /**
+     * Get the current user's waitlist entries.
+     *
+     * @param userPrincipal authenticated user
+     * @return entries, newest first
+     */
+    @GetMapping("/my-entries")
+    public ResponseEntity<List<WaitlistEntry>> getMyEntries(@AuthenticationPrincipal UserPrincipal userPrincipal) {
+        return ResponseEntity.ok(waitlistService.getUserEntries(userPrincipal.getId()));
+    }
+
+    /**
+     * Leave the waitlist.
+     *
+     * @param id entry ID
+     * @param userPrincipal authenticated user
+     * @return no content
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> leave(
+            @PathVariable String id,
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+
+        waitlistService.leave(id, userPrincipal.getId());
+        return ResponseEntity.noContent().build();
+    }
+}
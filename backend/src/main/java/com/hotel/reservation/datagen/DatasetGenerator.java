@@ -0,0 +1,275 @@
+package com.hotel.reservation.datagen;
+
+import com.hotel.reservation.model.Payment;
+import com.hotel.reservation.model.Reservation;
+import com.hotel.reservation.model.Room;
+import com.hotel.reservation.model.User;
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.client.model.InsertManyOptions;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Loads a large synthetic dataset (rooms, users, reservations, payments) for
+ * performance testing. Active only under the "datagen" profile, e.g.
+ *
+ * <pre>
+ * mvn spring-boot:run -Dspring-boot.run.profiles=datagen \
+ *     -Dspring-boot.run.arguments="--app.datagen.reservations=20000000 --app.datagen.drop-existing=true"
+ * </pre>
+ *
+ * Documents come from {@link SyntheticData}, are mapped with the application's
+ * converter (so DBRefs, dates and IDs are stored exactly as the entities
+ * would be) and written with unordered insertMany calls, one batch per task
+ * on a fixed pool. Lifecycle events and auditing are bypassed. Secondary
+ * indexes are (re)built once loading finishes.
+ *
+ * IDs are fixed per seed, so re-running with the same seed and reference date
+ * skips documents that already exist and fills in the rest.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@Profile("datagen")
+public class DatasetGenerator implements CommandLineRunner {
+
+    private static final long PROGRESS_EVERY = 1_000_000;
+    private static final List<Class<?>> ENTITIES = List.of(Room.class, User.class, Reservation.class, Payment.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final ConfigurableApplicationContext context;
+
+    @Value("${app.datagen.seed:42}")
+    private long seed;
+
+    @Value("${app.datagen.rooms:5000}")
+    private int rooms;
+
+    @Value("${app.datagen.users:1000000}")
+    private int users;
+
+    @Value("${app.datagen.reservations:20000000}")
+    private long reservations;
+
+    @Value("${app.datagen.batch-size:5000}")
+    private int batchSize;
+
+    @Value("${app.datagen.threads:0}")
+    private int threads;
+
+    @Value("${app.datagen.occupancy:0.75}")
+    private double occupancy;
+
+    @Value("${app.datagen.future-days:365}")
+    private int futureDays;
+
+    @Value("${app.datagen.today:}")
+    private String today;
+
+    @Value("${app.datagen.password:datagen123}")
+    private String password;
+
+    @Value("${app.datagen.drop-existing:false}")
+    private boolean dropExisting;
+
+    @Value("${app.datagen.exit-on-complete:true}")
+    private boolean exitOnComplete;
+
+    public DatasetGenerator(MongoTemplate mongoTemplate, PasswordEncoder passwordEncoder,
+                            ConfigurableApplicationContext context) {
+        this.mongoTemplate = mongoTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.context = context;
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        if (rooms < 1 || users < 2 || reservations < 0 || batchSize < 1) {
+            throw new IllegalArgumentException("Datagen needs at least 1 room, 2 users and a positive batch size");
+        }
+        LocalDate referenceDate = today.isBlank() ? LocalDate.now() : LocalDate.parse(today);
+        SyntheticData data = new SyntheticData(seed, referenceDate, occupancy, futureDays);
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+
+        log.info("Generating dataset: seed={}, rooms={}, users={}, reservations={}, reference date {}, {} threads",
+                seed, rooms, users, reservations, referenceDate, poolSize);
+        if (dropExisting) {
+            ENTITIES.forEach(entity -> mongoTemplate.dropCollection(entity));
+            log.info("Dropped existing rooms, users, reservations and payments");
+        }
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(poolSize, runnable -> {
+            Thread thread = new Thread(runnable, "datagen-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        long started = System.currentTimeMillis();
+        try {
+            List<Room> catalog = new ArrayList<>(rooms);
+            for (int i = 0; i < rooms; i++) {
+                catalog.add(data.room(i));
+            }
+            long roomCount = runAll(pool, batches(rooms, from -> () ->
+                    insert(mongoTemplate.getCollectionName(Room.class),
+                            catalog.subList(from, Math.min(rooms, from + batchSize)), null)));
+            log.info("Inserted {} rooms", roomCount);
+
+            String passwordHash = passwordEncoder.encode(password);
+            AtomicLong userProgress = new AtomicLong();
+            long userCount = runAll(pool, batches(users, from -> () -> {
+                List<User> batch = new ArrayList<>(batchSize);
+                for (int i = from; i < Math.min(users, from + batchSize); i++) {
+                    batch.add(data.user(i, passwordHash));
+                }
+                return insert(mongoTemplate.getCollectionName(User.class), batch, userProgress);
+            }));
+            log.info("Inserted {} users", userCount);
+
+            AtomicLong reservationProgress = new AtomicLong();
+            AtomicLong paymentCount = new AtomicLong();
+            List<Callable<Long>> roomTasks = new ArrayList<>(rooms);
+            for (int i = 0; i < rooms; i++) {
+                int roomIndex = i;
+                int quota = (int) (reservations / rooms + (roomIndex < reservations % rooms ? 1 : 0));
+                roomTasks.add(() -> loadStays(data, catalog.get(roomIndex), roomIndex, quota,
+                        reservationProgress, paymentCount));
+            }
+            long reservationCount = runAll(pool, roomTasks);
+
+            long seconds = Math.max(1, (System.currentTimeMillis() - started) / 1000);
+            long total = roomCount + userCount + reservationCount + paymentCount.get();
+            log.info("Inserted {} reservations and {} payments; {} documents in {}s ({}/s)",
+                    reservationCount, paymentCount.get(), total, seconds, total / seconds);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        ensureIndexes();
+        if (exitOnComplete) {
+            System.exit(SpringApplication.exit(context, () -> 0));
+        }
+    }
+
+    private long loadStays(SyntheticData data, Room room, int roomIndex, int quota,
+                           AtomicLong progress, AtomicLong paymentCount) {
+        List<SyntheticData.Stay> stays = data.stays(room, roomIndex, quota, users);
+        long inserted = 0;
+        for (int from = 0; from < stays.size(); from += batchSize) {
+            List<SyntheticData.Stay> batch = stays.subList(from, Math.min(stays.size(), from + batchSize));
+            List<Reservation> bookings = new ArrayList<>(batch.size());
+            List<Payment> payments = new ArrayList<>(batch.size());
+            for (SyntheticData.Stay stay : batch) {
+                bookings.add(stay.reservation());
+                if (stay.payment() != null) {
+                    payments.add(stay.payment());
+                }
+            }
+            inserted += insert(mongoTemplate.getCollectionName(Reservation.class), bookings, progress);
+            paymentCount.addAndGet(insert(mongoTemplate.getCollectionName(Payment.class), payments, null));
+        }
+        return inserted;
+    }
+
+    /**
+     * Map and insert one batch. Unordered, so the server applies the whole
+     * batch even if some documents already exist; duplicate keys from an
+     * earlier run are counted as skipped, any other write error fails the run.
+     *
+     * @return number of new documents
+     */
+    private long insert(String collection, List<?> entities, AtomicLong progress) {
+        if (entities.isEmpty()) {
+            return 0;
+        }
+        MongoConverter converter = mongoTemplate.getConverter();
+        List<Document> documents = new ArrayList<>(entities.size());
+        for (Object entity : entities) {
+            Document document = new Document();
+            converter.write(entity, document);
+            documents.add(document);
+        }
+
+        long inserted;
+        try {
+            inserted = mongoTemplate.getCollection(collection)
+                    .insertMany(documents, new InsertManyOptions().ordered(false))
+                    .getInsertedIds().size();
+        } catch (MongoBulkWriteException e) {
+            boolean onlyDuplicates = e.getWriteErrors().stream()
+                    .allMatch(error -> ErrorCategory.fromErrorCode(error.getCode()) == ErrorCategory.DUPLICATE_KEY);
+            if (!onlyDuplicates) {
+                throw e;
+            }
+            inserted = e.getWriteResult().getInsertedCount();
+        }
+
+        if (progress != null) {
+            long before = progress.getAndAdd(documents.size());
+            if (before / PROGRESS_EVERY != (before + documents.size()) / PROGRESS_EVERY) {
+                log.info("{}: {} documents written", collection, before + documents.size());
+            }
+        }
+        return inserted;
+    }
+
+    private void ensureIndexes() {
+        IndexResolver resolver = IndexResolver.create(mongoTemplate.getConverter().getMappingContext());
+        for (Class<?> entity : ENTITIES) {
+            IndexOperations indexOps = mongoTemplate.indexOps(entity);
+            resolver.resolveIndexFor(entity).forEach(indexOps::ensureIndex);
+        }
+        log.info("Indexes ensured");
+    }
+
+    private List<Callable<Long>> batches(int count, BatchTask task) {
+        List<Callable<Long>> tasks = new ArrayList<>();
+        for (int from = 0; from < count; from += batchSize) {
+            tasks.add(task.starting(from));
+        }
+        return tasks;
+    }
+
+    private static long runAll(ExecutorService pool, List<Callable<Long>> tasks) throws InterruptedException {
+        long total = 0;
+        for (Future<Long> result : pool.invokeAll(tasks)) {
+            try {
+                total += result.get();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Dataset generation failed", e.getCause());
+            }
+        }
+        return total;
+    }
+
+    @FunctionalInterface
+    private interface BatchTask {
+        Callable<Long> starting(int from);
+    }
+}
@@ -0,0 +1,400 @@
+package com.hotel.reservation.datagen;
+
+import com.hotel.reservation.model.Payment;
+import com.hotel.reservation.model.Reservation;
+import com.hotel.reservation.model.Room;
+import com.hotel.reservation.model.User;
+import org.bson.types.ObjectId;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic builder for synthetic rooms, users, reservations and payments.
+ *
+ * Every document is derived from (seed, kind, index) alone: IDs are fixed
+ * ObjectIds built from the kind and index, and each room or user draws from
+ * its own random stream. The same seed and reference date therefore produce
+ * the same dataset however the work is split across threads or batches.
+ *
+ * Reservations are laid out per room as a timeline walking backwards from
+ * the booking horizon, so stays of one room never overlap; the history
+ * reaches as far back as the requested volume needs. Statuses follow the
+ * stay dates relative to the reference date.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+public final class SyntheticData {
+
+    static final int KIND_ROOM = 1;
+    static final int KIND_USER = 2;
+    static final int KIND_RESERVATION = 3;
+    static final int KIND_PAYMENT = 4;
+
+    private static final int ID_EPOCH_SECONDS = 0x60000000;
+
+    /** Stay length weights for 1..14 nights: short stays dominate, with a bump at a week. */
+    private static final int[] NIGHT_WEIGHTS = {24, 24, 17, 10, 7, 4, 6, 2, 1, 1, 1, 1, 1, 1};
+    private static final double MEAN_NIGHTS = meanNights();
+
+    private static final Room.RoomType[] TYPES = Room.RoomType.values();
+    /** Share of the catalog per room type, in percent (STANDARD, DELUXE, SUITE, PRESIDENTIAL). */
+    private static final int[] TYPE_SHARES = {50, 30, 15, 5};
+    private static final int[] TYPE_BASE_PRICES = {120, 200, 350, 900};
+    private static final int[] TYPE_CAPACITIES = {2, 3, 4, 6};
+    private static final int[] TYPE_SIZES = {25, 40, 65, 140};
+    /** Occupancy relative to the configured target, per type: premium rooms sell less often. */
+    private static final double[] TYPE_OCCUPANCY = {1.05, 1.0, 0.85, 0.6};
+
+    private static final String[] COMMON_AMENITIES = {
+            "Free WiFi", "Air Conditioning", "Flat Screen TV", "Private Bathroom", "Daily Housekeeping"
+    };
+    private static final String[] EXTRA_AMENITIES = {
+            "Mini Bar", "Coffee Maker", "Safe", "City View", "Ocean View", "Balcony", "Bathtub",
+            "Work Desk", "Room Service", "Kitchenette", "Jacuzzi", "Living Area", "Butler Service"
+    };
+
+    private static final String[] FIRST_NAMES = {
+            "James", "Mary", "Robert", "Patricia", "John", "Jennifer", "Michael", "Linda", "David",
+            "Elizabeth", "William", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas", "Sarah",
+            "Carlos", "Maria", "Wei", "Yuki", "Aisha", "Omar", "Priya", "Arjun", "Olga", "Lars"
+    };
+    private static final String[] LAST_NAMES = {
+            "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez",
+            "Martinez", "Hernandez", "Lopez", "Wilson", "Anderson", "Thomas", "Taylor", "Moore", "Lee",
+            "Chen", "Tanaka", "Khan", "Patel", "Ivanova", "Nielsen", "Kurbonov", "Silva", "Rossi", "Muller"
+    };
+    private static final String[] SPECIAL_REQUESTS = {
+            "Late check-in", "Early check-in if possible", "High floor please", "Extra pillows",
+            "Quiet room away from the elevator", "Celebrating an anniversary", "Crib needed",
+            "Airport transfer"
+    };
+    private static final String[] CANCELLATION_REASONS = {
+            "Change of plans", "Found a different hotel", "Travel restrictions", "Illness", "Booked by mistake"
+    };
+    private static final String[] CARD_BRANDS = {"visa", "visa", "visa", "mastercard", "mastercard", "amex"};
+
+    private final long seed;
+    private final LocalDate today;
+    private final double occupancy;
+    private final int futureDays;
+
+    /**
+     * @param seed random seed
+     * @param today reference date that splits past, in-house and upcoming stays
+     * @param occupancy target share of room-nights booked, in (0, 1)
+     * @param futureDays how far ahead bookings reach
+     */
+    public SyntheticData(long seed, LocalDate today, double occupancy, int futureDays) {
+        if (occupancy <= 0 || occupancy >= 1) {
+            throw new IllegalArgumentException("Occupancy must be between 0 and 1");
+        }
+        if (futureDays < 0) {
+            throw new IllegalArgumentException("Future days must not be negative");
+        }
+        this.seed = seed;
+        this.today = today;
+        this.occupancy = occupancy;
+        this.futureDays = futureDays;
+    }
+
+    /**
+     * A booking and its payment, if one was taken.
+     */
+    public record Stay(Reservation reservation, Payment payment) {
+    }
+
+    /**
+     * Build the room with the given catalog number.
+     *
+     * @param index room number, from 0
+     * @return room with a fixed ID
+     */
+    public Room room(int index) {
+        SplittableRandom random = random(KIND_ROOM, index);
+        int type = type(random);
+        int floor = 1 + index / 50;
+
+        Room room = new Room();
+        room.setId(id(KIND_ROOM, index));
+        room.setType(TYPES[type]);
+        room.setName(label(TYPES[type]) + " Room " + (floor * 100 + index % 50 + 1));
+        room.setDescription(label(TYPES[type]) + " room on floor " + floor + ".");
+        // +/-20% around the type's base rate, ending in .99
+        double price = TYPE_BASE_PRICES[type] * (0.8 + 0.4 * random.nextDouble());
+        room.setPricePerNight(BigDecimal.valueOf(Math.max(1, Math.round(price)) - 1).add(new BigDecimal("0.99")));
+        room.setCapacity(TYPE_CAPACITIES[type] - (random.nextInt(4) == 0 ? 1 : 0));
+        room.setSize(TYPE_SIZES[type] + random.nextInt(TYPE_SIZES[type] / 5 + 1));
+        room.setFloorNumber(floor);
+        List<String> amenities = new ArrayList<>(List.of(COMMON_AMENITIES));
+        int extras = 2 + type * 2 + random.nextInt(3);
+        for (int i = 0; i < EXTRA_AMENITIES.length && extras > 0; i++) {
+            if (random.nextInt(EXTRA_AMENITIES.length - i) < extras) {
+                amenities.add(EXTRA_AMENITIES[i]);
+                extras--;
+            }
+        }
+        room.setAmenities(amenities);
+        // A few rooms are out of service, as in any real inventory
+        room.setAvailable(random.nextInt(100) >= 2);
+        LocalDateTime created = today.minusDays(futureDays + 365L * 3).atTime(9, 0);
+        room.setCreatedAt(created);
+        room.setUpdatedAt(created);
+        return room;
+    }
+
+    /**
+     * Build the user with the given number. User 0 is an admin and user 1 a
+     * manager; everyone else is a guest.
+     *
+     * @param index user number, from 0
+     * @param passwordHash encoded password shared by all generated users
+     * @return user with a fixed ID and a unique email
+     */
+    public User user(int index, String passwordHash) {
+        SplittableRandom random = random(KIND_USER, index);
+        User user = new User();
+        user.setId(id(KIND_USER, index));
+        user.setFirstName(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)]);
+        user.setLastName(LAST_NAMES[random.nextInt(LAST_NAMES.length)]);
+        user.setPassword(passwordHash);
+        user.setPhoneNumber(String.format("+1555%07d", index % 10_000_000));
+        user.setEnabled(true);
+        if (index == 0) {
+            user.setEmail("admin@datagen.hotelx.test");
+            user.getRoles().add(User.Role.ADMIN);
+        } else if (index == 1) {
+            user.setEmail("manager@datagen.hotelx.test");
+            user.getRoles().add(User.Role.MANAGER);
+        } else {
+            user.setEmail("guest" + index + "@datagen.hotelx.test");
+            user.getRoles().add(User.Role.GUEST);
+        }
+        LocalDateTime created = today.minusDays(random.nextInt(3 * 365)).atTime(random.nextInt(24), random.nextInt(60));
+        user.setCreatedAt(created);
+        user.setUpdatedAt(created);
+        return user;
+    }
+
+    /**
+     * Build a room's booking history, latest stay first.
+     *
+     * Stays end at most futureDays after the reference date and are separated
+     * by geometric gaps sized so the room is booked for roughly the target
+     * occupancy. Guests are drawn with a skew towards low user numbers, so
+     * some guests book repeatedly.
+     *
+     * @param room room being booked (from {@link #room(int)})
+     * @param roomIndex room number
+     * @param count number of stays
+     * @param userCount number of generated users to draw guests from
+     * @return stays with their payments
+     */
+    public List<Stay> stays(Room room, int roomIndex, int count, int userCount) {
+        SplittableRandom random = random(KIND_RESERVATION, roomIndex);
+        double roomOccupancy = Math.min(0.98, occupancy * TYPE_OCCUPANCY[room.getType().ordinal()]);
+        double meanGap = MEAN_NIGHTS * (1 - roomOccupancy) / roomOccupancy;
+        double gapFactor = Math.log(meanGap / (1 + meanGap));
+
+        List<Stay> stays = new ArrayList<>(count);
+        LocalDate cursor = today.plusDays(futureDays).minusDays(random.nextInt(7) + gap(random, gapFactor));
+        for (int seq = 0; seq < count; seq++) {
+            long number = ((long) roomIndex << 32) | seq;
+            int nights = nights(random);
+            LocalDate checkOut = cursor;
+            LocalDate checkIn = checkOut.minusDays(nights);
+            int user = (int) (userCount * Math.pow(random.nextDouble(), 2));
+            stays.add(stay(random, room, number, user, checkIn, checkOut, nights));
+            cursor = checkIn.minusDays(gap(random, gapFactor));
+        }
+        return stays;
+    }
+
+    private Stay stay(SplittableRandom random, Room room, long number, int user, LocalDate checkIn,
+                      LocalDate checkOut, int nights) {
+        User guest = new User();
+        guest.setId(id(KIND_USER, user));
+
+        Reservation reservation = new Reservation();
+        reservation.setId(id(KIND_RESERVATION, number));
+        reservation.setUser(guest);
+        reservation.setRoom(room);
+        reservation.setCheckInDate(checkIn);
+        reservation.setCheckOutDate(checkOut);
+        reservation.setNumberOfGuests(guests(random, room.getCapacity()));
+        reservation.setTotalAmount(room.getPricePerNight().multiply(BigDecimal.valueOf(nights)));
+        if (random.nextInt(10) == 0) {
+            reservation.setSpecialRequests(SPECIAL_REQUESTS[random.nextInt(SPECIAL_REQUESTS.length)]);
+        }
+
+        // Lead time: mostly a few weeks, occasionally months ahead
+        int leadDays = (int) Math.min(365, -Math.log(1 - random.nextDouble()) * 21);
+        LocalDateTime booked = checkIn.minusDays(leadDays).atTime(random.nextInt(24), random.nextInt(60));
+        if (booked.isAfter(today.atStartOfDay())) {
+            booked = today.atStartOfDay().minusMinutes(1 + random.nextInt(7 * 24 * 60));
+        }
+        reservation.setCreatedAt(booked);
+        reservation.setUpdatedAt(booked);
+
+        Reservation.ReservationStatus status = status(random, checkIn, checkOut);
+        reservation.setStatus(status);
+        reservation.setConfirmationEmailSent(status != Reservation.ReservationStatus.PENDING
+                && status != Reservation.ReservationStatus.CANCELLED);
+
+        Payment payment = null;
+        switch (status) {
+            case CONFIRMED, CHECKED_IN, CHECKED_OUT ->
+                    payment = payment(random, reservation, number, Payment.PaymentStatus.SUCCEEDED);
+            case PENDING -> {
+                if (random.nextBoolean()) {
+                    payment = payment(random, reservation, number, Payment.PaymentStatus.PENDING);
+                }
+            }
+            case CANCELLED -> {
+                LocalDateTime cancelled = booked.plusHours(1 + random.nextInt(
+                        (int) Math.max(1, Duration.between(booked, checkIn.atStartOfDay()).toHours())));
+                if (cancelled.isAfter(today.atStartOfDay())) {
+                    cancelled = booked.plusMinutes(1);
+                }
+                reservation.setCancelledAt(cancelled);
+                reservation.setUpdatedAt(cancelled);
+                reservation.setCancellationReason(CANCELLATION_REASONS[random.nextInt(CANCELLATION_REASONS.length)]);
+                // Most cancellations happen after paying, some before
+                if (random.nextInt(10) < 7) {
+                    payment = refunded(random, reservation, number, cancelled);
+                }
+            }
+        }
+        if (payment != null) {
+            reservation.setPaymentId(payment.getId());
+        }
+        return new Stay(reservation, payment);
+    }
+
+    private Reservation.ReservationStatus status(SplittableRandom random, LocalDate checkIn, LocalDate checkOut) {
+        int roll = random.nextInt(100);
+        if (!checkOut.isAfter(today)) {
+            return roll < 12 ? Reservation.ReservationStatus.CANCELLED : Reservation.ReservationStatus.CHECKED_OUT;
+        }
+        if (!checkIn.isAfter(today)) {
+            return roll < 5 ? Reservation.ReservationStatus.CANCELLED : Reservation.ReservationStatus.CHECKED_IN;
+        }
+        if (roll < 15) {
+            return Reservation.ReservationStatus.CANCELLED;
+        }
+        return roll < 23 ? Reservation.ReservationStatus.PENDING : Reservation.ReservationStatus.CONFIRMED;
+    }
+
+    private Payment payment(SplittableRandom random, Reservation reservation, long number,
+                            Payment.PaymentStatus status) {
+        String id = id(KIND_PAYMENT, number);
+        User guest = new User();
+        guest.setId(reservation.getUser().getId());
+
+        Payment payment = new Payment();
+        payment.setId(id);
+        payment.setReservation(reservation);
+        payment.setUser(guest);
+        payment.setAmount(reservation.getTotalAmount());
+        payment.setStatus(status);
+        payment.setStripePaymentIntentId("pi_dg" + id);
+        payment.setPaymentMethod("card");
+        if (status != Payment.PaymentStatus.PENDING) {
+            payment.setStripeChargeId("ch_dg" + id);
+            payment.setCardBrand(CARD_BRANDS[random.nextInt(CARD_BRANDS.length)]);
+            payment.setCardLast4(String.format("%04d", random.nextInt(10_000)));
+        }
+        payment.setCreatedAt(reservation.getCreatedAt());
+        payment.setUpdatedAt(reservation.getCreatedAt().plusMinutes(2));
+        return payment;
+    }
+
+    private Payment refunded(SplittableRandom random, Reservation reservation, long number, LocalDateTime cancelled) {
+        Payment payment = payment(random, reservation, number, Payment.PaymentStatus.REFUNDED);
+        // Late cancellations keep one night
+        if (cancelled.isAfter(reservation.getCheckInDate().minusDays(2).atStartOfDay())
+                && reservation.getTotalAmount().compareTo(reservation.getRoom().getPricePerNight()) > 0) {
+            payment.setStatus(Payment.PaymentStatus.PARTIALLY_REFUNDED);
+            payment.setRefundAmount(reservation.getTotalAmount().subtract(reservation.getRoom().getPricePerNight()));
+        } else {
+            payment.setRefundAmount(reservation.getTotalAmount());
+        }
+        payment.setRefundReason(reservation.getCancellationReason());
+        payment.setRefundedAt(cancelled);
+        payment.setUpdatedAt(cancelled);
+        return payment;
+    }
+
+    /**
+     * Fixed ObjectId for the given kind and number, as stored by Spring Data.
+     *
+     * @param kind document kind
+     * @param index number within the kind
+     * @return 24-character hex ID
+     */
+    static String id(int kind, long index) {
+        ByteBuffer bytes = ByteBuffer.allocate(12);
+        bytes.putInt(ID_EPOCH_SECONDS + kind);
+        bytes.putLong(index);
+        return new ObjectId(bytes.array()).toHexString();
+    }
+
+    private SplittableRandom random(int kind, long index) {
+        return new SplittableRandom(seed ^ ((long) kind << 56) ^ index);
+    }
+
+    private static int type(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        for (int type = 0; type < TYPE_SHARES.length; type++) {
+            roll -= TYPE_SHARES[type];
+            if (roll < 0) {
+                return type;
+            }
+        }
+        return 0;
+    }
+
+    private static int nights(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        for (int i = 0; i < NIGHT_WEIGHTS.length; i++) {
+            roll -= NIGHT_WEIGHTS[i];
+            if (roll < 0) {
+                return i + 1;
+            }
+        }
+        return 1;
+    }
+
+    private static int gap(SplittableRandom random, double gapFactor) {
+        // Geometric number of empty nights with the mean derived from the occupancy target
+        return (int) (Math.log(1 - random.nextDouble()) / gapFactor);
+    }
+
+    private static int guests(SplittableRandom random, int capacity) {
+        int roll = random.nextInt(10);
+        int guests = roll < 3 ? 1 : roll < 8 ? 2 : 2 + random.nextInt(Math.max(1, capacity - 1));
+        return Math.max(1, Math.min(capacity, guests));
+    }
+
+    private static String label(Room.RoomType type) {
+        String name = type.name();
+        return name.charAt(0) + name.substring(1).toLowerCase();
+    }
+
+    private static double meanNights() {
+        double total = 0;
+        int weights = 0;
+        for (int i = 0; i < NIGHT_WEIGHTS.length; i++) {
+            total += (i + 1) * NIGHT_WEIGHTS[i];
+            weights += NIGHT_WEIGHTS[i];
+        }
+        return total / weights;
+    }
+}
@@ -0,0 +1,65 @@
+package com.hotel.reservation.dto;
+
+import com.hotel.reservation.model.Room;
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO for group booking requests.
+ * Either lists the rooms to book or asks for a number of rooms of one type.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GroupBookingRequest {
+
+    /**
+     * Specific rooms to book (either this or roomType and quantity)
+     */
+    @Size(max = 50, message = "A group booking cannot exceed 50 rooms")
+    private List<String> roomIds;
+
+    /**
+     * Room type to book (either this or roomIds)
+     */
+    private Room.RoomType roomType;
+
+    /**
+     * Number of rooms of roomType to book
+     */
+    @Min(value = 1, message = "At least one room is required")
+    @Max(value = 50, message = "A group booking cannot exceed 50 rooms")
+    private Integer quantity;
+
+    /**
+     * Check-in date
+     */
+    @NotNull(message = "Check-in date is required")
+    private LocalDate checkInDate;
+
+    /**
+     * Check-out date
+     */
+    @NotNull(message = "Check-out date is required")
+    private LocalDate checkOutDate;
+
+    /**
+     * Guests staying in each room
+     */
+    @Min(value = 1, message = "At least one guest per room is required")
+    private int guestsPerRoom;
+
+    /**
+     * Special requests applied to every room
+     */
+    @Size(max = 500, message = "Special requests cannot exceed 500 characters")
+    private String specialRequests;
+}
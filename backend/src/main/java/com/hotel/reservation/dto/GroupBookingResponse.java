@@ -0,0 +1,47 @@
+package com.hotel.reservation.dto;
+
+import com.hotel.reservation.dto.view.ReservationSummary;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * DTO for group booking response.
+ * All rooms share one payment intent; paying it confirms every reservation.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GroupBookingResponse {
+
+    /**
+     * Group booking ID shared by the reservations
+     */
+    private String groupBookingId;
+
+    /**
+     * Created reservations (PENDING until paid)
+     */
+    private List<ReservationSummary> reservations;
+
+    /**
+     * Total amount for the group
+     */
+    private BigDecimal totalAmount;
+
+    /**
+     * Payment ID of the shared payment
+     */
+    private String paymentId;
+
+    /**
+     * Stripe client secret for completing the payment
+     */
+    private String clientSecret;
+}
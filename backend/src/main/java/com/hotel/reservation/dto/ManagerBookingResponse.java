@@ -1,7 +1,7 @@
 package com.hotel.reservation.dto;
 
-import com.hotel.reservation.model.Payment;
-import com.hotel.reservation.model.Reservation;
+import com.hotel.reservation.dto.view.PaymentSummary;
+import com.hotel.reservation.dto.view.ReservationDetail;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -21,12 +21,12 @@ public class ManagerBookingResponse {
     /**
      * Created reservation
      */
-    private Reservation reservation;
+    private ReservationDetail reservation;
 
     /**
      * Payment transaction details
      */
-    private Payment payment;
+    private PaymentSummary payment;
 
     /**
      * Success message
@@ -0,0 +1,52 @@
+package com.hotel.reservation.dto;
+
+import com.hotel.reservation.model.Room;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * DTO for joining the waitlist.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WaitlistRequest {
+
+    /**
+     * Specific room wanted (either this or roomType)
+     */
+    private String roomId;
+
+    /**
+     * Any room of this type (either this or roomId)
+     */
+    private Room.RoomType roomType;
+
+    /**
+     * Wanted check-in date
+     */
+    @NotNull(message = "Check-in date is required")
+    @Future(message = "Check-in date must be in the future")
+    private LocalDate checkInDate;
+
+    /**
+     * Wanted check-out date
+     */
+    @NotNull(message = "Check-out date is required")
+    private LocalDate checkOutDate;
+
+    /**
+     * Number of guests
+     */
+    @Min(value = 1, message = "At least one guest is required")
+    private int guests;
+}
@@ -0,0 +1,39 @@
+package com.hotel.reservation.dto.pricing;
+
+import com.hotel.reservation.model.RateCalendar;
+import com.hotel.reservation.model.Room;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Nightly rates of a room type over a date window.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RateCalendarView {
+
+    private Room.RoomType roomType;
+
+    /**
+     * First night of the window
+     */
+    private LocalDate startDate;
+
+    /**
+     * Rate per night from startDate, null where the room's base rate applies
+     */
+    private List<BigDecimal> nightlyRates;
+
+    private List<RateCalendar.LengthOfStayDiscount> lengthOfStayDiscounts;
+}
@@ -0,0 +1,66 @@
+package com.hotel.reservation.dto.pricing;
+
+import com.hotel.reservation.model.RateCalendar;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * DTO for a bulk rate calendar update.
+ * Ranges are applied in order, so later ranges override earlier ones.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Data
+public class RateUpdateRequest {
+
+    /**
+     * Nightly rate changes
+     */
+    @Valid
+    private List<RateRange> ranges = new ArrayList<>();
+
+    /**
+     * Replacement length-of-stay discounts (unchanged if omitted)
+     */
+    private List<RateCalendar.LengthOfStayDiscount> lengthOfStayDiscounts;
+
+    /**
+     * One rate applied to a run of nights.
+     */
+    @Data
+    public static class RateRange {
+
+        /**
+         * First night (inclusive)
+         */
+        @NotNull(message = "Start date is required")
+        private LocalDate startDate;
+
+        /**
+         * Day after the last night (exclusive)
+         */
+        @NotNull(message = "End date is required")
+        private LocalDate endDate;
+
+        /**
+         * Only nights on these weekdays (all nights if omitted)
+         */
+        private Set<DayOfWeek> daysOfWeek;
+
+        /**
+         * Nightly rate, or null to fall back to each room's base rate
+         */
+        @DecimalMin(value = "0.01", message = "Rate must be positive")
+        private BigDecimal rate;
+    }
+}
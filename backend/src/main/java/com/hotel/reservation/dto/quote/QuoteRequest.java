@@ -0,0 +1,55 @@
+package com.hotel.reservation.dto.quote;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO for a batch of stay quotes.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuoteRequest {
+
+    /**
+     * Stays to price
+     */
+    @NotEmpty(message = "At least one stay is required")
+    @Size(max = 200, message = "At most 200 stays per request")
+    @Valid
+    private List<Item> items;
+
+    /**
+     * One room and date option.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+
+        @NotBlank(message = "Room ID is required")
+        private String roomId;
+
+        @NotNull(message = "Check-in date is required")
+        private LocalDate checkInDate;
+
+        @NotNull(message = "Check-out date is required")
+        private LocalDate checkOutDate;
+
+        @Min(value = 1, message = "At least one guest is required")
+        private int guests;
+    }
+}
@@ -0,0 +1,63 @@
+package com.hotel.reservation.dto.quote;
+
+import com.hotel.reservation.model.CancellationPolicy;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Price and availability of one requested stay.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StayQuote {
+
+    /**
+     * Why a stay cannot be booked.
+     */
+    public enum Unavailable {
+        ROOM_NOT_FOUND,
+        ROOM_UNLISTED,
+        INVALID_DATES,
+        CAPACITY_EXCEEDED,
+        SOLD_OUT
+    }
+
+    private String roomId;
+
+    private LocalDate checkInDate;
+
+    private LocalDate checkOutDate;
+
+    private int guests;
+
+    private boolean available;
+
+    /**
+     * Set when the stay is not available
+     */
+    private Unavailable reason;
+
+    private long nights;
+
+    /**
+     * Total price of the stay (absent when the room or dates are invalid)
+     */
+    private BigDecimal totalPrice;
+
+    private CancellationPolicy cancellationPolicy;
+
+    /**
+     * Last day a cancellation is refunded in full
+     */
+    private LocalDate freeCancellationUntil;
+}
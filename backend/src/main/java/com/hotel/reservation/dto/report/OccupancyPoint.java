@@ -0,0 +1,34 @@
+package com.hotel.reservation.dto.report;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Occupancy metrics for a single night.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OccupancyPoint {
+
+    private LocalDate date;
+
+    private long roomsSold;
+
+    private double occupancyRate;
+
+    private BigDecimal revenue;
+
+    private BigDecimal adr;
+
+    private BigDecimal revpar;
+}
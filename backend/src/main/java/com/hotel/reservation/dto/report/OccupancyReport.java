@@ -0,0 +1,37 @@
+package com.hotel.reservation.dto.report;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Daily occupancy, ADR and RevPAR over a date range.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OccupancyReport {
+
+    /**
+     * First night of the report
+     */
+    private LocalDate startDate;
+
+    /**
+     * Last night of the report
+     */
+    private LocalDate endDate;
+
+    /**
+     * One series per room type, followed by the all-rooms series
+     */
+    private List<OccupancySeries> series;
+}
@@ -0,0 +1,62 @@
+package com.hotel.reservation.dto.report;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Occupancy metrics for one room type (or all rooms) with range totals.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OccupancySeries {
+
+    /**
+     * Room type name, or ALL
+     */
+    private String roomType;
+
+    /**
+     * Rooms available per night
+     */
+    private long roomCount;
+
+    /**
+     * Room nights sold over the range
+     */
+    private long roomNightsSold;
+
+    /**
+     * Room revenue over the range
+     */
+    private BigDecimal revenue;
+
+    /**
+     * Occupancy over the range (0-100)
+     */
+    private double occupancyRate;
+
+    /**
+     * Average daily rate over the range
+     */
+    private BigDecimal adr;
+
+    /**
+     * Revenue per available room over the range
+     */
+    private BigDecimal revpar;
+
+    /**
+     * Per-night metrics
+     */
+    private List<OccupancyPoint> points;
+}
@@ -0,0 +1,40 @@
+package com.hotel.reservation.dto.search;
+
+import com.hotel.reservation.model.Room;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * A free stay suggested instead of sold-out dates.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AlternativeStay {
+
+    private String roomId;
+
+    private String roomName;
+
+    private Room.RoomType roomType;
+
+    private LocalDate checkInDate;
+
+    private LocalDate checkOutDate;
+
+    /**
+     * Days between the suggested and the preferred check-in (negative = earlier)
+     */
+    private long offsetDays;
+
+    private BigDecimal totalPrice;
+}
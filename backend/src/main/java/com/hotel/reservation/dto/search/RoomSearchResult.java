@@ -0,0 +1,59 @@
+package com.hotel.reservation.dto.search;
+
+import com.hotel.reservation.model.Room;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Faceted room search result.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RoomSearchResult {
+
+    /**
+     * Number of matching rooms
+     */
+    private int total;
+
+    /**
+     * Matching rooms, cheapest first
+     */
+    private List<Room> rooms;
+
+    /**
+     * Matching rooms per amenity, most common first
+     */
+    private Map<String, Integer> amenityFacets;
+
+    /**
+     * Rooms per type matching every criterion except the type filter
+     */
+    private Map<String, Integer> typeFacets;
+
+    /**
+     * Lowest nightly price among the matches
+     */
+    private BigDecimal minPrice;
+
+    /**
+     * Highest nightly price among the matches
+     */
+    private BigDecimal maxPrice;
+
+    /**
+     * Total price of the requested stay per room ID, when dates were given
+     */
+    private Map<String, BigDecimal> stayTotals;
+}
@@ -0,0 +1,55 @@
+package com.hotel.reservation.dto.view;
+
+import com.hotel.reservation.model.User;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Guest fields shown alongside reservations and payments.
+ * Never includes credentials or roles.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GuestSummary {
+
+    /**
+     * Fields read from the users collection
+     */
+    public static final String[] FIELDS = {"firstName", "lastName", "email", "phoneNumber"};
+
+    private String id;
+
+    private String firstName;
+
+    private String lastName;
+
+    private String email;
+
+    private String phoneNumber;
+
+    /**
+     * Create from a loaded user entity.
+     *
+     * @param user the user, may be null
+     * @return summary, or null
+     */
+    public static GuestSummary from(User user) {
+        if (user == null) {
+            return null;
+        }
+        return GuestSummary.builder()
+                .id(user.getId())
+                .firstName(user.getFirstName())
+                .lastName(user.getLastName())
+                .email(user.getEmail())
+                .phoneNumber(user.getPhoneNumber())
+                .build();
+    }
+}
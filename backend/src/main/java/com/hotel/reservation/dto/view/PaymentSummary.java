@@ -0,0 +1,105 @@
+package com.hotel.reservation.dto.view;
+
+import com.hotel.reservation.model.Payment;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Payment view used by list and single-payment endpoints.
+ * Omits the Stripe client secret.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentSummary {
+
+    /**
+     * Fields read from the payments collection
+     */
+    public static final String[] FIELDS = {"reservation", "user", "amount", "currency", "status",
+            "stripePaymentIntentId", "stripeChargeId", "paymentMethod", "cardBrand", "cardLast4",
+            "refundAmount", "refundReason", "refundedAt", "receiptUrl", "createdAt", "updatedAt"};
+
+    private String id;
+
+    private ReservationRef reservation;
+
+    private GuestSummary user;
+
+    private BigDecimal amount;
+
+    private String currency;
+
+    private Payment.PaymentStatus status;
+
+    private String stripePaymentIntentId;
+
+    private String stripeChargeId;
+
+    private String paymentMethod;
+
+    private String cardBrand;
+
+    private String cardLast4;
+
+    private BigDecimal refundAmount;
+
+    private String refundReason;
+
+    private LocalDateTime refundedAt;
+
+    private String receiptUrl;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    /**
+     * Create from a loaded payment entity.
+     *
+     * @param payment the payment
+     * @return summary
+     */
+    public static PaymentSummary from(Payment payment) {
+        return PaymentSummary.builder()
+                .id(payment.getId())
+                .reservation(payment.getReservation() != null
+                        ? new ReservationRef(payment.getReservation().getId()) : null)
+                .user(GuestSummary.from(payment.getUser()))
+                .amount(payment.getAmount())
+                .currency(payment.getCurrency())
+                .status(payment.getStatus())
+                .stripePaymentIntentId(payment.getStripePaymentIntentId())
+                .stripeChargeId(payment.getStripeChargeId())
+                .paymentMethod(payment.getPaymentMethod())
+                .cardBrand(payment.getCardBrand())
+                .cardLast4(payment.getCardLast4())
+                .refundAmount(payment.getRefundAmount())
+                .refundReason(payment.getRefundReason())
+                .refundedAt(payment.getRefundedAt())
+                .receiptUrl(payment.getReceiptUrl())
+                .createdAt(payment.getCreatedAt())
+                .updatedAt(payment.getUpdatedAt())
+                .build();
+    }
+
+    /**
+     * Reference to the paid reservation
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ReservationRef {
+
+        private String id;
+    }
+}
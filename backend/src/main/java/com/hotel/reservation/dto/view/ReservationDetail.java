@@ -0,0 +1,80 @@
+package com.hotel.reservation.dto.view;
+
+import com.hotel.reservation.model.Reservation;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Detail shape of a reservation, returned by single-reservation endpoints.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationDetail {
+
+    private String id;
+
+    private RoomSummary room;
+
+    private GuestSummary user;
+
+    private LocalDate checkInDate;
+
+    private LocalDate checkOutDate;
+
+    private int numberOfGuests;
+
+    private BigDecimal totalAmount;
+
+    private Reservation.ReservationStatus status;
+
+    private String specialRequests;
+
+    private String paymentId;
+
+    private boolean confirmationEmailSent;
+
+    private String cancellationReason;
+
+    private LocalDateTime cancelledAt;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    /**
+     * Create from a loaded reservation entity.
+     *
+     * @param reservation the reservation
+     * @return detail view
+     */
+    public static ReservationDetail from(Reservation reservation) {
+        return ReservationDetail.builder()
+                .id(reservation.getId())
+                .room(RoomSummary.from(reservation.getRoom()))
+                .user(GuestSummary.from(reservation.getUser()))
+                .checkInDate(reservation.getCheckInDate())
+                .checkOutDate(reservation.getCheckOutDate())
+                .numberOfGuests(reservation.getNumberOfGuests())
+                .totalAmount(reservation.getTotalAmount())
+                .status(reservation.getStatus())
+                .specialRequests(reservation.getSpecialRequests())
+                .paymentId(reservation.getPaymentId())
+                .confirmationEmailSent(reservation.isConfirmationEmailSent())
+                .cancellationReason(reservation.getCancellationReason())
+                .cancelledAt(reservation.getCancelledAt())
+                .createdAt(reservation.getCreatedAt())
+                .updatedAt(reservation.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,74 @@
+package com.hotel.reservation.dto.view;
+
+import com.hotel.reservation.model.Reservation;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * List shape of a reservation.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationSummary {
+
+    /**
+     * Fields read from the reservations collection
+     */
+    public static final String[] FIELDS = {"user", "room", "checkInDate", "checkOutDate",
+            "numberOfGuests", "totalAmount", "status", "createdAt", "cancelledAt", "cancellationReason"};
+
+    private String id;
+
+    private RoomSummary room;
+
+    private GuestSummary user;
+
+    private LocalDate checkInDate;
+
+    private LocalDate checkOutDate;
+
+    private int numberOfGuests;
+
+    private BigDecimal totalAmount;
+
+    private Reservation.ReservationStatus status;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime cancelledAt;
+
+    private String cancellationReason;
+
+    /**
+     * Create from a loaded reservation entity.
+     *
+     * @param reservation the reservation
+     * @return summary
+     */
+    public static ReservationSummary from(Reservation reservation) {
+        return ReservationSummary.builder()
+                .id(reservation.getId())
+                .room(RoomSummary.from(reservation.getRoom()))
+                .user(GuestSummary.from(reservation.getUser()))
+                .checkInDate(reservation.getCheckInDate())
+                .checkOutDate(reservation.getCheckOutDate())
+                .numberOfGuests(reservation.getNumberOfGuests())
+                .totalAmount(reservation.getTotalAmount())
+                .status(reservation.getStatus())
+                .createdAt(reservation.getCreatedAt())
+                .cancelledAt(reservation.getCancelledAt())
+                .cancellationReason(reservation.getCancellationReason())
+                .build();
+    }
+}
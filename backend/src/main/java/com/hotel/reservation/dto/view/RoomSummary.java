@@ -0,0 +1,56 @@
+package com.hotel.reservation.dto.view;
+
+import com.hotel.reservation.model.Room;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Room fields shown alongside reservations.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoomSummary {
+
+    /**
+     * Fields read from the rooms collection
+     */
+    public static final String[] FIELDS = {"name", "type", "pricePerNight", "imageUrl"};
+
+    private String id;
+
+    private String name;
+
+    private Room.RoomType type;
+
+    private BigDecimal pricePerNight;
+
+    private String imageUrl;
+
+    /**
+     * Create from a loaded room entity.
+     *
+     * @param room the room, may be null
+     * @return summary, or null
+     */
+    public static RoomSummary from(Room room) {
+        if (room == null) {
+            return null;
+        }
+        return RoomSummary.builder()
+                .id(room.getId())
+                .name(room.getName())
+                .type(room.getType())
+                .pricePerNight(room.getPricePerNight())
+                .imageUrl(room.getImageUrl())
+                .build();
+    }
+}
@@ -0,0 +1,235 @@
+package com.hotel.reservation.email;
+
+import com.hotel.reservation.model.EmailMessage;
+import com.hotel.reservation.repository.EmailMessageRepository;
+import com.hotel.reservation.repository.ReservationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Background sender for the email queue.
+ * Claims queued messages, splits them into batches and hands each batch to a
+ * worker thread, which renders the bodies from cached templates and sends the
+ * whole batch over a single SMTP connection. Failed messages are retried with
+ * jittered exponential backoff; reservations whose confirmation went out are
+ * flagged in one bulk update.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.email", name = "enabled", havingValue = "true")
+public class EmailDispatcher {
+
+    private final EmailMessageRepository emailMessageRepository;
+    private final ReservationRepository reservationRepository;
+    private final EmailTemplateEngine templateEngine;
+    private final JavaMailSender mailSender;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.email.from}")
+    private String from;
+
+    @Value("${app.email.workers:4}")
+    private int workers;
+
+    @Value("${app.email.batch-size:50}")
+    private int batchSize;
+
+    @Value("${app.email.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${app.email.lease-ms:300000}")
+    private long leaseMs;
+
+    @Value("${app.email.retry-base-ms:30000}")
+    private long retryBaseMs;
+
+    @Value("${app.email.retry-max-ms:3600000}")
+    private long retryMaxMs;
+
+    private ExecutorService executor;
+
+    public EmailDispatcher(EmailMessageRepository emailMessageRepository,
+                           ReservationRepository reservationRepository,
+                           EmailTemplateEngine templateEngine,
+                           JavaMailSender mailSender,
+                           MeterRegistry meterRegistry) {
+        this.emailMessageRepository = emailMessageRepository;
+        this.reservationRepository = reservationRepository;
+        this.templateEngine = templateEngine;
+        this.mailSender = mailSender;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "email-worker-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdown();
+    }
+
+    /**
+     * Send everything that is due, one round of batches per worker at a time.
+     */
+    @Scheduled(fixedDelayString = "${app.email.poll-interval-ms:2000}")
+    public void dispatch() {
+        int roundSize = batchSize * workers;
+        List<EmailMessage> claimed;
+        do {
+            claimed = emailMessageRepository.claimBatch(roundSize, Duration.ofMillis(leaseMs));
+            if (!claimed.isEmpty()) {
+                sendRound(claimed);
+            }
+        } while (claimed.size() == roundSize);
+    }
+
+    private void sendRound(List<EmailMessage> claimed) {
+        List<Future<List<EmailMessage>>> futures = new ArrayList<>();
+        for (int offset = 0; offset < claimed.size(); offset += batchSize) {
+            List<EmailMessage> batch = claimed.subList(offset, Math.min(offset + batchSize, claimed.size()));
+            futures.add(executor.submit(() -> sendBatch(batch)));
+        }
+
+        List<String> sentIds = new ArrayList<>();
+        List<String> confirmedReservationIds = new ArrayList<>();
+        for (Future<List<EmailMessage>> future : futures) {
+            try {
+                for (EmailMessage message : future.get()) {
+                    sentIds.add(message.getId());
+                    if (message.getTemplate() == EmailMessage.Template.RESERVATION_CONFIRMED) {
+                        confirmedReservationIds.add(message.getReservationId());
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                // Unclaimed messages are picked up again once their lease expires
+                log.error("Email batch failed unexpectedly", e.getCause());
+            }
+        }
+
+        String claimToken = claimed.get(0).getClaimToken();
+        long marked = emailMessageRepository.markSent(sentIds, claimToken);
+        if (marked < sentIds.size()) {
+            log.warn("Claim {} expired before {} of {} sent emails were marked sent",
+                    claimToken, sentIds.size() - marked, sentIds.size());
+        }
+        reservationRepository.markConfirmationEmailsSent(confirmedReservationIds);
+        meterRegistry.counter("hotelx.email.sent").increment(sentIds.size());
+    }
+
+    /**
+     * Render and send one batch over a single connection.
+     *
+     * @return the messages that were sent
+     */
+    List<EmailMessage> sendBatch(List<EmailMessage> batch) {
+        Map<MimeMessage, EmailMessage> prepared = new IdentityHashMap<>();
+        for (EmailMessage message : batch) {
+            try {
+                prepared.put(toMimeMessage(message), message);
+            } catch (MessagingException | RuntimeException e) {
+                fail(message, e);
+            }
+        }
+        if (prepared.isEmpty()) {
+            return List.of();
+        }
+
+        List<EmailMessage> sent = new ArrayList<>(prepared.values());
+        try {
+            mailSender.send(prepared.keySet().toArray(MimeMessage[]::new));
+        } catch (MailSendException e) {
+            // Per-message failures; everything else in the batch went out
+            e.getFailedMessages().forEach((failedMessage, cause) -> {
+                EmailMessage message = prepared.get(failedMessage);
+                if (message != null) {
+                    sent.remove(message);
+                    fail(message, cause);
+                }
+            });
+            if (e.getFailedMessages().isEmpty()) {
+                sent.forEach(message -> fail(message, e));
+                return List.of();
+            }
+        } catch (MailException e) {
+            sent.forEach(message -> fail(message, e));
+            return List.of();
+        }
+        return sent;
+    }
+
+    private MimeMessage toMimeMessage(EmailMessage message) throws MessagingException {
+        MimeMessage mimeMessage = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, StandardCharsets.UTF_8.name());
+        helper.setFrom(from);
+        helper.setTo(message.getRecipient());
+        helper.setSubject(message.getTemplate().getSubject());
+        helper.setText(templateEngine.render(message.getTemplate(), message.getVariables()), true);
+        return mimeMessage;
+    }
+
+    private void fail(EmailMessage message, Exception cause) {
+        int attempts = message.getAttempts() + 1;
+        LocalDateTime retryAt = attempts >= maxAttempts ? null : LocalDateTime.now().plus(backoff(attempts));
+        if (!emailMessageRepository.markFailed(message.getId(), message.getClaimToken(), cause.getMessage(), retryAt)) {
+            log.warn("Claim on email {} expired; leaving its outcome to the current dispatcher", message.getId());
+            return;
+        }
+        meterRegistry.counter("hotelx.email.failed").increment();
+
+        if (retryAt == null) {
+            log.error("Giving up on email {} to {} after {} attempts: {}",
+                    message.getId(), message.getRecipient(), attempts, cause.getMessage());
+        } else {
+            log.warn("Email {} to {} failed, retrying at {}: {}",
+                    message.getId(), message.getRecipient(), retryAt, cause.getMessage());
+        }
+    }
+
+    /**
+     * Exponential backoff with jitter in [delay/2, delay], so a recovering
+     * SMTP server is not hit by every failed message at once.
+     */
+    private Duration backoff(int attempts) {
+        long delay = Math.min(retryBaseMs << Math.min(attempts - 1, 20), retryMaxMs);
+        return Duration.ofMillis(delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1));
+    }
+}
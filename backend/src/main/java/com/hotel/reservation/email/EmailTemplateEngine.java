@@ -0,0 +1,112 @@
+package com.hotel.reservation.email;
+
+import com.hotel.reservation.model.EmailMessage;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Renders email templates with {{variable}} placeholders.
+ * Each template is read and split into literal/variable segments once, then
+ * cached, so rendering is a single pass over precompiled segments.
+ * Variable values are HTML-escaped.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Component
+public class EmailTemplateEngine {
+
+    private static final String TEMPLATE_LOCATION = "templates/email/";
+
+    private final Map<EmailMessage.Template, CompiledTemplate> cache =
+            new EnumMap<>(EmailMessage.Template.class);
+
+    /**
+     * Render a template.
+     *
+     * @param template the template
+     * @param variables template variables; missing variables render as empty
+     * @return rendered HTML body
+     */
+    public String render(EmailMessage.Template template, Map<String, String> variables) {
+        return compiled(template).render(variables);
+    }
+
+    private CompiledTemplate compiled(EmailMessage.Template template) {
+        synchronized (cache) {
+            return cache.computeIfAbsent(template, t -> compile(load(t)));
+        }
+    }
+
+    private String load(EmailMessage.Template template) {
+        ClassPathResource resource = new ClassPathResource(TEMPLATE_LOCATION + template.getResourceName() + ".html");
+        try (InputStream in = resource.getInputStream()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot load email template " + resource.getPath(), e);
+        }
+    }
+
+    static CompiledTemplate compile(String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+
+        int position = 0;
+        while (true) {
+            int start = source.indexOf("{{", position);
+            int end = start < 0 ? -1 : source.indexOf("}}", start + 2);
+            if (end < 0) {
+                literals.add(source.substring(position));
+                break;
+            }
+            literals.add(source.substring(position, start));
+            variables.add(source.substring(start + 2, end).trim());
+            position = end + 2;
+        }
+
+        return new CompiledTemplate(literals.toArray(String[]::new), variables.toArray(String[]::new));
+    }
+
+    /**
+     * Template split into literals interleaved with variable names:
+     * literal[0] var[0] literal[1] ... var[n-1] literal[n].
+     */
+    static final class CompiledTemplate {
+
+        private final String[] literals;
+        private final String[] variables;
+        private final int literalLength;
+
+        CompiledTemplate(String[] literals, String[] variables) {
+            this.literals = literals;
+            this.variables = variables;
+            int length = 0;
+            for (String literal : literals) {
+                length += literal.length();
+            }
+            this.literalLength = length;
+        }
+
+        String render(Map<String, String> values) {
+            StringBuilder out = new StringBuilder(literalLength + variables.length * 16);
+            for (int i = 0; i < variables.length; i++) {
+                out.append(literals[i]);
+                String value = values.get(variables[i]);
+                if (value != null) {
+                    out.append(HtmlUtils.htmlEscape(value));
+                }
+            }
+            return out.append(literals[variables.length]).toString();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.hotel.reservation.event;
+
+import com.hotel.reservation.model.OutboxEvent;
+import org.springframework.util.ClassUtils;
+
+/**
+ * In-process consumer of outbox events.
+ * Delivery is tracked per handler: when a handler fails, the event is retried
+ * only for the handlers that have not handled it yet. A dispatcher crash
+ * between handling and recording can still repeat a delivery, so
+ * implementations with durable effects must be idempotent.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+public interface DomainEventHandler {
+
+    /**
+     * Whether this handler consumes the given event type.
+     *
+     * @param type event type
+     * @return true if {@link #handle(OutboxEvent)} should be called
+     */
+    boolean supports(OutboxEvent.EventType type);
+
+    /**
+     * Name under which deliveries to this handler are recorded on the event.
+     *
+     * @return stable handler name
+     */
+    default String name() {
+        return ClassUtils.getUserClass(getClass()).getSimpleName();
+    }
+
+    /**
+     * Handle an event. Throwing schedules a retry.
+     *
+     * @param event the event
+     */
+    void handle(OutboxEvent event);
+}
@@ -0,0 +1,100 @@
+package com.hotel.reservation.event;
+
+import com.hotel.reservation.model.OutboxEvent;
+import com.hotel.reservation.model.Reservation;
+import com.hotel.reservation.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records domain events in the outbox.
+ * Call from inside the @Transactional service method that performs the state
+ * change; with the Mongo transaction manager enabled the event and the state
+ * change commit together, and the dispatcher delivers the event afterwards.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class DomainEventPublisher {
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    /**
+     * Record a domain event.
+     *
+     * @param type event type
+     * @param aggregateId ID of the reservation or payment the event is about
+     * @param payload event data
+     * @return the stored outbox event
+     */
+    public OutboxEvent publish(OutboxEvent.EventType type, String aggregateId, Map<String, String> payload) {
+        OutboxEvent event = new OutboxEvent();
+        event.setType(type);
+        event.setAggregateId(aggregateId);
+        event.setPayload(new HashMap<>(payload));
+        event.setStatus(OutboxEvent.OutboxStatus.PENDING);
+        event.setAvailableAt(LocalDateTime.now());
+        return outboxEventRepository.save(event);
+    }
+
+    /**
+     * Record one event of the same type for each of several aggregates in a
+     * single bulk insert.
+     *
+     * @param type event type
+     * @param payloads event data per aggregate ID
+     * @return the stored outbox events
+     */
+    public List<OutboxEvent> publishAll(OutboxEvent.EventType type, Map<String, Map<String, String>> payloads) {
+        List<OutboxEvent> events = new ArrayList<>(payloads.size());
+        LocalDateTime now = LocalDateTime.now();
+        payloads.forEach((aggregateId, payload) -> {
+            OutboxEvent event = new OutboxEvent();
+            event.setType(type);
+            event.setAggregateId(aggregateId);
+            event.setPayload(new HashMap<>(payload));
+            event.setStatus(OutboxEvent.OutboxStatus.PENDING);
+            event.setAvailableAt(now);
+            events.add(event);
+        });
+        return outboxEventRepository.saveAll(events);
+    }
+
+    /**
+     * Record a domain event without payload.
+     *
+     * @param type event type
+     * @param aggregateId ID of the reservation or payment the event is about
+     * @return the stored outbox event
+     */
+    public OutboxEvent publish(OutboxEvent.EventType type, String aggregateId) {
+        return publish(type, aggregateId, Map.of());
+    }
+
+    /**
+     * Record that a reservation was cancelled.
+     *
+     * @param reservation the cancelled reservation
+     * @return the stored outbox event
+     */
+    public OutboxEvent reservationCancelled(Reservation reservation) {
+        Map<String, String> payload = new HashMap<>();
+        payload.put("reason", String.valueOf(reservation.getCancellationReason()));
+        if (reservation.getRoom() != null) {
+            payload.put("roomId", reservation.getRoom().getId());
+        }
+        if (reservation.getCheckInDate() != null && reservation.getCheckOutDate() != null) {
+            payload.put("checkInDate", reservation.getCheckInDate().toString());
+            payload.put("checkOutDate", reservation.getCheckOutDate().toString());
+        }
+        return publish(OutboxEvent.EventType.RESERVATION_CANCELLED, reservation.getId(), payload);
+    }
+}
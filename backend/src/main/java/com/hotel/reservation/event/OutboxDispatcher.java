@@ -0,0 +1,140 @@
+package com.hotel.reservation.event;
+
+import com.hotel.reservation.model.OutboxEvent;
+import com.hotel.reservation.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Background dispatcher for the domain event outbox.
+ * Claims pending events in batches, delivers each one to the handlers that
+ * support its type and have not handled it yet, and reschedules failures with
+ * exponential backoff. Outcomes are recorded under the batch's claim token, so
+ * a dispatcher whose lease expired cannot overwrite the outcome of the
+ * dispatcher that claimed the events next.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.outbox", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxDispatcher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<DomainEventHandler> handlers;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${app.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${app.outbox.lease-ms:60000}")
+    private long leaseMs;
+
+    @Value("${app.outbox.retry-base-ms:1000}")
+    private long retryBaseMs;
+
+    @Value("${app.outbox.retry-max-ms:300000}")
+    private long retryMaxMs;
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository,
+                            List<DomainEventHandler> handlers,
+                            MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.handlers = handlers;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Drain the outbox until a batch comes back short.
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:500}")
+    public void dispatch() {
+        List<OutboxEvent> batch;
+        do {
+            batch = outboxEventRepository.claimBatch(batchSize, Duration.ofMillis(leaseMs));
+            deliver(batch);
+        } while (batch.size() == batchSize);
+    }
+
+    private void deliver(List<OutboxEvent> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<String> dispatched = new ArrayList<>(batch.size());
+
+        for (OutboxEvent event : batch) {
+            List<String> handled = new ArrayList<>();
+            RuntimeException failure = null;
+            String failedHandler = null;
+            for (DomainEventHandler handler : handlers) {
+                if (!handler.supports(event.getType()) || event.getHandledBy().contains(handler.name())) {
+                    continue;
+                }
+                try {
+                    handler.handle(event);
+                    handled.add(handler.name());
+                } catch (RuntimeException e) {
+                    // The other handlers still get the event; only the failed ones see the retry
+                    if (failure == null) {
+                        failure = e;
+                        failedHandler = handler.name();
+                    } else {
+                        failure.addSuppressed(e);
+                    }
+                }
+            }
+
+            if (failure == null) {
+                dispatched.add(event.getId());
+            } else {
+                fail(event, handled, failedHandler, failure);
+            }
+        }
+
+        String claimToken = batch.get(0).getClaimToken();
+        long marked = outboxEventRepository.markDispatched(dispatched, claimToken);
+        if (marked < dispatched.size()) {
+            log.warn("Claim {} expired before {} of {} outbox events were marked dispatched",
+                    claimToken, dispatched.size() - marked, dispatched.size());
+        }
+        if (!dispatched.isEmpty()) {
+            meterRegistry.counter("hotelx.outbox.dispatched").increment(dispatched.size());
+        }
+    }
+
+    private void fail(OutboxEvent event, List<String> handled, String handler, RuntimeException e) {
+        int attempts = event.getAttempts() + 1;
+        LocalDateTime retryAt = attempts >= maxAttempts ? null : LocalDateTime.now().plus(backoff(attempts));
+        if (!outboxEventRepository.markFailed(event.getId(), event.getClaimToken(), handled, e.getMessage(), retryAt)) {
+            log.warn("Claim on outbox event {} expired; leaving its outcome to the current dispatcher", event.getId());
+            return;
+        }
+        meterRegistry.counter("hotelx.outbox.failed", "type", event.getType().name()).increment();
+
+        if (retryAt == null) {
+            log.error("Giving up on outbox event {} ({}) in {} after {} attempts",
+                    event.getId(), event.getType(), handler, attempts, e);
+        } else {
+            log.warn("Outbox event {} ({}) failed in {}, retrying at {}: {}",
+                    event.getId(), event.getType(), handler, retryAt, e.getMessage());
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        long delay = retryBaseMs << Math.min(attempts - 1, 20);
+        return Duration.ofMillis(Math.min(delay, retryMaxMs));
+    }
+}
@@ -0,0 +1,69 @@
+package com.hotel.reservation.event.handler;
+
+import com.hotel.reservation.event.DomainEventHandler;
+import com.hotel.reservation.model.OutboxEvent;
+import com.hotel.reservation.stream.AvailabilityDelta;
+import com.hotel.reservation.stream.SseHub;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Pushes room-night availability changes to availability stream subscribers.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class AvailabilityStreamHandler implements DomainEventHandler {
+
+    static final String EVENT_NAME = "availability";
+
+    private final SseHub sseHub;
+
+    @Override
+    public boolean supports(OutboxEvent.EventType type) {
+        return type == OutboxEvent.EventType.RESERVATION_CREATED
+                || type == OutboxEvent.EventType.RESERVATION_UPDATED
+                || type == OutboxEvent.EventType.RESERVATION_CANCELLED;
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        Map<String, String> payload = event.getPayload();
+        if (payload == null || payload.get("roomId") == null || payload.get("checkInDate") == null) {
+            return;
+        }
+        String roomId = payload.get("roomId");
+
+        switch (event.getType()) {
+            case RESERVATION_CREATED -> push(roomId, AvailabilityDelta.Change.BOOKED,
+                    payload.get("checkInDate"), payload.get("checkOutDate"));
+            case RESERVATION_CANCELLED -> push(roomId, AvailabilityDelta.Change.RELEASED,
+                    payload.get("checkInDate"), payload.get("checkOutDate"));
+            case RESERVATION_UPDATED -> {
+                push(roomId, AvailabilityDelta.Change.RELEASED,
+                        payload.get("previousCheckInDate"), payload.get("previousCheckOutDate"));
+                push(roomId, AvailabilityDelta.Change.BOOKED,
+                        payload.get("checkInDate"), payload.get("checkOutDate"));
+            }
+            default -> {
+            }
+        }
+    }
+
+    private void push(String roomId, AvailabilityDelta.Change change, String from, String to) {
+        if (from == null || to == null) {
+            return;
+        }
+        sseHub.publish(SseHub.Topic.AVAILABILITY, EVENT_NAME, AvailabilityDelta.builder()
+                .roomId(roomId)
+                .change(change)
+                .from(LocalDate.parse(from))
+                .to(LocalDate.parse(to))
+                .build());
+    }
+}
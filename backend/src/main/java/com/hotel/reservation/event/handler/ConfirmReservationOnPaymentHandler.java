@@ -0,0 +1,69 @@
+package com.hotel.reservation.event.handler;
+
+import com.hotel.reservation.event.DomainEventHandler;
+import com.hotel.reservation.exception.InvalidStatusTransitionException;
+import com.hotel.reservation.model.OutboxEvent;
+import com.hotel.reservation.model.Reservation;
+import com.hotel.reservation.payment.RefundQueue;
+import com.hotel.reservation.service.ReservationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Confirms the reservation (or every reservation of a group booking) once its payment has succeeded.
+ * Confirmation is idempotent. A payment that succeeds after its reservation was cancelled (for
+ * example a waitlist hold that expired while the guest was paying) is refunded in full through the
+ * refund queue, so the guest is not charged for a booking they no longer have.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConfirmReservationOnPaymentHandler implements DomainEventHandler {
+
+    public static final String RESERVATION_ID = "reservationId";
+    public static final String GROUP_BOOKING_ID = "groupBookingId";
+
+    static final String LATE_PAYMENT_REASON = "Payment received after the reservation was cancelled";
+
+    private final ReservationService reservationService;
+    private final RefundQueue refundQueue;
+
+    @Override
+    public boolean supports(OutboxEvent.EventType type) {
+        return type == OutboxEvent.EventType.PAYMENT_SUCCEEDED;
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        String groupBookingId = event.getPayload().get(GROUP_BOOKING_ID);
+        if (groupBookingId != null) {
+            int confirmed = reservationService.confirmGroup(groupBookingId);
+            log.info("Payment {} succeeded; confirmed {} reservations of group {}",
+                    event.getAggregateId(), confirmed, groupBookingId);
+            return;
+        }
+
+        String reservationId = event.getPayload().get(RESERVATION_ID);
+        if (reservationId == null) {
+            return;
+        }
+
+        try {
+            reservationService.confirmReservation(reservationId);
+        } catch (InvalidStatusTransitionException e) {
+            if (e.getCurrent() != Reservation.ReservationStatus.CANCELLED) {
+                log.warn("Payment {} succeeded but reservation {} is {}; not confirming",
+                        event.getAggregateId(), reservationId, e.getCurrent());
+                return;
+            }
+            // Keyed by the payment, so a redelivered event queues the refund once
+            refundQueue.enqueueLatePayment(reservationId, event.getAggregateId(), LATE_PAYMENT_REASON);
+            log.warn("Payment {} succeeded after reservation {} was cancelled; refund queued",
+                    event.getAggregateId(), reservationId);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.hotel.reservation.event.handler;
+
+import com.hotel.reservation.event.DomainEventHandler;
+import com.hotel.reservation.model.OutboxEvent;
+import com.hotel.reservation.stream.DashboardDelta;
+import com.hotel.reservation.stream.SseHub;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Pushes dashboard counter increments to admin dashboard stream subscribers.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class DashboardStreamHandler implements DomainEventHandler {
+
+    static final String EVENT_NAME = "dashboard";
+
+    private final SseHub sseHub;
+
+    @Override
+    public boolean supports(OutboxEvent.EventType type) {
+        return type != OutboxEvent.EventType.RESERVATION_UPDATED;
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        Map<String, String> payload = event.getPayload() != null ? event.getPayload() : Map.of();
+
+        DashboardDelta.DashboardDeltaBuilder delta = DashboardDelta.builder()
+                .event(event.getType().name())
+                .aggregateId(event.getAggregateId())
+                .counters(Map.of());
+
+        switch (event.getType()) {
+            case RESERVATION_CREATED -> delta.counters(Map.of(
+                    "totalReservations", 1L,
+                    "pendingReservations", 1L));
+            case RESERVATION_CONFIRMED -> delta.counters(Map.of(
+                    "pendingReservations", -1L,
+                    "confirmedReservations", 1L));
+            case RESERVATION_CANCELLED -> delta.counters(Map.of(
+                    "cancelledReservations", 1L));
+            case PAYMENT_SUCCEEDED -> delta.revenue(amount(payload.get("amount")));
+            case PAYMENT_REFUNDED -> delta.revenue(amount(payload.get("refundAmount")).negate());
+            default -> {
+                return;
+            }
+        }
+        sseHub.publish(SseHub.Topic.DASHBOARD, EVENT_NAME, delta.build());
+    }
+
+    private static BigDecimal amount(String value) {
+        return value != null ? new BigDecimal(value) : BigDecimal.ZERO;
+    }
+}
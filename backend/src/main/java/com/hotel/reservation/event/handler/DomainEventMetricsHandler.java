@@ -0,0 +1,39 @@
+package com.hotel.reservation.event.handler;
+
+import com.hotel.reservation.event.DomainEventHandler;
+import com.hotel.reservation.model.OutboxEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Counts domain events and records how long they waited in the outbox.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class DomainEventMetricsHandler implements DomainEventHandler {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean supports(OutboxEvent.EventType type) {
+        return true;
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        String type = event.getType().name();
+        meterRegistry.counter("hotelx.domain.events", "type", type).increment();
+
+        if (event.getCreatedAt() != null) {
+            meterRegistry.timer("hotelx.outbox.lag", "type", type)
+                    .record(Duration.between(event.getCreatedAt(), LocalDateTime.now()));
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.hotel.reservation.event.handler;
+
+import com.hotel.reservation.event.DomainEventHandler;
+import com.hotel.reservation.model.EmailMessage;
+import com.hotel.reservation.model.OutboxEvent;
+import com.hotel.reservation.model.Reservation;
+import com.hotel.reservation.model.User;
+import com.hotel.reservation.repository.EmailMessageRepository;
+import com.hotel.reservation.repository.ReservationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Queues the guest email for confirmed and cancelled reservations.
+ * The queued message ID is derived from the event ID, so redelivery of the
+ * same event never queues a second email. Only active when email sending is
+ * enabled, so nothing is queued that no dispatcher would send.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.email", name = "enabled", havingValue = "true")
+public class EmailNotificationHandler implements DomainEventHandler {
+
+    private final ReservationRepository reservationRepository;
+    private final EmailMessageRepository emailMessageRepository;
+
+    @Override
+    public boolean supports(OutboxEvent.EventType type) {
+        return type == OutboxEvent.EventType.RESERVATION_CONFIRMED
+                || type == OutboxEvent.EventType.RESERVATION_CANCELLED;
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        Reservation reservation = reservationRepository.findById(event.getAggregateId()).orElse(null);
+        if (reservation == null || reservation.getUser() == null || reservation.getUser().getEmail() == null) {
+            log.warn("No recipient for {} event on reservation {}", event.getType(), event.getAggregateId());
+            return;
+        }
+
+        EmailMessage.Template template;
+        if (event.getType() == OutboxEvent.EventType.RESERVATION_CONFIRMED) {
+            if (reservation.isConfirmationEmailSent()) {
+                return;
+            }
+            template = EmailMessage.Template.RESERVATION_CONFIRMED;
+        } else {
+            template = EmailMessage.Template.RESERVATION_CANCELLED;
+        }
+
+        EmailMessage message = new EmailMessage();
+        message.setId(event.getId());
+        message.setTemplate(template);
+        message.setReservationId(reservation.getId());
+        message.setRecipient(reservation.getUser().getEmail());
+        message.setVariables(variables(reservation));
+        message.setStatus(EmailMessage.EmailStatus.PENDING);
+        message.setAvailableAt(LocalDateTime.now());
+        emailMessageRepository.enqueue(message);
+    }
+
+    private Map<String, String> variables(Reservation reservation) {
+        User guest = reservation.getUser();
+        Map<String, String> variables = new HashMap<>();
+        variables.put("guestName", guest.getFirstName() + " " + guest.getLastName());
+        variables.put("reservationId", reservation.getId());
+        variables.put("checkInDate", String.valueOf(reservation.getCheckInDate()));
+        variables.put("checkOutDate", String.valueOf(reservation.getCheckOutDate()));
+        variables.put("numberOfGuests", String.valueOf(reservation.getNumberOfGuests()));
+        if (reservation.getTotalAmount() != null) {
+            variables.put("totalAmount", reservation.getTotalAmount().toPlainString());
+        }
+        if (reservation.getRoom() != null) {
+            variables.put("roomName", reservation.getRoom().getName());
+            variables.put("roomType", String.valueOf(reservation.getRoom().getType()));
+        }
+        if (reservation.getCancellationReason() != null) {
+            variables.put("reason", reservation.getCancellationReason());
+        }
+        return variables;
+    }
+}
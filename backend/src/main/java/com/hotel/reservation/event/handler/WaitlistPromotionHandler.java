@@ -0,0 +1,56 @@
+package com.hotel.reservation.event.handler;
+
+import com.hotel.reservation.event.DomainEventHandler;
+import com.hotel.reservation.model.OutboxEvent;
+import com.hotel.reservation.service.WaitlistService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Offers rooms freed by cancellations (including lapsed waitlist holds) to
+ * the waitlist, and marks waitlist holds booked once they are confirmed.
+ * Runs on the outbox dispatcher, never on the request thread.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WaitlistPromotionHandler implements DomainEventHandler {
+
+    private final WaitlistService waitlistService;
+
+    @Override
+    public boolean supports(OutboxEvent.EventType type) {
+        return type == OutboxEvent.EventType.RESERVATION_CANCELLED
+                || type == OutboxEvent.EventType.RESERVATION_CONFIRMED;
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        if (event.getType() == OutboxEvent.EventType.RESERVATION_CONFIRMED) {
+            waitlistService.markBooked(event.getAggregateId());
+            return;
+        }
+
+        String roomId = event.getPayload().get("roomId");
+        String checkIn = event.getPayload().get("checkInDate");
+        String checkOut = event.getPayload().get("checkOutDate");
+        if (roomId == null || checkIn == null || checkOut == null) {
+            return;
+        }
+        LocalDate end = LocalDate.parse(checkOut);
+        if (!end.isAfter(LocalDate.now())) {
+            return;
+        }
+
+        int offers = waitlistService.offerFreedRoom(roomId, LocalDate.parse(checkIn), end);
+        if (offers > 0) {
+            log.info("Cancellation of {} produced {} waitlist offers", event.getAggregateId(), offers);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.hotel.reservation.exception;
+
+import org.springframework.http.HttpStatus;
+
+import java.util.Map;
+
+/**
+ * Thrown when a booking has more guests than the room holds (422 Unprocessable Entity).
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+public class CapacityExceededException extends DomainException {
+
+    private final int guests;
+    private final int capacity;
+
+    public CapacityExceededException(int guests, int capacity, String message) {
+        super(message);
+        this.guests = guests;
+        this.capacity = capacity;
+    }
+
+    public int getGuests() {
+        return guests;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public HttpStatus getStatus() {
+        return HttpStatus.UNPROCESSABLE_ENTITY;
+    }
+
+    @Override
+    public String getProblemType() {
+        return "capacity-exceeded";
+    }
+
+    @Override
+    public Map<String, Object> getProperties() {
+        return Map.of("guests", guests, "capacity", capacity);
+    }
+}
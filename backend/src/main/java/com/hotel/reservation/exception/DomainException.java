@@ -0,0 +1,40 @@
+package com.hotel.reservation.exception;
+
+import org.springframework.http.HttpStatus;
+
+import java.util.Map;
+
+/**
+ * Base class for expected business outcomes (missing resources, sold-out
+ * rooms, illegal status changes). These are routine, often triggered by
+ * scrapers or stale pages, so they skip the stack trace: filling one in
+ * walks every filter, proxy and interceptor frame on each throw.
+ * {@link GlobalExceptionHandler} turns them into problem+json responses
+ * without logging.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+public abstract class DomainException extends RuntimeException {
+
+    protected DomainException(String message) {
+        super(message, null, false, false);
+    }
+
+    /**
+     * @return HTTP status of the response
+     */
+    public abstract HttpStatus getStatus();
+
+    /**
+     * @return short problem type, e.g. "not-found"
+     */
+    public abstract String getProblemType();
+
+    /**
+     * @return extra members of the problem body
+     */
+    public Map<String, Object> getProperties() {
+        return Map.of();
+    }
+}
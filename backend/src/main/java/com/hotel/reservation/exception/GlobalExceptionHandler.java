@@ -1,6 +1,9 @@
 package com.hotel.reservation.exception;
 
+import com.hotel.reservation.payment.StripeUnavailableException;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -11,9 +14,11 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.net.URI;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Global exception handler for REST API.
@@ -23,8 +28,12 @@ import java.util.Map;
  * @version 1.0
  */
 @RestControllerAdvice
+@Slf4j
 public class GlobalExceptionHandler {
 
+    private static final String PROBLEM_TYPE_PREFIX = "urn:hotelx:problem:";
+    private static final Map<String, URI> PROBLEM_TYPES = new ConcurrentHashMap<>();
+
     /**
      * Handle validation errors.
      *
@@ -106,6 +115,37 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage());
     }
 
+    /**
+     * Handle expected domain outcomes (not found, unavailable, capacity
+     * exceeded, invalid status transition) as problem+json. Not logged:
+     * these are routine and carry no stack trace.
+     * The message is repeated as "message" for clients reading the old body.
+     *
+     * @param ex domain exception
+     * @return problem detail response
+     */
+    @ExceptionHandler(DomainException.class)
+    public ResponseEntity<ProblemDetail> handleDomainException(DomainException ex) {
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(ex.getStatus(), ex.getMessage());
+        problem.setType(PROBLEM_TYPES.computeIfAbsent(ex.getProblemType(),
+                type -> URI.create(PROBLEM_TYPE_PREFIX + type)));
+        problem.setProperty("message", ex.getMessage());
+        ex.getProperties().forEach(problem::setProperty);
+        return ResponseEntity.status(ex.getStatus()).body(problem);
+    }
+
+    /**
+     * Handle calls rejected while the Stripe circuit is open (503).
+     *
+     * @param ex Stripe unavailable exception
+     * @return error response
+     */
+    @ExceptionHandler(StripeUnavailableException.class)
+    public ResponseEntity<Map<String, Object>> handleStripeUnavailable(StripeUnavailableException ex) {
+        return buildErrorResponse(HttpStatus.SERVICE_UNAVAILABLE,
+                "Payments are temporarily unavailable. Please try again in a few minutes.");
+    }
+
     /**
      * Handle generic runtime exceptions.
      *
@@ -115,8 +155,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<Map<String, Object>> handleRuntimeException(RuntimeException ex) {
         // Log full error for debugging but don't expose to client
-        org.slf4j.LoggerFactory.getLogger(GlobalExceptionHandler.class)
-            .error("Runtime exception occurred", ex);
+        log.error("Runtime exception occurred", ex);
         return buildErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR,
             "An error occurred while processing your request. Please try again later.");
     }
@@ -130,8 +169,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, Object>> handleGenericException(Exception ex) {
         // Log full error for debugging but don't expose to client
-        org.slf4j.LoggerFactory.getLogger(GlobalExceptionHandler.class)
-            .error("Unexpected exception occurred", ex);
+        log.error("Unexpected exception occurred", ex);
         return buildErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR,
                 "An unexpected error occurred. Please contact support if this persists.");
     }
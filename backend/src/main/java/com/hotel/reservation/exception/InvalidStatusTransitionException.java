@@ -0,0 +1,64 @@
+package com.hotel.reservation.exception;
+
+import com.hotel.reservation.model.Reservation;
+import org.springframework.http.HttpStatus;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Thrown when a reservation cannot move to the requested status from its
+ * current one, or cannot be changed at all in its current status (409 Conflict).
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+public class InvalidStatusTransitionException extends DomainException {
+
+    private final Reservation.ReservationStatus current;
+    private final Reservation.ReservationStatus target;
+
+    public InvalidStatusTransitionException(Reservation.ReservationStatus current,
+                                            Reservation.ReservationStatus target,
+                                            String message) {
+        super(message);
+        this.current = current;
+        this.target = target;
+    }
+
+    public InvalidStatusTransitionException(Reservation.ReservationStatus current,
+                                            Reservation.ReservationStatus target) {
+        this(current, target, "Cannot change reservation status from " + current + " to " + target);
+    }
+
+    public Reservation.ReservationStatus getCurrent() {
+        return current;
+    }
+
+    /**
+     * @return requested status, or null if the reservation's details were to change
+     */
+    public Reservation.ReservationStatus getTarget() {
+        return target;
+    }
+
+    @Override
+    public HttpStatus getStatus() {
+        return HttpStatus.CONFLICT;
+    }
+
+    @Override
+    public String getProblemType() {
+        return "invalid-transition";
+    }
+
+    @Override
+    public Map<String, Object> getProperties() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("currentStatus", current);
+        if (target != null) {
+            properties.put("targetStatus", target);
+        }
+        return properties;
+    }
+}
@@ -0,0 +1,50 @@
+package com.hotel.reservation.exception;
+
+import org.springframework.http.HttpStatus;
+
+import java.util.Map;
+
+/**
+ * Thrown when a requested resource does not exist (404 Not Found).
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+public class NotFoundException extends DomainException {
+
+    private final String resource;
+    private final String id;
+
+    public NotFoundException(String resource, String id) {
+        super(id != null ? resource + " not found with id: " + id : resource + " not found");
+        this.resource = resource;
+        this.id = id;
+    }
+
+    public NotFoundException(String resource) {
+        this(resource, null);
+    }
+
+    public String getResource() {
+        return resource;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public HttpStatus getStatus() {
+        return HttpStatus.NOT_FOUND;
+    }
+
+    @Override
+    public String getProblemType() {
+        return "not-found";
+    }
+
+    @Override
+    public Map<String, Object> getProperties() {
+        return id != null ? Map.of("resource", resource, "id", id) : Map.of("resource", resource);
+    }
+}
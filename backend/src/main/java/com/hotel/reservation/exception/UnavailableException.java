@@ -0,0 +1,26 @@
+package com.hotel.reservation.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Thrown when rooms are already booked for the requested dates (409 Conflict).
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+public class UnavailableException extends DomainException {
+
+    public UnavailableException(String message) {
+        super(message);
+    }
+
+    @Override
+    public HttpStatus getStatus() {
+        return HttpStatus.CONFLICT;
+    }
+
+    @Override
+    public String getProblemType() {
+        return "unavailable";
+    }
+}
@@ -0,0 +1,74 @@
+package com.hotel.reservation.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Keeps roughly one in {@code every} DEBUG and TRACE events from the
+ * configured logger prefixes and drops the rest before they are formatted
+ * or queued. Meant for chatty per-request loggers such as Spring Security,
+ * where a full trace of every request is noise but a sample still shows
+ * what the chain is doing. INFO and above always pass.
+ *
+ * Level checks ({@code isDebugEnabled()}) are not sampled, so guarded
+ * blocks still run and the sampling happens once, on the actual log call.
+ *
+ * Configured in logback-spring.xml.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private final List<String> prefixes = new ArrayList<>();
+    private int every = 100;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format,
+                              Object[] params, Throwable t) {
+        if (format == null || level == null || level.toInt() > Level.DEBUG_INT || every <= 1) {
+            return FilterReply.NEUTRAL;
+        }
+        // Disabled events are rejected by the normal level check; don't count them
+        if (!level.isGreaterOrEqual(logger.getEffectiveLevel()) || !matches(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        return ThreadLocalRandom.current().nextInt(every) == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    private boolean matches(String name) {
+        for (String prefix : prefixes) {
+            if (name.startsWith(prefix)
+                    && (name.length() == prefix.length() || name.charAt(prefix.length()) == '.')) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param loggers comma-separated logger name prefixes to sample
+     */
+    public void setLoggers(String loggers) {
+        prefixes.clear();
+        for (String prefix : loggers.split(",")) {
+            if (!prefix.isBlank()) {
+                prefixes.add(prefix.trim());
+            }
+        }
+    }
+
+    /**
+     * @param every keep one in this many events; 1 or less keeps all
+     */
+    public void setEvery(int every) {
+        this.every = every;
+    }
+}
@@ -90,4 +90,15 @@ public class CancellationPolicy {
                 .noRefundDays(3)             // No refund if cancelled within 3 days
                 .build();
     }
+
+    /**
+     * Policy that applies to bookings of a room.
+     * Every room currently uses the default policy.
+     *
+     * @param room room being booked
+     * @return cancellation policy
+     */
+    public static CancellationPolicy forRoom(Room room) {
+        return getDefaultPolicy();
+    }
 }
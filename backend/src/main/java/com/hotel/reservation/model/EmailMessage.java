@@ -0,0 +1,146 @@
+package com.hotel.reservation.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Queued outgoing email.
+ * Stores the template and its variables; the body is rendered by the
+ * email dispatcher when the message is sent.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "email_queue")
+@CompoundIndex(name = "status_available_idx", def = "{'status': 1, 'availableAt': 1}")
+public class EmailMessage {
+
+    /**
+     * How long a message may wait to be sent before it is dropped
+     */
+    public static final Duration UNSENT_TTL = Duration.ofDays(3);
+
+    /**
+     * Unique identifier; derived from the triggering event so enqueueing is idempotent
+     */
+    @Id
+    private String id;
+
+    /**
+     * Template used to render the message
+     */
+    private Template template;
+
+    /**
+     * Reservation the message is about
+     */
+    private String reservationId;
+
+    /**
+     * Recipient address
+     */
+    private String recipient;
+
+    /**
+     * Template variables
+     */
+    private Map<String, String> variables = new HashMap<>();
+
+    /**
+     * Delivery status
+     */
+    private EmailStatus status = EmailStatus.PENDING;
+
+    /**
+     * Number of failed send attempts
+     */
+    private int attempts;
+
+    /**
+     * Earliest time the message may be (re)sent
+     */
+    private LocalDateTime availableAt;
+
+    /**
+     * Token of the dispatcher batch currently sending the message
+     */
+    private String claimToken;
+
+    /**
+     * Time the message was claimed for sending
+     */
+    private LocalDateTime claimedAt;
+
+    /**
+     * Send timestamp; sent messages expire after 30 days
+     */
+    @Indexed(expireAfterSeconds = 2592000)
+    private LocalDateTime sentAt;
+
+    /**
+     * Expiry of a message that has not been sent (pending or given up on);
+     * cleared when the message is sent
+     */
+    @Indexed(expireAfterSeconds = 0)
+    private LocalDateTime expiresAt;
+
+    /**
+     * Last send error
+     */
+    private String lastError;
+
+    /**
+     * Enqueue timestamp
+     */
+    @CreatedDate
+    private LocalDateTime createdAt;
+
+    /**
+     * Email templates, stored under templates/email on the classpath
+     */
+    public enum Template {
+        RESERVATION_CONFIRMED("reservation-confirmed", "Your HotelX reservation is confirmed"),
+        RESERVATION_CANCELLED("reservation-cancelled", "Your HotelX reservation has been cancelled"),
+        WAITLIST_OFFER("waitlist-offer", "A room you were waiting for is available");
+
+        private final String resourceName;
+        private final String subject;
+
+        Template(String resourceName, String subject) {
+            this.resourceName = resourceName;
+            this.subject = subject;
+        }
+
+        public String getResourceName() {
+            return resourceName;
+        }
+
+        public String getSubject() {
+            return subject;
+        }
+    }
+
+    /**
+     * Email delivery status
+     */
+    public enum EmailStatus {
+        PENDING,
+        SENDING,
+        SENT,
+        FAILED
+    }
+}
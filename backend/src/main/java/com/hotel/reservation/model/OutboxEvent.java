@@ -0,0 +1,122 @@
+package com.hotel.reservation.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Outbox entry for a domain event.
+ * Written alongside the state change it describes and delivered
+ * asynchronously to in-process handlers by the outbox dispatcher.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "outbox_events")
+@CompoundIndex(name = "status_available_idx", def = "{'status': 1, 'availableAt': 1}")
+public class OutboxEvent {
+
+    /**
+     * Unique identifier for the event
+     */
+    @Id
+    private String id;
+
+    /**
+     * Event type
+     */
+    private EventType type;
+
+    /**
+     * ID of the aggregate (reservation or payment) the event is about
+     */
+    private String aggregateId;
+
+    /**
+     * Event data, flattened to strings
+     */
+    private Map<String, String> payload = new HashMap<>();
+
+    /**
+     * Delivery status
+     */
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    /**
+     * Number of failed delivery attempts
+     */
+    private int attempts;
+
+    /**
+     * Earliest time the event may be (re)delivered
+     */
+    private LocalDateTime availableAt;
+
+    /**
+     * Handlers that have already handled the event; a retry skips them
+     */
+    private Set<String> handledBy = new HashSet<>();
+
+    /**
+     * Token of the dispatcher batch currently delivering the event
+     */
+    private String claimToken;
+
+    /**
+     * Time the event was claimed for delivery
+     */
+    private LocalDateTime claimedAt;
+
+    /**
+     * Delivery timestamp; dispatched events expire after a week
+     */
+    @Indexed(expireAfterSeconds = 604800)
+    private LocalDateTime dispatchedAt;
+
+    /**
+     * Last delivery error
+     */
+    private String lastError;
+
+    /**
+     * Event creation timestamp
+     */
+    @CreatedDate
+    private LocalDateTime createdAt;
+
+    /**
+     * Domain event types
+     */
+    public enum EventType {
+        RESERVATION_CREATED,
+        RESERVATION_UPDATED,
+        RESERVATION_CONFIRMED,
+        RESERVATION_CANCELLED,
+        PAYMENT_SUCCEEDED,
+        PAYMENT_REFUNDED
+    }
+
+    /**
+     * Outbox delivery status
+     */
+    public enum OutboxStatus {
+        PENDING,
+        IN_FLIGHT,
+        DISPATCHED,
+        FAILED
+    }
+}
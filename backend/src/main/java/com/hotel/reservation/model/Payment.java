@@ -6,6 +6,8 @@ import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.DBRef;
 import org.springframework.data.mongodb.core.mapping.Document;
 
@@ -23,6 +25,12 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "payments")
+@CompoundIndexes({
+        @CompoundIndex(name = "reservation_idx", def = "{'reservation.$id': 1}"),
+        @CompoundIndex(name = "user_idx", def = "{'user.$id': 1}"),
+        @CompoundIndex(name = "intent_idx", def = "{'stripePaymentIntentId': 1}", sparse = true),
+        @CompoundIndex(name = "created_idx", def = "{'createdAt': 1}")
+})
 public class Payment {
 
     /**
@@ -32,11 +40,16 @@ public class Payment {
     private String id;
 
     /**
-     * Reference to the reservation
+     * Reference to the reservation (the first one for a group booking)
      */
     @DBRef
     private Reservation reservation;
 
+    /**
+     * Group booking this payment covers (null for a single reservation)
+     */
+    private String groupBookingId;
+
     /**
      * Reference to the user who made the payment
      */
@@ -108,6 +121,11 @@ public class Payment {
      */
     private String receiptUrl;
 
+    /**
+     * Last time Stripe reconciliation changed this payment
+     */
+    private LocalDateTime reconciledAt;
+
     /**
      * Payment creation timestamp
      */
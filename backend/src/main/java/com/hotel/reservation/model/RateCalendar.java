@@ -0,0 +1,79 @@
+package com.hotel.reservation.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Nightly rates for one room type.
+ * Stored as one dense array of minor units (cents) per night starting at
+ * startDate; a zero entry means the room's own pricePerNight applies.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "rate_calendars")
+public class RateCalendar {
+
+    /**
+     * Room type name
+     */
+    @Id
+    private String id;
+
+    /**
+     * Room type the rates apply to
+     */
+    private Room.RoomType roomType;
+
+    /**
+     * Night covered by the first entry of nightlyRates
+     */
+    private LocalDate startDate;
+
+    /**
+     * Rate per night in cents, 0 for the room's base rate
+     */
+    private long[] nightlyRates = new long[0];
+
+    /**
+     * Discounts for longer stays
+     */
+    private List<LengthOfStayDiscount> lengthOfStayDiscounts = new ArrayList<>();
+
+    /**
+     * Timestamp when the rates were last updated
+     */
+    @LastModifiedDate
+    private LocalDateTime updatedAt;
+
+    /**
+     * Percentage off the whole stay once it reaches a minimum length.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LengthOfStayDiscount {
+
+        /**
+         * Minimum number of nights
+         */
+        private int minNights;
+
+        /**
+         * Discount in basis points (100 = 1%)
+         */
+        private int discountBasisPoints;
+    }
+}
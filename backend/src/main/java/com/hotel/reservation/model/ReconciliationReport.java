@@ -0,0 +1,154 @@
+package com.hotel.reservation.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of one Stripe reconciliation run: the creation windows it covered,
+ * what it scanned and every discrepancy it found, repaired or not.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "reconciliation_reports")
+public class ReconciliationReport {
+
+    /**
+     * Unique identifier for the report
+     */
+    @Id
+    private String id;
+
+    /**
+     * Run start; reports expire after 30 days
+     */
+    @Indexed(expireAfterSeconds = 2592000)
+    private LocalDateTime startedAt;
+
+    /**
+     * Run end
+     */
+    private LocalDateTime finishedAt;
+
+    /**
+     * Start of the first PaymentIntent creation window (inclusive)
+     */
+    private Instant intentsFrom;
+
+    /**
+     * End of the last PaymentIntent creation window (exclusive)
+     */
+    private Instant intentsTo;
+
+    /**
+     * Start of the first Refund creation window (inclusive)
+     */
+    private Instant refundsFrom;
+
+    /**
+     * End of the last Refund creation window (exclusive)
+     */
+    private Instant refundsTo;
+
+    /**
+     * PaymentIntents listed from Stripe
+     */
+    private int intentsScanned;
+
+    /**
+     * Refunds listed from Stripe
+     */
+    private int refundsScanned;
+
+    /**
+     * Stripe list calls made
+     */
+    private int stripeCalls;
+
+    /**
+     * Payments updated to match Stripe
+     */
+    private int repaired;
+
+    /**
+     * Whether the run stopped early (Stripe error, run budget); the
+     * watermark only covers the windows that completed
+     */
+    private boolean partial;
+
+    /**
+     * Reason the run stopped early
+     */
+    private String error;
+
+    /**
+     * Differences found between payments and Stripe
+     */
+    private List<Discrepancy> discrepancies = new ArrayList<>();
+
+    /**
+     * A payment that does not match Stripe.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Discrepancy {
+
+        private DiscrepancyType type;
+
+        /**
+         * Local payment ID (null if Stripe has no matching payment here)
+         */
+        private String paymentId;
+
+        /**
+         * Stripe PaymentIntent ID
+         */
+        private String stripeId;
+
+        /**
+         * Local state, e.g. "PENDING" or "refunded 50.00"
+         */
+        private String local;
+
+        /**
+         * Stripe state, e.g. "succeeded" or "refunded 80.00"
+         */
+        private String stripe;
+
+        /**
+         * Whether the payment was updated to match Stripe
+         */
+        private boolean repaired;
+    }
+
+    /**
+     * Kinds of discrepancy
+     */
+    public enum DiscrepancyType {
+        /** Payment status behind the PaymentIntent; repaired */
+        STATUS,
+        /** Succeeded payment without the charge ID; repaired */
+        CHARGE,
+        /** Refunded amount differs from the charge's; repaired */
+        REFUND,
+        /** Payment marked succeeded but the PaymentIntent is not; needs review */
+        UNCONFIRMED,
+        /** Amount received differs from the payment amount; needs review */
+        AMOUNT,
+        /** Succeeded PaymentIntent or refund with no payment here; needs review */
+        UNKNOWN_INTENT
+    }
+}
@@ -0,0 +1,131 @@
+package com.hotel.reservation.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Queued refund.
+ * Copied by the refund queue from the pending refund stored with the
+ * cancellation that owes it, and executed against Stripe by the refund
+ * worker.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "refund_jobs")
+@CompoundIndex(name = "status_available_idx", def = "{'status': 1, 'availableAt': 1}")
+public class RefundJob {
+
+    /**
+     * Unique identifier; derived from the reservation so enqueueing is idempotent.
+     * Also the Stripe idempotency key, so a retried job refunds once.
+     */
+    @Id
+    private String id;
+
+    /**
+     * Cancelled reservation the refund is for
+     */
+    private String reservationId;
+
+    /**
+     * Payment to refund; null to look it up by reservation when the job runs
+     */
+    private String paymentId;
+
+    /**
+     * Amount to refund; null for the full payment
+     */
+    private BigDecimal amount;
+
+    /**
+     * Refund reason
+     */
+    private String reason;
+
+    /**
+     * Job status
+     */
+    private RefundJobStatus status = RefundJobStatus.PENDING;
+
+    /**
+     * Number of failed attempts
+     */
+    private int attempts;
+
+    /**
+     * Earliest time the job may be (re)tried
+     */
+    private LocalDateTime availableAt;
+
+    /**
+     * Token of the worker round currently running the job
+     */
+    private String claimToken;
+
+    /**
+     * Time the job was claimed
+     */
+    private LocalDateTime claimedAt;
+
+    /**
+     * Completion timestamp; finished jobs expire after 30 days
+     */
+    @Indexed(expireAfterSeconds = 2592000)
+    private LocalDateTime completedAt;
+
+    /**
+     * Last error, or why the job was skipped
+     */
+    private String lastError;
+
+    /**
+     * Enqueue timestamp
+     */
+    @CreatedDate
+    private LocalDateTime createdAt;
+
+    /**
+     * Job id for the refund owed by a cancelled reservation.
+     *
+     * @param reservationId reservation ID
+     * @return the job ID
+     */
+    public static String cancellationId(String reservationId) {
+        return "refund-cancel-" + reservationId;
+    }
+
+    /**
+     * Job id for the full refund of a payment that succeeded after its
+     * reservation was cancelled.
+     *
+     * @param paymentId payment ID
+     * @return the job ID
+     */
+    public static String latePaymentId(String paymentId) {
+        return "refund-payment-" + paymentId;
+    }
+
+    /**
+     * Refund job status enumeration
+     */
+    public enum RefundJobStatus {
+        PENDING,
+        PROCESSING,
+        SUCCEEDED,
+        SKIPPED,
+        FAILED
+    }
+}
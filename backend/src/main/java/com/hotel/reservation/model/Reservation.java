@@ -6,12 +6,16 @@ import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.DBRef;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
 
 /**
  * Reservation entity representing a hotel room reservation.
@@ -24,6 +28,14 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "reservations")
+@CompoundIndexes({
+        @CompoundIndex(name = "room_status_checkin_idx", def = "{'room.$id': 1, 'status': 1, 'checkInDate': 1}"),
+        @CompoundIndex(name = "user_idx", def = "{'user.$id': 1}"),
+        @CompoundIndex(name = "status_checkout_idx", def = "{'status': 1, 'checkOutDate': 1}"),
+        @CompoundIndex(name = "checkin_idx", def = "{'checkInDate': 1}"),
+        @CompoundIndex(name = "group_idx", def = "{'groupBookingId': 1}", sparse = true),
+        @CompoundIndex(name = "pending_refund_idx", def = "{'pendingRefund.requestedAt': 1}", sparse = true)
+})
 public class Reservation {
 
     /**
@@ -79,6 +91,11 @@ public class Reservation {
      */
     private String paymentId;
 
+    /**
+     * Shared by all reservations made in one group booking (null otherwise)
+     */
+    private String groupBookingId;
+
     /**
      * Confirmation email sent flag
      */
@@ -107,13 +124,84 @@ public class Reservation {
     private LocalDateTime cancelledAt;
 
     /**
-     * Reservation status enumeration
+     * Refund owed by the cancellation, until the refund queue picks it up.
+     * Written by the same update that cancels the reservation.
+     */
+    private PendingRefund pendingRefund;
+
+    /**
+     * Refund recorded with a cancellation and not yet queued.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PendingRefund {
+
+        /**
+         * Payment to refund; null to look it up when the refund runs
+         */
+        private String paymentId;
+
+        /**
+         * Amount to refund; null for the full payment
+         */
+        private BigDecimal amount;
+
+        /**
+         * Refund reason
+         */
+        private String reason;
+
+        /**
+         * When the refund was requested
+         */
+        private LocalDateTime requestedAt;
+    }
+
+    /**
+     * Reservation status enumeration.
+     * Each status lists the statuses it may be entered from; status updates are
+     * conditional on the stored status being one of them.
      */
     public enum ReservationStatus {
         PENDING,
         CONFIRMED,
         CHECKED_IN,
         CHECKED_OUT,
-        CANCELLED
+        CANCELLED;
+
+        /**
+         * Statuses from which a reservation may move to this status.
+         *
+         * @return allowed predecessor statuses (empty for the initial status)
+         */
+        public Set<ReservationStatus> allowedPredecessors() {
+            return switch (this) {
+                case PENDING -> EnumSet.noneOf(ReservationStatus.class);
+                case CONFIRMED -> EnumSet.of(PENDING);
+                case CHECKED_IN -> EnumSet.of(CONFIRMED);
+                case CHECKED_OUT -> EnumSet.of(CHECKED_IN);
+                case CANCELLED -> EnumSet.of(PENDING, CONFIRMED, CHECKED_IN);
+            };
+        }
+
+        /**
+         * Whether a reservation in the given status may move to this status.
+         *
+         * @param current current status
+         * @return true if the transition is allowed
+         */
+        public boolean canTransitionFrom(ReservationStatus current) {
+            return allowedPredecessors().contains(current);
+        }
+
+        /**
+         * Whether the dates and guests of a reservation in this status may still change.
+         *
+         * @return true for PENDING and CONFIRMED
+         */
+        public boolean allowsStayChanges() {
+            return this == PENDING || this == CONFIRMED;
+        }
     }
 }
@@ -0,0 +1,104 @@
+package com.hotel.reservation.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * A guest's request to be offered a room when one frees up.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "waitlist")
+@CompoundIndexes({
+        @CompoundIndex(name = "status_hold_idx", def = "{'status': 1, 'holdExpiresAt': 1}"),
+        @CompoundIndex(name = "user_idx", def = "{'userId': 1, 'createdAt': -1}"),
+        @CompoundIndex(name = "reservation_idx", def = "{'reservationId': 1}", sparse = true)
+})
+public class WaitlistEntry {
+
+    /**
+     * Unique identifier for the entry
+     */
+    @Id
+    private String id;
+
+    /**
+     * User waiting for a room
+     */
+    private String userId;
+
+    /**
+     * Specific room wanted (either this or roomType)
+     */
+    private String roomId;
+
+    /**
+     * Any room of this type (either this or roomId)
+     */
+    private Room.RoomType roomType;
+
+    /**
+     * Wanted check-in date
+     */
+    private LocalDate checkInDate;
+
+    /**
+     * Wanted check-out date
+     */
+    private LocalDate checkOutDate;
+
+    /**
+     * Number of guests
+     */
+    private int guests;
+
+    /**
+     * Entry status
+     */
+    private WaitlistStatus status = WaitlistStatus.WAITING;
+
+    /**
+     * Room offered to the guest
+     */
+    private String offeredRoomId;
+
+    /**
+     * PENDING reservation holding the offered room
+     */
+    private String reservationId;
+
+    /**
+     * When the hold lapses unless the reservation is paid
+     */
+    private LocalDateTime holdExpiresAt;
+
+    /**
+     * Registration timestamp; offers are made in this order
+     */
+    @CreatedDate
+    private LocalDateTime createdAt;
+
+    /**
+     * Waitlist entry status enumeration.
+     */
+    public enum WaitlistStatus {
+        WAITING,
+        OFFERED,
+        BOOKED,
+        EXPIRED,
+        CANCELLED
+    }
+}
@@ -0,0 +1,101 @@
+package com.hotel.reservation.payment;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Consecutive-failure circuit breaker. After failureThreshold transient
+ * failures in a row the circuit opens and calls are rejected without
+ * touching the network. Once openMillis have passed, one trial call is let
+ * through (half-open): success closes the circuit, failure opens it again.
+ *
+ * Only transient failures count. A declined card or a bad request means
+ * the dependency answered, so it is reported as a success.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+public class CircuitBreaker {
+
+    /**
+     * Circuit state; the ordinal is published as a gauge.
+     */
+    public enum State {
+        CLOSED,
+        HALF_OPEN,
+        OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openMillis;
+    private final LongSupplier clock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    /**
+     * @param failureThreshold consecutive failures that open the circuit
+     * @param openMillis how long the circuit stays open before a trial call
+     * @param clock current time in milliseconds
+     */
+    public CircuitBreaker(int failureThreshold, long openMillis, LongSupplier clock) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openMillis = openMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * Ask to make a call.
+     *
+     * @return true if the call may proceed; the caller must then report its outcome
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (clock.getAsLong() - openedAt < openMillis) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            trialInFlight = false;
+        }
+        if (state == State.HALF_OPEN) {
+            if (trialInFlight) {
+                return false;
+            }
+            trialInFlight = true;
+        }
+        return true;
+    }
+
+    /**
+     * Report a call that reached the dependency.
+     */
+    public synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    /**
+     * Report a transient failure.
+     *
+     * @return true if this failure opened the circuit
+     */
+    public synchronized boolean onFailure() {
+        trialInFlight = false;
+        consecutiveFailures++;
+        if (state == State.OPEN || (state == State.CLOSED && consecutiveFailures < failureThreshold)) {
+            return false;
+        }
+        state = State.OPEN;
+        openedAt = clock.getAsLong();
+        return true;
+    }
+
+    /**
+     * @return current state
+     */
+    public synchronized State state() {
+        return state;
+    }
+}
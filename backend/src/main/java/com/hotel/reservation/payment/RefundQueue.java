@@ -0,0 +1,85 @@
+package com.hotel.reservation.payment;
+
+import com.hotel.reservation.model.RefundJob;
+import com.hotel.reservation.model.Reservation;
+import com.hotel.reservation.repository.RefundJobRepository;
+import com.hotel.reservation.repository.ReservationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Queues refunds for the {@link RefundWorker}. A cancellation records the
+ * refund it owes on the reservation in the same update that cancels it, so
+ * the refund is never lost even without transactions. This queue copies
+ * pending refunds into refund jobs and then clears them from their
+ * reservations; a crash in between only queues the same job again, which is
+ * a no-op because the job ID is derived from the reservation.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefundQueue {
+
+    private final ReservationRepository reservationRepository;
+    private final RefundJobRepository refundJobRepository;
+
+    /**
+     * Queue one batch of pending refunds, oldest first.
+     *
+     * @param batchSize maximum number of refunds to queue
+     * @return number of reservations whose pending refund was processed
+     */
+    public int relayPending(int batchSize) {
+        List<Reservation> reservations = reservationRepository.findPendingRefunds(batchSize);
+        for (Reservation reservation : reservations) {
+            Reservation.PendingRefund refund = reservation.getPendingRefund();
+            if (enqueue(reservation.getId(), refund)) {
+                log.debug("Queued refund for cancelled reservation {}", reservation.getId());
+            }
+            reservationRepository.clearPendingRefund(reservation.getId(), refund.getRequestedAt());
+        }
+        return reservations.size();
+    }
+
+    /**
+     * Queue the full refund of a payment that succeeded after its reservation
+     * was cancelled. The job ID is derived from the payment, so redelivering
+     * the payment event queues the refund once.
+     *
+     * @param reservationId cancelled reservation ID
+     * @param paymentId payment to refund
+     * @param reason refund reason
+     * @return true if the job was queued
+     */
+    public boolean enqueueLatePayment(String reservationId, String paymentId, String reason) {
+        return enqueue(RefundJob.latePaymentId(paymentId), reservationId,
+                new Reservation.PendingRefund(paymentId, null, reason, LocalDateTime.now()));
+    }
+
+    /**
+     * Queue the refund owed by a cancelled reservation. At most one job is
+     * queued per reservation.
+     */
+    private boolean enqueue(String reservationId, Reservation.PendingRefund refund) {
+        return enqueue(RefundJob.cancellationId(reservationId), reservationId, refund);
+    }
+
+    private boolean enqueue(String jobId, String reservationId, Reservation.PendingRefund refund) {
+        RefundJob job = new RefundJob();
+        job.setId(jobId);
+        job.setReservationId(reservationId);
+        job.setPaymentId(refund.getPaymentId());
+        job.setAmount(refund.getAmount());
+        job.setReason(refund.getReason());
+        job.setStatus(RefundJob.RefundJobStatus.PENDING);
+        job.setAvailableAt(LocalDateTime.now());
+        return refundJobRepository.enqueue(job);
+    }
+}
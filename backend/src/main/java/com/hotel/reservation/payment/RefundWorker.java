@@ -0,0 +1,226 @@
+package com.hotel.reservation.payment;
+
+import com.hotel.reservation.model.Payment;
+import com.hotel.reservation.model.RefundJob;
+import com.hotel.reservation.repository.PaymentRepository;
+import com.hotel.reservation.repository.RefundJobRepository;
+import com.hotel.reservation.service.PaymentService;
+import com.stripe.exception.StripeException;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Background executor for the refund queue.
+ * First queues the refunds recorded by cancellations through
+ * {@link RefundQueue}, then claims due jobs, at most one per worker thread
+ * at a time, and refunds them through {@link PaymentService}, which updates
+ * the payment and publishes PAYMENT_REFUNDED. The job ID is the Stripe
+ * idempotency key, so a job rerun after a crash or a lost response refunds
+ * once. Outcomes are recorded only while the job is still held under this
+ * worker's claim. Transient Stripe failures are retried with jittered
+ * exponential backoff; a refund Stripe rejects fails the job at once.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.refunds", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RefundWorker {
+
+    private static final int RELAY_BATCH_SIZE = 100;
+
+    private final RefundQueue refundQueue;
+    private final RefundJobRepository refundJobRepository;
+    private final PaymentRepository paymentRepository;
+    private final PaymentService paymentService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.refunds.workers:4}")
+    private int workers;
+
+    @Value("${app.refunds.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${app.refunds.lease-ms:300000}")
+    private long leaseMs;
+
+    @Value("${app.refunds.retry-base-ms:5000}")
+    private long retryBaseMs;
+
+    @Value("${app.refunds.retry-max-ms:3600000}")
+    private long retryMaxMs;
+
+    private ExecutorService executor;
+
+    public RefundWorker(RefundQueue refundQueue,
+                        RefundJobRepository refundJobRepository,
+                        PaymentRepository paymentRepository,
+                        PaymentService paymentService,
+                        MeterRegistry meterRegistry) {
+        this.refundQueue = refundQueue;
+        this.refundJobRepository = refundJobRepository;
+        this.paymentRepository = paymentRepository;
+        this.paymentService = paymentService;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "refund-worker-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdown();
+    }
+
+    /**
+     * Queue pending refunds, then run everything that is due, one job per
+     * worker at a time.
+     */
+    @Scheduled(fixedDelayString = "${app.refunds.poll-interval-ms:2000}")
+    public void dispatch() {
+        int relayed;
+        do {
+            relayed = refundQueue.relayPending(RELAY_BATCH_SIZE);
+        } while (relayed == RELAY_BATCH_SIZE);
+
+        List<RefundJob> claimed;
+        do {
+            claimed = refundJobRepository.claimBatch(workers, Duration.ofMillis(leaseMs));
+            if (!claimed.isEmpty() && !runRound(claimed)) {
+                return;
+            }
+        } while (claimed.size() == workers);
+    }
+
+    /**
+     * @return false if interrupted
+     */
+    private boolean runRound(List<RefundJob> claimed) {
+        List<Future<?>> futures = new ArrayList<>(claimed.size());
+        for (RefundJob job : claimed) {
+            futures.add(executor.submit(() -> execute(job)));
+        }
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            } catch (ExecutionException e) {
+                // The job stays claimed and is picked up again once its lease expires
+                log.error("Refund job failed unexpectedly", e.getCause());
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Run one job and record its outcome.
+     */
+    void execute(RefundJob job) {
+        Optional<Payment> found = job.getPaymentId() != null
+                ? paymentRepository.findById(job.getPaymentId())
+                : paymentRepository.findByReservationId(job.getReservationId());
+        if (found.isEmpty()) {
+            skip(job, "No payment found");
+            return;
+        }
+        Payment payment = found.get();
+        if (payment.getStatus() != Payment.PaymentStatus.SUCCEEDED) {
+            // Also the rerun of a job whose refund went through before the job was marked done
+            skip(job, "Payment " + payment.getId() + " is " + payment.getStatus());
+            return;
+        }
+        if (job.getAmount() == null && payment.getGroupBookingId() != null) {
+            // The payment covers other rooms too; refunding it in full would refund the whole group
+            skip(job, "Payment " + payment.getId() + " covers group " + payment.getGroupBookingId()
+                    + "; refund manually");
+            return;
+        }
+
+        BigDecimal amount = job.getAmount() != null ? job.getAmount() : payment.getAmount();
+        try {
+            paymentService.processRefund(payment.getId(), amount, job.getReason(), job.getId());
+            if (!refundJobRepository.markDone(job.getId(), job.getClaimToken(), RefundJob.RefundJobStatus.SUCCEEDED,
+                    null)) {
+                warnClaimExpired(job);
+                return;
+            }
+            meterRegistry.counter("hotelx.refunds.succeeded").increment();
+            log.info("Refunded {} of payment {} for reservation {}", amount, payment.getId(), job.getReservationId());
+        } catch (StripeException e) {
+            fail(job, e, StripeGateway.isTransient(e));
+        } catch (RuntimeException e) {
+            fail(job, e, true);
+        }
+    }
+
+    private void skip(RefundJob job, String note) {
+        if (!refundJobRepository.markDone(job.getId(), job.getClaimToken(), RefundJob.RefundJobStatus.SKIPPED, note)) {
+            warnClaimExpired(job);
+            return;
+        }
+        meterRegistry.counter("hotelx.refunds.skipped").increment();
+        log.info("Skipped refund job {} for reservation {}: {}", job.getId(), job.getReservationId(), note);
+    }
+
+    private void fail(RefundJob job, Exception cause, boolean retryable) {
+        int attempts = job.getAttempts() + 1;
+        LocalDateTime retryAt = !retryable || attempts >= maxAttempts
+                ? null : LocalDateTime.now().plus(backoff(attempts));
+        if (!refundJobRepository.markFailed(job.getId(), job.getClaimToken(), cause.getMessage(), retryAt)) {
+            warnClaimExpired(job);
+            return;
+        }
+
+        if (retryAt == null) {
+            meterRegistry.counter("hotelx.refunds.failed").increment();
+            log.error("Giving up on refund job {} for reservation {} after {} attempts: {}",
+                    job.getId(), job.getReservationId(), attempts, cause.getMessage());
+        } else {
+            meterRegistry.counter("hotelx.refunds.retried").increment();
+            log.warn("Refund job {} for reservation {} failed, retrying at {}: {}",
+                    job.getId(), job.getReservationId(), retryAt, cause.getMessage());
+        }
+    }
+
+    private void warnClaimExpired(RefundJob job) {
+        log.warn("Claim on refund job {} expired; leaving its outcome to the current worker", job.getId());
+    }
+
+    /**
+     * Exponential backoff with jitter in [delay/2, delay], so queued refunds
+     * do not all hit a recovering Stripe at once.
+     */
+    private Duration backoff(int attempts) {
+        long delay = Math.min(retryBaseMs << Math.min(attempts - 1, 20), retryMaxMs);
+        return Duration.ofMillis(delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1));
+    }
+}
@@ -0,0 +1,206 @@
+package com.hotel.reservation.payment;
+
+import com.stripe.exception.ApiConnectionException;
+import com.stripe.exception.RateLimitException;
+import com.stripe.exception.StripeException;
+import com.stripe.net.RequestOptions;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Every Stripe call goes through here. Each call gets a connect and
+ * per-operation read timeout, so a request thread never waits on Stripe
+ * longer than attempts x (connect + read) plus backoff. Transient failures
+ * (connection errors and timeouts, 429, 5xx, lock timeouts) are retried
+ * with jittered exponential backoff. Writes always carry an idempotency
+ * key, reused across attempts, so a retried charge or refund is applied
+ * once. The Stripe client's own network retries are turned off so this
+ * is the only retry loop.
+ *
+ * A shared {@link CircuitBreaker} fails calls fast with
+ * {@link StripeUnavailableException} while Stripe is degraded.
+ *
+ * Metrics: hotelx.stripe.call (timer; operation, outcome =
+ * success | error | failed | rejected), hotelx.stripe.retries (operation),
+ * hotelx.stripe.circuit.state (0 closed, 1 half-open, 2 open) and
+ * hotelx.stripe.circuit.opened.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class StripeGateway {
+
+    /**
+     * Stripe operations, by whether they change anything on Stripe's side.
+     */
+    public enum Operation {
+        CREATE_INTENT("create-intent", true),
+        RETRIEVE_INTENT("retrieve-intent", false),
+        CREATE_PAYMENT_METHOD("create-payment-method", true),
+        RETRIEVE_PAYMENT_METHOD("retrieve-payment-method", false),
+        REFUND("refund", true),
+        LIST_INTENTS("list-intents", false),
+        LIST_REFUNDS("list-refunds", false);
+
+        private final String key;
+        private final boolean write;
+
+        Operation(String key, boolean write) {
+            this.key = key;
+            this.write = write;
+        }
+
+        public String key() {
+            return key;
+        }
+    }
+
+    /**
+     * A Stripe API call made with the given request options.
+     */
+    @FunctionalInterface
+    public interface StripeCall<T> {
+        T apply(RequestOptions options) throws StripeException;
+    }
+
+    private final StripeProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final CircuitBreaker breaker;
+
+    public StripeGateway(StripeProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.breaker = new CircuitBreaker(properties.getCircuit().getFailureThreshold(),
+                properties.getCircuit().getOpenDuration().toMillis(), System::currentTimeMillis);
+        Gauge.builder("hotelx.stripe.circuit.state", breaker, circuit -> circuit.state().ordinal())
+                .register(meterRegistry);
+    }
+
+    /**
+     * Call Stripe with a fresh idempotency key for writes.
+     *
+     * @param operation what the call does
+     * @param call the API call
+     * @return its result
+     * @throws StripeException the last failure once retries are exhausted, a
+     *         non-transient failure as is, or StripeUnavailableException when the circuit is open
+     */
+    public <T> T call(Operation operation, StripeCall<T> call) throws StripeException {
+        return call(operation, null, call);
+    }
+
+    /**
+     * Call Stripe.
+     *
+     * @param operation what the call does
+     * @param idempotencyKey key for a write, stable across redeliveries of the same
+     *        logical operation; null to generate one (ignored for reads)
+     * @param call the API call
+     * @return its result
+     * @throws StripeException the last failure once retries are exhausted, a
+     *         non-transient failure as is, or StripeUnavailableException when the circuit is open
+     */
+    public <T> T call(Operation operation, String idempotencyKey, StripeCall<T> call) throws StripeException {
+        RequestOptions.RequestOptionsBuilder builder = RequestOptions.builder()
+                .setConnectTimeout((int) properties.getConnectTimeout().toMillis())
+                .setReadTimeout((int) properties.readTimeout(operation.key()).toMillis())
+                .setMaxNetworkRetries(0);
+        if (operation.write) {
+            builder.setIdempotencyKey(idempotencyKey != null
+                    ? idempotencyKey : operation.key() + "-" + UUID.randomUUID());
+        }
+        RequestOptions options = builder.build();
+        int maxAttempts = properties.maxAttempts(operation.key());
+
+        long start = System.nanoTime();
+        StripeException last = null;
+        for (int attempt = 1; ; attempt++) {
+            if (!breaker.tryAcquire()) {
+                record(operation, "rejected", start);
+                throw new StripeUnavailableException(operation.key(), last);
+            }
+            try {
+                T result = call.apply(options);
+                breaker.onSuccess();
+                record(operation, "success", start);
+                return result;
+            } catch (StripeException e) {
+                if (!isTransient(e)) {
+                    // Stripe answered; the request itself was refused
+                    breaker.onSuccess();
+                    record(operation, "error", start);
+                    throw e;
+                }
+                last = e;
+                if (breaker.onFailure()) {
+                    meterRegistry.counter("hotelx.stripe.circuit.opened").increment();
+                    log.warn("Stripe circuit opened on a failing {} ({} consecutive failures): {}",
+                            operation.key(), properties.getCircuit().getFailureThreshold(), e.getMessage());
+                }
+                if (attempt >= maxAttempts || !pause(attempt)) {
+                    record(operation, "failed", start);
+                    throw e;
+                }
+                meterRegistry.counter("hotelx.stripe.retries", "operation", operation.key()).increment();
+                log.debug("Retrying Stripe {} (attempt {} of {}): {}", operation.key(), attempt + 1, maxAttempts,
+                        e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Whether a failure may go away on retry: connection problems and
+     * timeouts, rate limiting, Stripe-side errors and lock timeouts.
+     *
+     * @param e failure from Stripe
+     * @return true if transient
+     */
+    public static boolean isTransient(StripeException e) {
+        if (e instanceof ApiConnectionException || e instanceof RateLimitException) {
+            return true;
+        }
+        Integer status = e.getStatusCode();
+        return status != null && (status >= 500 || (status == 409 && "lock_timeout".equals(e.getCode())));
+    }
+
+    /**
+     * @return current circuit state
+     */
+    public CircuitBreaker.State circuitState() {
+        return breaker.state();
+    }
+
+    /**
+     * Sleep before the next attempt: full jitter over an exponentially growing cap.
+     *
+     * @return false if interrupted
+     */
+    private boolean pause(int attempt) {
+        long cap = Math.min(properties.getRetryMax().toMillis(),
+                properties.getRetryBase().toMillis() << Math.min(attempt - 1, 20));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(cap + 1));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void record(Operation operation, String outcome, long start) {
+        Timer.builder("hotelx.stripe.call")
+                .tag("operation", operation.key())
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+}
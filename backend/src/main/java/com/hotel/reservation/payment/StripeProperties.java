@@ -0,0 +1,111 @@
+package com.hotel.reservation.payment;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Configuration properties for calls to Stripe: timeouts, retries and the
+ * circuit breaker. Operations without an entry under operations use the
+ * top-level read timeout and attempt count.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.stripe")
+public class StripeProperties {
+
+    /**
+     * Time allowed to open a connection to Stripe
+     */
+    private Duration connectTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Default time allowed for Stripe to answer once connected
+     */
+    private Duration readTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Default number of attempts for transient failures (1 disables retries)
+     */
+    private int maxAttempts = 3;
+
+    /**
+     * Backoff before the first retry; doubles on each further retry, with full jitter
+     */
+    private Duration retryBase = Duration.ofMillis(200);
+
+    /**
+     * Upper bound on a single backoff
+     */
+    private Duration retryMax = Duration.ofSeconds(2);
+
+    /**
+     * Circuit breaker shared by all Stripe operations
+     */
+    private Circuit circuit = new Circuit();
+
+    /**
+     * Per-operation overrides, keyed by operation name (see StripeGateway.Operation)
+     */
+    private Map<String, OperationSettings> operations = new LinkedHashMap<>();
+
+    /**
+     * Circuit breaker settings.
+     */
+    @Data
+    public static class Circuit {
+
+        /**
+         * Consecutive transient failures that open the circuit
+         */
+        private int failureThreshold = 5;
+
+        /**
+         * How long an open circuit rejects calls before letting a trial call through
+         */
+        private Duration openDuration = Duration.ofSeconds(30);
+    }
+
+    /**
+     * Timeout and attempt overrides for one operation.
+     */
+    @Data
+    public static class OperationSettings {
+
+        /**
+         * Time allowed for Stripe to answer; the default read timeout when unset
+         */
+        private Duration readTimeout;
+
+        /**
+         * Attempts for transient failures; the default when unset
+         */
+        private Integer maxAttempts;
+    }
+
+    /**
+     * @param operation operation name
+     * @return read timeout for the operation
+     */
+    public Duration readTimeout(String operation) {
+        OperationSettings settings = operations.get(operation);
+        return settings != null && settings.getReadTimeout() != null ? settings.getReadTimeout() : readTimeout;
+    }
+
+    /**
+     * @param operation operation name
+     * @return attempts allowed for the operation, at least 1
+     */
+    public int maxAttempts(String operation) {
+        OperationSettings settings = operations.get(operation);
+        int attempts = settings != null && settings.getMaxAttempts() != null ? settings.getMaxAttempts() : maxAttempts;
+        return Math.max(1, attempts);
+    }
+}
@@ -0,0 +1,18 @@
+package com.hotel.reservation.payment;
+
+import com.stripe.exception.ApiConnectionException;
+
+/**
+ * Thrown instead of calling Stripe while the circuit is open. A connection
+ * failure as far as callers are concerned, so existing StripeException
+ * handling applies and it counts as transient.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+public class StripeUnavailableException extends ApiConnectionException {
+
+    public StripeUnavailableException(String operation, Throwable cause) {
+        super("Stripe is unavailable (circuit open); " + operation + " not attempted", cause);
+    }
+}
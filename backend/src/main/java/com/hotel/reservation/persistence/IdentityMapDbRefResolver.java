@@ -0,0 +1,95 @@
+package com.hotel.reservation.persistence;
+
+import com.mongodb.DBRef;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.convert.DbRefProxyHandler;
+import org.springframework.data.mongodb.core.convert.DbRefResolver;
+import org.springframework.data.mongodb.core.convert.DbRefResolverCallback;
+import org.springframework.data.mongodb.core.convert.ReferenceLookupDelegate;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * DbRefResolver that serves DBRef lookups from the request's identity map.
+ * Loading a reservation resolves its user and room; with this resolver a
+ * second load of any document referencing the same user or room in the same
+ * request costs no extra query.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+public class IdentityMapDbRefResolver implements DbRefResolver {
+
+    private final DbRefResolver delegate;
+    private final RequestUnitOfWork unitOfWork;
+
+    public IdentityMapDbRefResolver(DbRefResolver delegate, RequestUnitOfWork unitOfWork) {
+        this.delegate = delegate;
+        this.unitOfWork = unitOfWork;
+    }
+
+    @Override
+    public Object resolveDbRef(MongoPersistentProperty property, DBRef dbref,
+                               DbRefResolverCallback callback, DbRefProxyHandler proxyHandler) {
+        return delegate.resolveDbRef(property, dbref, callback, proxyHandler);
+    }
+
+    @Override
+    public DBRef createDbRef(org.springframework.data.mongodb.core.mapping.DBRef annotation,
+                             MongoPersistentEntity<?> entity, Object id) {
+        return delegate.createDbRef(annotation, entity, id);
+    }
+
+    @Override
+    public Document fetch(DBRef dbRef) {
+        return unitOfWork.fetchDocument(dbRef.getCollectionName(), dbRef.getId(), () -> delegate.fetch(dbRef));
+    }
+
+    @Override
+    public List<Document> bulkFetch(List<DBRef> dbRefs) {
+        List<Document> result = new ArrayList<>(dbRefs.size());
+        List<DBRef> missing = new ArrayList<>();
+        for (DBRef ref : dbRefs) {
+            Document cached = unitOfWork.cachedDocument(ref.getCollectionName(), ref.getId());
+            result.add(cached);
+            if (cached == null) {
+                missing.add(ref);
+            }
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        List<Document> loaded = delegate.bulkFetch(missing);
+        unitOfWork.recordLoads(missing.size());
+
+        // References to deleted documents are absent from the bulk result, so match by _id
+        Map<Object, Document> loadedById = new HashMap<>();
+        for (Document document : loaded) {
+            loadedById.put(document.get("_id"), document);
+        }
+        for (int i = 0; i < result.size(); i++) {
+            if (result.get(i) == null) {
+                DBRef ref = dbRefs.get(i);
+                Document document = loadedById.get(ref.getId());
+                unitOfWork.putDocument(ref.getCollectionName(), ref.getId(), document);
+                result.set(i, document);
+            }
+        }
+        result.removeIf(Objects::isNull);
+        return result;
+    }
+
+    @Override
+    public Object resolveReference(MongoPersistentProperty property, Object source,
+                                   ReferenceLookupDelegate referenceLookupDelegate,
+                                   MongoEntityReader entityReader) {
+        return delegate.resolveReference(property, source, referenceLookupDelegate, entityReader);
+    }
+}
@@ -0,0 +1,82 @@
+package com.hotel.reservation.persistence;
+
+import com.mongodb.ReadPreference;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Routes the MongoDB reads made inside the annotated method (or every method
+ * of the annotated class) to the given read preference, e.g. catalog and
+ * reporting queries to secondaries. Writes always go to the primary.
+ *
+ * The innermost route wins, so a repository method pinned to PRIMARY stays
+ * on the primary even when called from a method routed to secondaries.
+ * Reads inside a MongoDB transaction always use the primary. Only calls
+ * through the Spring proxy are routed, as with @Transactional.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ReadRoute {
+
+    /**
+     * Route name, used as the metrics tag.
+     */
+    String value();
+
+    /**
+     * Where reads go.
+     */
+    Preference preference() default Preference.SECONDARY_PREFERRED;
+
+    /**
+     * How far a secondary may lag behind the primary before it is skipped;
+     * 0 for no limit. MongoDB requires at least 90 seconds.
+     */
+    long maxStalenessSeconds() default 0;
+
+    /**
+     * Supported read preferences.
+     */
+    enum Preference {
+        PRIMARY,
+        PRIMARY_PREFERRED,
+        SECONDARY,
+        SECONDARY_PREFERRED,
+        NEAREST;
+
+        /**
+         * Driver read preference for this route.
+         *
+         * @param maxStalenessSeconds staleness bound, 0 for none (ignored for PRIMARY)
+         * @return read preference
+         */
+        public ReadPreference toReadPreference(long maxStalenessSeconds) {
+            if (this == PRIMARY) {
+                return ReadPreference.primary();
+            }
+            if (maxStalenessSeconds <= 0) {
+                return switch (this) {
+                    case PRIMARY_PREFERRED -> ReadPreference.primaryPreferred();
+                    case SECONDARY -> ReadPreference.secondary();
+                    case SECONDARY_PREFERRED -> ReadPreference.secondaryPreferred();
+                    default -> ReadPreference.nearest();
+                };
+            }
+            return switch (this) {
+                case PRIMARY_PREFERRED -> ReadPreference.primaryPreferred(maxStalenessSeconds, TimeUnit.SECONDS);
+                case SECONDARY -> ReadPreference.secondary(maxStalenessSeconds, TimeUnit.SECONDS);
+                case SECONDARY_PREFERRED -> ReadPreference.secondaryPreferred(maxStalenessSeconds, TimeUnit.SECONDS);
+                default -> ReadPreference.nearest(maxStalenessSeconds, TimeUnit.SECONDS);
+            };
+        }
+    }
+}
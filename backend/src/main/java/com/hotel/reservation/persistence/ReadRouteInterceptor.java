@@ -0,0 +1,90 @@
+package com.hotel.reservation.persistence;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Activates the {@link ReadRoute} of the invoked method (or its class) for
+ * the duration of the call, and times each call per route
+ * (hotelx.mongo.read.route, tagged with route and read preference).
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+public class ReadRouteInterceptor implements MethodInterceptor {
+
+    private static final long MIN_MAX_STALENESS_SECONDS = 90;
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final Map<Method, Routed> routes = new ConcurrentHashMap<>();
+
+    private record Routed(ReadRouting.Route route, Timer timer) {
+    }
+
+    public ReadRouteInterceptor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Class<?> targetClass = invocation.getThis() != null ? AopUtils.getTargetClass(invocation.getThis()) : null;
+        Routed routed = routes.computeIfAbsent(invocation.getMethod(), method -> resolve(method, targetClass));
+        if (routed == null) {
+            return invocation.proceed();
+        }
+
+        ReadRouting.Route previous = ReadRouting.enter(routed.route());
+        long start = System.nanoTime();
+        try {
+            return invocation.proceed();
+        } finally {
+            ReadRouting.restore(previous);
+            if (routed.timer() != null) {
+                routed.timer().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private Routed resolve(Method method, Class<?> targetClass) {
+        ReadRoute annotation = find(method, targetClass);
+        if (annotation == null) {
+            return null;
+        }
+        long maxStaleness = annotation.maxStalenessSeconds();
+        if (maxStaleness > 0 && maxStaleness < MIN_MAX_STALENESS_SECONDS) {
+            throw new IllegalStateException("maxStalenessSeconds of read route '" + annotation.value()
+                    + "' must be 0 or at least " + MIN_MAX_STALENESS_SECONDS);
+        }
+        ReadRouting.Route route = new ReadRouting.Route(annotation.value(),
+                annotation.preference().toReadPreference(maxStaleness));
+
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        Timer timer = registry == null ? null : Timer.builder("hotelx.mongo.read.route")
+                .tag("route", route.name())
+                .tag("readPreference", route.readPreference().getName())
+                .register(registry);
+        return new Routed(route, timer);
+    }
+
+    private static ReadRoute find(Method method, Class<?> targetClass) {
+        Method specific = targetClass != null ? AopUtils.getMostSpecificMethod(method, targetClass) : method;
+        ReadRoute annotation = AnnotatedElementUtils.findMergedAnnotation(specific, ReadRoute.class);
+        if (annotation == null && specific != method) {
+            annotation = AnnotatedElementUtils.findMergedAnnotation(method, ReadRoute.class);
+        }
+        if (annotation == null) {
+            annotation = AnnotatedElementUtils.findMergedAnnotation(specific.getDeclaringClass(), ReadRoute.class);
+        }
+        return annotation;
+    }
+}
@@ -0,0 +1,59 @@
+package com.hotel.reservation.persistence;
+
+import com.mongodb.ReadPreference;
+
+/**
+ * The read route of the current thread, set by {@link ReadRouteInterceptor}
+ * and applied to collections by {@link RoutingMongoTemplate}.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+public final class ReadRouting {
+
+    private static final ThreadLocal<Route> CURRENT = new ThreadLocal<>();
+
+    private ReadRouting() {
+    }
+
+    /**
+     * A named read preference.
+     *
+     * @param name route name
+     * @param readPreference where reads go
+     */
+    public record Route(String name, ReadPreference readPreference) {
+    }
+
+    /**
+     * @return the active route, or null when reads use the template default (primary)
+     */
+    public static Route current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Make a route active.
+     *
+     * @param route route to activate
+     * @return the route it replaces, to pass to {@link #restore(Route)}
+     */
+    static Route enter(Route route) {
+        Route previous = CURRENT.get();
+        CURRENT.set(route);
+        return previous;
+    }
+
+    /**
+     * Reactivate the route that {@link #enter(Route)} replaced.
+     *
+     * @param previous route returned by enter
+     */
+    static void restore(Route previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
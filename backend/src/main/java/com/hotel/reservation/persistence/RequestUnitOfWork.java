@@ -0,0 +1,209 @@
+package com.hotel.reservation.persistence;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Request-scoped identity map.
+ * Deduplicates loads by ID within one HTTP request: entities loaded through
+ * {@link #find(Class, String, Function)} and documents fetched to resolve
+ * DBRefs are kept for the rest of the request. Saves and deletes evict the
+ * affected entries. Outside a request (schedulers, outbox handlers) every
+ * call goes straight to the database.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Component
+public class RequestUnitOfWork {
+
+    static final String ATTRIBUTE = RequestUnitOfWork.class.getName();
+
+    private final MongoMappingContext mappingContext;
+
+    public RequestUnitOfWork(MongoMappingContext mappingContext) {
+        this.mappingContext = mappingContext;
+    }
+
+    /**
+     * Find an entity by ID, loading it at most once per request.
+     *
+     * @param type entity type
+     * @param id entity ID
+     * @param loader database lookup used on a miss
+     * @return the entity, if it exists
+     */
+    public <T> Optional<T> find(Class<T> type, String id, Function<String, Optional<T>> loader) {
+        State state = current();
+        if (state == null || id == null) {
+            return loader.apply(id);
+        }
+
+        Key key = new Key(collection(type), id);
+        Object cached = state.entities.get(key);
+        if (type.isInstance(cached)) {
+            state.hits++;
+            return Optional.of(type.cast(cached));
+        }
+
+        state.loads++;
+        Optional<T> loaded = loader.apply(id);
+        loaded.ifPresent(entity -> state.entities.put(key, entity));
+        return loaded;
+    }
+
+    /**
+     * Register an entity loaded some other way (e.g. by email) under its ID.
+     *
+     * @param type entity type
+     * @param id entity ID
+     * @param entity the entity
+     */
+    public <T> void register(Class<T> type, String id, T entity) {
+        State state = current();
+        if (state != null && id != null && entity != null) {
+            state.entities.put(new Key(collection(type), id), entity);
+        }
+    }
+
+    /**
+     * Fetch a raw document for DBRef resolution, at most once per request.
+     *
+     * @param collection collection name
+     * @param id document ID
+     * @param loader database lookup used on a miss
+     * @return the document, or null if it does not exist
+     */
+    Document fetchDocument(String collection, Object id, Supplier<Document> loader) {
+        State state = current();
+        if (state == null || id == null) {
+            return loader.get();
+        }
+
+        Key key = new Key(collection, id.toString());
+        Document cached = state.documents.get(key);
+        if (cached != null) {
+            state.hits++;
+            return cached;
+        }
+
+        state.loads++;
+        Document loaded = loader.get();
+        if (loaded != null) {
+            state.documents.put(key, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * Cache a document fetched as part of a bulk DBRef lookup.
+     */
+    void putDocument(String collection, Object id, Document document) {
+        State state = current();
+        if (state != null && id != null && document != null) {
+            state.documents.put(new Key(collection, id.toString()), document);
+        }
+    }
+
+    /**
+     * Look up a cached document without loading it.
+     */
+    Document cachedDocument(String collection, Object id) {
+        State state = current();
+        if (state == null || id == null) {
+            return null;
+        }
+        Document cached = state.documents.get(new Key(collection, id.toString()));
+        if (cached != null) {
+            state.hits++;
+        }
+        return cached;
+    }
+
+    /**
+     * Count database loads performed for documents missing from the cache.
+     */
+    void recordLoads(int count) {
+        State state = current();
+        if (state != null) {
+            state.loads += count;
+        }
+    }
+
+    /**
+     * Drop a cached entity and document after it was written.
+     *
+     * @param collection collection name
+     * @param id document ID
+     */
+    public void evict(String collection, Object id) {
+        State state = current();
+        if (state != null && id != null) {
+            Key key = new Key(collection, id.toString());
+            state.entities.remove(key);
+            state.documents.remove(key);
+        }
+    }
+
+    /**
+     * Drop everything cached for a collection.
+     *
+     * @param collection collection name
+     */
+    public void evictAll(String collection) {
+        State state = current();
+        if (state != null) {
+            state.entities.keySet().removeIf(key -> key.collection().equals(collection));
+            state.documents.keySet().removeIf(key -> key.collection().equals(collection));
+        }
+    }
+
+    private String collection(Class<?> type) {
+        return mappingContext.getRequiredPersistentEntity(type).getCollection();
+    }
+
+    private State current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        State state = (State) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (state == null) {
+            state = new State();
+            attributes.setAttribute(ATTRIBUTE, state, RequestAttributes.SCOPE_REQUEST);
+        }
+        return state;
+    }
+
+    private record Key(String collection, String id) {
+    }
+
+    /**
+     * Identity map and counters of one request. Requests are handled by a
+     * single thread, so no synchronization is needed.
+     */
+    static final class State {
+
+        private final Map<Key, Object> entities = new HashMap<>();
+        private final Map<Key, Document> documents = new HashMap<>();
+        private int loads;
+        private int hits;
+
+        int getLoads() {
+            return loads;
+        }
+
+        int getHits() {
+            return hits;
+        }
+    }
+}
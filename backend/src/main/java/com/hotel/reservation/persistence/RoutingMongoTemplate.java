@@ -0,0 +1,38 @@
+package com.hotel.reservation.persistence;
+
+import com.mongodb.client.MongoCollection;
+import org.bson.Document;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.MongoDatabaseUtils;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+
+/**
+ * MongoTemplate that applies the current {@link ReadRouting} route to every
+ * collection it hands out, so repositories and custom queries running inside
+ * a {@link ReadRoute} method read from the routed members.
+ *
+ * A read preference set on an individual query still takes precedence, and
+ * reads inside a MongoDB transaction stay on the primary, which transactions
+ * require. DBRef lookups bypass the template and use the primary.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+public class RoutingMongoTemplate extends MongoTemplate {
+
+    public RoutingMongoTemplate(MongoDatabaseFactory databaseFactory, MongoConverter converter) {
+        super(databaseFactory, converter);
+    }
+
+    @Override
+    protected MongoCollection<Document> prepareCollection(MongoCollection<Document> collection) {
+        MongoCollection<Document> prepared = super.prepareCollection(collection);
+        ReadRouting.Route route = ReadRouting.current();
+        if (route == null || route.readPreference().equals(prepared.getReadPreference())
+                || MongoDatabaseUtils.isTransactionActive(getMongoDatabaseFactory())) {
+            return prepared;
+        }
+        return prepared.withReadPreference(route.readPreference());
+    }
+}
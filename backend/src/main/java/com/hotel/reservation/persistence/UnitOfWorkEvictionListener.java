@@ -0,0 +1,33 @@
+package com.hotel.reservation.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the request identity map consistent with writes made through
+ * repositories and MongoTemplate save/delete.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class UnitOfWorkEvictionListener extends AbstractMongoEventListener<Object> {
+
+    private final RequestUnitOfWork unitOfWork;
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<Object> event) {
+        if (event.getDocument() != null) {
+            unitOfWork.evict(event.getCollectionName(), event.getDocument().get("_id"));
+        }
+    }
+
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<Object> event) {
+        unitOfWork.evictAll(event.getCollectionName());
+    }
+}
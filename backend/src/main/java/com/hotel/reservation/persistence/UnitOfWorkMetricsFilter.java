@@ -0,0 +1,53 @@
+package com.hotel.reservation.persistence;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Records, per endpoint, how many queries the request identity map saved
+ * (hotelx.uow.queries.saved) and how many it still had to run (hotelx.uow.queries.executed).
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class UnitOfWorkMetricsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Object attribute = request.getAttribute(RequestUnitOfWork.ATTRIBUTE);
+            if (attribute instanceof RequestUnitOfWork.State state) {
+                Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+                summary("hotelx.uow.queries.saved", request.getMethod(), uri).record(state.getHits());
+                summary("hotelx.uow.queries.executed", request.getMethod(), uri).record(state.getLoads());
+            }
+        }
+    }
+
+    private DistributionSummary summary(String name, String method, String uri) {
+        return DistributionSummary.builder(name)
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,217 @@
+package com.hotel.reservation.pricing;
+
+import com.hotel.reservation.model.RateCalendar;
+import com.hotel.reservation.model.Room;
+import com.hotel.reservation.repository.RateCalendarRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Quotes stay totals from the per-type rate calendars.
+ *
+ * Each calendar is cached as prefix sums of its override cents and of its
+ * base-rate nights, so the total for any stay of any room is two subtractions
+ * and a multiply regardless of its length. Calendars are reloaded after an
+ * admin update on this instance and at most every app.pricing.max-age-ms so
+ * replicas pick up changes made elsewhere.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class PricingEngine {
+
+    private static final int BASIS_POINTS = 10_000;
+
+    private final RateCalendarRepository rateCalendarRepository;
+    private final Map<Room.RoomType, Tariff> tariffs = new ConcurrentHashMap<>();
+
+    @Value("${app.pricing.max-age-ms:60000}")
+    private long maxAgeMs;
+
+    public PricingEngine(RateCalendarRepository rateCalendarRepository) {
+        this.rateCalendarRepository = rateCalendarRepository;
+    }
+
+    /**
+     * Total price of a stay.
+     *
+     * @param room room
+     * @param checkInDate check-in date
+     * @param checkOutDate check-out date
+     * @return total price
+     */
+    public BigDecimal quote(Room room, LocalDate checkInDate, LocalDate checkOutDate) {
+        return BigDecimal.valueOf(quoteCents(room, checkInDate, checkOutDate), 2);
+    }
+
+    /**
+     * Total price of a stay in cents.
+     *
+     * @param room room
+     * @param checkInDate check-in date
+     * @param checkOutDate check-out date
+     * @return total price in cents
+     */
+    public long quoteCents(Room room, LocalDate checkInDate, LocalDate checkOutDate) {
+        return quoteCents(room, checkInDate, checkOutDate, this::tariff);
+    }
+
+    /**
+     * Load the calendars of the given room types on the calling thread and
+     * pin them, so a batch can be priced from other threads without touching
+     * the database or seeing a calendar change half way through.
+     *
+     * @param types room types the batch will price
+     * @return rates of those types as currently cached
+     */
+    public RateSheet rates(Collection<Room.RoomType> types) {
+        Map<Room.RoomType, Tariff> pinned = new EnumMap<>(Room.RoomType.class);
+        for (Room.RoomType type : types) {
+            pinned.put(type, tariff(type));
+        }
+        return new RateSheet(pinned);
+    }
+
+    /**
+     * Drop the cached calendar for a room type; the next quote reloads it.
+     *
+     * @param type room type
+     */
+    public void invalidate(Room.RoomType type) {
+        tariffs.remove(type);
+    }
+
+    private Tariff tariff(Room.RoomType type) {
+        Tariff tariff = tariffs.get(type);
+        if (tariff == null || System.currentTimeMillis() - tariff.builtAt > maxAgeMs) {
+            tariff = Tariff.build(rateCalendarRepository.findById(type.name()).orElse(null));
+            tariffs.put(type, tariff);
+            log.debug("Loaded {} rate calendar: {} nights", type, tariff.rateSums.length - 1);
+        }
+        return tariff;
+    }
+
+    private static long quoteCents(Room room, LocalDate checkInDate, LocalDate checkOutDate,
+                                   Function<Room.RoomType, Tariff> tariffs) {
+        long baseCents = cents(room.getPricePerNight());
+        long checkIn = checkInDate.toEpochDay();
+        long checkOut = checkOutDate.toEpochDay();
+        if (checkOut <= checkIn) {
+            return 0;
+        }
+        if (room.getType() == null) {
+            return baseCents * (checkOut - checkIn);
+        }
+        return tariffs.apply(room.getType()).quote(baseCents, checkIn, checkOut);
+    }
+
+    static long cents(BigDecimal price) {
+        return price.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValue();
+    }
+
+    /**
+     * Calendars pinned by {@link #rates(Collection)}. Quoting never loads.
+     */
+    public static final class RateSheet {
+
+        private final Map<Room.RoomType, Tariff> tariffs;
+
+        private RateSheet(Map<Room.RoomType, Tariff> tariffs) {
+            this.tariffs = tariffs;
+        }
+
+        /**
+         * Total price of a stay.
+         *
+         * @param room room of one of the pinned types
+         * @param checkInDate check-in date
+         * @param checkOutDate check-out date
+         * @return total price
+         * @throws IllegalArgumentException if the room type was not pinned
+         */
+        public BigDecimal quote(Room room, LocalDate checkInDate, LocalDate checkOutDate) {
+            return BigDecimal.valueOf(quoteCents(room, checkInDate, checkOutDate, this::tariff), 2);
+        }
+
+        private Tariff tariff(Room.RoomType type) {
+            Tariff tariff = tariffs.get(type);
+            if (tariff == null) {
+                throw new IllegalArgumentException("No rates loaded for room type " + type);
+            }
+            return tariff;
+        }
+    }
+
+    /**
+     * Immutable prefix sums over one version of a calendar.
+     */
+    private static final class Tariff {
+
+        private final long builtAt = System.currentTimeMillis();
+        private final long startDay;
+        private final long[] rateSums;
+        private final int[] baseNights;
+        private final int[] discountMinNights;
+        private final int[] discountBasisPoints;
+
+        private Tariff(long startDay, long[] rates, List<RateCalendar.LengthOfStayDiscount> discounts) {
+            this.startDay = startDay;
+            this.rateSums = new long[rates.length + 1];
+            this.baseNights = new int[rates.length + 1];
+            for (int night = 0; night < rates.length; night++) {
+                rateSums[night + 1] = rateSums[night] + rates[night];
+                baseNights[night + 1] = baseNights[night] + (rates[night] == 0 ? 1 : 0);
+            }
+
+            // Longest qualifying minimum first
+            List<RateCalendar.LengthOfStayDiscount> sorted = discounts.stream()
+                    .sorted(Comparator.comparingInt(RateCalendar.LengthOfStayDiscount::getMinNights).reversed())
+                    .toList();
+            this.discountMinNights = sorted.stream().mapToInt(RateCalendar.LengthOfStayDiscount::getMinNights).toArray();
+            this.discountBasisPoints = sorted.stream()
+                    .mapToInt(RateCalendar.LengthOfStayDiscount::getDiscountBasisPoints).toArray();
+        }
+
+        static Tariff build(RateCalendar calendar) {
+            if (calendar == null || calendar.getStartDate() == null) {
+                return new Tariff(0, new long[0], List.of());
+            }
+            return new Tariff(calendar.getStartDate().toEpochDay(),
+                    calendar.getNightlyRates() == null ? new long[0] : calendar.getNightlyRates(),
+                    calendar.getLengthOfStayDiscounts() == null ? List.of() : calendar.getLengthOfStayDiscounts());
+        }
+
+        long quote(long baseCents, long checkIn, long checkOut) {
+            long nights = checkOut - checkIn;
+            int from = (int) Math.max(0, Math.min(rateSums.length - 1, checkIn - startDay));
+            int to = (int) Math.max(0, Math.min(rateSums.length - 1, checkOut - startDay));
+
+            // Nights outside the calendar are charged at the base rate
+            long covered = to - from;
+            long total = rateSums[to] - rateSums[from]
+                    + (baseNights[to] - baseNights[from] + nights - covered) * baseCents;
+
+            for (int i = 0; i < discountMinNights.length; i++) {
+                if (nights >= discountMinNights[i]) {
+                    total -= (total * discountBasisPoints[i] + BASIS_POINTS / 2) / BASIS_POINTS;
+                    break;
+                }
+            }
+            return total;
+        }
+    }
+}
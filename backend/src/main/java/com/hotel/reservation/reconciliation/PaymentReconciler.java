@@ -0,0 +1,228 @@
+package com.hotel.reservation.reconciliation;
+
+import com.hotel.reservation.event.handler.ConfirmReservationOnPaymentHandler;
+import com.hotel.reservation.model.OutboxEvent;
+import com.hotel.reservation.model.Payment;
+import com.hotel.reservation.model.ReconciliationReport.Discrepancy;
+import com.hotel.reservation.model.ReconciliationReport.DiscrepancyType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compares payments with what Stripe reports and decides what to repair.
+ * Stripe is the source of truth for whether money moved: a payment behind
+ * its PaymentIntent (pending but succeeded, processing but cancelled), a
+ * missing charge ID or a refunded amount that differs from the charge's is
+ * repaired. Differences that would mean undoing a confirmed booking (marked
+ * succeeded but not paid, wrong amount, money we have no payment for) are
+ * only reported.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+public class PaymentReconciler {
+
+    private static final Set<Payment.PaymentStatus> PAID = EnumSet.of(Payment.PaymentStatus.SUCCEEDED,
+            Payment.PaymentStatus.REFUNDED, Payment.PaymentStatus.PARTIALLY_REFUNDED);
+
+    /**
+     * PaymentIntent as listed from Stripe; amounts in cents.
+     */
+    public record Intent(String id, String status, long amountReceived, String latestCharge) {
+    }
+
+    /**
+     * Refund state of a PaymentIntent's charge; amounts in cents.
+     */
+    public record ChargeRefunds(String paymentIntentId, String chargeId, long amount, long amountRefunded,
+                                LocalDateTime lastRefundAt) {
+    }
+
+    /**
+     * The fields of a payment that are reconciled.
+     */
+    public record LocalPayment(String id, String reservationId, String groupBookingId, BigDecimal amount,
+                               Payment.PaymentStatus status, String stripePaymentIntentId, String stripeChargeId,
+                               BigDecimal refundAmount, LocalDateTime updatedAt) {
+    }
+
+    /**
+     * Field changes for one payment, applied only if it has not changed since
+     * it was read, and the event to publish once applied (null for none).
+     */
+    public record Repair(LocalPayment payment, Map<String, Object> changes, OutboxEvent.EventType event,
+                         Map<String, String> payload) {
+    }
+
+    /**
+     * Discrepancies found and repairs to apply.
+     */
+    public record Outcome(List<Discrepancy> discrepancies, List<Repair> repairs) {
+    }
+
+    /**
+     * Compare PaymentIntents with their payments.
+     *
+     * @param intents PaymentIntents from Stripe
+     * @param payments payments by PaymentIntent ID
+     * @return the outcome
+     */
+    public Outcome compareIntents(Collection<Intent> intents, Map<String, LocalPayment> payments) {
+        List<Discrepancy> discrepancies = new ArrayList<>();
+        List<Repair> repairs = new ArrayList<>();
+
+        for (Intent intent : intents) {
+            LocalPayment payment = payments.get(intent.id());
+            if (payment == null) {
+                if ("succeeded".equals(intent.status())) {
+                    discrepancies.add(new Discrepancy(DiscrepancyType.UNKNOWN_INTENT, null, intent.id(),
+                            null, intent.status(), false));
+                }
+                continue;
+            }
+
+            Payment.PaymentStatus expected = expectedStatus(intent.status(), payment.status());
+            if (expected != null && expected != payment.status()) {
+                Map<String, Object> changes = new LinkedHashMap<>();
+                changes.put("status", expected);
+                OutboxEvent.EventType event = null;
+                Map<String, String> payload = null;
+                if (expected == Payment.PaymentStatus.SUCCEEDED) {
+                    if (intent.latestCharge() != null) {
+                        changes.put("stripeChargeId", intent.latestCharge());
+                    }
+                    event = OutboxEvent.EventType.PAYMENT_SUCCEEDED;
+                    payload = succeededPayload(payment);
+                }
+                repairs.add(new Repair(payment, changes, event, payload));
+                discrepancies.add(new Discrepancy(DiscrepancyType.STATUS, payment.id(), intent.id(),
+                        payment.status().name(), intent.status(), true));
+            } else if (PAID.contains(payment.status()) && !"succeeded".equals(intent.status())) {
+                discrepancies.add(new Discrepancy(DiscrepancyType.UNCONFIRMED, payment.id(), intent.id(),
+                        payment.status().name(), intent.status(), false));
+            } else if (PAID.contains(payment.status()) && intent.latestCharge() != null
+                    && !intent.latestCharge().equals(payment.stripeChargeId())) {
+                repairs.add(new Repair(payment, Map.of("stripeChargeId", intent.latestCharge()), null, null));
+                discrepancies.add(new Discrepancy(DiscrepancyType.CHARGE, payment.id(), intent.id(),
+                        payment.stripeChargeId(), intent.latestCharge(), true));
+            }
+
+            if ("succeeded".equals(intent.status()) && payment.amount() != null
+                    && intent.amountReceived() != cents(payment.amount())) {
+                discrepancies.add(new Discrepancy(DiscrepancyType.AMOUNT, payment.id(), intent.id(),
+                        payment.amount().toPlainString(), amount(intent.amountReceived()).toPlainString(), false));
+            }
+        }
+        return new Outcome(discrepancies, repairs);
+    }
+
+    /**
+     * Compare refunded amounts with their payments.
+     *
+     * @param refunds charge refund state by PaymentIntent
+     * @param payments payments by PaymentIntent ID
+     * @return the outcome
+     */
+    public Outcome compareRefunds(Collection<ChargeRefunds> refunds, Map<String, LocalPayment> payments) {
+        List<Discrepancy> discrepancies = new ArrayList<>();
+        List<Repair> repairs = new ArrayList<>();
+
+        for (ChargeRefunds charge : refunds) {
+            String stripeState = "refunded " + amount(charge.amountRefunded()).toPlainString();
+            LocalPayment payment = payments.get(charge.paymentIntentId());
+            if (payment == null) {
+                discrepancies.add(new Discrepancy(DiscrepancyType.UNKNOWN_INTENT, null, charge.paymentIntentId(),
+                        null, stripeState, false));
+                continue;
+            }
+
+            long refunded = payment.refundAmount() != null ? cents(payment.refundAmount()) : 0;
+            if (refunded == charge.amountRefunded()) {
+                continue;
+            }
+            String localState = payment.status().name() + ", refunded "
+                    + amount(refunded).toPlainString();
+
+            if (!PAID.contains(payment.status())) {
+                // The intent pass settles the status first; the refund is repaired on a later run
+                discrepancies.add(new Discrepancy(DiscrepancyType.REFUND, payment.id(), charge.paymentIntentId(),
+                        localState, stripeState, false));
+                continue;
+            }
+
+            Map<String, Object> changes = new LinkedHashMap<>();
+            if (charge.amountRefunded() == 0) {
+                changes.put("status", Payment.PaymentStatus.SUCCEEDED);
+                changes.put("refundAmount", null);
+                changes.put("refundedAt", null);
+            } else {
+                changes.put("status", charge.amountRefunded() >= charge.amount()
+                        ? Payment.PaymentStatus.REFUNDED : Payment.PaymentStatus.PARTIALLY_REFUNDED);
+                changes.put("refundAmount", amount(charge.amountRefunded()));
+                changes.put("refundedAt", charge.lastRefundAt());
+            }
+
+            OutboxEvent.EventType event = null;
+            Map<String, String> payload = null;
+            if (charge.amountRefunded() > refunded) {
+                event = OutboxEvent.EventType.PAYMENT_REFUNDED;
+                payload = new HashMap<>();
+                payload.put("reservationId", payment.reservationId());
+                payload.put("refundAmount", amount(charge.amountRefunded() - refunded).toPlainString());
+                payload.put("source", "reconciliation");
+            }
+            repairs.add(new Repair(payment, changes, event, payload));
+            discrepancies.add(new Discrepancy(DiscrepancyType.REFUND, payment.id(), charge.paymentIntentId(),
+                    localState, stripeState, true));
+        }
+        return new Outcome(discrepancies, repairs);
+    }
+
+    /**
+     * Status a payment should move to for a PaymentIntent status, or null to
+     * leave it alone. Only moves forward: a paid payment is never reverted.
+     */
+    static Payment.PaymentStatus expectedStatus(String intentStatus, Payment.PaymentStatus current) {
+        if (PAID.contains(current)) {
+            return null;
+        }
+        return switch (intentStatus) {
+            case "succeeded" -> Payment.PaymentStatus.SUCCEEDED;
+            case "processing" -> current == Payment.PaymentStatus.PENDING ? Payment.PaymentStatus.PROCESSING : null;
+            case "canceled" -> Payment.PaymentStatus.FAILED;
+            default -> null;
+        };
+    }
+
+    /**
+     * Same payload as a payment confirmed by the API or webhook.
+     */
+    private static Map<String, String> succeededPayload(LocalPayment payment) {
+        Map<String, String> payload = new HashMap<>();
+        payload.put(ConfirmReservationOnPaymentHandler.RESERVATION_ID, payment.reservationId());
+        if (payment.amount() != null) {
+            payload.put("amount", payment.amount().toPlainString());
+        }
+        if (payment.groupBookingId() != null) {
+            payload.put(ConfirmReservationOnPaymentHandler.GROUP_BOOKING_ID, payment.groupBookingId());
+        }
+        return payload;
+    }
+
+    private static long cents(BigDecimal amount) {
+        return amount.multiply(BigDecimal.valueOf(100)).longValue();
+    }
+
+    private static BigDecimal amount(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+}
@@ -0,0 +1,217 @@
+package com.hotel.reservation.reconciliation;
+
+import com.hotel.reservation.model.Payment;
+import com.mongodb.DBRef;
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoServerException;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.Updates;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * MongoDB side of Stripe reconciliation: the run lease and per-object-type
+ * watermarks (reconciliation_state), and projected reads and guarded bulk
+ * updates of payments.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Component
+public class ReconciliationStore {
+
+    static final String STATE_COLLECTION = "reconciliation_state";
+    static final String PAYMENTS = "payments";
+    private static final String LEASE_ID = "lease";
+
+    private static final String[] FIELDS = {"reservation", "groupBookingId", "amount", "status",
+            "stripePaymentIntentId", "stripeChargeId", "refundAmount", "updatedAt"};
+
+    private final MongoTemplate mongoTemplate;
+    private final ConversionService conversionService;
+
+    public ReconciliationStore(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+        this.conversionService = mongoTemplate.getConverter().getConversionService();
+    }
+
+    /**
+     * Take or extend the run lease, so one instance reconciles at a time.
+     *
+     * @param owner ID of this instance
+     * @param lease how long the lease is valid
+     * @return true if this instance holds the lease
+     */
+    public boolean tryLease(String owner, Duration lease) {
+        Date now = new Date();
+        try {
+            // Matches a lapsed lease or our own; otherwise the upsert collides on _id
+            state().findOneAndUpdate(
+                    Filters.and(Filters.eq("_id", LEASE_ID),
+                            Filters.or(Filters.lt("expiresAt", now), Filters.eq("owner", owner))),
+                    Updates.combine(Updates.set("owner", owner),
+                            Updates.set("expiresAt", new Date(now.getTime() + lease.toMillis()))),
+                    new FindOneAndUpdateOptions().upsert(true));
+            return true;
+        } catch (MongoServerException e) {
+            if (ErrorCategory.fromErrorCode(e.getCode()) == ErrorCategory.DUPLICATE_KEY) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Give up the run lease if this instance holds it.
+     *
+     * @param owner ID of this instance
+     */
+    public void releaseLease(String owner) {
+        state().deleteOne(Filters.and(Filters.eq("_id", LEASE_ID), Filters.eq("owner", owner)));
+    }
+
+    /**
+     * End of the last reconciled creation window.
+     *
+     * @param kind object type ("intents", "refunds")
+     * @return the watermark, if any run has completed a window
+     */
+    public Optional<Instant> watermark(String kind) {
+        Document saved = state().find(Filters.eq("_id", kind)).first();
+        Date watermark = saved == null ? null : saved.getDate("watermark");
+        return Optional.ofNullable(watermark).map(Date::toInstant);
+    }
+
+    /**
+     * Record a reconciled creation window.
+     *
+     * @param kind object type
+     * @param watermark end of the window
+     */
+    public void saveWatermark(String kind, Instant watermark) {
+        state().replaceOne(Filters.eq("_id", kind),
+                new Document("_id", kind).append("watermark", Date.from(watermark)).append("updatedAt", new Date()),
+                new ReplaceOptions().upsert(true));
+    }
+
+    /**
+     * Payments created in a window, by PaymentIntent ID. One range query on
+     * created_idx, projected to the reconciled fields.
+     *
+     * @param from start (inclusive)
+     * @param to end (exclusive)
+     * @return payments by PaymentIntent ID
+     */
+    public Map<String, PaymentReconciler.LocalPayment> findCreatedBetween(LocalDateTime from, LocalDateTime to) {
+        return find(Criteria.where("createdAt").gte(from).lt(to));
+    }
+
+    /**
+     * Payments of the given PaymentIntents, via intent_idx.
+     *
+     * @param paymentIntentIds PaymentIntent IDs
+     * @return payments by PaymentIntent ID
+     */
+    public Map<String, PaymentReconciler.LocalPayment> findByIntentIds(Collection<String> paymentIntentIds) {
+        if (paymentIntentIds.isEmpty()) {
+            return new HashMap<>();
+        }
+        return find(Criteria.where("stripePaymentIntentId").in(paymentIntentIds));
+    }
+
+    /**
+     * Apply repairs in one unordered bulk write. A repair only applies if its
+     * payment's updatedAt is unchanged since it was read, so a concurrent
+     * webhook or API update wins; it is looked at again on a later run.
+     *
+     * @param repairs repairs to apply
+     * @param stamp run timestamp, written to reconciledAt
+     * @return IDs of the payments updated
+     */
+    public List<String> apply(List<PaymentReconciler.Repair> repairs, LocalDateTime stamp) {
+        if (repairs.isEmpty()) {
+            return List.of();
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Payment.class);
+        List<String> ids = new ArrayList<>(repairs.size());
+        for (PaymentReconciler.Repair repair : repairs) {
+            Update update = new Update().set("updatedAt", stamp).set("reconciledAt", stamp);
+            repair.changes().forEach(update::set);
+            bulk.updateOne(Query.query(Criteria.where("_id").is(repair.payment().id())
+                    .and("updatedAt").is(repair.payment().updatedAt())), update);
+            ids.add(repair.payment().id());
+        }
+        BulkWriteResult result = bulk.execute();
+        if (result.getModifiedCount() == ids.size()) {
+            return ids;
+        }
+
+        // Some lost the race; those carrying this run's stamp are ours
+        Query applied = Query.query(Criteria.where("_id").in(ids).and("reconciledAt").is(stamp));
+        applied.fields().include("_id");
+        return mongoTemplate.find(applied, Payment.class).stream().map(Payment::getId).toList();
+    }
+
+    private Map<String, PaymentReconciler.LocalPayment> find(Criteria criteria) {
+        Query query = Query.query(criteria);
+        query.fields().include(FIELDS);
+        Map<String, PaymentReconciler.LocalPayment> payments = new HashMap<>();
+        for (Document row : mongoTemplate.find(query, Document.class, PAYMENTS)) {
+            String intentId = row.getString("stripePaymentIntentId");
+            if (intentId == null || row.get("status") == null) {
+                continue;
+            }
+            Object reservation = row.get("reservation");
+            payments.put(intentId, new PaymentReconciler.LocalPayment(
+                    key(row.get("_id")),
+                    reservation instanceof DBRef ref ? key(ref.getId()) : null,
+                    row.getString("groupBookingId"),
+                    read(row, "amount", BigDecimal.class),
+                    read(row, "status", Payment.PaymentStatus.class),
+                    intentId,
+                    row.getString("stripeChargeId"),
+                    read(row, "refundAmount", BigDecimal.class),
+                    read(row, "updatedAt", LocalDateTime.class)));
+        }
+        return payments;
+    }
+
+    private <T> T read(Document document, String field, Class<T> type) {
+        Object value = document.get(field);
+        return value == null ? null : conversionService.convert(value, type);
+    }
+
+    private static String key(Object id) {
+        if (id == null) {
+            return null;
+        }
+        return id instanceof ObjectId objectId ? objectId.toHexString() : id.toString();
+    }
+
+    private MongoCollection<Document> state() {
+        return mongoTemplate.getCollection(STATE_COLLECTION);
+    }
+}
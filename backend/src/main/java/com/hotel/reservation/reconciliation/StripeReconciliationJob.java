@@ -0,0 +1,338 @@
+package com.hotel.reservation.reconciliation;
+
+import com.hotel.reservation.event.DomainEventPublisher;
+import com.hotel.reservation.model.OutboxEvent;
+import com.hotel.reservation.model.ReconciliationReport;
+import com.hotel.reservation.payment.StripeGateway;
+import com.hotel.reservation.repository.ReconciliationReportRepository;
+import com.hotel.reservation.security.ratelimit.RateLimitDecision;
+import com.hotel.reservation.security.ratelimit.TokenBucket;
+import com.stripe.exception.StripeException;
+import com.stripe.model.Charge;
+import com.stripe.model.PaymentIntent;
+import com.stripe.model.PaymentIntentCollection;
+import com.stripe.model.Refund;
+import com.stripe.model.RefundCollection;
+import com.stripe.param.PaymentIntentListParams;
+import com.stripe.param.RefundListParams;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Scheduled job that reconciles payments with Stripe, so payments left
+ * behind by a failed confirmation retrieve, a dropped webhook or a refund
+ * made in the Stripe dashboard are put right.
+ *
+ * Each run continues from a stored watermark per object type and walks
+ * fixed creation windows up to "now minus settle" (objects younger than
+ * that may still change state). Per window, PaymentIntents are paged with
+ * the list API and compared against the payments created in the same
+ * window (one range query on created_idx); refunds are listed with their
+ * charge expanded, which carries the total refunded, and compared against
+ * their payments by PaymentIntent ID. Repairs go out as one bulk write per
+ * window and the watermark then moves past it. Every run stores a
+ * {@link ReconciliationReport}.
+ *
+ * Stripe list calls go through {@link StripeGateway} (timeouts, retries,
+ * circuit breaker) and a token bucket, so a run never takes more than
+ * requests-per-second of the account's API rate from live traffic. A lease
+ * in reconciliation_state keeps it to one instance at a time.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.reconciliation", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class StripeReconciliationJob {
+
+    static final String INTENTS = "intents";
+    static final String REFUNDS = "refunds";
+
+    private final StripeGateway stripeGateway;
+    private final ReconciliationStore store;
+    private final ReconciliationReportRepository reportRepository;
+    private final DomainEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final PaymentReconciler reconciler = new PaymentReconciler();
+    private final TokenBucket bucket = new TokenBucket();
+    private final String owner = UUID.randomUUID().toString();
+
+    @Value("${app.reconciliation.window-minutes:60}")
+    private long windowMinutes;
+
+    @Value("${app.reconciliation.settle-minutes:15}")
+    private long settleMinutes;
+
+    @Value("${app.reconciliation.initial-lookback-hours:24}")
+    private long initialLookbackHours;
+
+    @Value("${app.reconciliation.max-windows:24}")
+    private int maxWindows;
+
+    @Value("${app.reconciliation.page-size:100}")
+    private long pageSize;
+
+    @Value("${app.reconciliation.requests-per-second:5}")
+    private double requestsPerSecond;
+
+    @Value("${app.reconciliation.created-skew-minutes:5}")
+    private long createdSkewMinutes;
+
+    @Value("${app.reconciliation.lease-ms:600000}")
+    private long leaseMs;
+
+    public StripeReconciliationJob(StripeGateway stripeGateway,
+                                   ReconciliationStore store,
+                                   ReconciliationReportRepository reportRepository,
+                                   DomainEventPublisher eventPublisher,
+                                   MeterRegistry meterRegistry) {
+        this.stripeGateway = stripeGateway;
+        this.store = store;
+        this.reportRepository = reportRepository;
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Scheduled(fixedDelayString = "${app.reconciliation.interval-ms:300000}",
+            initialDelayString = "${app.reconciliation.initial-delay-ms:60000}")
+    public void reconcile() {
+        if (!store.tryLease(owner, Duration.ofMillis(leaseMs))) {
+            log.debug("Stripe reconciliation is running on another instance");
+            return;
+        }
+        try {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            ReconciliationReport report = run();
+            sample.stop(meterRegistry.timer("hotelx.reconciliation.run", "partial", String.valueOf(report.isPartial())));
+        } finally {
+            store.releaseLease(owner);
+        }
+    }
+
+    /**
+     * Reconcile every complete window since the watermarks, up to the per-run cap.
+     *
+     * @return the stored report
+     */
+    ReconciliationReport run() {
+        ReconciliationReport report = new ReconciliationReport();
+        report.setStartedAt(LocalDateTime.now());
+        Instant horizon = Instant.now().minus(Duration.ofMinutes(settleMinutes)).truncatedTo(ChronoUnit.SECONDS);
+
+        try {
+            walk(INTENTS, horizon, report);
+            walk(REFUNDS, horizon, report);
+        } catch (StripeException e) {
+            report.setPartial(true);
+            report.setError(e.getMessage());
+            log.warn("Stripe reconciliation stopped early: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            report.setPartial(true);
+            report.setError("interrupted");
+        }
+
+        report.setFinishedAt(LocalDateTime.now());
+        if (!report.getDiscrepancies().isEmpty()) {
+            log.info("Stripe reconciliation found {} discrepancies, repaired {} payments",
+                    report.getDiscrepancies().size(), report.getRepaired());
+        }
+        return reportRepository.save(report);
+    }
+
+    private void walk(String kind, Instant horizon, ReconciliationReport report)
+            throws StripeException, InterruptedException {
+        Instant from = store.watermark(kind).orElse(horizon.minus(Duration.ofHours(initialLookbackHours)));
+        Duration window = Duration.ofMinutes(windowMinutes);
+
+        for (int i = 0; i < maxWindows && from.isBefore(horizon); i++) {
+            Instant to = from.plus(window).isBefore(horizon) ? from.plus(window) : horizon;
+            if (INTENTS.equals(kind)) {
+                reconcileIntents(from, to, report);
+                report.setIntentsFrom(report.getIntentsFrom() != null ? report.getIntentsFrom() : from);
+                report.setIntentsTo(to);
+            } else {
+                reconcileRefunds(from, to, report);
+                report.setRefundsFrom(report.getRefundsFrom() != null ? report.getRefundsFrom() : from);
+                report.setRefundsTo(to);
+            }
+            store.saveWatermark(kind, to);
+            from = to;
+        }
+        if (from.isBefore(horizon)) {
+            // Still behind after the per-run cap; the next run carries on from here
+            report.setPartial(true);
+        }
+    }
+
+    private void reconcileIntents(Instant from, Instant to, ReconciliationReport report)
+            throws StripeException, InterruptedException {
+        List<PaymentReconciler.Intent> intents = new ArrayList<>();
+        String startingAfter = null;
+        boolean hasMore;
+        do {
+            PaymentIntentListParams.Builder builder = PaymentIntentListParams.builder()
+                    .setCreated(PaymentIntentListParams.Created.builder()
+                            .setGte(from.getEpochSecond())
+                            .setLt(to.getEpochSecond())
+                            .build())
+                    .setLimit(pageSize);
+            if (startingAfter != null) {
+                builder.setStartingAfter(startingAfter);
+            }
+            PaymentIntentListParams params = builder.build();
+            PaymentIntentCollection page = list(StripeGateway.Operation.LIST_INTENTS,
+                    options -> PaymentIntent.list(params, options), report);
+
+            for (PaymentIntent intent : page.getData()) {
+                intents.add(new PaymentReconciler.Intent(intent.getId(), intent.getStatus(),
+                        intent.getAmountReceived() != null ? intent.getAmountReceived() : 0,
+                        intent.getLatestCharge()));
+                startingAfter = intent.getId();
+            }
+            hasMore = Boolean.TRUE.equals(page.getHasMore()) && !page.getData().isEmpty();
+        } while (hasMore);
+        report.setIntentsScanned(report.getIntentsScanned() + intents.size());
+        if (intents.isEmpty()) {
+            return;
+        }
+
+        // The payment is saved just after its intent is created; the skew absorbs clock differences
+        Duration skew = Duration.ofMinutes(createdSkewMinutes);
+        Map<String, PaymentReconciler.LocalPayment> payments =
+                store.findCreatedBetween(local(from.minus(skew)), local(to.plus(skew)));
+        Set<String> unmatched = new HashSet<>();
+        for (PaymentReconciler.Intent intent : intents) {
+            if (!payments.containsKey(intent.id())) {
+                unmatched.add(intent.id());
+            }
+        }
+        payments.putAll(store.findByIntentIds(unmatched));
+
+        record(reconciler.compareIntents(intents, payments), report);
+    }
+
+    private void reconcileRefunds(Instant from, Instant to, ReconciliationReport report)
+            throws StripeException, InterruptedException {
+        Map<String, PaymentReconciler.ChargeRefunds> charges = new HashMap<>();
+        int scanned = 0;
+        String startingAfter = null;
+        boolean hasMore;
+        do {
+            RefundListParams.Builder builder = RefundListParams.builder()
+                    .setCreated(RefundListParams.Created.builder()
+                            .setGte(from.getEpochSecond())
+                            .setLt(to.getEpochSecond())
+                            .build())
+                    .setLimit(pageSize)
+                    .addExpand("data.charge");
+            if (startingAfter != null) {
+                builder.setStartingAfter(startingAfter);
+            }
+            RefundListParams params = builder.build();
+            RefundCollection page = list(StripeGateway.Operation.LIST_REFUNDS,
+                    options -> Refund.list(params, options), report);
+
+            for (Refund refund : page.getData()) {
+                scanned++;
+                startingAfter = refund.getId();
+                Charge charge = refund.getChargeObject();
+                if (refund.getPaymentIntent() == null || charge == null) {
+                    continue;
+                }
+                // The charge carries the total refunded, so later refunds in the page supersede earlier ones
+                LocalDateTime refundedAt = local(Instant.ofEpochSecond(refund.getCreated()));
+                PaymentReconciler.ChargeRefunds previous = charges.get(refund.getPaymentIntent());
+                if (previous == null || previous.lastRefundAt().isBefore(refundedAt)) {
+                    charges.put(refund.getPaymentIntent(), new PaymentReconciler.ChargeRefunds(
+                            refund.getPaymentIntent(), charge.getId(),
+                            charge.getAmount() != null ? charge.getAmount() : 0,
+                            charge.getAmountRefunded() != null ? charge.getAmountRefunded() : 0,
+                            refundedAt));
+                }
+            }
+            hasMore = Boolean.TRUE.equals(page.getHasMore()) && !page.getData().isEmpty();
+        } while (hasMore);
+        report.setRefundsScanned(report.getRefundsScanned() + scanned);
+        if (charges.isEmpty()) {
+            return;
+        }
+
+        // Refunds come long after the payment, so these are looked up by intent rather than by window
+        record(reconciler.compareRefunds(charges.values(), store.findByIntentIds(charges.keySet())), report);
+    }
+
+    /**
+     * Apply the repairs, publish events for the ones that stuck and add everything to the report.
+     */
+    private void record(PaymentReconciler.Outcome outcome, ReconciliationReport report) {
+        Set<String> applied = new HashSet<>(store.apply(outcome.repairs(), LocalDateTime.now()));
+
+        Map<OutboxEvent.EventType, Map<String, Map<String, String>>> events = new EnumMap<>(OutboxEvent.EventType.class);
+        for (PaymentReconciler.Repair repair : outcome.repairs()) {
+            if (repair.event() != null && applied.contains(repair.payment().id())) {
+                events.computeIfAbsent(repair.event(), type -> new HashMap<>())
+                        .put(repair.payment().id(), repair.payload());
+            }
+        }
+        events.forEach(eventPublisher::publishAll);
+
+        for (ReconciliationReport.Discrepancy discrepancy : outcome.discrepancies()) {
+            if (discrepancy.isRepaired() && !applied.contains(discrepancy.getPaymentId())) {
+                // Changed since it was read; looked at again on a later run
+                discrepancy.setRepaired(false);
+            }
+            meterRegistry.counter("hotelx.reconciliation.discrepancies",
+                    "type", discrepancy.getType().name(),
+                    "repaired", String.valueOf(discrepancy.isRepaired())).increment();
+        }
+        report.getDiscrepancies().addAll(outcome.discrepancies());
+        report.setRepaired(report.getRepaired() + applied.size());
+        meterRegistry.counter("hotelx.reconciliation.repaired").increment(applied.size());
+    }
+
+    private <T> T list(StripeGateway.Operation operation, StripeGateway.StripeCall<T> call,
+                       ReconciliationReport report) throws StripeException, InterruptedException {
+        throttle();
+        report.setStripeCalls(report.getStripeCalls() + 1);
+        return stripeGateway.call(operation, call);
+    }
+
+    /**
+     * Wait for a token: list calls are spaced at most requests-per-second apart.
+     */
+    private void throttle() throws InterruptedException {
+        long interval = (long) (1_000_000_000L / Math.max(0.01, requestsPerSecond));
+        while (true) {
+            RateLimitDecision decision = bucket.tryConsume(System.nanoTime(), interval, 1);
+            if (decision.isAllowed()) {
+                return;
+            }
+            Thread.sleep(decision.getRetryAfterMillis());
+        }
+    }
+
+    private static LocalDateTime local(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,26 @@
+package com.hotel.reservation.repository;
+
+import com.hotel.reservation.model.EmailMessage;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for EmailMessage entity.
+ * Provides database operations for the outgoing email queue.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Repository
+public interface EmailMessageRepository extends MongoRepository<EmailMessage, String>, EmailMessageRepositoryCustom {
+
+    /**
+     * Find messages by delivery status.
+     *
+     * @param status the delivery status
+     * @return list of messages with the specified status
+     */
+    List<EmailMessage> findByStatus(EmailMessage.EmailStatus status);
+}
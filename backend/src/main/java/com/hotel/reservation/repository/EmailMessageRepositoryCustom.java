@@ -0,0 +1,57 @@
+package com.hotel.reservation.repository;
+
+import com.hotel.reservation.model.EmailMessage;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Custom email queue operations implemented with conditional bulk updates.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+public interface EmailMessageRepositoryCustom {
+
+    /**
+     * Add a message to the queue unless a message with the same ID exists.
+     * A message not sent within {@link EmailMessage#UNSENT_TTL} is dropped.
+     *
+     * @param message the message
+     * @return true if the message was queued
+     */
+    boolean enqueue(EmailMessage message);
+
+    /**
+     * Claim a batch of sendable messages.
+     * Messages whose claim lease has expired are released first.
+     *
+     * @param batchSize maximum number of messages to claim
+     * @param lease how long a claim is valid
+     * @return claimed messages, oldest first
+     */
+    List<EmailMessage> claimBatch(int batchSize, Duration lease);
+
+    /**
+     * Mark messages still held under the claim as sent.
+     *
+     * @param ids message IDs
+     * @param claimToken token of the claim the messages were sent under
+     * @return number of messages marked
+     */
+    long markSent(Collection<String> ids, String claimToken);
+
+    /**
+     * Record a failed send and schedule the next attempt, if the message is
+     * still held under the claim.
+     *
+     * @param id message ID
+     * @param claimToken token of the claim the message was sent under
+     * @param error error message
+     * @param retryAt next attempt time, or null to give up
+     * @return true if the failure was recorded
+     */
+    boolean markFailed(String id, String claimToken, String error, LocalDateTime retryAt);
+}
@@ -0,0 +1,54 @@
+package com.hotel.reservation.repository;
+
+import com.hotel.reservation.model.EmailMessage;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * MongoTemplate implementation of {@link EmailMessageRepositoryCustom}.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+public class EmailMessageRepositoryCustomImpl implements EmailMessageRepositoryCustom {
+
+    private final LeasedQueue<EmailMessage, EmailMessage.EmailStatus> queue;
+
+    public EmailMessageRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.queue = new LeasedQueue<>(mongoTemplate, EmailMessage.class, EmailMessage::getId,
+                EmailMessage.EmailStatus.PENDING, EmailMessage.EmailStatus.SENDING, EmailMessage.EmailStatus.FAILED);
+    }
+
+    @Override
+    public boolean enqueue(EmailMessage message) {
+        if (message.getExpiresAt() == null) {
+            LocalDateTime queuedAt = message.getAvailableAt() != null ? message.getAvailableAt() : LocalDateTime.now();
+            message.setExpiresAt(queuedAt.plus(EmailMessage.UNSENT_TTL));
+        }
+        return queue.enqueue(message);
+    }
+
+    @Override
+    public List<EmailMessage> claimBatch(int batchSize, Duration lease) {
+        return queue.claimBatch(batchSize, lease);
+    }
+
+    @Override
+    public long markSent(Collection<String> ids, String claimToken) {
+        // Sent messages expire by sentAt instead
+        return queue.complete(ids, claimToken, new Update()
+                .set("status", EmailMessage.EmailStatus.SENT)
+                .set("sentAt", LocalDateTime.now())
+                .unset("expiresAt"));
+    }
+
+    @Override
+    public boolean markFailed(String id, String claimToken, String error, LocalDateTime retryAt) {
+        return queue.fail(id, claimToken, error, retryAt, new Update());
+    }
+}
@@ -0,0 +1,169 @@
+package com.hotel.reservation.repository;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Claim and lease operations shared by the collections used as work queues
+ * (outbox events, emails, refund jobs). Entries have status, availableAt,
+ * attempts, claimToken, claimedAt and lastError fields. A batch is claimed
+ * under a fresh token, and every outcome is recorded only while the entry
+ * still carries that token, so a worker whose lease expired cannot overwrite
+ * the outcome of the worker that claimed the entry next.
+ *
+ * @param <T> entry type
+ * @param <S> entry status type
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+final class LeasedQueue<T, S extends Enum<S>> {
+
+    private final MongoTemplate mongoTemplate;
+    private final Class<T> type;
+    private final Function<T, String> idOf;
+    private final S pending;
+    private final S claimed;
+    private final S failed;
+
+    /**
+     * @param mongoTemplate template
+     * @param type entry type
+     * @param idOf entry ID accessor
+     * @param pending status of entries waiting to be claimed
+     * @param claimed status of claimed entries
+     * @param failed status of entries that will not be retried
+     */
+    LeasedQueue(MongoTemplate mongoTemplate, Class<T> type, Function<T, String> idOf, S pending, S claimed, S failed) {
+        this.mongoTemplate = mongoTemplate;
+        this.type = type;
+        this.idOf = idOf;
+        this.pending = pending;
+        this.claimed = claimed;
+        this.failed = failed;
+    }
+
+    /**
+     * Insert an entry unless one with the same ID exists.
+     *
+     * @param entry the entry
+     * @return true if the entry was inserted
+     */
+    boolean enqueue(T entry) {
+        try {
+            // insert, not save: enqueueing again must not reset an entry that already ran
+            mongoTemplate.insert(entry);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Claim a batch of due entries under a new token.
+     * Entries whose lease has expired are released first.
+     *
+     * @param batchSize maximum number of entries to claim
+     * @param lease how long a claim is valid
+     * @return claimed entries, oldest first
+     */
+    List<T> claimBatch(int batchSize, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+
+        // Return entries abandoned by a crashed or stalled worker to the queue
+        mongoTemplate.updateMulti(
+                Query.query(Criteria.where("status").is(claimed).and("claimedAt").lt(now.minus(lease))),
+                new Update().set("status", pending).unset("claimToken"),
+                type);
+
+        Query candidates = Query.query(Criteria.where("status").is(pending).and("availableAt").lte(now))
+                .with(Sort.by(Sort.Direction.ASC, "availableAt"))
+                .limit(batchSize);
+        candidates.fields().include("_id");
+
+        List<String> ids = mongoTemplate.find(candidates, type).stream()
+                .map(idOf)
+                .toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        // Only entries still pending are claimed, so concurrent workers never share an entry
+        String claimToken = UUID.randomUUID().toString();
+        mongoTemplate.updateMulti(
+                Query.query(Criteria.where("_id").in(ids).and("status").is(pending)),
+                new Update().set("status", claimed)
+                        .set("claimToken", claimToken)
+                        .set("claimedAt", now),
+                type);
+
+        return mongoTemplate.find(
+                Query.query(Criteria.where("claimToken").is(claimToken))
+                        .with(Sort.by(Sort.Direction.ASC, "availableAt")),
+                type);
+    }
+
+    /**
+     * Record the outcome of entries still held under a claim and release them.
+     *
+     * @param ids entry IDs
+     * @param claimToken token of the claim
+     * @param update outcome fields (status, timestamps)
+     * @return number of entries updated
+     */
+    long complete(Collection<String> ids, String claimToken, Update update) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return mongoTemplate.updateMulti(
+                Query.query(Criteria.where("_id").in(ids).and("claimToken").is(claimToken)),
+                update.unset("claimToken"),
+                type).getModifiedCount();
+    }
+
+    /**
+     * Record the outcome of one entry still held under a claim and release it.
+     *
+     * @param id entry ID
+     * @param claimToken token of the claim
+     * @param update outcome fields (status, timestamps)
+     * @return true if the entry was updated
+     */
+    boolean complete(String id, String claimToken, Update update) {
+        return mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(id).and("claimToken").is(claimToken)),
+                update.unset("claimToken"),
+                type).getModifiedCount() > 0;
+    }
+
+    /**
+     * Record a failed attempt of an entry still held under a claim, and either
+     * make it due again at retryAt or give up on it.
+     *
+     * @param id entry ID
+     * @param claimToken token of the claim
+     * @param error error message
+     * @param retryAt next attempt time, or null to give up
+     * @param update further fields to record with the failure
+     * @return true if the failure was recorded
+     */
+    boolean fail(String id, String claimToken, String error, LocalDateTime retryAt, Update update) {
+        update.inc("attempts", 1).set("lastError", error);
+        if (retryAt != null) {
+            update.set("status", pending).set("availableAt", retryAt);
+        } else {
+            update.set("status", failed);
+        }
+        return complete(id, claimToken, update);
+    }
+}
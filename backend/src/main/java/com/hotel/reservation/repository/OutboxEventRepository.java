@@ -0,0 +1,26 @@
+package com.hotel.reservation.repository;
+
+import com.hotel.reservation.model.OutboxEvent;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for OutboxEvent entity.
+ * Provides database operations for the domain event outbox.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Repository
+public interface OutboxEventRepository extends MongoRepository<OutboxEvent, String>, OutboxEventRepositoryCustom {
+
+    /**
+     * Find events by delivery status.
+     *
+     * @param status the delivery status
+     * @return list of events with the specified status
+     */
+    List<OutboxEvent> findByStatus(OutboxEvent.OutboxStatus status);
+}
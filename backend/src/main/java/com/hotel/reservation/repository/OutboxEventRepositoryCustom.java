@@ -0,0 +1,52 @@
+package com.hotel.reservation.repository;
+
+import com.hotel.reservation.model.OutboxEvent;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Custom outbox operations implemented with conditional bulk updates.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+public interface OutboxEventRepositoryCustom {
+
+    /**
+     * Claim a batch of deliverable events for this dispatcher.
+     * Events whose claim lease has expired are released first.
+     *
+     * @param batchSize maximum number of events to claim
+     * @param lease how long a claim is valid
+     * @return claimed events, oldest first
+     */
+    List<OutboxEvent> claimBatch(int batchSize, Duration lease);
+
+    /**
+     * Mark events as dispatched. Only events still held under the claim are
+     * updated; an event whose lease expired and was claimed again keeps the
+     * outcome recorded by its new dispatcher.
+     *
+     * @param ids event IDs
+     * @param claimToken token of the claim the events were delivered under
+     * @return number of events marked
+     */
+    long markDispatched(Collection<String> ids, String claimToken);
+
+    /**
+     * Record a failed delivery and schedule the next attempt, if the event is
+     * still held under the claim.
+     *
+     * @param id event ID
+     * @param claimToken token of the claim the event was delivered under
+     * @param handledBy handlers that handled the event in this attempt
+     * @param error error message
+     * @param retryAt next attempt time, or null to give up
+     * @return true if the failure was recorded
+     */
+    boolean markFailed(String id, String claimToken, Collection<String> handledBy, String error,
+                       LocalDateTime retryAt);
+}
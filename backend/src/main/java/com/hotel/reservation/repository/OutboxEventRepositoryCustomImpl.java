@@ -0,0 +1,48 @@
+package com.hotel.reservation.repository;
+
+import com.hotel.reservation.model.OutboxEvent;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * MongoTemplate implementation of {@link OutboxEventRepositoryCustom}.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+public class OutboxEventRepositoryCustomImpl implements OutboxEventRepositoryCustom {
+
+    private final LeasedQueue<OutboxEvent, OutboxEvent.OutboxStatus> queue;
+
+    public OutboxEventRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.queue = new LeasedQueue<>(mongoTemplate, OutboxEvent.class, OutboxEvent::getId,
+                OutboxEvent.OutboxStatus.PENDING, OutboxEvent.OutboxStatus.IN_FLIGHT, OutboxEvent.OutboxStatus.FAILED);
+    }
+
+    @Override
+    public List<OutboxEvent> claimBatch(int batchSize, Duration lease) {
+        return queue.claimBatch(batchSize, lease);
+    }
+
+    @Override
+    public long markDispatched(Collection<String> ids, String claimToken) {
+        return queue.complete(ids, claimToken, new Update()
+                .set("status", OutboxEvent.OutboxStatus.DISPATCHED)
+                .set("dispatchedAt", LocalDateTime.now()));
+    }
+
+    @Override
+    public boolean markFailed(String id, String claimToken, Collection<String> handledBy, String error,
+                              LocalDateTime retryAt) {
+        Update update = new Update();
+        if (!handledBy.isEmpty()) {
+            update.addToSet("handledBy").each(handledBy.toArray());
+        }
+        return queue.fail(id, claimToken, error, retryAt, update);
+    }
+}
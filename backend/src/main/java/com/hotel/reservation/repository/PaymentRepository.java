@@ -16,7 +16,7 @@ import java.util.Optional;
  * @version 1.0
  */
 @Repository
-public interface PaymentRepository extends MongoRepository<Payment, String> {
+public interface PaymentRepository extends MongoRepository<Payment, String>, PaymentRepositoryCustom {
 
     /**
      * Find all payments for a specific user.
@@ -0,0 +1,52 @@
+package com.hotel.reservation.repository;
+
+import com.hotel.reservation.dto.view.PaymentSummary;
+import com.hotel.reservation.model.Payment;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Custom payment operations implemented with MongoTemplate projections and
+ * conditional updates.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+public interface PaymentRepositoryCustom {
+
+    /**
+     * List all payments in their view shape.
+     *
+     * @return payment summaries
+     */
+    List<PaymentSummary> findSummaries();
+
+    /**
+     * List a user's payments in their view shape.
+     *
+     * @param userId user ID
+     * @return payment summaries
+     */
+    List<PaymentSummary> findSummariesByUserId(String userId);
+
+    /**
+     * Find a payment in the archive collection.
+     *
+     * @param id payment ID
+     * @return the archived payment, if any
+     */
+    Optional<Payment> findArchivedById(String id);
+
+    /**
+     * Record a refund on a payment that is still SUCCEEDED.
+     *
+     * @param id payment ID
+     * @param amount refunded amount
+     * @param reason refund reason
+     * @param status REFUNDED or PARTIALLY_REFUNDED
+     * @return the refunded payment, or null if the payment was no longer SUCCEEDED
+     */
+    Payment recordRefund(String id, BigDecimal amount, String reason, Payment.PaymentStatus status);
+}
@@ -0,0 +1,122 @@
+package com.hotel.reservation.repository;
+
+import com.hotel.reservation.dto.view.GuestSummary;
+import com.hotel.reservation.dto.view.PaymentSummary;
+import com.hotel.reservation.model.Payment;
+import com.hotel.reservation.persistence.RequestUnitOfWork;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * MongoTemplate implementation of {@link PaymentRepositoryCustom}.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+public class PaymentRepositoryCustomImpl implements PaymentRepositoryCustom {
+
+    static final String COLLECTION = "payments";
+    static final String ARCHIVE_COLLECTION = "payments_archive";
+
+    private final MongoTemplate mongoTemplate;
+    private final RequestUnitOfWork unitOfWork;
+    private final ProjectionReader reader;
+
+    public PaymentRepositoryCustomImpl(MongoTemplate mongoTemplate, RequestUnitOfWork unitOfWork) {
+        this.mongoTemplate = mongoTemplate;
+        this.unitOfWork = unitOfWork;
+        this.reader = new ProjectionReader(mongoTemplate);
+    }
+
+    @Override
+    public List<PaymentSummary> findSummaries() {
+        return findSummaries(new Criteria());
+    }
+
+    @Override
+    public List<PaymentSummary> findSummariesByUserId(String userId) {
+        return findSummaries(Criteria.where("user.$id").is(ProjectionReader.storedId(userId)));
+    }
+
+    @Override
+    public Optional<Payment> findArchivedById(String id) {
+        return Optional.ofNullable(mongoTemplate.findById(id, Payment.class, ARCHIVE_COLLECTION));
+    }
+
+    @Override
+    public Payment recordRefund(String id, BigDecimal amount, String reason, Payment.PaymentStatus status) {
+        LocalDateTime now = LocalDateTime.now();
+        Payment refunded = mongoTemplate.findAndModify(
+                Query.query(Criteria.where("_id").is(id).and("status").is(Payment.PaymentStatus.SUCCEEDED)),
+                new Update()
+                        .set("status", status)
+                        .set("refundAmount", amount)
+                        .set("refundReason", reason)
+                        .set("refundedAt", now)
+                        .set("updatedAt", now),
+                FindAndModifyOptions.options().returnNew(true),
+                Payment.class);
+        if (refunded != null) {
+            // findAndModify raises no save event; replace the stale copy in the identity map
+            unitOfWork.evict(COLLECTION, id);
+            unitOfWork.register(Payment.class, id, refunded);
+        }
+        return refunded;
+    }
+
+    /**
+     * Projected payment query plus one batched lookup for users.
+     * The reservation is exposed by reference only, so it is never loaded.
+     */
+    private List<PaymentSummary> findSummaries(Criteria criteria) {
+        List<Document> rows = reader.find(criteria, COLLECTION, PaymentSummary.FIELDS);
+
+        Set<Object> userIds = new HashSet<>();
+        for (Document row : rows) {
+            Object userId = ProjectionReader.refId(row, "user");
+            if (userId != null) {
+                userIds.add(userId);
+            }
+        }
+        Map<Object, GuestSummary> guests = reader.guests(userIds);
+
+        List<PaymentSummary> summaries = new ArrayList<>(rows.size());
+        for (Document row : rows) {
+            Object reservationId = ProjectionReader.refId(row, "reservation");
+            summaries.add(PaymentSummary.builder()
+                    .id(ProjectionReader.id(row))
+                    .reservation(reservationId != null
+                            ? new PaymentSummary.ReservationRef(ProjectionReader.key(reservationId)) : null)
+                    .user(guests.get(ProjectionReader.refId(row, "user")))
+                    .amount(reader.read(row, "amount", BigDecimal.class))
+                    .currency(row.getString("currency"))
+                    .status(reader.read(row, "status", Payment.PaymentStatus.class))
+                    .stripePaymentIntentId(row.getString("stripePaymentIntentId"))
+                    .stripeChargeId(row.getString("stripeChargeId"))
+                    .paymentMethod(row.getString("paymentMethod"))
+                    .cardBrand(row.getString("cardBrand"))
+                    .cardLast4(row.getString("cardLast4"))
+                    .refundAmount(reader.read(row, "refundAmount", BigDecimal.class))
+                    .refundReason(row.getString("refundReason"))
+                    .refundedAt(reader.read(row, "refundedAt", LocalDateTime.class))
+                    .receiptUrl(row.getString("receiptUrl"))
+                    .createdAt(reader.read(row, "createdAt", LocalDateTime.class))
+                    .updatedAt(reader.read(row, "updatedAt", LocalDateTime.class))
+                    .build());
+        }
+        return summaries;
+    }
+}
@@ -0,0 +1,136 @@
+package com.hotel.reservation.repository;
+
+import com.hotel.reservation.dto.view.GuestSummary;
+import com.hotel.reservation.dto.view.RoomSummary;
+import com.hotel.reservation.model.Room;
+import com.mongodb.DBRef;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads projected raw documents into view DTOs.
+ * Referenced users and rooms are fetched with one $in query per collection
+ * instead of one DBRef lookup per row, and only the fields the views need
+ * are transferred.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+class ProjectionReader {
+
+    private final MongoTemplate mongoTemplate;
+    private final ConversionService conversionService;
+
+    ProjectionReader(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+        this.conversionService = mongoTemplate.getConverter().getConversionService();
+    }
+
+    /**
+     * Run a projected query returning raw documents.
+     */
+    List<Document> find(Criteria criteria, String collection, String... fields) {
+        Query query = new Query(criteria);
+        query.fields().include(fields);
+        return mongoTemplate.find(query, Document.class, collection);
+    }
+
+    /**
+     * Load guest summaries for the given user IDs.
+     */
+    Map<Object, GuestSummary> guests(Set<Object> ids) {
+        Map<Object, GuestSummary> guests = new HashMap<>();
+        for (Document document : byIds(ids, "users", GuestSummary.FIELDS)) {
+            guests.put(document.get("_id"), GuestSummary.builder()
+                    .id(id(document))
+                    .firstName(document.getString("firstName"))
+                    .lastName(document.getString("lastName"))
+                    .email(document.getString("email"))
+                    .phoneNumber(document.getString("phoneNumber"))
+                    .build());
+        }
+        return guests;
+    }
+
+    /**
+     * Load room summaries for the given room IDs.
+     */
+    Map<Object, RoomSummary> rooms(Set<Object> ids) {
+        Map<Object, RoomSummary> rooms = new HashMap<>();
+        for (Document document : byIds(ids, "rooms", RoomSummary.FIELDS)) {
+            rooms.put(document.get("_id"), RoomSummary.builder()
+                    .id(id(document))
+                    .name(document.getString("name"))
+                    .type(read(document, "type", Room.RoomType.class))
+                    .pricePerNight(read(document, "pricePerNight", BigDecimal.class))
+                    .imageUrl(document.getString("imageUrl"))
+                    .build());
+        }
+        return rooms;
+    }
+
+    private List<Document> byIds(Collection<Object> ids, String collection, String[] fields) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return find(Criteria.where("_id").in(ids), collection, fields);
+    }
+
+    /**
+     * ID of the document a DBRef field points to, or null.
+     */
+    static Object refId(Document document, String field) {
+        Object value = document.get(field);
+        return value instanceof DBRef ref ? ref.getId() : null;
+    }
+
+    /**
+     * Document ID as the string the entities expose.
+     */
+    static String id(Document document) {
+        return key(document.get("_id"));
+    }
+
+    /**
+     * Stored ID value as a string.
+     */
+    static String key(Object id) {
+        if (id == null) {
+            return null;
+        }
+        return id instanceof ObjectId objectId ? objectId.toHexString() : id.toString();
+    }
+
+    /**
+     * Entity ID string as the value stored in MongoDB.
+     */
+    static Object storedId(String id) {
+        return ObjectId.isValid(id) ? new ObjectId(id) : id;
+    }
+
+    /**
+     * Read a field with the converters used by the entity mapping.
+     */
+    <T> T read(Document document, String field, Class<T> type) {
+        Object value = document.get(field);
+        return value == null ? null : conversionService.convert(value, type);
+    }
+
+    /**
+     * Convert a query value to its stored representation.
+     */
+    Object write(Object value) {
+        return mongoTemplate.getConverter().convertToMongoType(value);
+    }
+}
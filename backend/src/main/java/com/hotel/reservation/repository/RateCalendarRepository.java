@@ -0,0 +1,15 @@
+package com.hotel.reservation.repository;
+
+import com.hotel.reservation.model.RateCalendar;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for RateCalendar entity operations.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Repository
+public interface RateCalendarRepository extends MongoRepository<RateCalendar, String> {
+}
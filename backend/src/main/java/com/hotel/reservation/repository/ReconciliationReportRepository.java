@@ -0,0 +1,25 @@
+package com.hotel.reservation.repository;
+
+import com.hotel.reservation.model.ReconciliationReport;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for ReconciliationReport entity.
+ * Provides database operations for Stripe reconciliation reports.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Repository
+public interface ReconciliationReportRepository extends MongoRepository<ReconciliationReport, String> {
+
+    /**
+     * Find the most recent reports, newest first.
+     *
+     * @return up to 50 reports
+     */
+    List<ReconciliationReport> findTop50ByOrderByStartedAtDesc();
+}
@@ -0,0 +1,26 @@
+package com.hotel.reservation.repository;
+
+import com.hotel.reservation.model.RefundJob;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for RefundJob entity.
+ * Provides database operations for the refund queue.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Repository
+public interface RefundJobRepository extends MongoRepository<RefundJob, String>, RefundJobRepositoryCustom {
+
+    /**
+     * Find jobs by status.
+     *
+     * @param status the job status
+     * @return list of jobs with the specified status
+     */
+    List<RefundJob> findByStatus(RefundJob.RefundJobStatus status);
+}
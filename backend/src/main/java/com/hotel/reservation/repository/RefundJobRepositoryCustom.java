@@ -0,0 +1,57 @@
+package com.hotel.reservation.repository;
+
+import com.hotel.reservation.model.RefundJob;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Custom refund queue operations implemented with conditional updates.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+public interface RefundJobRepositoryCustom {
+
+    /**
+     * Add a job to the queue unless a job with the same ID exists.
+     *
+     * @param job the job
+     * @return true if the job was queued
+     */
+    boolean enqueue(RefundJob job);
+
+    /**
+     * Claim a batch of due jobs.
+     * Jobs whose claim lease has expired are released first.
+     *
+     * @param batchSize maximum number of jobs to claim
+     * @param lease how long a claim is valid
+     * @return claimed jobs, oldest first
+     */
+    List<RefundJob> claimBatch(int batchSize, Duration lease);
+
+    /**
+     * Finish a job still held under the given claim.
+     *
+     * @param id job ID
+     * @param claimToken token of the claim
+     * @param status SUCCEEDED or SKIPPED
+     * @param note why the job was skipped, or null
+     * @return true if the job was finished; false if the claim expired
+     */
+    boolean markDone(String id, String claimToken, RefundJob.RefundJobStatus status, String note);
+
+    /**
+     * Record a failed attempt of a job still held under the given claim and
+     * schedule the next one.
+     *
+     * @param id job ID
+     * @param claimToken token of the claim
+     * @param error error message
+     * @param retryAt next attempt time, or null to give up
+     * @return true if the failure was recorded; false if the claim expired
+     */
+    boolean markFailed(String id, String claimToken, String error, LocalDateTime retryAt);
+}
@@ -0,0 +1,53 @@
+package com.hotel.reservation.repository;
+
+import com.hotel.reservation.model.RefundJob;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * MongoTemplate implementation of {@link RefundJobRepositoryCustom}.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+public class RefundJobRepositoryCustomImpl implements RefundJobRepositoryCustom {
+
+    private final LeasedQueue<RefundJob, RefundJob.RefundJobStatus> queue;
+
+    public RefundJobRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.queue = new LeasedQueue<>(mongoTemplate, RefundJob.class, RefundJob::getId,
+                RefundJob.RefundJobStatus.PENDING, RefundJob.RefundJobStatus.PROCESSING,
+                RefundJob.RefundJobStatus.FAILED);
+    }
+
+    @Override
+    public boolean enqueue(RefundJob job) {
+        return queue.enqueue(job);
+    }
+
+    @Override
+    public List<RefundJob> claimBatch(int batchSize, Duration lease) {
+        // Jobs abandoned by a crashed worker are released; the idempotency key makes the rerun safe
+        return queue.claimBatch(batchSize, lease);
+    }
+
+    @Override
+    public boolean markDone(String id, String claimToken, RefundJob.RefundJobStatus status, String note) {
+        Update update = new Update()
+                .set("status", status)
+                .set("completedAt", LocalDateTime.now());
+        if (note != null) {
+            update.set("lastError", note);
+        }
+        return queue.complete(id, claimToken, update);
+    }
+
+    @Override
+    public boolean markFailed(String id, String claimToken, String error, LocalDateTime retryAt) {
+        return queue.fail(id, claimToken, error, retryAt, new Update());
+    }
+}
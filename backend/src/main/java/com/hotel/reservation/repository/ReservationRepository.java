@@ -3,6 +3,7 @@ package com.hotel.reservation.repository;
 import com.hotel.reservation.model.Reservation;
 import com.hotel.reservation.model.Room;
 import com.hotel.reservation.model.User;
+import com.hotel.reservation.persistence.ReadRoute;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -18,7 +19,7 @@ import java.util.List;
  * @version 1.0
  */
 @Repository
-public interface ReservationRepository extends MongoRepository<Reservation, String> {
+public interface ReservationRepository extends MongoRepository<Reservation, String>, ReservationRepositoryCustom {
 
     /**
      * Find all reservations for a specific user.
@@ -68,6 +69,7 @@ public interface ReservationRepository extends MongoRepository<Reservation, Stri
            "  { 'checkInDate': { $gte: ?1, $lt: ?2 } }, " +
            "  { 'checkOutDate': { $gt: ?1, $lte: ?2 } }" +
            "]}")
+    @ReadRoute(value = "availability", preference = ReadRoute.Preference.PRIMARY)
     List<Reservation> findOverlappingReservations(String roomId, LocalDate checkInDate, LocalDate checkOutDate);
 
     /**
@@ -109,4 +111,20 @@ public interface ReservationRepository extends MongoRepository<Reservation, Stri
      * @return list of reservations created within the date range
      */
     List<Reservation> findByCreatedAtBetween(java.time.LocalDateTime startDateTime, java.time.LocalDateTime endDateTime);
+
+    /**
+     * Find the reservations of a group booking.
+     *
+     * @param groupBookingId group booking ID
+     * @return reservations in the group
+     */
+    List<Reservation> findByGroupBookingId(String groupBookingId);
+
+    /**
+     * Delete the reservations of a group booking.
+     *
+     * @param groupBookingId group booking ID
+     * @return number of deleted reservations
+     */
+    long deleteByGroupBookingId(String groupBookingId);
 }
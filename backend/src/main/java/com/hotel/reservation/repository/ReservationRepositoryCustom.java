@@ -0,0 +1,182 @@
+package com.hotel.reservation.repository;
+
+import com.hotel.reservation.dto.view.ReservationSummary;
+import com.hotel.reservation.model.Reservation;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Custom reservation operations implemented with MongoTemplate.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+public interface ReservationRepositoryCustom {
+
+    /**
+     * Flag reservations whose confirmation email has been sent, in one update.
+     *
+     * @param reservationIds reservation IDs
+     * @return number of reservations updated
+     */
+    long markConfirmationEmailsSent(Collection<String> reservationIds);
+
+    /**
+     * Move a reservation to a new status in one conditional findAndModify.
+     * The update only applies while the stored status is one of the target's
+     * allowed predecessors, so concurrent writers cannot overwrite each other.
+     *
+     * @param id reservation ID
+     * @param target new status
+     * @param changes additional fields to set with the status, or null
+     * @return the updated reservation, or null if it does not exist or the transition is not allowed
+     */
+    Reservation transitionStatus(String id, Reservation.ReservationStatus target, Update changes);
+
+    /**
+     * Change the stay of a reservation in one conditional findAndModify.
+     * Only the dates, guests and amount are written, and only while the stored
+     * status still allows stay changes, so a concurrent cancel or confirm is
+     * never overwritten.
+     *
+     * @param id reservation ID
+     * @param checkInDate new check-in date
+     * @param checkOutDate new check-out date
+     * @param numberOfGuests new number of guests
+     * @param totalAmount new total amount
+     * @return the updated reservation, or null if it does not exist or can no longer be changed
+     */
+    Reservation updateStay(String id, LocalDate checkInDate, LocalDate checkOutDate, int numberOfGuests,
+                           BigDecimal totalAmount);
+
+    /**
+     * Read only the status of a reservation.
+     *
+     * @param id reservation ID
+     * @return the current status, if the reservation exists
+     */
+    Optional<Reservation.ReservationStatus> findStatusById(String id);
+
+    /**
+     * List all reservations in their list shape.
+     *
+     * @return reservation summaries
+     */
+    List<ReservationSummary> findSummaries();
+
+    /**
+     * List a user's reservations in their list shape.
+     *
+     * @param userId user ID
+     * @return reservation summaries
+     */
+    List<ReservationSummary> findSummariesByUserId(String userId);
+
+    /**
+     * List reservations overlapping a date range in their list shape
+     * (same matching as {@link ReservationRepository#findByDateRange}).
+     *
+     * @param startDate start date of the range
+     * @param endDate end date of the range
+     * @return reservation summaries
+     */
+    List<ReservationSummary> findSummariesByDateRange(LocalDate startDate, LocalDate endDate);
+
+    /**
+     * List reservations checking in strictly between two dates in their list shape
+     * (same matching as {@link ReservationRepository#findByCheckInDateBetween}).
+     *
+     * @param startDate start date
+     * @param endDate end date
+     * @return reservation summaries
+     */
+    List<ReservationSummary> findSummariesByCheckInDateBetween(LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Stream every stay that has at least one night in [startDate, endDate)
+     * and whose status counts as sold, in check-in order, without materialising
+     * the result. Only the room reference, dates and amount are read.
+     *
+     * @param startDate first night of the range
+     * @param endDate day after the last night of the range
+     * @param statuses statuses to include
+     * @param includeArchived also stream matching stays from the archive
+     * @param visitor receives each stay
+     */
+    void streamStays(LocalDate startDate, LocalDate endDate, Collection<Reservation.ReservationStatus> statuses,
+                     boolean includeArchived, StayVisitor visitor);
+
+    /**
+     * Find reservations whose cancellation recorded a refund that has not
+     * been queued yet. Only the ID and the pending refund are loaded.
+     *
+     * @param limit maximum number of reservations
+     * @return reservations, oldest request first
+     */
+    List<Reservation> findPendingRefunds(int limit);
+
+    /**
+     * Clear a pending refund once it has been queued.
+     * Conditional on the refund still being the one requested at requestedAt.
+     *
+     * @param id reservation ID
+     * @param requestedAt request time of the queued refund
+     * @return true if the pending refund was cleared
+     */
+    boolean clearPendingRefund(String id, LocalDateTime requestedAt);
+
+    /**
+     * Find a reservation in the archive collection. Archived reservations are
+     * read-only; saving one would write it back to the live collection.
+     *
+     * @param id reservation ID
+     * @return the archived reservation, if any
+     */
+    Optional<Reservation> findArchivedById(String id);
+
+    /**
+     * Move one batch of finished reservations, and the payments that reference
+     * them, to the archive collections. Documents keep their IDs; they are
+     * upserted into the archive before being deleted, so an interrupted batch
+     * is completed by the next run. Reservations with a pending refund wait
+     * until it has been queued, and those with a queued refund job until the
+     * job has finished, since the job refunds the live payment.
+     *
+     * @param checkedOutBefore archive stays that ended before this date
+     * @param batchSize maximum number of reservations to move
+     * @return number of reservations moved
+     */
+    int archiveBatch(LocalDate checkedOutBefore, int batchSize);
+
+    /**
+     * IDs of rooms with an active reservation overlapping the stay
+     * (same matching as {@link ReservationRepository#findOverlappingReservations}).
+     *
+     * @param checkInDate check-in date
+     * @param checkOutDate check-out date
+     * @return booked room IDs
+     */
+    Set<String> findBookedRoomIds(LocalDate checkInDate, LocalDate checkOutDate);
+
+    /**
+     * Callback for {@link #streamStays}.
+     */
+    @FunctionalInterface
+    interface StayVisitor {
+
+        /**
+         * @param roomId room ID
+         * @param checkInEpochDay check-in date as epoch day
+         * @param checkOutEpochDay check-out date as epoch day
+         * @param totalAmountCents total amount in cents
+         */
+        void visit(String roomId, long checkInEpochDay, long checkOutEpochDay, long totalAmountCents);
+    }
+}
@@ -0,0 +1,321 @@
+package com.hotel.reservation.repository;
+
+import com.hotel.reservation.dto.view.GuestSummary;
+import com.hotel.reservation.dto.view.ReservationSummary;
+import com.hotel.reservation.dto.view.RoomSummary;
+import com.hotel.reservation.model.RefundJob;
+import com.hotel.reservation.model.Reservation;
+import com.hotel.reservation.persistence.RequestUnitOfWork;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * MongoTemplate implementation of {@link ReservationRepositoryCustom}.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+public class ReservationRepositoryCustomImpl implements ReservationRepositoryCustom {
+
+    static final String COLLECTION = "reservations";
+    static final String ARCHIVE_COLLECTION = "reservations_archive";
+
+    private static final Set<Reservation.ReservationStatus> ACTIVE = EnumSet.of(
+            Reservation.ReservationStatus.PENDING,
+            Reservation.ReservationStatus.CONFIRMED,
+            Reservation.ReservationStatus.CHECKED_IN);
+
+    private static final Set<Reservation.ReservationStatus> STAY_CHANGEABLE = EnumSet.copyOf(
+            Arrays.stream(Reservation.ReservationStatus.values())
+                    .filter(Reservation.ReservationStatus::allowsStayChanges)
+                    .toList());
+
+    private static final Set<Reservation.ReservationStatus> ARCHIVABLE = EnumSet.of(
+            Reservation.ReservationStatus.CHECKED_OUT,
+            Reservation.ReservationStatus.CANCELLED);
+
+    private static final Set<RefundJob.RefundJobStatus> REFUND_OUTSTANDING = EnumSet.of(
+            RefundJob.RefundJobStatus.PENDING,
+            RefundJob.RefundJobStatus.PROCESSING);
+
+    private final MongoTemplate mongoTemplate;
+    private final RequestUnitOfWork unitOfWork;
+    private final ProjectionReader reader;
+
+    public ReservationRepositoryCustomImpl(MongoTemplate mongoTemplate, RequestUnitOfWork unitOfWork) {
+        this.mongoTemplate = mongoTemplate;
+        this.unitOfWork = unitOfWork;
+        this.reader = new ProjectionReader(mongoTemplate);
+    }
+
+    @Override
+    public long markConfirmationEmailsSent(Collection<String> reservationIds) {
+        if (reservationIds.isEmpty()) {
+            return 0;
+        }
+        return mongoTemplate.updateMulti(
+                Query.query(Criteria.where("_id").in(reservationIds).and("confirmationEmailSent").ne(true)),
+                Update.update("confirmationEmailSent", true),
+                Reservation.class).getModifiedCount();
+    }
+
+    @Override
+    public Reservation transitionStatus(String id, Reservation.ReservationStatus target, Update changes) {
+        Update update = changes != null ? changes : new Update();
+        update.set("status", target).set("updatedAt", LocalDateTime.now());
+
+        return modify(id, target.allowedPredecessors(), update);
+    }
+
+    @Override
+    public Reservation updateStay(String id, LocalDate checkInDate, LocalDate checkOutDate, int numberOfGuests,
+                                  BigDecimal totalAmount) {
+        Update update = new Update()
+                .set("checkInDate", checkInDate)
+                .set("checkOutDate", checkOutDate)
+                .set("numberOfGuests", numberOfGuests)
+                .set("totalAmount", totalAmount)
+                .set("updatedAt", LocalDateTime.now());
+        return modify(id, STAY_CHANGEABLE, update);
+    }
+
+    /**
+     * findAndModify conditional on the stored status, returning the new document.
+     */
+    private Reservation modify(String id, Collection<Reservation.ReservationStatus> statuses, Update update) {
+        Reservation updated = mongoTemplate.findAndModify(
+                Query.query(Criteria.where("_id").is(id).and("status").in(statuses)),
+                update,
+                FindAndModifyOptions.options().returnNew(true),
+                Reservation.class);
+        if (updated != null) {
+            // findAndModify raises no save event; replace the stale copy in the identity map
+            unitOfWork.evict(mongoTemplate.getCollectionName(Reservation.class), id);
+            unitOfWork.register(Reservation.class, id, updated);
+        }
+        return updated;
+    }
+
+    @Override
+    public Optional<Reservation.ReservationStatus> findStatusById(String id) {
+        Query query = Query.query(Criteria.where("_id").is(id));
+        query.fields().include("status");
+        return Optional.ofNullable(mongoTemplate.findOne(query, Reservation.class))
+                .map(Reservation::getStatus);
+    }
+
+    @Override
+    public List<ReservationSummary> findSummaries() {
+        return findSummaries(new Criteria());
+    }
+
+    @Override
+    public List<ReservationSummary> findSummariesByUserId(String userId) {
+        return findSummaries(Criteria.where("user.$id").is(ProjectionReader.storedId(userId)));
+    }
+
+    @Override
+    public List<ReservationSummary> findSummariesByDateRange(LocalDate startDate, LocalDate endDate) {
+        Object start = reader.write(startDate);
+        Object end = reader.write(endDate);
+        return findSummaries(new Criteria().orOperator(
+                Criteria.where("checkInDate").gte(start).lte(end),
+                Criteria.where("checkOutDate").gte(start).lte(end),
+                Criteria.where("checkInDate").lte(start).and("checkOutDate").gte(end)));
+    }
+
+    @Override
+    public List<ReservationSummary> findSummariesByCheckInDateBetween(LocalDate startDate, LocalDate endDate) {
+        return findSummaries(Criteria.where("checkInDate").gt(reader.write(startDate)).lt(reader.write(endDate)));
+    }
+
+    /**
+     * Projected reservation query plus one batched lookup each for users and rooms.
+     */
+    private List<ReservationSummary> findSummaries(Criteria criteria) {
+        List<Document> rows = reader.find(criteria, COLLECTION, ReservationSummary.FIELDS);
+
+        Set<Object> userIds = new HashSet<>();
+        Set<Object> roomIds = new HashSet<>();
+        for (Document row : rows) {
+            addIfPresent(userIds, ProjectionReader.refId(row, "user"));
+            addIfPresent(roomIds, ProjectionReader.refId(row, "room"));
+        }
+        Map<Object, GuestSummary> guests = reader.guests(userIds);
+        Map<Object, RoomSummary> rooms = reader.rooms(roomIds);
+
+        List<ReservationSummary> summaries = new ArrayList<>(rows.size());
+        for (Document row : rows) {
+            Integer guestsCount = row.getInteger("numberOfGuests");
+            summaries.add(ReservationSummary.builder()
+                    .id(ProjectionReader.id(row))
+                    .user(guests.get(ProjectionReader.refId(row, "user")))
+                    .room(rooms.get(ProjectionReader.refId(row, "room")))
+                    .checkInDate(reader.read(row, "checkInDate", LocalDate.class))
+                    .checkOutDate(reader.read(row, "checkOutDate", LocalDate.class))
+                    .numberOfGuests(guestsCount != null ? guestsCount : 0)
+                    .totalAmount(reader.read(row, "totalAmount", BigDecimal.class))
+                    .status(reader.read(row, "status", Reservation.ReservationStatus.class))
+                    .createdAt(reader.read(row, "createdAt", LocalDateTime.class))
+                    .cancelledAt(reader.read(row, "cancelledAt", LocalDateTime.class))
+                    .cancellationReason(row.getString("cancellationReason"))
+                    .build());
+        }
+        return summaries;
+    }
+
+    private static void addIfPresent(Set<Object> ids, Object id) {
+        if (id != null) {
+            ids.add(id);
+        }
+    }
+
+    @Override
+    public void streamStays(LocalDate startDate, LocalDate endDate, Collection<Reservation.ReservationStatus> statuses,
+                            boolean includeArchived, StayVisitor visitor) {
+        streamStays(COLLECTION, startDate, endDate, statuses, visitor);
+        if (includeArchived) {
+            streamStays(ARCHIVE_COLLECTION, startDate, endDate, statuses, visitor);
+        }
+    }
+
+    private void streamStays(String collection, LocalDate startDate, LocalDate endDate,
+                             Collection<Reservation.ReservationStatus> statuses, StayVisitor visitor) {
+        Query query = new Query(Criteria.where("status").in(statuses)
+                .and("checkInDate").lt(reader.write(endDate))
+                .and("checkOutDate").gt(reader.write(startDate)))
+                .with(Sort.by(Sort.Direction.ASC, "checkInDate"))
+                .allowDiskUse(true);
+        query.fields().include("room", "checkInDate", "checkOutDate", "totalAmount");
+
+        try (Stream<Document> stays = mongoTemplate.stream(query, Document.class, collection)) {
+            stays.forEach(row -> {
+                Object roomId = ProjectionReader.refId(row, "room");
+                LocalDate checkIn = reader.read(row, "checkInDate", LocalDate.class);
+                LocalDate checkOut = reader.read(row, "checkOutDate", LocalDate.class);
+                BigDecimal amount = reader.read(row, "totalAmount", BigDecimal.class);
+                if (roomId == null || checkIn == null || checkOut == null) {
+                    return;
+                }
+                long cents = amount != null
+                        ? amount.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValue() : 0L;
+                visitor.visit(ProjectionReader.key(roomId), checkIn.toEpochDay(), checkOut.toEpochDay(), cents);
+            });
+        }
+    }
+
+    @Override
+    public Set<String> findBookedRoomIds(LocalDate checkInDate, LocalDate checkOutDate) {
+        Criteria overlapping = Criteria.where("status").in(ACTIVE)
+                .and("checkInDate").lt(reader.write(checkOutDate))
+                .and("checkOutDate").gt(reader.write(checkInDate));
+
+        Set<String> roomIds = new HashSet<>();
+        for (Document row : reader.find(overlapping, COLLECTION, "room")) {
+            Object roomId = ProjectionReader.refId(row, "room");
+            if (roomId != null) {
+                roomIds.add(ProjectionReader.key(roomId));
+            }
+        }
+        return roomIds;
+    }
+
+    @Override
+    public List<Reservation> findPendingRefunds(int limit) {
+        Query query = Query.query(Criteria.where("pendingRefund").exists(true))
+                .with(Sort.by(Sort.Direction.ASC, "pendingRefund.requestedAt"))
+                .limit(limit);
+        query.fields().include("_id", "pendingRefund");
+        return mongoTemplate.find(query, Reservation.class);
+    }
+
+    @Override
+    public boolean clearPendingRefund(String id, LocalDateTime requestedAt) {
+        return mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(id).and("pendingRefund.requestedAt").is(requestedAt)),
+                new Update().unset("pendingRefund"),
+                Reservation.class).getModifiedCount() > 0;
+    }
+
+    @Override
+    public Optional<Reservation> findArchivedById(String id) {
+        return Optional.ofNullable(mongoTemplate.findById(id, Reservation.class, ARCHIVE_COLLECTION));
+    }
+
+    @Override
+    public int archiveBatch(LocalDate checkedOutBefore, int batchSize) {
+        // A refund not yet queued stays with its reservation until the refund queue picks it up
+        Criteria criteria = Criteria.where("status").in(ARCHIVABLE)
+                .and("checkOutDate").lt(reader.write(checkedOutBefore))
+                .and("pendingRefund").exists(false);
+        // A queued refund still to run (or retry) needs the live payment, so its reservation waits too
+        List<Object> refunding = mongoTemplate.findDistinct(
+                        new Query(Criteria.where("status").in(REFUND_OUTSTANDING)),
+                        "reservationId", RefundJob.class, String.class).stream()
+                .map(ProjectionReader::storedId)
+                .toList();
+        if (!refunding.isEmpty()) {
+            criteria.and("_id").nin(refunding);
+        }
+        Query query = new Query(criteria).limit(batchSize);
+        List<Document> reservations = mongoTemplate.find(query, Document.class, COLLECTION);
+        if (reservations.isEmpty()) {
+            return 0;
+        }
+        List<Object> reservationIds = reservations.stream().map(row -> row.get("_id")).toList();
+
+        List<Document> payments = mongoTemplate.find(
+                new Query(Criteria.where("reservation.$id").in(reservationIds)),
+                Document.class, PaymentRepositoryCustomImpl.COLLECTION);
+        List<Object> paymentIds = payments.stream().map(row -> row.get("_id")).toList();
+
+        copy(payments, PaymentRepositoryCustomImpl.ARCHIVE_COLLECTION);
+        copy(reservations, ARCHIVE_COLLECTION);
+
+        if (!paymentIds.isEmpty()) {
+            mongoTemplate.remove(new Query(Criteria.where("_id").in(paymentIds)),
+                    PaymentRepositoryCustomImpl.COLLECTION);
+        }
+        mongoTemplate.remove(new Query(Criteria.where("_id").in(reservationIds).and("status").in(ARCHIVABLE)),
+                COLLECTION);
+
+        return reservations.size();
+    }
+
+    /**
+     * Upsert raw documents into a collection by ID in one unordered bulk write.
+     */
+    private void copy(List<Document> documents, String collection) {
+        if (documents.isEmpty()) {
+            return;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, collection);
+        for (Document document : documents) {
+            bulk.replaceOne(Query.query(Criteria.where("_id").is(document.get("_id"))), document,
+                    FindAndReplaceOptions.options().upsert());
+        }
+        bulk.execute();
+    }
+}
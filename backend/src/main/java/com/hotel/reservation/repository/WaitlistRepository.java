@@ -0,0 +1,61 @@
+package com.hotel.reservation.repository;
+
+import com.hotel.reservation.model.WaitlistEntry;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for WaitlistEntry entity operations.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Repository
+public interface WaitlistRepository extends MongoRepository<WaitlistEntry, String>, WaitlistRepositoryCustom {
+
+    /**
+     * Find entries by status.
+     *
+     * @param status entry status
+     * @return matching entries
+     */
+    List<WaitlistEntry> findByStatus(WaitlistEntry.WaitlistStatus status);
+
+    /**
+     * Find a user's entries, newest first.
+     *
+     * @param userId user ID
+     * @return the user's entries
+     */
+    List<WaitlistEntry> findByUserIdOrderByCreatedAtDesc(String userId);
+
+    /**
+     * Count a user's entries in a status.
+     *
+     * @param userId user ID
+     * @param status entry status
+     * @return number of entries
+     */
+    long countByUserIdAndStatus(String userId, WaitlistEntry.WaitlistStatus status);
+
+    /**
+     * Find offers whose hold has lapsed.
+     *
+     * @param status entry status (OFFERED)
+     * @param now current time
+     * @return lapsed offers
+     */
+    List<WaitlistEntry> findByStatusAndHoldExpiresAtBefore(WaitlistEntry.WaitlistStatus status, LocalDateTime now);
+
+    /**
+     * Find the entry holding a reservation.
+     *
+     * @param reservationId reservation ID
+     * @return the entry, if the reservation is a waitlist hold
+     */
+    Optional<WaitlistEntry> findByReservationId(String reservationId);
+}
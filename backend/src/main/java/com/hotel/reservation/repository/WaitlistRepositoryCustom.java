@@ -0,0 +1,25 @@
+package com.hotel.reservation.repository;
+
+import com.hotel.reservation.model.WaitlistEntry;
+import org.springframework.data.mongodb.core.query.Update;
+
+/**
+ * Custom waitlist operations implemented with conditional updates.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+public interface WaitlistRepositoryCustom {
+
+    /**
+     * Atomically move an entry from one status to another.
+     *
+     * @param id entry ID
+     * @param from required current status
+     * @param to new status
+     * @param changes additional field changes (may be null)
+     * @return the updated entry, or null if it was not in the required status
+     */
+    WaitlistEntry transition(String id, WaitlistEntry.WaitlistStatus from, WaitlistEntry.WaitlistStatus to,
+                             Update changes);
+}
@@ -0,0 +1,34 @@
+package com.hotel.reservation.repository;
+
+import com.hotel.reservation.model.WaitlistEntry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+/**
+ * MongoTemplate implementation of {@link WaitlistRepositoryCustom}.
+ * Conditional updates ensure two replicas never offer the same entry.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@RequiredArgsConstructor
+public class WaitlistRepositoryCustomImpl implements WaitlistRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public WaitlistEntry transition(String id, WaitlistEntry.WaitlistStatus from, WaitlistEntry.WaitlistStatus to,
+                                    Update changes) {
+        Update update = changes != null ? changes : new Update();
+        update.set("status", to);
+        return mongoTemplate.findAndModify(
+                Query.query(Criteria.where("_id").is(id).and("status").is(from)),
+                update,
+                FindAndModifyOptions.options().returnNew(true),
+                WaitlistEntry.class);
+    }
+}
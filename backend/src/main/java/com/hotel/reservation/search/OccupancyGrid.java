@@ -0,0 +1,121 @@
+package com.hotel.reservation.search;
+
+import com.hotel.reservation.model.Reservation;
+import com.hotel.reservation.repository.ReservationRepository;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Occupied nights per room over a fixed window, one bit per night.
+ * Filled in one pass over the reservations overlapping the window; prefix
+ * counts then answer "is this stay free" in constant time.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+public class OccupancyGrid {
+
+    /**
+     * Statuses that hold a room's nights
+     */
+    public static final Set<Reservation.ReservationStatus> BLOCKING = EnumSet.of(
+            Reservation.ReservationStatus.PENDING,
+            Reservation.ReservationStatus.CONFIRMED,
+            Reservation.ReservationStatus.CHECKED_IN);
+
+    private final long startDay;
+    private final int days;
+    private final Map<String, BitSet> occupied = new HashMap<>();
+
+    /**
+     * @param start first night of the window
+     * @param end day after the last night of the window
+     */
+    public OccupancyGrid(LocalDate start, LocalDate end) {
+        this.startDay = start.toEpochDay();
+        this.days = (int) (end.toEpochDay() - startDay);
+    }
+
+    /**
+     * Build a grid for the given rooms from one streamed query over the
+     * blocking reservations overlapping the window.
+     *
+     * @param reservationRepository reservation repository
+     * @param start first night of the window
+     * @param end day after the last night of the window
+     * @param roomIds rooms to track
+     * @return filled grid
+     */
+    public static OccupancyGrid load(ReservationRepository reservationRepository, LocalDate start, LocalDate end,
+                                     Collection<String> roomIds) {
+        OccupancyGrid grid = new OccupancyGrid(start, end);
+        roomIds.forEach(grid::track);
+        reservationRepository.streamStays(start, end, BLOCKING, false,
+                (roomId, checkIn, checkOut, cents) -> grid.occupy(roomId, checkIn, checkOut));
+        return grid;
+    }
+
+    /**
+     * Track a room; rooms that are never tracked are ignored by {@link #occupy}.
+     *
+     * @param roomId room ID
+     */
+    public void track(String roomId) {
+        occupied.putIfAbsent(roomId, new BitSet(days));
+    }
+
+    /**
+     * Mark a stay's nights as occupied, clipped to the window.
+     *
+     * @param roomId room ID
+     * @param checkInEpochDay check-in date as epoch day
+     * @param checkOutEpochDay check-out date as epoch day
+     */
+    public void occupy(String roomId, long checkInEpochDay, long checkOutEpochDay) {
+        BitSet nights = occupied.get(roomId);
+        if (nights == null) {
+            return;
+        }
+        int from = (int) Math.max(0, checkInEpochDay - startDay);
+        int to = (int) Math.min(days, checkOutEpochDay - startDay);
+        if (from < to) {
+            nights.set(from, to);
+        }
+    }
+
+    /**
+     * Occupied-night prefix counts for a room: entry i is the number of
+     * occupied nights before day offset i.
+     *
+     * @param roomId room ID
+     * @return prefix counts, length days + 1
+     */
+    public int[] prefixCounts(String roomId) {
+        int[] prefix = new int[days + 1];
+        BitSet nights = occupied.getOrDefault(roomId, new BitSet());
+        for (int day = 0; day < days; day++) {
+            prefix[day + 1] = prefix[day] + (nights.get(day) ? 1 : 0);
+        }
+        return prefix;
+    }
+
+    /**
+     * Whether a stay is entirely free.
+     *
+     * @param prefix prefix counts from {@link #prefixCounts}
+     * @param checkIn check-in date
+     * @param nights stay length
+     * @return true if no night is occupied and the stay lies inside the window
+     */
+    public boolean isFree(int[] prefix, LocalDate checkIn, int nights) {
+        int from = (int) (checkIn.toEpochDay() - startDay);
+        int to = from + nights;
+        return from >= 0 && to <= days && prefix[to] - prefix[from] == 0;
+    }
+}
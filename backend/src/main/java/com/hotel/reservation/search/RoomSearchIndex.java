@@ -0,0 +1,288 @@
+package com.hotel.reservation.search;
+
+import com.hotel.reservation.dto.search.RoomSearchResult;
+import com.hotel.reservation.model.Room;
+import com.hotel.reservation.repository.RoomRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * In-memory search index over the room catalog.
+ *
+ * Rooms are numbered in ascending price order, so a price range is a
+ * contiguous run of room numbers found by binary search over a sorted price
+ * array. Amenities are interned to integer IDs with one bitset posting list
+ * each, as are room types; a query is a handful of bitset ANDs and facet
+ * counts are bitset cardinalities. Queries never touch the database.
+ *
+ * The index is rebuilt lazily after a catalog change (see
+ * {@link RoomSearchIndexListener}) and at most every app.search.max-age-ms so
+ * replicas pick up changes made elsewhere.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class RoomSearchIndex {
+
+    private final RoomRepository roomRepository;
+
+    @Value("${app.search.max-age-ms:60000}")
+    private long maxAgeMs;
+
+    private volatile Snapshot snapshot;
+    private volatile boolean stale = true;
+
+    public RoomSearchIndex(RoomRepository roomRepository) {
+        this.roomRepository = roomRepository;
+    }
+
+    /**
+     * Mark the index out of date; the next search rebuilds it.
+     */
+    public void invalidate() {
+        stale = true;
+    }
+
+    /**
+     * Search the catalog. Only rooms flagged available are considered.
+     *
+     * @param query search criteria
+     * @param excludedRoomIds rooms to leave out (e.g. booked for the requested dates)
+     * @return matching rooms with facet counts
+     */
+    public RoomSearchResult search(RoomSearchQuery query, Collection<String> excludedRoomIds) {
+        Snapshot index = current();
+
+        // Everything except the type filter, so type facets show the alternatives
+        BitSet base = index.priceRange(query.getMinPrice(), query.getMaxPrice());
+        base.and(index.listed);
+        if (query.getAmenities() != null) {
+            for (String amenity : query.getAmenities()) {
+                Integer amenityId = index.amenityIds.get(normalize(amenity));
+                if (amenityId == null) {
+                    base.clear();
+                    break;
+                }
+                base.and(index.amenityPostings[amenityId]);
+            }
+        }
+        if (query.getGuests() != null) {
+            for (int room = base.nextSetBit(0); room >= 0; room = base.nextSetBit(room + 1)) {
+                if (index.capacities[room] < query.getGuests()) {
+                    base.clear(room);
+                }
+            }
+        }
+        for (String roomId : excludedRoomIds) {
+            Integer room = index.roomNumbers.get(roomId);
+            if (room != null) {
+                base.clear(room);
+            }
+        }
+
+        BitSet matches = (BitSet) base.clone();
+        if (query.getTypes() != null && !query.getTypes().isEmpty()) {
+            BitSet typeFilter = new BitSet(index.rooms.length);
+            for (Room.RoomType type : query.getTypes()) {
+                typeFilter.or(index.typePostings[type.ordinal()]);
+            }
+            matches.and(typeFilter);
+        }
+
+        Map<String, Integer> typeFacets = new LinkedHashMap<>();
+        for (Room.RoomType type : Room.RoomType.values()) {
+            int count = cardinality(base, index.typePostings[type.ordinal()]);
+            if (count > 0) {
+                typeFacets.put(type.name(), count);
+            }
+        }
+
+        List<Map.Entry<String, Integer>> amenityCounts = new ArrayList<>();
+        for (int amenityId = 0; amenityId < index.amenityNames.length; amenityId++) {
+            int count = cardinality(matches, index.amenityPostings[amenityId]);
+            if (count > 0) {
+                amenityCounts.add(Map.entry(index.amenityNames[amenityId], count));
+            }
+        }
+        amenityCounts.sort(Map.Entry.<String, Integer>comparingByValue().reversed()
+                .thenComparing(Map.Entry.comparingByKey()));
+        Map<String, Integer> amenityFacets = new LinkedHashMap<>();
+        amenityCounts.forEach(entry -> amenityFacets.put(entry.getKey(), entry.getValue()));
+
+        List<Room> rooms = new ArrayList<>(matches.cardinality());
+        for (int room = matches.nextSetBit(0); room >= 0; room = matches.nextSetBit(room + 1)) {
+            rooms.add(index.rooms[room]);
+        }
+
+        return RoomSearchResult.builder()
+                .total(rooms.size())
+                .rooms(rooms)
+                .amenityFacets(amenityFacets)
+                .typeFacets(typeFacets)
+                .minPrice(rooms.isEmpty() ? null : rooms.get(0).getPricePerNight())
+                .maxPrice(rooms.isEmpty() ? null : rooms.get(rooms.size() - 1).getPricePerNight())
+                .build();
+    }
+
+    /**
+     * Look up a room in the cached catalog.
+     *
+     * @param roomId room ID
+     * @return the room, or null if it is unknown or has no price
+     */
+    public Room room(String roomId) {
+        Snapshot index = current();
+        Integer room = index.roomNumbers.get(roomId);
+        return room == null ? null : index.rooms[room];
+    }
+
+    private Snapshot current() {
+        Snapshot index = snapshot;
+        if (index == null || stale || System.currentTimeMillis() - index.builtAt > maxAgeMs) {
+            synchronized (this) {
+                index = snapshot;
+                if (index == null || stale || System.currentTimeMillis() - index.builtAt > maxAgeMs) {
+                    stale = false;
+                    index = Snapshot.build(roomRepository.findAll());
+                    snapshot = index;
+                    log.debug("Rebuilt room search index: {} rooms, {} amenities",
+                            index.rooms.length, index.amenityNames.length);
+                }
+            }
+        }
+        return index;
+    }
+
+    private static int cardinality(BitSet left, BitSet right) {
+        BitSet intersection = (BitSet) left.clone();
+        intersection.and(right);
+        return intersection.cardinality();
+    }
+
+    /**
+     * Canonical amenity key: trimmed, lower case, single spaces.
+     */
+    static String normalize(String amenity) {
+        return amenity.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static long cents(BigDecimal price) {
+        return price.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValue();
+    }
+
+    /**
+     * Immutable index over one version of the catalog.
+     */
+    private static final class Snapshot {
+
+        private final long builtAt = System.currentTimeMillis();
+        private final Room[] rooms;
+        private final long[] priceCents;
+        private final int[] capacities;
+        private final BitSet listed;
+        private final Map<String, Integer> roomNumbers;
+        private final Map<String, Integer> amenityIds;
+        private final String[] amenityNames;
+        private final BitSet[] amenityPostings;
+        private final BitSet[] typePostings;
+
+        private Snapshot(Room[] rooms, Map<String, Integer> amenityIds, String[] amenityNames,
+                         BitSet[] amenityPostings) {
+            this.rooms = rooms;
+            this.amenityIds = amenityIds;
+            this.amenityNames = amenityNames;
+            this.amenityPostings = amenityPostings;
+            this.priceCents = new long[rooms.length];
+            this.capacities = new int[rooms.length];
+            this.listed = new BitSet(rooms.length);
+            this.roomNumbers = new HashMap<>();
+            this.typePostings = new BitSet[Room.RoomType.values().length];
+            Arrays.setAll(typePostings, type -> new BitSet(rooms.length));
+
+            for (int room = 0; room < rooms.length; room++) {
+                priceCents[room] = cents(rooms[room].getPricePerNight());
+                capacities[room] = rooms[room].getCapacity();
+                listed.set(room, rooms[room].isAvailable());
+                roomNumbers.put(rooms[room].getId(), room);
+                if (rooms[room].getType() != null) {
+                    typePostings[rooms[room].getType().ordinal()].set(room);
+                }
+            }
+        }
+
+        static Snapshot build(List<Room> catalog) {
+            Room[] rooms = catalog.stream()
+                    .filter(room -> room.getPricePerNight() != null)
+                    .sorted(Comparator.comparing(Room::getPricePerNight))
+                    .toArray(Room[]::new);
+
+            Map<String, Integer> amenityIds = new HashMap<>();
+            List<String> amenityNames = new ArrayList<>();
+            List<BitSet> postings = new ArrayList<>();
+            for (int room = 0; room < rooms.length; room++) {
+                if (rooms[room].getAmenities() == null) {
+                    continue;
+                }
+                for (String amenity : rooms[room].getAmenities()) {
+                    if (amenity == null || amenity.isBlank()) {
+                        continue;
+                    }
+                    Integer amenityId = amenityIds.get(normalize(amenity));
+                    if (amenityId == null) {
+                        amenityId = amenityNames.size();
+                        amenityIds.put(normalize(amenity), amenityId);
+                        amenityNames.add(amenity.trim());
+                        postings.add(new BitSet(rooms.length));
+                    }
+                    postings.get(amenityId).set(room);
+                }
+            }
+
+            return new Snapshot(rooms, amenityIds, amenityNames.toArray(String[]::new),
+                    postings.toArray(BitSet[]::new));
+        }
+
+        /**
+         * Rooms priced within [min, max] as a contiguous bit range.
+         */
+        BitSet priceRange(BigDecimal min, BigDecimal max) {
+            int from = min == null ? 0 : firstAtLeast(cents(min));
+            int to = max == null ? rooms.length : firstAtLeast(cents(max) + 1);
+            BitSet range = new BitSet(rooms.length);
+            if (from < to) {
+                range.set(from, to);
+            }
+            return range;
+        }
+
+        private int firstAtLeast(long cents) {
+            int low = 0;
+            int high = priceCents.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (priceCents[mid] < cents) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
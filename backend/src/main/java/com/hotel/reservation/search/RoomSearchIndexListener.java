@@ -0,0 +1,39 @@
+package com.hotel.reservation.search;
+
+import com.hotel.reservation.cache.CacheInvalidation;
+import com.hotel.reservation.model.Room;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * Invalidates the room search index whenever a room is saved or deleted,
+ * here or (through {@link CacheInvalidation} events) on another instance.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class RoomSearchIndexListener extends AbstractMongoEventListener<Room> {
+
+    private final RoomSearchIndex roomSearchIndex;
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<Room> event) {
+        roomSearchIndex.invalidate();
+    }
+
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<Room> event) {
+        roomSearchIndex.invalidate();
+    }
+
+    @EventListener
+    public void onRoomChanged(CacheInvalidation.RoomChanged event) {
+        roomSearchIndex.invalidate();
+    }
+}
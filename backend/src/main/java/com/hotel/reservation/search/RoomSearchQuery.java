@@ -0,0 +1,51 @@
+package com.hotel.reservation.search;
+
+import com.hotel.reservation.model.Room;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Room search criteria. Every field is optional.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RoomSearchQuery {
+
+    /**
+     * Amenities the room must have (all of them)
+     */
+    private List<String> amenities;
+
+    /**
+     * Room types to include (any of them)
+     */
+    private Set<Room.RoomType> types;
+
+    private BigDecimal minPrice;
+
+    private BigDecimal maxPrice;
+
+    /**
+     * Minimum room capacity
+     */
+    private Integer guests;
+
+    /**
+     * Stay dates; when both are set, rooms booked over them are excluded
+     */
+    private LocalDate checkInDate;
+
+    private LocalDate checkOutDate;
+}
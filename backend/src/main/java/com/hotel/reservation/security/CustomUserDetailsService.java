@@ -1,6 +1,7 @@
 package com.hotel.reservation.security;
 
 import com.hotel.reservation.model.User;
+import com.hotel.reservation.persistence.RequestUnitOfWork;
 import com.hotel.reservation.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -20,6 +21,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final RequestUnitOfWork unitOfWork;
+    private final PrincipalCache principalCache;
 
     /**
      * Load user by username (email).
@@ -33,12 +36,13 @@ public class CustomUserDetailsService implements UserDetailsService {
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
+        unitOfWork.register(User.class, user.getId(), user);
 
         return UserPrincipal.create(user);
     }
 
     /**
-     * Load user by ID.
+     * Load user by ID, through the principal cache.
      *
      * @param id the user ID
      * @return UserDetails object
@@ -46,9 +50,8 @@ public class CustomUserDetailsService implements UserDetailsService {
      */
     @Transactional
     public UserDetails loadUserById(String id) throws UsernameNotFoundException {
-        User user = userRepository.findById(id)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with id: " + id));
-
-        return UserPrincipal.create(user);
+        return principalCache.get(id, key -> UserPrincipal.create(
+                unitOfWork.find(User.class, key, userRepository::findById)
+                        .orElseThrow(() -> new UsernameNotFoundException("User not found with id: " + key))));
     }
 }
@@ -0,0 +1,82 @@
+package com.hotel.reservation.security;
+
+import com.hotel.reservation.cache.CacheInvalidation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Principals by user ID, so authenticated requests skip the user lookup.
+ * Entries are dropped when the user changes on any instance (see
+ * {@link CacheInvalidation}) and expire after app.security.principal-cache.ttl-ms
+ * regardless, which bounds staleness if invalidation is off or lagging;
+ * a TTL of 0 disables the cache.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Component
+public class PrincipalCache {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    @Value("${app.security.principal-cache.ttl-ms:60000}")
+    private long ttlMs;
+
+    @Value("${app.security.principal-cache.max-entries:10000}")
+    private int maxEntries;
+
+    private record Entry(UserPrincipal principal, long loadedAt) {
+    }
+
+    /**
+     * Cached principal, loading it on a miss.
+     *
+     * @param userId user ID
+     * @param loader lookup used on a miss
+     * @return the principal
+     */
+    public UserPrincipal get(String userId, Function<String, UserPrincipal> loader) {
+        if (ttlMs <= 0) {
+            return loader.apply(userId);
+        }
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(userId);
+        if (entry != null && now - entry.loadedAt() < ttlMs) {
+            return entry.principal();
+        }
+
+        // A change arriving while we load must win over what we loaded
+        long loadedGeneration = generation.get();
+        UserPrincipal principal = loader.apply(userId);
+        if (entries.size() >= maxEntries) {
+            entries.clear();
+        }
+        entries.put(userId, new Entry(principal, now));
+        if (generation.get() != loadedGeneration) {
+            entries.remove(userId);
+        }
+        return principal;
+    }
+
+    /**
+     * Drop one user, or everyone.
+     *
+     * @param event the change
+     */
+    @EventListener
+    public void onUserChanged(CacheInvalidation.UserChanged event) {
+        generation.incrementAndGet();
+        if (event.all()) {
+            entries.clear();
+        } else {
+            entries.remove(event.id());
+        }
+    }
+}
@@ -2,11 +2,13 @@ package com.hotel.reservation.security.oauth2;
 
 import com.hotel.reservation.model.User;
 import com.hotel.reservation.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
 
+@Slf4j
 @Service
 public class CustomOAuth2UserService extends DefaultOAuth2UserService {
     private final UserRepository userRepository;
@@ -17,11 +19,9 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     @Override
     public OAuth2User loadUser(OAuth2UserRequest userRequest) {
-        System.out.println("=== CustomOAuth2UserService.loadUser called ===");
         OAuth2User oAuth2User = super.loadUser(userRequest);
 
         String provider = userRequest.getClientRegistration().getRegistrationId(); // "google" or "okta"
-        System.out.println("Provider: " + provider);
 
         // Extract user attributes based on provider
         String providerId;
@@ -79,7 +79,8 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
         user.setEnabled(true);
 
         User savedUser = userRepository.save(user);
-        System.out.println("User saved: ID=" + savedUser.getId() + ", provider=" + savedUser.getProvider() + ", providerId=" + savedUser.getProviderId());
+        log.info("OAuth2 user {} saved (provider={}, providerId={})",
+                savedUser.getId(), savedUser.getProvider(), savedUser.getProviderId());
 
         // Return a principal for Spring Security
         return new org.springframework.security.oauth2.core.user.DefaultOAuth2User(
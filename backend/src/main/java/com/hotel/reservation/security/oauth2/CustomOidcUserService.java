@@ -2,11 +2,13 @@ package com.hotel.reservation.security.oauth2;
 
 import com.hotel.reservation.model.User;
 import com.hotel.reservation.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.oauth2.client.oidc.userinfo.OidcUserRequest;
 import org.springframework.security.oauth2.client.oidc.userinfo.OidcUserService;
 import org.springframework.security.oauth2.core.oidc.user.OidcUser;
 import org.springframework.stereotype.Service;
 
+@Slf4j
 @Service
 public class CustomOidcUserService extends OidcUserService {
     private final UserRepository userRepository;
@@ -17,11 +19,9 @@ public class CustomOidcUserService extends OidcUserService {
 
     @Override
     public OidcUser loadUser(OidcUserRequest userRequest) {
-        System.out.println("=== CustomOidcUserService.loadUser called ===");
         OidcUser oidcUser = super.loadUser(userRequest);
 
         String provider = userRequest.getClientRegistration().getRegistrationId(); // "okta"
-        System.out.println("Provider: " + provider);
 
         // Extract user attributes
         String providerId = oidcUser.getAttribute("sub");
@@ -30,8 +30,6 @@ public class CustomOidcUserService extends OidcUserService {
         String familyName = oidcUser.getAttribute("family_name");
         String avatar = oidcUser.getAttribute("picture");
 
-        System.out.println("User info: email=" + email + ", givenName=" + givenName + ", familyName=" + familyName);
-
         User user = userRepository.findByProviderAndProviderId(provider, providerId)
                 .orElseGet(() -> {
                     User newUser = new User();
@@ -56,7 +54,8 @@ public class CustomOidcUserService extends OidcUserService {
         user.setEnabled(true);
 
         User savedUser = userRepository.save(user);
-        System.out.println("User saved: ID=" + savedUser.getId() + ", provider=" + savedUser.getProvider() + ", providerId=" + savedUser.getProviderId());
+        log.info("OIDC user {} saved (provider={}, providerId={})",
+                savedUser.getId(), savedUser.getProvider(), savedUser.getProviderId());
 
         return oidcUser;
     }
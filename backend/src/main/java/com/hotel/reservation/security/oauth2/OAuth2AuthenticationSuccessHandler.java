@@ -3,6 +3,7 @@ package com.hotel.reservation.security.oauth2;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
 import org.springframework.stereotype.Component;
@@ -15,6 +16,7 @@ import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
 import java.io.IOException;
 
+@Slf4j
 @Component
 public class OAuth2AuthenticationSuccessHandler implements AuthenticationSuccessHandler {
 
@@ -39,27 +41,17 @@ public class OAuth2AuthenticationSuccessHandler implements AuthenticationSuccess
         OAuth2User oAuth2User = (OAuth2User) authentication.getPrincipal();
         String providerId = oAuth2User.getAttribute("sub");
 
-        System.out.println("OAuth2 Success Handler - Provider: " + provider + ", ProviderId: " + providerId);
-
         User user = userRepository.findByProviderAndProviderId(provider, providerId).orElse(null);
 
         if (user == null) {
-            System.err.println("ERROR: User not found for provider=" + provider + ", providerId=" + providerId);
-            // Try to find all users to debug
-            System.out.println("Total users in database: " + userRepository.count());
-
-            // Debug: Print all users
-            userRepository.findAll().forEach(u -> {
-                System.out.println("DB User: provider='" + u.getProvider() + "', providerId='" + u.getProviderId() + "', email=" + u.getEmail());
-            });
+            log.error("OAuth2 login succeeded but no user is stored for provider={}, providerId={}",
+                    provider, providerId);
         } else {
-            System.out.println("User found: " + user.getEmail() + ", ID: " + user.getId());
+            log.debug("OAuth2 login for user {} (provider={})", user.getId(), provider);
         }
 
         String token = user != null ? jwtTokenProvider.generateTokenFromUserId(user.getId()) : "";
 
-        System.out.println("Generated token length: " + token.length());
-
         response.sendRedirect(frontendUrl + "/oauth2/callback?token=" + token);
     }
 }
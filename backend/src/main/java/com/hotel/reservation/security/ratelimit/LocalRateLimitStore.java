@@ -0,0 +1,68 @@
+package com.hotel.reservation.security.ratelimit;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * In-process bucket store backed by a bounded concurrent map.
+ * When the map reaches its bound, fully refilled buckets are dropped first
+ * (they are indistinguishable from new ones); if that is not enough the map
+ * is trimmed to 90% of its bound.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+public class LocalRateLimitStore implements RateLimitStore {
+
+    private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean(false);
+    private final int maxBuckets;
+
+    public LocalRateLimitStore(int maxBuckets) {
+        this.maxBuckets = maxBuckets;
+    }
+
+    @Override
+    public RateLimitDecision tryConsume(String key, RateLimitProperties.RouteGroup group) {
+        long now = System.nanoTime();
+
+        TokenBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxBuckets) {
+                evict(now);
+            }
+            bucket = buckets.computeIfAbsent(key, k -> new TokenBucket());
+        }
+
+        return bucket.tryConsume(now, group.emissionIntervalNanos(), group.getCapacity());
+    }
+
+    /**
+     * Number of buckets currently held.
+     *
+     * @return bucket count
+     */
+    public int size() {
+        return buckets.size();
+    }
+
+    private void evict(long now) {
+        // Only one thread sweeps; the others keep going without waiting
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            buckets.values().removeIf(bucket -> bucket.isFull(now));
+
+            int target = (int) (maxBuckets * 0.9);
+            Iterator<String> keys = buckets.keySet().iterator();
+            while (buckets.size() > target && keys.hasNext()) {
+                keys.next();
+                keys.remove();
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.hotel.reservation.security.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Shared bucket store for multi-replica deployments.
+ * Each bucket is approximated by an atomic counter per window of
+ * capacity / refill-rate length, upserted with a single findAndModify so all
+ * replicas see the same count. Expired windows are removed by a TTL index.
+ * Fails open when MongoDB is unreachable.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Slf4j
+public class MongoRateLimitStore implements RateLimitStore {
+
+    static final String COLLECTION = "rate_limit_windows";
+
+    private final MongoTemplate mongoTemplate;
+    private final AtomicBoolean indexReady = new AtomicBoolean(false);
+
+    public MongoRateLimitStore(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public RateLimitDecision tryConsume(String key, RateLimitProperties.RouteGroup group) {
+        long capacity = group.getCapacity();
+        long windowMillis = Math.max(1L, group.emissionIntervalNanos() * capacity / 1_000_000L);
+        long now = System.currentTimeMillis();
+        long windowStart = now - (now % windowMillis);
+
+        try {
+            ensureTtlIndex();
+
+            Query query = Query.query(Criteria.where("_id").is(key + "|" + windowStart));
+            Update update = new Update()
+                    .inc("count", 1)
+                    .setOnInsert("expiresAt", new Date(windowStart + 2 * windowMillis));
+
+            Document window = mongoTemplate.findAndModify(query, update,
+                    FindAndModifyOptions.options().upsert(true).returnNew(true),
+                    Document.class, COLLECTION);
+
+            long count = window != null ? ((Number) window.get("count")).longValue() : 1L;
+            if (count > capacity) {
+                return RateLimitDecision.rejected(capacity, windowStart + windowMillis - now);
+            }
+            return RateLimitDecision.allowed(capacity, capacity - count);
+        } catch (RuntimeException e) {
+            log.warn("Shared rate limit store unavailable, allowing request: {}", e.getMessage());
+            return RateLimitDecision.allowed(capacity, capacity);
+        }
+    }
+
+    private void ensureTtlIndex() {
+        if (indexReady.compareAndSet(false, true)) {
+            mongoTemplate.indexOps(COLLECTION)
+                    .ensureIndex(new Index().on("expiresAt", Sort.Direction.ASC).expire(0));
+        }
+    }
+}
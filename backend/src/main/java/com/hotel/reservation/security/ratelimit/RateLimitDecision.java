@@ -0,0 +1,41 @@
+package com.hotel.reservation.security.ratelimit;
+
+import lombok.Value;
+
+/**
+ * Outcome of a rate limit check.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Value
+public class RateLimitDecision {
+
+    /**
+     * Whether the request may proceed
+     */
+    boolean allowed;
+
+    /**
+     * Configured bucket capacity
+     */
+    long limit;
+
+    /**
+     * Tokens left after this request
+     */
+    long remaining;
+
+    /**
+     * Milliseconds until a token becomes available (0 when allowed)
+     */
+    long retryAfterMillis;
+
+    public static RateLimitDecision allowed(long limit, long remaining) {
+        return new RateLimitDecision(true, limit, Math.max(0, remaining), 0);
+    }
+
+    public static RateLimitDecision rejected(long limit, long retryAfterMillis) {
+        return new RateLimitDecision(false, limit, 0, retryAfterMillis);
+    }
+}
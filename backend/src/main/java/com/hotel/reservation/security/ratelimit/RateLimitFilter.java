@@ -0,0 +1,120 @@
+package com.hotel.reservation.security.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hotel.reservation.security.UserPrincipal;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-client rate limiting filter.
+ * Runs after JWT authentication so authenticated clients are keyed by user ID;
+ * anonymous clients are keyed by remote address. The filter never reads
+ * x-forwarded-for itself: Tomcat's RemoteIpValve (forward-headers-strategy
+ * native) replaces the remote address with the rightmost hop not listed in
+ * server.tomcat.remoteip.internal-proxies, so a client cannot pick a fresh
+ * key by sending its own header.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimitProperties properties;
+    private final RateLimitStore rateLimitStore;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || "OPTIONS".equalsIgnoreCase(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        Map.Entry<String, RateLimitProperties.RouteGroup> group = findGroup(request.getMethod(), path);
+
+        if (group == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String key = group.getKey() + "|" + resolveClientKey(request, group.getValue());
+        RateLimitDecision decision = rateLimitStore.tryConsume(key, group.getValue());
+
+        response.setHeader("X-RateLimit-Limit", String.valueOf(decision.getLimit()));
+        response.setHeader("X-RateLimit-Remaining", String.valueOf(decision.getRemaining()));
+
+        if (!decision.isAllowed()) {
+            meterRegistry.counter("hotelx.ratelimit.rejected", "group", group.getKey()).increment();
+            writeTooManyRequests(response, decision);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Find the first route group matching the request.
+     */
+    private Map.Entry<String, RateLimitProperties.RouteGroup> findGroup(String method, String path) {
+        for (Map.Entry<String, RateLimitProperties.RouteGroup> entry : properties.getGroups().entrySet()) {
+            RateLimitProperties.RouteGroup group = entry.getValue();
+            boolean methodMatches = group.getMethods().isEmpty() ||
+                    group.getMethods().stream().anyMatch(m -> m.equalsIgnoreCase(method));
+            if (methodMatches && group.getPatterns().stream().anyMatch(p -> pathMatcher.match(p, path))) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Identify the client: user ID when authenticated (and allowed by the group), otherwise IP.
+     */
+    private String resolveClientKey(HttpServletRequest request, RateLimitProperties.RouteGroup group) {
+        if (group.getKey() == RateLimitProperties.KeyStrategy.USER_OR_IP) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+                return "user:" + principal.getId();
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void writeTooManyRequests(HttpServletResponse response, RateLimitDecision decision) throws IOException {
+        long retryAfterSeconds = Math.max(1, (decision.getRetryAfterMillis() + 999) / 1000);
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("status", HttpStatus.TOO_MANY_REQUESTS.value());
+        body.put("message", "Too many requests. Please try again later.");
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+}
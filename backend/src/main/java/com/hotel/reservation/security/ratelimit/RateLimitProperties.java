@@ -0,0 +1,106 @@
+package com.hotel.reservation.security.ratelimit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Configuration properties for per-client rate limiting.
+ * Route groups are matched in declaration order; the first match wins.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    /**
+     * Whether rate limiting is applied at all
+     */
+    private boolean enabled = true;
+
+    /**
+     * Where bucket state is kept (LOCAL per instance, MONGO shared across replicas)
+     */
+    private Store store = Store.LOCAL;
+
+    /**
+     * Upper bound on the number of buckets held in memory by the local store
+     */
+    private int maxBuckets = 100_000;
+
+    /**
+     * Limits per route group, keyed by group name
+     */
+    private Map<String, RouteGroup> groups = new LinkedHashMap<>();
+
+    /**
+     * Limit definition for a group of routes.
+     */
+    @Data
+    public static class RouteGroup {
+
+        /**
+         * Ant-style path patterns belonging to this group
+         */
+        private List<String> patterns = new ArrayList<>();
+
+        /**
+         * HTTP methods the group applies to (empty means all methods)
+         */
+        private List<String> methods = new ArrayList<>();
+
+        /**
+         * Maximum burst size (bucket capacity)
+         */
+        private long capacity = 60;
+
+        /**
+         * Tokens added back every refill period
+         */
+        private long refillTokens = 60;
+
+        /**
+         * Period over which refillTokens are added
+         */
+        private Duration refillPeriod = Duration.ofMinutes(1);
+
+        /**
+         * How the client is identified for this group
+         */
+        private KeyStrategy key = KeyStrategy.USER_OR_IP;
+
+        /**
+         * Time between two tokens in nanoseconds.
+         *
+         * @return emission interval
+         */
+        public long emissionIntervalNanos() {
+            return Math.max(1L, refillPeriod.toNanos() / Math.max(1L, refillTokens));
+        }
+    }
+
+    /**
+     * Bucket storage backends
+     */
+    public enum Store {
+        LOCAL,
+        MONGO
+    }
+
+    /**
+     * Client identification strategies
+     */
+    public enum KeyStrategy {
+        IP,
+        USER_OR_IP
+    }
+}
@@ -0,0 +1,19 @@
+package com.hotel.reservation.security.ratelimit;
+
+/**
+ * Storage backend for rate limit buckets.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+public interface RateLimitStore {
+
+    /**
+     * Consume one token from the bucket identified by key.
+     *
+     * @param key bucket key (route group and client)
+     * @param group limits of the route group
+     * @return the decision
+     */
+    RateLimitDecision tryConsume(String key, RateLimitProperties.RouteGroup group);
+}
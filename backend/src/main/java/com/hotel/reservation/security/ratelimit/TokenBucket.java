@@ -0,0 +1,52 @@
+package com.hotel.reservation.security.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket.
+ * The bucket is stored as a single "theoretical arrival time" (GCRA form), so a
+ * consume is one CAS and a bucket whose arrival time is in the past is full.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+public class TokenBucket {
+
+    private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+
+    /**
+     * Try to take one token.
+     *
+     * @param now current time in nanoseconds
+     * @param emissionInterval nanoseconds between two tokens
+     * @param capacity maximum burst size
+     * @return the decision
+     */
+    public RateLimitDecision tryConsume(long now, long emissionInterval, long capacity) {
+        long burstWindow = emissionInterval * capacity;
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long base = Math.max(tat, now);
+            long next = base + emissionInterval;
+            long backlog = next - now;
+
+            if (backlog > burstWindow) {
+                long retryAfterNanos = backlog - burstWindow;
+                return RateLimitDecision.rejected(capacity, retryAfterNanos / 1_000_000L + 1);
+            }
+            if (theoreticalArrival.compareAndSet(tat, next)) {
+                return RateLimitDecision.allowed(capacity, (burstWindow - backlog) / emissionInterval);
+            }
+        }
+    }
+
+    /**
+     * Whether the bucket has fully refilled and can be dropped without losing state.
+     *
+     * @param now current time in nanoseconds
+     * @return true if the bucket is full
+     */
+    public boolean isFull(long now) {
+        return theoreticalArrival.get() <= now;
+    }
+}
@@ -4,6 +4,7 @@ import com.hotel.reservation.dto.AuthResponse;
 import com.hotel.reservation.dto.LoginRequest;
 import com.hotel.reservation.dto.RegisterRequest;
 import com.hotel.reservation.dto.UserDto;
+import com.hotel.reservation.exception.NotFoundException;
 import com.hotel.reservation.model.User;
 import com.hotel.reservation.repository.UserRepository;
 import com.hotel.reservation.security.JwtTokenProvider;
@@ -84,7 +85,7 @@ public class AuthService {
         String token = tokenProvider.generateToken(authentication);
 
         User user = userRepository.findByEmail(loginRequest.getEmail())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+                .orElseThrow(() -> new NotFoundException("User"));
 
         UserDto userDto = mapToUserDto(user);
 
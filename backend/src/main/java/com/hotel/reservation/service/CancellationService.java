@@ -3,12 +3,14 @@ package com.hotel.reservation.service;
 import com.hotel.reservation.dto.CancellationRequest;
 import com.hotel.reservation.dto.CancellationResponse;
 import com.hotel.reservation.dto.RefundCalculation;
+import com.hotel.reservation.event.DomainEventPublisher;
+import com.hotel.reservation.exception.InvalidStatusTransitionException;
+import com.hotel.reservation.exception.NotFoundException;
 import com.hotel.reservation.model.CancellationPolicy;
 import com.hotel.reservation.model.Payment;
 import com.hotel.reservation.model.Reservation;
 import com.hotel.reservation.repository.PaymentRepository;
 import com.hotel.reservation.repository.ReservationRepository;
-import com.stripe.exception.StripeException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -34,7 +36,8 @@ public class CancellationService {
 
     private final ReservationRepository reservationRepository;
     private final PaymentRepository paymentRepository;
-    private final PaymentService paymentService;
+    private final ReservationService reservationService;
+    private final DomainEventPublisher eventPublisher;
 
     /**
      * Calculate potential refund for a reservation.
@@ -42,22 +45,24 @@ public class CancellationService {
      *
      * @param reservationId reservation ID
      * @return refund calculation details
-     * @throws RuntimeException if reservation not found
+     * @throws NotFoundException if reservation not found
+     * @throws InvalidStatusTransitionException if the reservation is already cancelled or completed
      */
     public RefundCalculation calculateRefund(String reservationId) {
         Reservation reservation = reservationRepository.findById(reservationId)
-                .orElseThrow(() -> new RuntimeException("Reservation not found"));
+                .orElseThrow(() -> new NotFoundException("Reservation", reservationId));
 
         if (reservation.getStatus() == Reservation.ReservationStatus.CANCELLED) {
-            throw new RuntimeException("Reservation is already cancelled");
+            throw new InvalidStatusTransitionException(reservation.getStatus(),
+                    Reservation.ReservationStatus.CANCELLED, "Reservation is already cancelled");
         }
 
         if (reservation.getStatus() == Reservation.ReservationStatus.CHECKED_OUT) {
-            throw new RuntimeException("Cannot cancel completed reservation");
+            throw new InvalidStatusTransitionException(reservation.getStatus(),
+                    Reservation.ReservationStatus.CANCELLED, "Cannot cancel completed reservation");
         }
 
-        // Get cancellation policy (can be customized per room type in future)
-        CancellationPolicy policy = CancellationPolicy.getDefaultPolicy();
+        CancellationPolicy policy = CancellationPolicy.forRoom(reservation.getRoom());
 
         // Calculate days until check-in
         long daysUntilCheckIn = ChronoUnit.DAYS.between(LocalDate.now(), reservation.getCheckInDate());
@@ -143,6 +148,9 @@ public class CancellationService {
 
     /**
      * Process cancellation with refund based on policy.
+     * The refund is recorded by the same update that cancels the reservation
+     * (refund status QUEUED) and issued by the refund worker, so cancelling
+     * does not depend on Stripe being reachable.
      *
      * @param reservationId reservation ID
      * @param request cancellation request with reason and acknowledgement
@@ -156,49 +164,19 @@ public class CancellationService {
             throw new RuntimeException("You must acknowledge the cancellation policy before proceeding");
         }
 
-        Reservation reservation = reservationRepository.findById(reservationId)
-                .orElseThrow(() -> new RuntimeException("Reservation not found"));
-
-        if (reservation.getStatus() == Reservation.ReservationStatus.CANCELLED) {
-            throw new RuntimeException("Reservation is already cancelled");
-        }
-
-        if (reservation.getStatus() == Reservation.ReservationStatus.CHECKED_OUT) {
-            throw new RuntimeException("Cannot cancel completed reservation");
-        }
-
-        // Calculate refund
+        // Calculate refund (also rejects cancelled and completed reservations)
         RefundCalculation refundCalc = calculateRefund(reservationId);
 
-        // Update reservation status
-        LocalDateTime cancelledAt = LocalDateTime.now();
-        reservation.setStatus(Reservation.ReservationStatus.CANCELLED);
-        reservation.setCancellationReason(request.getReason());
-        reservation.setCancelledAt(cancelledAt);
-        reservationRepository.save(reservation);
-
-        log.info("Reservation {} cancelled. Refund amount: ${}, Original: ${}",
-                reservationId, refundCalc.getRefundAmount(), refundCalc.getOriginalAmount());
-
-        // Process refund if payment exists and refund amount > 0
-        String refundStatus = "N/A";
+        // Record the refund with the cancellation; the refund worker issues it, so nothing here waits on Stripe
+        Reservation.PendingRefund refund = null;
+        String refundStatus;
         if (refundCalc.getRefundAmount().compareTo(BigDecimal.ZERO) > 0) {
             Payment payment = paymentRepository.findByReservationId(reservationId).orElse(null);
 
             if (payment != null && payment.getStatus() == Payment.PaymentStatus.SUCCEEDED) {
-                try {
-                    paymentService.processRefund(
-                            payment.getId(),
-                            refundCalc.getRefundAmount(),
-                            request.getReason()
-                    );
-                    refundStatus = "PROCESSING";
-                    log.info("Refund initiated for payment {} - Amount: ${}", payment.getId(), refundCalc.getRefundAmount());
-                } catch (StripeException e) {
-                    log.error("Stripe refund failed for reservation {}: {}", reservationId, e.getMessage(), e);
-                    refundStatus = "FAILED";
-                    throw new RuntimeException("Cancellation succeeded but refund processing failed. Please contact support for manual refund. Error: " + e.getMessage());
-                }
+                refund = new Reservation.PendingRefund(payment.getId(), refundCalc.getRefundAmount(),
+                        request.getReason(), LocalDateTime.now());
+                refundStatus = "QUEUED";
             } else if (payment == null) {
                 log.warn("No payment found for reservation {}. Cancellation processed without refund.", reservationId);
                 refundStatus = "NO_PAYMENT_FOUND";
@@ -210,8 +188,19 @@ public class CancellationService {
             refundStatus = "NO_REFUND_DUE";
         }
 
+        // Update reservation status and refund in one write; conditional, so a concurrent change cannot be overwritten
+        Reservation reservation = reservationService.cancel(reservationId, request.getReason(), refund);
+        LocalDateTime cancelledAt = reservation.getCancelledAt();
+
+        log.info("Reservation {} cancelled. Refund amount: ${}, Original: ${}",
+                reservationId, refundCalc.getRefundAmount(), refundCalc.getOriginalAmount());
+        if (refund != null) {
+            log.info("Refund queued for payment {} - Amount: ${}", refund.getPaymentId(), refund.getAmount());
+        }
+        eventPublisher.reservationCancelled(reservation);
+
         // Build response message
-        String message = buildCancellationMessage(refundCalc, refundStatus);
+        String message = buildCancellationMessage(refundCalc);
 
         return CancellationResponse.builder()
                 .reservationId(reservationId)
@@ -231,7 +220,7 @@ public class CancellationService {
     /**
      * Build user-friendly cancellation message.
      */
-    private String buildCancellationMessage(RefundCalculation refundCalc, String refundStatus) {
+    private String buildCancellationMessage(RefundCalculation refundCalc) {
         StringBuilder message = new StringBuilder();
         message.append("Your reservation has been successfully cancelled. ");
 
@@ -247,10 +236,6 @@ public class CancellationService {
             }
         }
 
-        if ("FAILED".equals(refundStatus)) {
-            message.append(" Please contact customer support to process your refund manually.");
-        }
-
         return message.toString();
     }
 }
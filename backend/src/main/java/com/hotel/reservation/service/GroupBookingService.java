@@ -0,0 +1,67 @@
+package com.hotel.reservation.service;
+
+import com.hotel.reservation.dto.GroupBookingRequest;
+import com.hotel.reservation.dto.GroupBookingResponse;
+import com.hotel.reservation.dto.view.ReservationSummary;
+import com.hotel.reservation.model.Payment;
+import com.hotel.reservation.model.Reservation;
+import com.hotel.reservation.model.User;
+import com.stripe.exception.StripeException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service for booking several rooms at once.
+ * Reservations are created all or nothing and share one payment intent; if
+ * the payment intent cannot be created the reservations are removed again.
+ * Booking is deliberately not transactional: the reservations commit in
+ * their own transaction before Stripe is called, so concurrent bookings see
+ * them at once and no transaction stays open across the Stripe call.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GroupBookingService {
+
+    private final ReservationService reservationService;
+    private final PaymentService paymentService;
+
+    /**
+     * Book a group of rooms.
+     *
+     * @param user the user making the booking
+     * @param request rooms or room type and quantity, dates and guests
+     * @return the group's reservations and shared payment
+     * @throws RuntimeException if any room cannot be booked or the payment cannot be set up
+     */
+    public GroupBookingResponse book(User user, GroupBookingRequest request) {
+        String groupBookingId = UUID.randomUUID().toString();
+        // Committed on return, before the Stripe call below
+        List<Reservation> reservations = reservationService.createGroupReservations(user, request, groupBookingId);
+
+        Payment payment;
+        try {
+            payment = paymentService.createGroupPaymentIntent(groupBookingId, reservations);
+        } catch (StripeException | RuntimeException e) {
+            log.warn("Payment setup failed for group {}; removing {} reservations",
+                    groupBookingId, reservations.size());
+            reservationService.deleteGroup(groupBookingId);
+            throw new RuntimeException("Payment setup failed: " + e.getMessage(), e);
+        }
+        reservationService.publishGroupCreated(reservations);
+
+        return new GroupBookingResponse(
+                groupBookingId,
+                reservations.stream().map(ReservationSummary::from).toList(),
+                payment.getAmount(),
+                payment.getId(),
+                payment.getStripeClientSecret());
+    }
+}
@@ -0,0 +1,188 @@
+package com.hotel.reservation.service;
+
+import com.hotel.reservation.dto.report.OccupancyPoint;
+import com.hotel.reservation.dto.report.OccupancyReport;
+import com.hotel.reservation.dto.report.OccupancySeries;
+import com.hotel.reservation.model.Reservation;
+import com.hotel.reservation.model.Room;
+import com.hotel.reservation.persistence.ReadRoute;
+import com.hotel.reservation.repository.ReservationRepository;
+import com.hotel.reservation.repository.RoomRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Computes daily occupancy, average daily rate (ADR) and revenue per
+ * available room (RevPAR) per room type in a single pass over a reservation cursor.
+ *
+ * Each stay adds +1 room and its nightly rate at its first night in range and
+ * subtracts them after its last one, in difference arrays indexed by day
+ * offset. A prefix sum then yields the per-night totals, so memory depends
+ * only on the range length and the number of room types.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+public class OccupancyReportService {
+
+    private static final EnumSet<Reservation.ReservationStatus> SOLD = EnumSet.of(
+            Reservation.ReservationStatus.CONFIRMED,
+            Reservation.ReservationStatus.CHECKED_IN,
+            Reservation.ReservationStatus.CHECKED_OUT);
+
+    private static final String ALL_ROOMS = "ALL";
+
+    private final ReservationRepository reservationRepository;
+    private final RoomRepository roomRepository;
+
+    @Value("${app.reports.max-days:3660}")
+    private int maxDays;
+
+    /**
+     * Build the occupancy report. Room inventory is today's inventory,
+     * applied to every night in the range.
+     *
+     * @param startDate first night (inclusive)
+     * @param endDate last night (inclusive)
+     * @param includeArchived also count archived reservations
+     * @return the report
+     */
+    @ReadRoute(value = "reporting", maxStalenessSeconds = 300)
+    public OccupancyReport occupancy(LocalDate startDate, LocalDate endDate, boolean includeArchived) {
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("End date must not be before start date");
+        }
+        long startDay = startDate.toEpochDay();
+        long endDay = endDate.toEpochDay() + 1;
+        if (endDay - startDay > maxDays) {
+            throw new IllegalArgumentException("Report range cannot exceed " + maxDays + " days");
+        }
+        int days = (int) (endDay - startDay);
+
+        Room.RoomType[] types = Room.RoomType.values();
+        int all = types.length;
+        long[] inventory = new long[all + 1];
+        Map<String, Integer> roomTypeIndex = new HashMap<>();
+        for (Room room : roomRepository.findAll()) {
+            if (room.getType() == null) {
+                continue;
+            }
+            int index = room.getType().ordinal();
+            roomTypeIndex.put(room.getId(), index);
+            inventory[index] += room.getTotalRooms();
+            inventory[all] += room.getTotalRooms();
+        }
+
+        long[][] soldDelta = new long[all + 1][days + 1];
+        long[][] revenueDelta = new long[all + 1][days + 1];
+
+        reservationRepository.streamStays(LocalDate.ofEpochDay(startDay), LocalDate.ofEpochDay(endDay), SOLD,
+                includeArchived, (roomId, checkIn, checkOut, amountCents) -> {
+                    Integer index = roomTypeIndex.get(roomId);
+                    long nights = checkOut - checkIn;
+                    if (index == null || nights <= 0) {
+                        return;
+                    }
+                    int from = (int) (Math.max(checkIn, startDay) - startDay);
+                    int to = (int) (Math.min(checkOut, endDay) - startDay);
+                    if (from >= to) {
+                        return;
+                    }
+                    long rate = amountCents / nights;
+                    // Cents that do not divide evenly are booked on the first night
+                    long remainder = amountCents - rate * nights;
+                    for (int row : new int[] {index, all}) {
+                        soldDelta[row][from]++;
+                        soldDelta[row][to]--;
+                        revenueDelta[row][from] += rate;
+                        revenueDelta[row][to] -= rate;
+                        if (checkIn >= startDay) {
+                            revenueDelta[row][from] += remainder;
+                            revenueDelta[row][from + 1] -= remainder;
+                        }
+                    }
+                });
+
+        List<OccupancySeries> series = new ArrayList<>(all + 1);
+        for (int row = 0; row <= all; row++) {
+            if (row < all && inventory[row] == 0 && !hasSales(soldDelta[row])) {
+                continue;
+            }
+            String name = row < all ? types[row].name() : ALL_ROOMS;
+            series.add(buildSeries(name, inventory[row], soldDelta[row], revenueDelta[row], startDate, days));
+        }
+
+        return OccupancyReport.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .series(series)
+                .build();
+    }
+
+    private OccupancySeries buildSeries(String roomType, long roomCount, long[] soldDelta,
+                                        long[] revenueDelta, LocalDate startDate, int days) {
+        List<OccupancyPoint> points = new ArrayList<>(days);
+        long sold = 0;
+        long revenue = 0;
+        long totalSold = 0;
+        long totalRevenue = 0;
+        for (int day = 0; day < days; day++) {
+            sold += soldDelta[day];
+            revenue += revenueDelta[day];
+            totalSold += sold;
+            totalRevenue += revenue;
+            points.add(OccupancyPoint.builder()
+                    .date(startDate.plusDays(day))
+                    .roomsSold(sold)
+                    .occupancyRate(percent(sold, roomCount))
+                    .revenue(BigDecimal.valueOf(revenue, 2))
+                    .adr(average(revenue, sold))
+                    .revpar(average(revenue, roomCount))
+                    .build());
+        }
+
+        long availableRoomNights = roomCount * days;
+        return OccupancySeries.builder()
+                .roomType(roomType)
+                .roomCount(roomCount)
+                .roomNightsSold(totalSold)
+                .revenue(BigDecimal.valueOf(totalRevenue, 2))
+                .occupancyRate(percent(totalSold, availableRoomNights))
+                .adr(average(totalRevenue, totalSold))
+                .revpar(average(totalRevenue, availableRoomNights))
+                .points(points)
+                .build();
+    }
+
+    private static boolean hasSales(long[] soldDelta) {
+        for (long delta : soldDelta) {
+            if (delta != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static double percent(long part, long whole) {
+        return whole > 0 ? Math.round(part * 10000.0 / whole) / 100.0 : 0;
+    }
+
+    private static BigDecimal average(long cents, long count) {
+        if (count <= 0) {
+            return BigDecimal.ZERO.setScale(2);
+        }
+        return BigDecimal.valueOf(cents, 2).divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_UP);
+    }
+}
@@ -1,7 +1,15 @@
 package com.hotel.reservation.service;
 
+import com.hotel.reservation.dto.view.PaymentSummary;
+import com.hotel.reservation.event.DomainEventPublisher;
+import com.hotel.reservation.event.handler.ConfirmReservationOnPaymentHandler;
+import com.hotel.reservation.exception.NotFoundException;
+import com.hotel.reservation.model.OutboxEvent;
 import com.hotel.reservation.model.Payment;
 import com.hotel.reservation.model.Reservation;
+import com.hotel.reservation.payment.StripeGateway;
+import com.hotel.reservation.persistence.ReadRoute;
+import com.hotel.reservation.persistence.RequestUnitOfWork;
 import com.hotel.reservation.repository.PaymentRepository;
 import com.stripe.Stripe;
 import com.stripe.exception.StripeException;
@@ -10,6 +18,7 @@ import com.stripe.model.Refund;
 import com.stripe.param.PaymentIntentCreateParams;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,16 +31,20 @@ import java.util.Map;
 /**
  * Service class for payment processing using Stripe.
  * Handles payment creation, confirmation, and refunds.
+ * Reservations are confirmed asynchronously from the PAYMENT_SUCCEEDED outbox event.
  *
  * @author Hotel Reservation Team
  * @version 1.0
  */
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class PaymentService {
 
     private final PaymentRepository paymentRepository;
-    private final ReservationService reservationService;
+    private final DomainEventPublisher eventPublisher;
+    private final RequestUnitOfWork unitOfWork;
+    private final StripeGateway stripeGateway;
 
     @Value("${stripe.api.key}")
     private String stripeApiKey;
@@ -39,12 +52,19 @@ public class PaymentService {
     @Value("${stripe.webhook.secret}")
     private String webhookSecret;
 
+    @Value("${stripe.api.base:}")
+    private String stripeApiBase;
+
     /**
-     * Initialize Stripe with API key.
+     * Initialize Stripe with API key, and point it at a stand-in API when
+     * stripe.api.base is set (load tests).
      */
     @PostConstruct
     public void init() {
         Stripe.apiKey = stripeApiKey;
+        if (!stripeApiBase.isBlank()) {
+            Stripe.overrideApiBase(stripeApiBase);
+        }
     }
 
     /**
@@ -72,7 +92,8 @@ public class PaymentService {
                 )
                 .build();
 
-        PaymentIntent paymentIntent = PaymentIntent.create(params);
+        PaymentIntent paymentIntent = stripeGateway.call(StripeGateway.Operation.CREATE_INTENT,
+                options -> PaymentIntent.create(params, options));
 
         Payment payment = new Payment();
         payment.setReservation(reservation);
@@ -86,21 +107,71 @@ public class PaymentService {
         return paymentRepository.save(payment);
     }
 
+    /**
+     * Create one payment intent covering every reservation of a group booking.
+     * The payment references the first reservation and the group ID. Not
+     * transactional: the only write is the single payment insert, and no
+     * transaction should stay open across the Stripe call.
+     *
+     * @param groupBookingId group booking ID
+     * @param reservations the group's reservations
+     * @return payment entity with Stripe payment intent
+     * @throws StripeException if Stripe API call fails
+     */
+    public Payment createGroupPaymentIntent(String groupBookingId, List<Reservation> reservations)
+            throws StripeException {
+        Reservation lead = reservations.get(0);
+        BigDecimal total = reservations.stream()
+                .map(Reservation::getTotalAmount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        long amountInCents = total.multiply(BigDecimal.valueOf(100)).longValue();
+
+        PaymentIntentCreateParams params = PaymentIntentCreateParams.builder()
+                .setAmount(amountInCents)
+                .setCurrency("usd")
+                .putMetadata("groupBookingId", groupBookingId)
+                .putMetadata("reservationId", lead.getId())
+                .putMetadata("rooms", String.valueOf(reservations.size()))
+                .putMetadata("userId", lead.getUser().getId())
+                .setAutomaticPaymentMethods(
+                        PaymentIntentCreateParams.AutomaticPaymentMethods.builder()
+                                .setEnabled(true)
+                                .build()
+                )
+                .build();
+
+        PaymentIntent paymentIntent = stripeGateway.call(StripeGateway.Operation.CREATE_INTENT,
+                options -> PaymentIntent.create(params, options));
+
+        Payment payment = new Payment();
+        payment.setReservation(lead);
+        payment.setGroupBookingId(groupBookingId);
+        payment.setUser(lead.getUser());
+        payment.setAmount(total);
+        payment.setCurrency("USD");
+        payment.setStripePaymentIntentId(paymentIntent.getId());
+        payment.setStripeClientSecret(paymentIntent.getClientSecret());
+        payment.setStatus(Payment.PaymentStatus.PENDING);
+
+        return paymentRepository.save(payment);
+    }
+
     /**
      * Confirm a payment after successful Stripe processing.
      *
      * @param paymentIntentId Stripe payment intent ID
      * @return updated payment entity
-     * @throws RuntimeException if payment not found
+     * @throws NotFoundException if payment not found
      */
     @Transactional
     public Payment confirmPayment(String paymentIntentId) {
         Payment payment = paymentRepository.findByStripePaymentIntentId(paymentIntentId)
-                .orElseThrow(() -> new RuntimeException("Payment not found"));
+                .orElseThrow(() -> new NotFoundException("Payment"));
 
         try {
             // Retrieve payment intent from Stripe to get charge details
-            PaymentIntent paymentIntent = PaymentIntent.retrieve(paymentIntentId);
+            PaymentIntent paymentIntent = stripeGateway.call(StripeGateway.Operation.RETRIEVE_INTENT,
+                    options -> PaymentIntent.retrieve(paymentIntentId, options));
 
             // Extract charge ID if available
             if (paymentIntent.getLatestCharge() != null) {
@@ -109,8 +180,9 @@ public class PaymentService {
 
             // Extract payment method details if available
             if (paymentIntent.getPaymentMethod() != null) {
-                com.stripe.model.PaymentMethod paymentMethod =
-                    com.stripe.model.PaymentMethod.retrieve(paymentIntent.getPaymentMethod());
+                com.stripe.model.PaymentMethod paymentMethod = stripeGateway.call(
+                        StripeGateway.Operation.RETRIEVE_PAYMENT_METHOD,
+                        options -> com.stripe.model.PaymentMethod.retrieve(paymentIntent.getPaymentMethod(), options));
 
                 if (paymentMethod.getCard() != null) {
                     payment.setCardBrand(paymentMethod.getCard().getBrand());
@@ -120,13 +192,13 @@ public class PaymentService {
             }
         } catch (StripeException e) {
             // Log error but don't fail the confirmation
-            System.err.println("Failed to retrieve payment details from Stripe: " + e.getMessage());
+            log.warn("Failed to retrieve payment details from Stripe for intent {}: {}",
+                    paymentIntentId, e.getMessage());
         }
 
         payment.setStatus(Payment.PaymentStatus.SUCCEEDED);
         Payment savedPayment = paymentRepository.save(payment);
-
-        reservationService.confirmReservation(payment.getReservation().getId());
+        publishSucceeded(savedPayment);
 
         return savedPayment;
     }
@@ -143,8 +215,26 @@ public class PaymentService {
      */
     @Transactional
     public Payment processRefund(String paymentId, BigDecimal amount, String reason) throws StripeException {
+        return processRefund(paymentId, amount, reason, null);
+    }
+
+    /**
+     * Process a refund for a payment under a caller-chosen idempotency key.
+     *
+     * @param paymentId payment ID
+     * @param amount refund amount
+     * @param reason refund reason
+     * @param idempotencyKey Stripe idempotency key, stable across retries of the
+     *        same refund; null to derive one from the payment and amount
+     * @return updated payment entity
+     * @throws StripeException if Stripe API call fails
+     * @throws RuntimeException if payment not found or already refunded
+     */
+    @Transactional
+    public Payment processRefund(String paymentId, BigDecimal amount, String reason, String idempotencyKey)
+            throws StripeException {
         Payment payment = paymentRepository.findById(paymentId)
-                .orElseThrow(() -> new RuntimeException("Payment not found"));
+                .orElseThrow(() -> new NotFoundException("Payment"));
 
         if (payment.getStatus() != Payment.PaymentStatus.SUCCEEDED) {
             throw new RuntimeException("Cannot refund payment that hasn't succeeded");
@@ -157,19 +247,39 @@ public class PaymentService {
         refundParams.put("amount", refundAmountInCents);
         refundParams.put("reason", "requested_by_customer");
 
-        Refund refund = Refund.create(refundParams);
+        // Same key for every delivery of this refund, so a retry after a lost response is not refunded twice
+        Refund refund = stripeGateway.call(StripeGateway.Operation.REFUND,
+                idempotencyKey != null ? idempotencyKey : "refund-" + payment.getId() + "-" + refundAmountInCents,
+                options -> Refund.create(refundParams, options));
 
-        payment.setRefundAmount(amount);
-        payment.setRefundReason(reason);
-        payment.setRefundedAt(java.time.LocalDateTime.now());
+        Payment.PaymentStatus refundedStatus = amount.compareTo(payment.getAmount()) >= 0
+                ? Payment.PaymentStatus.REFUNDED
+                : Payment.PaymentStatus.PARTIALLY_REFUNDED;
 
-        if (amount.compareTo(payment.getAmount()) >= 0) {
-            payment.setStatus(Payment.PaymentStatus.REFUNDED);
-        } else {
-            payment.setStatus(Payment.PaymentStatus.PARTIALLY_REFUNDED);
+        // Conditional on SUCCEEDED, so concurrent refunds of one payment are recorded and published once
+        Payment savedPayment = paymentRepository.recordRefund(payment.getId(), amount, reason, refundedStatus);
+        if (savedPayment == null) {
+            log.info("Refund {} of payment {} was already recorded", refund.getId(), payment.getId());
+            return paymentRepository.findById(paymentId).orElse(payment);
         }
+        eventPublisher.publish(OutboxEvent.EventType.PAYMENT_REFUNDED, savedPayment.getId(), Map.of(
+                "reservationId", savedPayment.getReservation().getId(),
+                "refundAmount", amount.toPlainString(),
+                "refundId", String.valueOf(refund.getId())));
+        return savedPayment;
+    }
 
-        return paymentRepository.save(payment);
+    /**
+     * Record a successful payment; the outbox confirms its reservation (or group).
+     */
+    private void publishSucceeded(Payment payment) {
+        Map<String, String> payload = new HashMap<>();
+        payload.put(ConfirmReservationOnPaymentHandler.RESERVATION_ID, payment.getReservation().getId());
+        payload.put("amount", payment.getAmount().toPlainString());
+        if (payment.getGroupBookingId() != null) {
+            payload.put(ConfirmReservationOnPaymentHandler.GROUP_BOOKING_ID, payment.getGroupBookingId());
+        }
+        eventPublisher.publish(OutboxEvent.EventType.PAYMENT_SUCCEEDED, payment.getId(), payload);
     }
 
     /**
@@ -178,8 +288,9 @@ public class PaymentService {
      * @param userId user ID
      * @return list of payments
      */
-    public List<Payment> getUserPaymentHistory(String userId) {
-        return paymentRepository.findByUserId(userId);
+    @ReadRoute(value = "payment-history", maxStalenessSeconds = 120)
+    public List<PaymentSummary> getUserPaymentHistory(String userId) {
+        return paymentRepository.findSummariesByUserId(userId);
     }
 
     /**
@@ -187,20 +298,22 @@ public class PaymentService {
      *
      * @return list of all payments
      */
-    public List<Payment> getAllPayments() {
-        return paymentRepository.findAll();
+    @ReadRoute(value = "payment-history", maxStalenessSeconds = 120)
+    public List<PaymentSummary> getAllPayments() {
+        return paymentRepository.findSummaries();
     }
 
     /**
-     * Get payment by ID.
+     * Get payment by ID, falling back to the archive.
      *
      * @param id payment ID
      * @return payment entity
-     * @throws RuntimeException if payment not found
+     * @throws NotFoundException if payment not found
      */
     public Payment getPaymentById(String id) {
-        return paymentRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Payment not found with id: " + id));
+        return unitOfWork.find(Payment.class, id, key -> paymentRepository.findById(key)
+                        .or(() -> paymentRepository.findArchivedById(key)))
+                .orElseThrow(() -> new NotFoundException("Payment", id));
     }
 
     /**
@@ -231,7 +344,8 @@ public class PaymentService {
                 .putMetadata("bookedByManager", "true")
                 .build();
 
-        PaymentIntent paymentIntent = PaymentIntent.create(params);
+        PaymentIntent paymentIntent = stripeGateway.call(StripeGateway.Operation.CREATE_INTENT,
+                options -> PaymentIntent.create(params, options));
 
         // Check if payment succeeded
         if (!"succeeded".equals(paymentIntent.getStatus())) {
@@ -239,8 +353,9 @@ public class PaymentService {
         }
 
         // Retrieve payment method details
-        com.stripe.model.PaymentMethod paymentMethod =
-            com.stripe.model.PaymentMethod.retrieve(paymentMethodId);
+        com.stripe.model.PaymentMethod paymentMethod = stripeGateway.call(
+                StripeGateway.Operation.RETRIEVE_PAYMENT_METHOD,
+                options -> com.stripe.model.PaymentMethod.retrieve(paymentMethodId, options));
 
         // Create payment record
         Payment payment = new Payment();
@@ -265,7 +380,7 @@ public class PaymentService {
         Payment savedPayment = paymentRepository.save(payment);
 
         // Confirm the reservation
-        reservationService.confirmReservation(reservation.getId());
+        publishSucceeded(savedPayment);
 
         return savedPayment;
     }
@@ -333,8 +448,9 @@ public class PaymentService {
         paymentMethodParams.put("card", cardParams);
         paymentMethodParams.put("billing_details", billingDetails);
 
-        com.stripe.model.PaymentMethod paymentMethod =
-            com.stripe.model.PaymentMethod.create(paymentMethodParams);
+        com.stripe.model.PaymentMethod paymentMethod = stripeGateway.call(
+                StripeGateway.Operation.CREATE_PAYMENT_METHOD,
+                options -> com.stripe.model.PaymentMethod.create(paymentMethodParams, options));
 
         // Create and confirm payment intent in one step
         PaymentIntentCreateParams params = PaymentIntentCreateParams.builder()
@@ -348,7 +464,8 @@ public class PaymentService {
                 .putMetadata("bookedByManager", "true")
                 .build();
 
-        PaymentIntent paymentIntent = PaymentIntent.create(params);
+        PaymentIntent paymentIntent = stripeGateway.call(StripeGateway.Operation.CREATE_INTENT,
+                options -> PaymentIntent.create(params, options));
 
         // Check if payment succeeded
         if (!"succeeded".equals(paymentIntent.getStatus())) {
@@ -378,7 +495,7 @@ public class PaymentService {
         Payment savedPayment = paymentRepository.save(payment);
 
         // Confirm the reservation
-        reservationService.confirmReservation(reservation.getId());
+        publishSucceeded(savedPayment);
 
         return savedPayment;
     }
@@ -402,8 +519,7 @@ public class PaymentService {
      * @param event the verified Stripe event
      */
     public void handleWebhookEvent(com.stripe.model.Event event) {
-        // Log event type for monitoring
-        System.out.println("Received Stripe webhook event: " + event.getType());
+        log.info("Received Stripe webhook event {} ({})", event.getId(), event.getType());
 
         switch (event.getType()) {
             case "payment_intent.succeeded":
@@ -416,7 +532,7 @@ public class PaymentService {
                 handleChargeRefunded(event);
                 break;
             default:
-                System.out.println("Unhandled event type: " + event.getType());
+                log.debug("Unhandled Stripe event type {}", event.getType());
         }
     }
 
@@ -436,12 +552,13 @@ public class PaymentService {
                         if (payment.getStatus() != Payment.PaymentStatus.SUCCEEDED) {
                             payment.setStatus(Payment.PaymentStatus.SUCCEEDED);
                             paymentRepository.save(payment);
-                            System.out.println("Payment marked as succeeded: " + payment.getId());
+                            publishSucceeded(payment);
+                            log.info("Payment {} marked as succeeded", payment.getId());
                         }
                     });
             }
         } catch (Exception e) {
-            System.err.println("Error handling payment_intent.succeeded: " + e.getMessage());
+            log.error("Error handling payment_intent.succeeded for event {}", event.getId(), e);
         }
     }
 
@@ -459,11 +576,11 @@ public class PaymentService {
                     .ifPresent(payment -> {
                         payment.setStatus(Payment.PaymentStatus.FAILED);
                         paymentRepository.save(payment);
-                        System.out.println("Payment marked as failed: " + payment.getId());
+                        log.info("Payment {} marked as failed", payment.getId());
                     });
             }
         } catch (Exception e) {
-            System.err.println("Error handling payment_intent.payment_failed: " + e.getMessage());
+            log.error("Error handling payment_intent.payment_failed for event {}", event.getId(), e);
         }
     }
 
@@ -471,7 +588,7 @@ public class PaymentService {
      * Handle refund webhook.
      */
     private void handleChargeRefunded(com.stripe.model.Event event) {
-        System.out.println("Charge refunded event received");
-        // Refunds are already handled by processRefund method
+        log.debug("Charge refunded event {} received", event.getId());
+        // Refunds made here are recorded by processRefund; others are picked up by StripeReconciliationJob
     }
 }
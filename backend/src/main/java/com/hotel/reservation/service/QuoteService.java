@@ -0,0 +1,197 @@
+package com.hotel.reservation.service;
+
+import com.hotel.reservation.dto.quote.QuoteRequest;
+import com.hotel.reservation.dto.quote.StayQuote;
+import com.hotel.reservation.model.CancellationPolicy;
+import com.hotel.reservation.model.Room;
+import com.hotel.reservation.pricing.PricingEngine;
+import com.hotel.reservation.repository.ReservationRepository;
+import com.hotel.reservation.search.OccupancyGrid;
+import com.hotel.reservation.search.RoomSearchIndex;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Read-only pricing of many stays at once.
+ *
+ * Rooms come from the cached search catalog. The rate calendars of every
+ * room type in the batch are pinned from the pricing engine, and occupancy
+ * for every requested room over the whole span of the batch is read with
+ * one streamed query into an {@link OccupancyGrid}, all on the calling
+ * thread; the items are then evaluated in parallel, in slices on a bounded
+ * pool of quote threads, without further I/O. When the pool is saturated the
+ * request thread evaluates its own slices, so a burst of large batches cannot
+ * queue unbounded work or starve the common fork-join pool.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+public class QuoteService {
+
+    private static final int MAX_SPAN_DAYS = 366;
+
+    private final RoomSearchIndex roomSearchIndex;
+    private final ReservationRepository reservationRepository;
+    private final PricingEngine pricingEngine;
+
+    @Value("${app.quotes.threads:4}")
+    private int threads;
+
+    @Value("${app.quotes.queue-capacity:64}")
+    private int queueCapacity;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "quote-worker-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdown();
+    }
+
+    /**
+     * Quote a batch of stays.
+     *
+     * @param items stays to price
+     * @return one quote per item, in request order
+     * @throws IllegalArgumentException if the stays span more than a year
+     */
+    public List<StayQuote> quote(List<QuoteRequest.Item> items) {
+        LocalDate today = LocalDate.now();
+        LocalDate start = null;
+        LocalDate end = null;
+        Map<String, Room> rooms = new HashMap<>();
+        for (QuoteRequest.Item item : items) {
+            if (validDates(item, today)) {
+                start = start == null || item.getCheckInDate().isBefore(start) ? item.getCheckInDate() : start;
+                end = end == null || item.getCheckOutDate().isAfter(end) ? item.getCheckOutDate() : end;
+            }
+            rooms.computeIfAbsent(item.getRoomId(), roomSearchIndex::room);
+        }
+        if (start != null && end.isAfter(start.plusDays(MAX_SPAN_DAYS))) {
+            throw new IllegalArgumentException("Quoted stays cannot span more than " + MAX_SPAN_DAYS + " days");
+        }
+        rooms.values().removeIf(room -> room == null);
+
+        // All reads happen here; the parallel evaluation below only touches memory
+        Set<Room.RoomType> types = new HashSet<>();
+        for (Room room : rooms.values()) {
+            if (room.getType() != null) {
+                types.add(room.getType());
+            }
+        }
+        PricingEngine.RateSheet rates = pricingEngine.rates(types);
+
+        Map<String, int[]> occupancy = new HashMap<>();
+        OccupancyGrid grid = null;
+        if (start != null) {
+            grid = OccupancyGrid.load(reservationRepository, start, end, rooms.keySet());
+            for (String roomId : rooms.keySet()) {
+                occupancy.put(roomId, grid.prefixCounts(roomId));
+            }
+        }
+
+        OccupancyGrid occupied = grid;
+        int sliceSize = Math.max(1, (items.size() + threads - 1) / threads);
+        List<Future<List<StayQuote>>> slices = new ArrayList<>();
+        for (int offset = 0; offset < items.size(); offset += sliceSize) {
+            List<QuoteRequest.Item> slice = items.subList(offset, Math.min(offset + sliceSize, items.size()));
+            slices.add(executor.submit(() -> slice.stream()
+                    .map(item -> quote(item, rooms.get(item.getRoomId()), rates, occupied, occupancy, today))
+                    .toList()));
+        }
+
+        List<StayQuote> quotes = new ArrayList<>(items.size());
+        for (Future<List<StayQuote>> slice : slices) {
+            quotes.addAll(await(slice));
+        }
+        return quotes;
+    }
+
+    private static List<StayQuote> await(Future<List<StayQuote>> slice) {
+        try {
+            return slice.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while quoting", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private StayQuote quote(QuoteRequest.Item item, Room room, PricingEngine.RateSheet rates, OccupancyGrid grid,
+                            Map<String, int[]> occupancy, LocalDate today) {
+        StayQuote.StayQuoteBuilder quote = StayQuote.builder()
+                .roomId(item.getRoomId())
+                .checkInDate(item.getCheckInDate())
+                .checkOutDate(item.getCheckOutDate())
+                .guests(item.getGuests());
+
+        if (room == null) {
+            return quote.reason(StayQuote.Unavailable.ROOM_NOT_FOUND).build();
+        }
+        if (!validDates(item, today)) {
+            return quote.reason(StayQuote.Unavailable.INVALID_DATES).build();
+        }
+
+        long nights = item.getCheckOutDate().toEpochDay() - item.getCheckInDate().toEpochDay();
+        CancellationPolicy policy = CancellationPolicy.forRoom(room);
+        quote.nights(nights)
+                .totalPrice(rates.quote(room, item.getCheckInDate(), item.getCheckOutDate()))
+                .cancellationPolicy(policy);
+        LocalDate freeUntil = item.getCheckInDate().minusDays(policy.getFullRefundDays());
+        if (!freeUntil.isBefore(today)) {
+            quote.freeCancellationUntil(freeUntil);
+        }
+
+        if (!room.isAvailable()) {
+            return quote.reason(StayQuote.Unavailable.ROOM_UNLISTED).build();
+        }
+        if (item.getGuests() > room.getCapacity()) {
+            return quote.reason(StayQuote.Unavailable.CAPACITY_EXCEEDED).build();
+        }
+        if (!grid.isFree(occupancy.get(room.getId()), item.getCheckInDate(), (int) nights)) {
+            return quote.reason(StayQuote.Unavailable.SOLD_OUT).build();
+        }
+        return quote.available(true).build();
+    }
+
+    private static boolean validDates(QuoteRequest.Item item, LocalDate today) {
+        return item.getCheckInDate() != null && item.getCheckOutDate() != null
+                && !item.getCheckInDate().isBefore(today)
+                && item.getCheckOutDate().isAfter(item.getCheckInDate());
+    }
+}
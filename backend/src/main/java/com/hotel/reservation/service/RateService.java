@@ -0,0 +1,152 @@
+package com.hotel.reservation.service;
+
+import com.hotel.reservation.dto.pricing.RateCalendarView;
+import com.hotel.reservation.dto.pricing.RateUpdateRequest;
+import com.hotel.reservation.model.RateCalendar;
+import com.hotel.reservation.model.Room;
+import com.hotel.reservation.pricing.PricingEngine;
+import com.hotel.reservation.repository.RateCalendarRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Service class for managing the per-type rate calendars.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+public class RateService {
+
+    private static final int MAX_CALENDAR_NIGHTS = 3 * 366;
+    private static final int MAX_VIEW_NIGHTS = 366;
+
+    private final RateCalendarRepository rateCalendarRepository;
+    private final PricingEngine pricingEngine;
+
+    /**
+     * Get nightly rates for a window.
+     *
+     * @param type room type
+     * @param startDate first night
+     * @param endDate day after the last night
+     * @return rates, null where the base rate applies
+     * @throws IllegalArgumentException if the window is empty or too long
+     */
+    public RateCalendarView getRates(Room.RoomType type, LocalDate startDate, LocalDate endDate) {
+        if (!endDate.isAfter(startDate)) {
+            throw new IllegalArgumentException("End date must be after start date");
+        }
+        if (endDate.isAfter(startDate.plusDays(MAX_VIEW_NIGHTS))) {
+            throw new IllegalArgumentException("Rate window cannot exceed " + MAX_VIEW_NIGHTS + " days");
+        }
+        RateCalendar calendar = rateCalendarRepository.findById(type.name()).orElseGet(() -> empty(type));
+        return view(calendar, startDate, endDate);
+    }
+
+    /**
+     * Apply a bulk update to a room type's calendar.
+     *
+     * @param type room type
+     * @param request rate ranges and optional length-of-stay discounts
+     * @return rates over the span touched by the update
+     * @throws IllegalArgumentException if a range or discount is invalid or the calendar would grow too long
+     */
+    public RateCalendarView updateRates(Room.RoomType type, RateUpdateRequest request) {
+        RateCalendar calendar = rateCalendarRepository.findById(type.name()).orElseGet(() -> empty(type));
+
+        LocalDate start = calendar.getStartDate();
+        LocalDate end = start == null ? null : start.plusDays(calendar.getNightlyRates().length);
+        LocalDate touchedStart = null;
+        LocalDate touchedEnd = null;
+        for (RateUpdateRequest.RateRange range : request.getRanges()) {
+            if (!range.getEndDate().isAfter(range.getStartDate())) {
+                throw new IllegalArgumentException("End date must be after start date");
+            }
+            start = start == null || range.getStartDate().isBefore(start) ? range.getStartDate() : start;
+            end = end == null || range.getEndDate().isAfter(end) ? range.getEndDate() : end;
+            touchedStart = touchedStart == null || range.getStartDate().isBefore(touchedStart)
+                    ? range.getStartDate() : touchedStart;
+            touchedEnd = touchedEnd == null || range.getEndDate().isAfter(touchedEnd)
+                    ? range.getEndDate() : touchedEnd;
+        }
+
+        if (start != null) {
+            long nights = end.toEpochDay() - start.toEpochDay();
+            if (nights > MAX_CALENDAR_NIGHTS) {
+                throw new IllegalArgumentException("Rate calendar cannot span more than " + MAX_CALENDAR_NIGHTS + " nights");
+            }
+            long[] rates = new long[(int) nights];
+            if (calendar.getStartDate() != null) {
+                int shift = (int) (calendar.getStartDate().toEpochDay() - start.toEpochDay());
+                System.arraycopy(calendar.getNightlyRates(), 0, rates, shift, calendar.getNightlyRates().length);
+            }
+            for (RateUpdateRequest.RateRange range : request.getRanges()) {
+                long cents = range.getRate() == null ? 0
+                        : range.getRate().movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValue();
+                for (LocalDate night = range.getStartDate(); night.isBefore(range.getEndDate());
+                     night = night.plusDays(1)) {
+                    if (range.getDaysOfWeek() == null || range.getDaysOfWeek().contains(night.getDayOfWeek())) {
+                        rates[(int) (night.toEpochDay() - start.toEpochDay())] = cents;
+                    }
+                }
+            }
+            calendar.setStartDate(start);
+            calendar.setNightlyRates(rates);
+        }
+
+        if (request.getLengthOfStayDiscounts() != null) {
+            for (RateCalendar.LengthOfStayDiscount discount : request.getLengthOfStayDiscounts()) {
+                if (discount.getMinNights() < 2) {
+                    throw new IllegalArgumentException("Length-of-stay discounts need a minimum of at least 2 nights");
+                }
+                if (discount.getDiscountBasisPoints() < 0 || discount.getDiscountBasisPoints() > 10_000) {
+                    throw new IllegalArgumentException("Discount must be between 0 and 10000 basis points");
+                }
+            }
+            calendar.setLengthOfStayDiscounts(new ArrayList<>(request.getLengthOfStayDiscounts()));
+        }
+
+        RateCalendar saved = rateCalendarRepository.save(calendar);
+        pricingEngine.invalidate(type);
+
+        if (touchedStart == null) {
+            touchedStart = saved.getStartDate() == null ? LocalDate.now() : saved.getStartDate();
+            touchedEnd = touchedStart.plusDays(saved.getNightlyRates().length);
+        }
+        return view(saved, touchedStart, touchedEnd);
+    }
+
+    private RateCalendarView view(RateCalendar calendar, LocalDate startDate, LocalDate endDate) {
+        List<BigDecimal> nightlyRates = new ArrayList<>();
+        long[] rates = calendar.getNightlyRates();
+        for (LocalDate night = startDate; night.isBefore(endDate); night = night.plusDays(1)) {
+            long cents = 0;
+            if (calendar.getStartDate() != null) {
+                long index = night.toEpochDay() - calendar.getStartDate().toEpochDay();
+                cents = index >= 0 && index < rates.length ? rates[(int) index] : 0;
+            }
+            nightlyRates.add(cents == 0 ? null : BigDecimal.valueOf(cents, 2));
+        }
+        return RateCalendarView.builder()
+                .roomType(calendar.getRoomType())
+                .startDate(startDate)
+                .nightlyRates(nightlyRates)
+                .lengthOfStayDiscounts(calendar.getLengthOfStayDiscounts())
+                .build();
+    }
+
+    private RateCalendar empty(Room.RoomType type) {
+        RateCalendar calendar = new RateCalendar();
+        calendar.setId(type.name());
+        calendar.setRoomType(type);
+        return calendar;
+    }
+}
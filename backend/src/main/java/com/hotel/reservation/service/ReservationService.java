@@ -1,17 +1,36 @@
 package com.hotel.reservation.service;
 
+import com.hotel.reservation.dto.GroupBookingRequest;
+import com.hotel.reservation.dto.view.ReservationSummary;
+import com.hotel.reservation.event.DomainEventPublisher;
+import com.hotel.reservation.exception.CapacityExceededException;
+import com.hotel.reservation.exception.InvalidStatusTransitionException;
+import com.hotel.reservation.exception.NotFoundException;
+import com.hotel.reservation.exception.UnavailableException;
+import com.hotel.reservation.model.OutboxEvent;
 import com.hotel.reservation.model.Reservation;
 import com.hotel.reservation.model.Room;
 import com.hotel.reservation.model.User;
+import com.hotel.reservation.persistence.RequestUnitOfWork;
+import com.hotel.reservation.pricing.PricingEngine;
 import com.hotel.reservation.repository.ReservationRepository;
 import com.hotel.reservation.repository.RoomRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -22,45 +41,36 @@ import java.util.stream.Collectors;
  * @version 1.0
  */
 @Service
+@RequiredArgsConstructor
 public class ReservationService {
 
     private final ReservationRepository reservationRepository;
     private final RoomRepository roomRepository;
     private final RoomService roomService;
-    private final com.hotel.reservation.repository.PaymentRepository paymentRepository;
-    private final com.hotel.reservation.service.PaymentService paymentService;
-
-    public ReservationService(ReservationRepository reservationRepository,
-                              RoomRepository roomRepository,
-                              RoomService roomService,
-                              @org.springframework.context.annotation.Lazy com.hotel.reservation.repository.PaymentRepository paymentRepository,
-                              @org.springframework.context.annotation.Lazy com.hotel.reservation.service.PaymentService paymentService) {
-        this.reservationRepository = reservationRepository;
-        this.roomRepository = roomRepository;
-        this.roomService = roomService;
-        this.paymentRepository = paymentRepository;
-        this.paymentService = paymentService;
-    }
+    private final DomainEventPublisher eventPublisher;
+    private final RequestUnitOfWork unitOfWork;
+    private final PricingEngine pricingEngine;
 
     /**
      * Get all reservations.
      *
      * @return list of all reservations
      */
-    public List<Reservation> getAllReservations() {
-        return reservationRepository.findAll();
+    public List<ReservationSummary> getAllReservations() {
+        return reservationRepository.findSummaries();
     }
 
     /**
-     * Get reservation by ID.
+     * Get reservation by ID, falling back to the archive.
      *
      * @param id reservation ID
      * @return reservation entity
-     * @throws RuntimeException if reservation not found
+     * @throws NotFoundException if reservation not found
      */
     public Reservation getReservationById(String id) {
-        return reservationRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Reservation not found with id: " + id));
+        return unitOfWork.find(Reservation.class, id, key -> reservationRepository.findById(key)
+                        .or(() -> reservationRepository.findArchivedById(key)))
+                .orElseThrow(() -> new NotFoundException("Reservation", id));
     }
 
     /**
@@ -69,8 +79,8 @@ public class ReservationService {
      * @param userId user ID
      * @return list of user's reservations
      */
-    public List<Reservation> getUserReservations(String userId) {
-        return reservationRepository.findByUserId(userId);
+    public List<ReservationSummary> getUserReservations(String userId) {
+        return reservationRepository.findSummariesByUserId(userId);
     }
 
     /**
@@ -84,7 +94,9 @@ public class ReservationService {
      * @param numberOfGuests number of guests
      * @param specialRequests special requests
      * @return created reservation
-     * @throws RuntimeException if room is not available or capacity exceeded
+     * @throws NotFoundException if the room does not exist
+     * @throws CapacityExceededException if the room is too small
+     * @throws UnavailableException if the room is booked for those dates
      */
     @Transactional
     public synchronized Reservation createReservation(
@@ -96,19 +108,18 @@ public class ReservationService {
             String specialRequests) {
 
         Room room = roomRepository.findById(roomId)
-                .orElseThrow(() -> new RuntimeException("Room not found"));
+                .orElseThrow(() -> new NotFoundException("Room", roomId));
 
         if (numberOfGuests > room.getCapacity()) {
-            throw new RuntimeException("Number of guests exceeds room capacity");
+            throw new CapacityExceededException(numberOfGuests, room.getCapacity(),
+                    "Number of guests exceeds room capacity");
         }
 
         if (!roomService.isRoomAvailable(roomId, checkInDate, checkOutDate)) {
-            throw new RuntimeException("Room is not available for the selected dates");
+            throw new UnavailableException("Room is not available for the selected dates");
         }
 
-        long numberOfNights = ChronoUnit.DAYS.between(checkInDate, checkOutDate);
-        BigDecimal totalAmount = room.getPricePerNight()
-                .multiply(BigDecimal.valueOf(numberOfNights));
+        BigDecimal totalAmount = pricingEngine.quote(room, checkInDate, checkOutDate);
 
         Reservation reservation = new Reservation();
         reservation.setUser(user);
@@ -120,18 +131,173 @@ public class ReservationService {
         reservation.setSpecialRequests(specialRequests);
         reservation.setStatus(Reservation.ReservationStatus.PENDING);
 
-        return reservationRepository.save(reservation);
+        Reservation saved = reservationRepository.save(reservation);
+        eventPublisher.publish(OutboxEvent.EventType.RESERVATION_CREATED, saved.getId(), Map.of(
+                "roomId", roomId,
+                "userId", String.valueOf(user.getId()),
+                "checkInDate", checkInDate.toString(),
+                "checkOutDate", checkOutDate.toString()));
+        return saved;
+    }
+
+    /**
+     * Reserve several rooms for the same dates, all or nothing.
+     * Availability of every candidate room is read with one query and the
+     * reservations are written with one bulk insert, under the same lock as
+     * single bookings. No events are recorded until
+     * {@link #publishGroupCreated} so a failed group leaves no trace.
+     *
+     * @param user the user making the booking
+     * @param request rooms or room type and quantity, dates and guests
+     * @param groupBookingId ID shared by the group's reservations
+     * @return created reservations (PENDING)
+     * @throws IllegalArgumentException if the request is malformed
+     * @throws NotFoundException if a room is missing
+     * @throws CapacityExceededException if a room is too small
+     * @throws UnavailableException if a room is booked for those dates
+     */
+    @Transactional
+    public synchronized List<Reservation> createGroupReservations(User user, GroupBookingRequest request,
+                                                                  String groupBookingId) {
+        LocalDate checkInDate = request.getCheckInDate();
+        LocalDate checkOutDate = request.getCheckOutDate();
+        if (checkInDate.isBefore(LocalDate.now())) {
+            throw new IllegalArgumentException("Check-in date cannot be in the past");
+        }
+        if (!checkOutDate.isAfter(checkInDate)) {
+            throw new IllegalArgumentException("Check-out date must be after check-in date");
+        }
+        boolean byRoom = request.getRoomIds() != null && !request.getRoomIds().isEmpty();
+        if (byRoom == (request.getRoomType() != null)) {
+            throw new IllegalArgumentException("Either room IDs or a room type is required");
+        }
+
+        Set<String> booked = reservationRepository.findBookedRoomIds(checkInDate, checkOutDate);
+        List<Room> rooms;
+        if (byRoom) {
+            Set<String> roomIds = new LinkedHashSet<>(request.getRoomIds());
+            if (roomIds.size() != request.getRoomIds().size()) {
+                throw new IllegalArgumentException("Each room can only be booked once per group");
+            }
+            rooms = new ArrayList<>();
+            roomRepository.findAllById(roomIds).forEach(rooms::add);
+            if (rooms.size() != roomIds.size()) {
+                throw new NotFoundException("Room");
+            }
+            for (Room room : rooms) {
+                if (request.getGuestsPerRoom() > room.getCapacity()) {
+                    throw new CapacityExceededException(request.getGuestsPerRoom(), room.getCapacity(),
+                            "Number of guests exceeds capacity of room " + room.getName());
+                }
+            }
+            List<String> unavailable = rooms.stream()
+                    .filter(room -> booked.contains(room.getId()))
+                    .map(Room::getId)
+                    .toList();
+            if (!unavailable.isEmpty()) {
+                throw new UnavailableException("Rooms not available for the selected dates: " + unavailable);
+            }
+        } else {
+            int quantity = request.getQuantity() == null ? 1 : request.getQuantity();
+            // Cheapest free rooms of the type
+            rooms = roomRepository.findByTypeAndAvailable(request.getRoomType(), true).stream()
+                    .filter(room -> request.getGuestsPerRoom() <= room.getCapacity())
+                    .filter(room -> !booked.contains(room.getId()))
+                    .sorted(Comparator.comparing(Room::getPricePerNight))
+                    .limit(quantity)
+                    .toList();
+            if (rooms.size() < quantity) {
+                throw new UnavailableException("Only " + rooms.size() + " " + request.getRoomType()
+                        + " rooms are available for the selected dates");
+            }
+        }
+
+        List<Reservation> reservations = new ArrayList<>(rooms.size());
+        for (Room room : rooms) {
+            Reservation reservation = new Reservation();
+            reservation.setUser(user);
+            reservation.setRoom(room);
+            reservation.setCheckInDate(checkInDate);
+            reservation.setCheckOutDate(checkOutDate);
+            reservation.setNumberOfGuests(request.getGuestsPerRoom());
+            reservation.setTotalAmount(pricingEngine.quote(room, checkInDate, checkOutDate));
+            reservation.setSpecialRequests(request.getSpecialRequests());
+            reservation.setStatus(Reservation.ReservationStatus.PENDING);
+            reservation.setGroupBookingId(groupBookingId);
+            reservations.add(reservation);
+        }
+
+        try {
+            return reservationRepository.saveAll(reservations);
+        } catch (RuntimeException e) {
+            // A bulk insert can fail part-way; remove whatever made it in
+            reservationRepository.deleteByGroupBookingId(groupBookingId);
+            throw e;
+        }
+    }
+
+    /**
+     * Record RESERVATION_CREATED for every reservation of a group.
+     *
+     * @param reservations the group's reservations
+     */
+    public void publishGroupCreated(List<Reservation> reservations) {
+        Map<String, Map<String, String>> payloads = new LinkedHashMap<>();
+        for (Reservation reservation : reservations) {
+            payloads.put(reservation.getId(), Map.of(
+                    "roomId", reservation.getRoom().getId(),
+                    "userId", String.valueOf(reservation.getUser().getId()),
+                    "checkInDate", reservation.getCheckInDate().toString(),
+                    "checkOutDate", reservation.getCheckOutDate().toString()));
+        }
+        eventPublisher.publishAll(OutboxEvent.EventType.RESERVATION_CREATED, payloads);
+    }
+
+    /**
+     * Remove a group whose booking could not be completed.
+     *
+     * @param groupBookingId group booking ID
+     */
+    @Transactional
+    public void deleteGroup(String groupBookingId) {
+        reservationRepository.deleteByGroupBookingId(groupBookingId);
+    }
+
+    /**
+     * Confirm every reservation of a group; members cancelled in the meantime
+     * are skipped.
+     *
+     * @param groupBookingId group booking ID
+     * @return number of reservations confirmed or already confirmed
+     */
+    public int confirmGroup(String groupBookingId) {
+        int confirmed = 0;
+        for (Reservation reservation : reservationRepository.findByGroupBookingId(groupBookingId)) {
+            try {
+                confirmReservation(reservation.getId());
+                confirmed++;
+            } catch (InvalidStatusTransitionException e) {
+                // Cancelled or already past confirmation
+            }
+        }
+        return confirmed;
     }
 
     /**
      * Update an existing reservation.
+     * Only the stay (dates, guests, amount) is written, conditionally on the
+     * reservation still being PENDING or CONFIRMED, so a cancel or confirm
+     * that lands while the update is computed is never undone.
      *
      * @param id reservation ID
      * @param checkInDate new check-in date
      * @param checkOutDate new check-out date
      * @param numberOfGuests new number of guests
      * @return updated reservation
-     * @throws RuntimeException if reservation not found or room not available
+     * @throws NotFoundException if reservation not found
+     * @throws InvalidStatusTransitionException if the reservation is no longer pending or confirmed, or is archived
+     * @throws CapacityExceededException if the room is too small
+     * @throws UnavailableException if the room is booked for the new dates
      */
     @Transactional
     public synchronized Reservation updateReservation(
@@ -140,16 +306,20 @@ public class ReservationService {
             LocalDate checkOutDate,
             int numberOfGuests) {
 
-        Reservation reservation = getReservationById(id);
+        Reservation reservation = getModifiableReservation(id);
 
-        if (reservation.getStatus() == Reservation.ReservationStatus.CANCELLED) {
-            throw new RuntimeException("Cannot modify cancelled reservation");
+        if (!reservation.getStatus().allowsStayChanges()) {
+            throw new InvalidStatusTransitionException(reservation.getStatus(), null,
+                    reservation.getStatus() == Reservation.ReservationStatus.CANCELLED
+                            ? "Cannot modify cancelled reservation"
+                            : "Cannot modify " + reservation.getStatus().name().toLowerCase() + " reservation");
         }
 
         Room room = reservation.getRoom();
 
         if (numberOfGuests > room.getCapacity()) {
-            throw new RuntimeException("Number of guests exceeds room capacity");
+            throw new CapacityExceededException(numberOfGuests, room.getCapacity(),
+                    "Number of guests exceeds room capacity");
         }
 
         List<?> overlappingReservations = reservationRepository
@@ -159,71 +329,170 @@ public class ReservationService {
                 .collect(Collectors.toList());
 
         if (!overlappingReservations.isEmpty()) {
-            throw new RuntimeException("Room is not available for the selected dates");
+            throw new UnavailableException("Room is not available for the selected dates");
         }
 
-        long numberOfNights = ChronoUnit.DAYS.between(checkInDate, checkOutDate);
-        BigDecimal totalAmount = room.getPricePerNight()
-                .multiply(BigDecimal.valueOf(numberOfNights));
+        BigDecimal totalAmount = pricingEngine.quote(room, checkInDate, checkOutDate);
 
-        reservation.setCheckInDate(checkInDate);
-        reservation.setCheckOutDate(checkOutDate);
-        reservation.setNumberOfGuests(numberOfGuests);
-        reservation.setTotalAmount(totalAmount);
+        LocalDate previousCheckIn = reservation.getCheckInDate();
+        LocalDate previousCheckOut = reservation.getCheckOutDate();
 
-        return reservationRepository.save(reservation);
+        Reservation updated = reservationRepository.updateStay(id, checkInDate, checkOutDate, numberOfGuests,
+                totalAmount);
+        if (updated == null) {
+            Reservation.ReservationStatus current = currentStatus(id);
+            throw new InvalidStatusTransitionException(current, null,
+                    "Reservation became " + current + " while being modified");
+        }
+        eventPublisher.publish(OutboxEvent.EventType.RESERVATION_UPDATED, id, Map.of(
+                "roomId", room.getId(),
+                "previousCheckInDate", previousCheckIn.toString(),
+                "previousCheckOutDate", previousCheckOut.toString(),
+                "checkInDate", checkInDate.toString(),
+                "checkOutDate", checkOutDate.toString()));
+        return updated;
     }
 
     /**
      * Cancel a reservation.
+     * A full refund is recorded with the cancellation and issued by the refund worker.
      *
      * @param id reservation ID
      * @param reason cancellation reason
      * @return cancelled reservation
-     * @throws RuntimeException if reservation not found or already cancelled
+     * @throws NotFoundException if reservation not found
+     * @throws InvalidStatusTransitionException if the reservation is already cancelled or completed
      */
     @Transactional
     public Reservation cancelReservation(String id, String reason) {
-        Reservation reservation = getReservationById(id);
+        Reservation cancelled = cancel(id, reason,
+                new Reservation.PendingRefund(null, null, reason, LocalDateTime.now()));
+        eventPublisher.reservationCancelled(cancelled);
+        return cancelled;
+    }
 
-        if (reservation.getStatus() == Reservation.ReservationStatus.CANCELLED) {
-            throw new RuntimeException("Reservation is already cancelled");
-        }
+    /**
+     * Move a reservation to CANCELLED without publishing an event.
+     *
+     * @param id reservation ID
+     * @param reason cancellation reason
+     * @return cancelled reservation
+     * @throws NotFoundException if reservation not found
+     * @throws InvalidStatusTransitionException if the reservation is already cancelled or completed
+     */
+    public Reservation cancel(String id, String reason) {
+        return cancel(id, reason, null);
+    }
 
-        if (reservation.getStatus() == Reservation.ReservationStatus.CHECKED_OUT) {
-            throw new RuntimeException("Cannot cancel completed reservation");
+    /**
+     * Move a reservation to CANCELLED without publishing an event, recording
+     * the refund it owes in the same update. The refund queue picks the
+     * refund up from the reservation, so it cannot be lost between the
+     * cancellation and a separate write.
+     *
+     * @param id reservation ID
+     * @param reason cancellation reason
+     * @param refund refund owed by the cancellation, or null
+     * @return cancelled reservation
+     * @throws NotFoundException if reservation not found
+     * @throws InvalidStatusTransitionException if the reservation is already cancelled or completed
+     */
+    public Reservation cancel(String id, String reason, Reservation.PendingRefund refund) {
+        Update changes = new Update()
+                .set("cancellationReason", reason)
+                .set("cancelledAt", LocalDateTime.now());
+        if (refund != null) {
+            changes.set("pendingRefund", refund);
         }
-
-        reservation.setStatus(Reservation.ReservationStatus.CANCELLED);
-        reservation.setCancellationReason(reason);
-        reservation.setCancelledAt(java.time.LocalDateTime.now());
-
-        // Refund payment on Stripe if exists
-        paymentRepository.findByReservationId(id).ifPresent(payment -> {
-            if (payment.getStatus() == com.hotel.reservation.model.Payment.PaymentStatus.SUCCEEDED) {
-                try {
-                    paymentService.processRefund(payment.getId(), payment.getAmount(), reason);
-                } catch (com.stripe.exception.StripeException e) {
-                    // Log error, but do not block cancellation
-                    System.err.println("Stripe refund failed: " + e.getMessage());
-                }
-            }
-        });
-
-        return reservationRepository.save(reservation);
+        return transition(id, Reservation.ReservationStatus.CANCELLED, changes);
     }
 
     /**
      * Confirm a reservation (after payment).
+     * Confirming an already confirmed reservation is a no-op.
      *
      * @param id reservation ID
      * @return confirmed reservation
+     * @throws InvalidStatusTransitionException if the reservation is no longer pending
      */
     @Transactional
     public Reservation confirmReservation(String id) {
-        Reservation reservation = getReservationById(id);
-        reservation.setStatus(Reservation.ReservationStatus.CONFIRMED);
-        return reservationRepository.save(reservation);
+        Reservation confirmed = reservationRepository.transitionStatus(id, Reservation.ReservationStatus.CONFIRMED, null);
+        if (confirmed == null) {
+            Reservation.ReservationStatus current = currentStatus(id);
+            if (current == Reservation.ReservationStatus.CONFIRMED) {
+                return getReservationById(id);
+            }
+            throw new InvalidStatusTransitionException(current, Reservation.ReservationStatus.CONFIRMED);
+        }
+        eventPublisher.publish(OutboxEvent.EventType.RESERVATION_CONFIRMED, id);
+        return confirmed;
+    }
+
+    /**
+     * Change the status of a reservation (admin operation).
+     *
+     * @param id reservation ID
+     * @param status new status
+     * @return updated reservation
+     * @throws NotFoundException if reservation not found
+     * @throws InvalidStatusTransitionException if the transition is not allowed
+     */
+    @Transactional
+    public Reservation updateStatus(String id, Reservation.ReservationStatus status) {
+        return switch (status) {
+            case CONFIRMED -> confirmReservation(id);
+            case CANCELLED -> {
+                Reservation cancelled = cancel(id, "Cancelled by staff");
+                eventPublisher.reservationCancelled(cancelled);
+                yield cancelled;
+            }
+            default -> transition(id, status, null);
+        };
+    }
+
+    /**
+     * Apply a conditional status transition, explaining why it was rejected.
+     */
+    private Reservation transition(String id, Reservation.ReservationStatus target, Update changes) {
+        Reservation updated = reservationRepository.transitionStatus(id, target, changes);
+        if (updated != null) {
+            return updated;
+        }
+
+        Reservation.ReservationStatus current = currentStatus(id);
+        if (target == Reservation.ReservationStatus.CANCELLED) {
+            if (current == Reservation.ReservationStatus.CANCELLED) {
+                throw new InvalidStatusTransitionException(current, target, "Reservation is already cancelled");
+            }
+            if (current == Reservation.ReservationStatus.CHECKED_OUT) {
+                throw new InvalidStatusTransitionException(current, target, "Cannot cancel completed reservation");
+            }
+        }
+        throw new InvalidStatusTransitionException(current, target);
+    }
+
+    /**
+     * Load a reservation for modification from the live collection only.
+     * Archived reservations are read-only: writing one back would recreate
+     * it next to its archived copy.
+     */
+    private Reservation getModifiableReservation(String id) {
+        Optional<Reservation> live = reservationRepository.findById(id);
+        if (live.isPresent()) {
+            return live.get();
+        }
+        Reservation archived = reservationRepository.findArchivedById(id)
+                .orElseThrow(() -> new NotFoundException("Reservation", id));
+        throw new InvalidStatusTransitionException(archived.getStatus(), null, "Cannot modify archived reservation");
+    }
+
+    /**
+     * Read the current status after a rejected transition (failure path only).
+     */
+    private Reservation.ReservationStatus currentStatus(String id) {
+        return reservationRepository.findStatusById(id)
+                .orElseThrow(() -> new NotFoundException("Reservation", id));
     }
 
     /**
@@ -233,7 +502,18 @@ public class ReservationService {
      * @param endDate end date
      * @return list of reservations in date range
      */
-    public List<Reservation> getReservationsByDateRange(LocalDate startDate, LocalDate endDate) {
-        return reservationRepository.findByDateRange(startDate, endDate);
+    public List<ReservationSummary> getReservationsByDateRange(LocalDate startDate, LocalDate endDate) {
+        return reservationRepository.findSummariesByDateRange(startDate, endDate);
+    }
+
+    /**
+     * Get reservations checking in strictly between two dates.
+     *
+     * @param startDate start date
+     * @param endDate end date
+     * @return list of reservations checking in within the range
+     */
+    public List<ReservationSummary> getReservationsByCheckInDate(LocalDate startDate, LocalDate endDate) {
+        return reservationRepository.findSummariesByCheckInDateBetween(startDate, endDate);
     }
 }
@@ -1,15 +1,29 @@
 package com.hotel.reservation.service;
 
+import com.hotel.reservation.dto.search.AlternativeStay;
+import com.hotel.reservation.dto.search.RoomSearchResult;
+import com.hotel.reservation.exception.NotFoundException;
 import com.hotel.reservation.model.Room;
+import com.hotel.reservation.persistence.ReadRoute;
+import com.hotel.reservation.pricing.PricingEngine;
 import com.hotel.reservation.repository.RoomRepository;
 import com.hotel.reservation.repository.ReservationRepository;
+import com.hotel.reservation.search.OccupancyGrid;
+import com.hotel.reservation.search.RoomSearchIndex;
+import com.hotel.reservation.search.RoomSearchQuery;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -23,14 +37,21 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class RoomService {
 
+    private static final int MAX_NIGHTS = 30;
+    private static final int MAX_FLEX_DAYS = 60;
+    private static final int MAX_SUGGESTIONS = 20;
+
     private final RoomRepository roomRepository;
     private final ReservationRepository reservationRepository;
+    private final RoomSearchIndex roomSearchIndex;
+    private final PricingEngine pricingEngine;
 
     /**
      * Get all rooms.
      *
      * @return list of all rooms
      */
+    @ReadRoute(value = "catalog", maxStalenessSeconds = 120)
     public List<Room> getAllRooms() {
         return roomRepository.findAll();
     }
@@ -40,11 +61,12 @@ public class RoomService {
      *
      * @param id room ID
      * @return room entity
-     * @throws RuntimeException if room not found
+     * @throws NotFoundException if room not found
      */
+    @ReadRoute(value = "catalog", maxStalenessSeconds = 120)
     public Room getRoomById(String id) {
         return roomRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Room not found with id: " + id));
+                .orElseThrow(() -> new NotFoundException("Room", id));
     }
 
     /**
@@ -55,6 +77,7 @@ public class RoomService {
      * @param guests number of guests
      * @return list of available rooms
      */
+    @ReadRoute(value = "catalog", maxStalenessSeconds = 120)
     public List<Room> getAvailableRooms(LocalDate checkInDate, LocalDate checkOutDate, int guests) {
         List<Room> allRooms = roomRepository.findByCapacityGreaterThanEqual(guests);
 
@@ -94,7 +117,7 @@ public class RoomService {
      * @param id room ID
      * @param roomDetails updated room details
      * @return updated room
-     * @throws RuntimeException if room not found
+     * @throws NotFoundException if room not found
      */
     @Transactional
     public Room updateRoom(String id, Room roomDetails) {
@@ -119,7 +142,7 @@ public class RoomService {
      * Delete a room.
      *
      * @param id room ID
-     * @throws RuntimeException if room not found
+     * @throws NotFoundException if room not found
      */
     @Transactional
     public void deleteRoom(String id) {
@@ -135,6 +158,7 @@ public class RoomService {
      * @param maxPrice maximum price (optional)
      * @return list of filtered rooms
      */
+    @ReadRoute(value = "catalog", maxStalenessSeconds = 120)
     public List<Room> filterRooms(Room.RoomType type, BigDecimal minPrice, BigDecimal maxPrice) {
         // Start with all available rooms or rooms of specific type
         List<Room> rooms;
@@ -153,4 +177,129 @@ public class RoomService {
                 })
                 .collect(Collectors.toList());
     }
+
+    /**
+     * Faceted search over the room catalog, optionally limited to rooms
+     * free for the given dates and priced for that stay.
+     *
+     * @param query search criteria
+     * @return matching rooms with facet counts
+     * @throws IllegalArgumentException if only one date is given or the dates are out of order
+     */
+    @ReadRoute(value = "catalog", maxStalenessSeconds = 120)
+    public RoomSearchResult searchRooms(RoomSearchQuery query) {
+        LocalDate checkIn = query.getCheckInDate();
+        LocalDate checkOut = query.getCheckOutDate();
+        if ((checkIn == null) != (checkOut == null)) {
+            throw new IllegalArgumentException("Both check-in and check-out dates are required");
+        }
+
+        Set<String> booked = Collections.emptySet();
+        if (checkIn != null) {
+            if (!checkOut.isAfter(checkIn)) {
+                throw new IllegalArgumentException("Check-out date must be after check-in date");
+            }
+            booked = reservationRepository.findBookedRoomIds(checkIn, checkOut);
+        }
+        RoomSearchResult result = roomSearchIndex.search(query, booked);
+        if (checkIn != null) {
+            Map<String, BigDecimal> stayTotals = new LinkedHashMap<>();
+            result.getRooms().forEach(room ->
+                    stayTotals.put(room.getId(), pricingEngine.quote(room, checkIn, checkOut)));
+            result.setStayTotals(stayTotals);
+        }
+        return result;
+    }
+
+    /**
+     * Nearest free stays of the requested length around a preferred check-in,
+     * for one room or any listed room of a type. At most one suggestion per
+     * check-in date (the cheapest free room), closest dates first, earlier
+     * before later on ties.
+     *
+     * Bookings overlapping the whole search window are loaded in one projected
+     * query into an {@link OccupancyGrid}; every candidate date is then a
+     * constant-time prefix-count check per room.
+     *
+     * @param roomId room ID (either this or type)
+     * @param type room type (either this or roomId)
+     * @param checkInDate preferred check-in date
+     * @param nights stay length
+     * @param flexDays how many days earlier or later the stay may move
+     * @param limit maximum number of suggestions
+     * @return suggestions, nearest first
+     * @throws IllegalArgumentException if the parameters are out of range
+     */
+    public List<AlternativeStay> findAlternatives(String roomId, Room.RoomType type, LocalDate checkInDate,
+                                                  int nights, int flexDays, int limit) {
+        if ((roomId == null) == (type == null)) {
+            throw new IllegalArgumentException("Exactly one of roomId or type is required");
+        }
+        if (nights < 1 || nights > MAX_NIGHTS) {
+            throw new IllegalArgumentException("Nights must be between 1 and " + MAX_NIGHTS);
+        }
+        if (flexDays < 0 || flexDays > MAX_FLEX_DAYS) {
+            throw new IllegalArgumentException("Flex days must be between 0 and " + MAX_FLEX_DAYS);
+        }
+        if (limit < 1 || limit > MAX_SUGGESTIONS) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_SUGGESTIONS);
+        }
+
+        List<Room> rooms = roomId != null
+                ? List.of(getRoomById(roomId))
+                : roomRepository.findByTypeAndAvailable(type, true);
+        rooms = rooms.stream()
+                .filter(room -> room.getPricePerNight() != null)
+                .sorted(Comparator.comparing(Room::getPricePerNight))
+                .toList();
+
+        LocalDate today = LocalDate.now();
+        LocalDate earliest = checkInDate.minusDays(flexDays);
+        if (earliest.isBefore(today)) {
+            earliest = today;
+        }
+        LocalDate latest = checkInDate.plusDays(flexDays);
+        if (rooms.isEmpty() || latest.isBefore(earliest)) {
+            return Collections.emptyList();
+        }
+
+        OccupancyGrid grid = OccupancyGrid.load(reservationRepository, earliest, latest.plusDays(nights),
+                rooms.stream().map(Room::getId).toList());
+
+        List<int[]> prefixes = new ArrayList<>(rooms.size());
+        rooms.forEach(room -> prefixes.add(grid.prefixCounts(room.getId())));
+
+        List<AlternativeStay> suggestions = new ArrayList<>();
+        for (int distance = 0; distance <= flexDays && suggestions.size() < limit; distance++) {
+            addCheapestFree(suggestions, grid, rooms, prefixes, checkInDate, -distance, nights, limit);
+            if (distance > 0) {
+                addCheapestFree(suggestions, grid, rooms, prefixes, checkInDate, distance, nights, limit);
+            }
+        }
+        return suggestions;
+    }
+
+    private void addCheapestFree(List<AlternativeStay> suggestions, OccupancyGrid grid, List<Room> rooms,
+                                 List<int[]> prefixes, LocalDate preferred, int offset, int nights, int limit) {
+        if (suggestions.size() >= limit) {
+            return;
+        }
+        LocalDate checkIn = preferred.plusDays(offset);
+        // Rooms share one type calendar and are sorted by base price, so the first free one is the cheapest
+        for (int i = 0; i < rooms.size(); i++) {
+            if (grid.isFree(prefixes.get(i), checkIn, nights)) {
+                Room room = rooms.get(i);
+                suggestions.add(AlternativeStay.builder()
+                        .roomId(room.getId())
+                        .roomName(room.getName())
+                        .roomType(room.getType())
+                        .checkInDate(checkIn)
+                        .checkOutDate(checkIn.plusDays(nights))
+                        .offsetDays(offset)
+                        .totalPrice(pricingEngine.quote(room, checkIn, checkIn.plusDays(nights)))
+                        .build());
+                return;
+            }
+        }
+    }
 }
@@ -0,0 +1,285 @@
+package com.hotel.reservation.service;
+
+import com.hotel.reservation.dto.WaitlistRequest;
+import com.hotel.reservation.exception.NotFoundException;
+import com.hotel.reservation.model.EmailMessage;
+import com.hotel.reservation.model.Reservation;
+import com.hotel.reservation.model.Room;
+import com.hotel.reservation.model.User;
+import com.hotel.reservation.model.WaitlistEntry;
+import com.hotel.reservation.repository.EmailMessageRepository;
+import com.hotel.reservation.repository.ReservationRepository;
+import com.hotel.reservation.repository.RoomRepository;
+import com.hotel.reservation.repository.UserRepository;
+import com.hotel.reservation.repository.WaitlistRepository;
+import com.hotel.reservation.waitlist.WaitlistIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service class for the room waitlist.
+ *
+ * When a room frees up, waiting entries for that room or its type whose
+ * dates overlap the freed nights are offered the room oldest first. An offer
+ * is a PENDING reservation the guest has app.waitlist.hold-minutes to pay
+ * for; an unpaid hold is cancelled, which frees the room for the next entry.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WaitlistService {
+
+    static final String HOLD_NOTE = "Held for you from the waitlist";
+
+    private static final int MAX_NIGHTS = 30;
+
+    private final WaitlistRepository waitlistRepository;
+    private final WaitlistIndex waitlistIndex;
+    private final RoomRepository roomRepository;
+    private final UserRepository userRepository;
+    private final ReservationRepository reservationRepository;
+    private final ReservationService reservationService;
+    private final RoomService roomService;
+    private final EmailMessageRepository emailMessageRepository;
+
+    @Value("${app.waitlist.hold-minutes:30}")
+    private long holdMinutes;
+
+    @Value("${app.waitlist.max-entries-per-user:10}")
+    private long maxEntriesPerUser;
+
+    @Value("${app.email.enabled:false}")
+    private boolean emailEnabled;
+
+    /**
+     * Join the waitlist.
+     *
+     * @param user the waiting user
+     * @param request room or room type, dates and guests
+     * @return the new entry
+     * @throws IllegalArgumentException if the request is malformed or the room is bookable now
+     */
+    public WaitlistEntry join(User user, WaitlistRequest request) {
+        if ((request.getRoomId() == null) == (request.getRoomType() == null)) {
+            throw new IllegalArgumentException("Exactly one of roomId or roomType is required");
+        }
+        long nights = request.getCheckOutDate().toEpochDay() - request.getCheckInDate().toEpochDay();
+        if (nights < 1 || nights > MAX_NIGHTS) {
+            throw new IllegalArgumentException("Stay must be between 1 and " + MAX_NIGHTS + " nights");
+        }
+        if (waitlistRepository.countByUserIdAndStatus(user.getId(), WaitlistEntry.WaitlistStatus.WAITING)
+                >= maxEntriesPerUser) {
+            throw new IllegalArgumentException("You can be on at most " + maxEntriesPerUser + " waitlists");
+        }
+        if (request.getRoomId() != null) {
+            Room room = roomService.getRoomById(request.getRoomId());
+            if (request.getGuests() > room.getCapacity()) {
+                throw new IllegalArgumentException("Number of guests exceeds room capacity");
+            }
+            if (roomService.isRoomAvailable(room.getId(), request.getCheckInDate(), request.getCheckOutDate())) {
+                throw new IllegalArgumentException("Room is available for the selected dates; book it directly");
+            }
+        }
+
+        WaitlistEntry entry = new WaitlistEntry();
+        entry.setUserId(user.getId());
+        entry.setRoomId(request.getRoomId());
+        entry.setRoomType(request.getRoomType());
+        entry.setCheckInDate(request.getCheckInDate());
+        entry.setCheckOutDate(request.getCheckOutDate());
+        entry.setGuests(request.getGuests());
+        entry.setStatus(WaitlistEntry.WaitlistStatus.WAITING);
+        WaitlistEntry saved = waitlistRepository.save(entry);
+        waitlistIndex.add(saved);
+        return saved;
+    }
+
+    /**
+     * Get a user's waitlist entries, newest first.
+     *
+     * @param userId user ID
+     * @return the user's entries
+     */
+    public List<WaitlistEntry> getUserEntries(String userId) {
+        return waitlistRepository.findByUserIdOrderByCreatedAtDesc(userId);
+    }
+
+    /**
+     * Leave the waitlist.
+     *
+     * @param id entry ID
+     * @param userId user ID (must own the entry)
+     * @throws NotFoundException if the entry is not found or not the user's
+     * @throws IllegalArgumentException if the entry is no longer waiting
+     */
+    public void leave(String id, String userId) {
+        WaitlistEntry entry = waitlistRepository.findById(id)
+                .filter(found -> found.getUserId().equals(userId))
+                .orElseThrow(() -> new NotFoundException("Waitlist entry", id));
+        if (waitlistRepository.transition(id, WaitlistEntry.WaitlistStatus.WAITING,
+                WaitlistEntry.WaitlistStatus.CANCELLED, null) == null) {
+            throw new IllegalArgumentException("Waitlist entry is no longer waiting");
+        }
+        waitlistIndex.remove(entry);
+    }
+
+    /**
+     * Offer a freed room to the waitlist. Every overlapping entry that fits
+     * is considered oldest first, so one long cancellation can serve several
+     * shorter stays.
+     *
+     * @param roomId freed room
+     * @param start first freed night
+     * @param end day after the last freed night
+     * @return number of offers made
+     */
+    public int offerFreedRoom(String roomId, LocalDate start, LocalDate end) {
+        Room room = roomRepository.findById(roomId).orElse(null);
+        if (room == null || !room.isAvailable()) {
+            return 0;
+        }
+
+        int offers = 0;
+        for (WaitlistEntry entry : waitlistIndex.candidates(room, start, end)) {
+            if (entry.getGuests() > room.getCapacity() || entry.getCheckInDate().isBefore(LocalDate.now())) {
+                continue;
+            }
+            if (!roomService.isRoomAvailable(roomId, entry.getCheckInDate(), entry.getCheckOutDate())) {
+                continue;
+            }
+            if (offer(entry, room)) {
+                offers++;
+            }
+        }
+        return offers;
+    }
+
+    private boolean offer(WaitlistEntry entry, Room room) {
+        User user = userRepository.findById(entry.getUserId()).orElse(null);
+        if (user == null) {
+            waitlistRepository.transition(entry.getId(), WaitlistEntry.WaitlistStatus.WAITING,
+                    WaitlistEntry.WaitlistStatus.CANCELLED, null);
+            waitlistIndex.remove(entry);
+            return false;
+        }
+
+        // Claim the entry first so no other instance offers it too
+        LocalDateTime holdExpiresAt = LocalDateTime.now().plusMinutes(holdMinutes);
+        WaitlistEntry claimed = waitlistRepository.transition(entry.getId(), WaitlistEntry.WaitlistStatus.WAITING,
+                WaitlistEntry.WaitlistStatus.OFFERED,
+                new Update().set("offeredRoomId", room.getId()).set("holdExpiresAt", holdExpiresAt));
+        waitlistIndex.remove(entry);
+        if (claimed == null) {
+            return false;
+        }
+
+        Reservation hold;
+        try {
+            hold = reservationService.createReservation(user, room.getId(), entry.getCheckInDate(),
+                    entry.getCheckOutDate(), entry.getGuests(), HOLD_NOTE);
+        } catch (RuntimeException e) {
+            // Taken in the meantime; back in line with its original position
+            log.debug("Could not hold room {} for waitlist entry {}: {}", room.getId(), entry.getId(), e.getMessage());
+            WaitlistEntry released = waitlistRepository.transition(entry.getId(),
+                    WaitlistEntry.WaitlistStatus.OFFERED, WaitlistEntry.WaitlistStatus.WAITING,
+                    new Update().unset("offeredRoomId").unset("holdExpiresAt"));
+            if (released != null) {
+                waitlistIndex.add(released);
+            }
+            return false;
+        }
+
+        waitlistRepository.transition(entry.getId(), WaitlistEntry.WaitlistStatus.OFFERED,
+                WaitlistEntry.WaitlistStatus.OFFERED, new Update().set("reservationId", hold.getId()));
+        queueOfferEmail(entry, user, room, hold, holdExpiresAt);
+        log.info("Offered room {} to waitlist entry {} until {}", room.getId(), entry.getId(), holdExpiresAt);
+        return true;
+    }
+
+    /**
+     * Mark the waitlist entry holding a reservation as booked.
+     *
+     * @param reservationId confirmed reservation ID
+     */
+    public void markBooked(String reservationId) {
+        waitlistRepository.findByReservationId(reservationId).ifPresent(entry ->
+                waitlistRepository.transition(entry.getId(), WaitlistEntry.WaitlistStatus.OFFERED,
+                        WaitlistEntry.WaitlistStatus.BOOKED, null));
+    }
+
+    /**
+     * Settle offers whose hold has lapsed: paid holds become BOOKED, unpaid
+     * holds are cancelled (which offers the room to the next entry) and the
+     * entry EXPIRED.
+     *
+     * @return number of holds released
+     */
+    public int expireHolds() {
+        int released = 0;
+        List<WaitlistEntry> lapsed = waitlistRepository.findByStatusAndHoldExpiresAtBefore(
+                WaitlistEntry.WaitlistStatus.OFFERED, LocalDateTime.now());
+        for (WaitlistEntry entry : lapsed) {
+            Reservation.ReservationStatus status = entry.getReservationId() == null ? null
+                    : reservationRepository.findStatusById(entry.getReservationId()).orElse(null);
+            if (status != null && status != Reservation.ReservationStatus.PENDING
+                    && status != Reservation.ReservationStatus.CANCELLED) {
+                waitlistRepository.transition(entry.getId(), WaitlistEntry.WaitlistStatus.OFFERED,
+                        WaitlistEntry.WaitlistStatus.BOOKED, null);
+                continue;
+            }
+            if (waitlistRepository.transition(entry.getId(), WaitlistEntry.WaitlistStatus.OFFERED,
+                    WaitlistEntry.WaitlistStatus.EXPIRED, null) == null) {
+                continue;
+            }
+            if (status == Reservation.ReservationStatus.PENDING) {
+                try {
+                    reservationService.cancelReservation(entry.getReservationId(), "Waitlist hold expired");
+                    released++;
+                } catch (RuntimeException e) {
+                    // Paid or cancelled between the status read and the cancel
+                    log.debug("Waitlist hold {} not cancelled: {}", entry.getReservationId(), e.getMessage());
+                }
+            }
+        }
+        return released;
+    }
+
+    private void queueOfferEmail(WaitlistEntry entry, User user, Room room, Reservation hold,
+                                 LocalDateTime holdExpiresAt) {
+        // Nothing sends queued email while it is disabled
+        if (!emailEnabled || user.getEmail() == null) {
+            return;
+        }
+        Map<String, String> variables = new HashMap<>();
+        variables.put("guestName", user.getFirstName() + " " + user.getLastName());
+        variables.put("reservationId", hold.getId());
+        variables.put("roomName", room.getName());
+        variables.put("roomType", String.valueOf(room.getType()));
+        variables.put("checkInDate", String.valueOf(entry.getCheckInDate()));
+        variables.put("checkOutDate", String.valueOf(entry.getCheckOutDate()));
+        variables.put("totalAmount", hold.getTotalAmount().toPlainString());
+        variables.put("holdExpiresAt", holdExpiresAt.withSecond(0).withNano(0).toString().replace('T', ' '));
+
+        EmailMessage message = new EmailMessage();
+        message.setId("waitlist-" + entry.getId() + "-" + hold.getId());
+        message.setTemplate(EmailMessage.Template.WAITLIST_OFFER);
+        message.setReservationId(hold.getId());
+        message.setRecipient(user.getEmail());
+        message.setVariables(variables);
+        message.setStatus(EmailMessage.EmailStatus.PENDING);
+        message.setAvailableAt(LocalDateTime.now());
+        emailMessageRepository.enqueue(message);
+    }
+}
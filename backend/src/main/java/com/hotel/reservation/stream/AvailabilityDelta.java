@@ -0,0 +1,54 @@
+package com.hotel.reservation.stream;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Change in availability of one room over a run of nights.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AvailabilityDelta {
+
+    /**
+     * Whether the nights were booked or released
+     */
+    public enum Change {
+        BOOKED,
+        RELEASED
+    }
+
+    private String roomId;
+
+    private Change change;
+
+    /**
+     * First night affected
+     */
+    private LocalDate from;
+
+    /**
+     * Day after the last night affected
+     */
+    private LocalDate to;
+
+    /**
+     * Whether any affected night falls inside [start, end)
+     *
+     * @param start first night of the window
+     * @param end day after the last night of the window
+     * @return true if the delta overlaps the window
+     */
+    public boolean overlaps(LocalDate start, LocalDate end) {
+        return from.isBefore(end) && to.isAfter(start);
+    }
+}
@@ -0,0 +1,42 @@
+package com.hotel.reservation.stream;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Increments to apply to the admin dashboard counters.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DashboardDelta {
+
+    /**
+     * Domain event that caused the change
+     */
+    private String event;
+
+    /**
+     * Reservation or payment the event is about
+     */
+    private String aggregateId;
+
+    /**
+     * Counter name to increment (negative to decrement)
+     */
+    private Map<String, Long> counters;
+
+    /**
+     * Revenue change, if any
+     */
+    private BigDecimal revenue;
+}
@@ -0,0 +1,223 @@
+package com.hotel.reservation.stream;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * Registry of Server-Sent Events subscribers.
+ *
+ * Connections are servlet async requests, so an idle subscriber holds no
+ * thread. Publishing only appends to each subscriber's bounded queue; a small
+ * sender pool drains the queues, so a slow client never blocks the publisher
+ * or other clients. A subscriber whose queue overflows has its backlog
+ * replaced by a single "resync" event telling it to reload, and is
+ * disconnected if it overflows again before catching up.
+ *
+ * Deltas are published by the outbox handlers, so they only reach the
+ * subscribers of the instance that dispatched the event; {@link SseResyncListener}
+ * follows changes made through any instance and sends every instance's
+ * subscribers a "resync" for what changed.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class SseHub {
+
+    /**
+     * Streams clients can subscribe to.
+     */
+    public enum Topic {
+        AVAILABILITY,
+        DASHBOARD
+    }
+
+    static final String RESYNC_EVENT = "resync";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Long, Subscriber> subscribers = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong();
+
+    @Value("${app.sse.max-connections:10000}")
+    private int maxConnections;
+
+    @Value("${app.sse.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${app.sse.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${app.sse.sender-threads:4}")
+    private int senderThreads;
+
+    private ExecutorService sender;
+
+    public SseHub(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        meterRegistry.gaugeMapSize("hotelx.sse.subscribers", Tags.empty(), subscribers);
+    }
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        sender = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "sse-sender-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        subscribers.values().forEach(subscriber -> subscriber.emitter.complete());
+        sender.shutdown();
+    }
+
+    /**
+     * Open a stream.
+     *
+     * @param topic topic to follow
+     * @param filter which published payloads this subscriber receives
+     * @return the emitter, or null when the connection limit is reached
+     */
+    public SseEmitter subscribe(Topic topic, Predicate<Object> filter) {
+        if (subscribers.size() >= maxConnections) {
+            meterRegistry.counter("hotelx.sse.rejected").increment();
+            return null;
+        }
+        long id = nextId.incrementAndGet();
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(id, topic, filter, emitter, new ArrayBlockingQueue<>(queueCapacity));
+        emitter.onCompletion(() -> subscribers.remove(id));
+        emitter.onTimeout(() -> subscribers.remove(id));
+        emitter.onError(error -> subscribers.remove(id));
+        subscribers.put(id, subscriber);
+
+        // Tell the client it is connected before the first real event
+        offer(subscriber, SseEmitter.event().name("connected").data(Map.of("topic", topic.name())));
+        return emitter;
+    }
+
+    /**
+     * Queue an event for every subscriber of the topic whose filter accepts it.
+     *
+     * @param topic topic
+     * @param eventName SSE event name
+     * @param data event payload, serialized as JSON
+     */
+    public void publish(Topic topic, String eventName, Object data) {
+        for (Subscriber subscriber : subscribers.values()) {
+            if (subscriber.topic == topic && subscriber.filter.test(data)) {
+                offer(subscriber, SseEmitter.event().name(eventName).data(data));
+            }
+        }
+    }
+
+    /**
+     * Tell every subscriber of the topic to reload, whatever its filter.
+     *
+     * @param topic topic
+     * @param data what to reload (e.g. a room ID); empty means everything
+     */
+    public void resync(Topic topic, Map<String, String> data) {
+        for (Subscriber subscriber : subscribers.values()) {
+            if (subscriber.topic == topic) {
+                offer(subscriber, SseEmitter.event().name(RESYNC_EVENT).data(data));
+            }
+        }
+    }
+
+    /**
+     * Keep idle connections open through proxies and detect dead clients.
+     * Subscribers that already have events queued are skipped.
+     */
+    @Scheduled(fixedDelayString = "${app.sse.heartbeat-ms:15000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers.values()) {
+            if (subscriber.queue.isEmpty()) {
+                offer(subscriber, SseEmitter.event().comment("heartbeat"));
+            }
+        }
+    }
+
+    /**
+     * Number of open streams.
+     *
+     * @return subscriber count
+     */
+    public int size() {
+        return subscribers.size();
+    }
+
+    private void offer(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        if (!subscriber.queue.offer(event)) {
+            meterRegistry.counter("hotelx.sse.overflow").increment();
+            if (subscriber.overflowed.getAndSet(true)) {
+                // Still behind after a resync: give up on this client
+                disconnect(subscriber);
+                return;
+            }
+            subscriber.queue.clear();
+            subscriber.queue.offer(SseEmitter.event().name(RESYNC_EVENT).data(Map.of()));
+        }
+        if (subscriber.draining.compareAndSet(false, true)) {
+            sender.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while ((event = subscriber.queue.poll()) != null) {
+                subscriber.emitter.send(event);
+            }
+            subscriber.overflowed.set(false);
+        } catch (IOException | IllegalStateException e) {
+            disconnect(subscriber);
+            return;
+        } finally {
+            subscriber.draining.set(false);
+        }
+        // An event may have been queued after the last poll but before the flag was cleared
+        if (!subscriber.queue.isEmpty() && subscriber.draining.compareAndSet(false, true)) {
+            sender.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void disconnect(Subscriber subscriber) {
+        log.debug("Closing SSE subscriber {} on {}", subscriber.id, subscriber.topic);
+        subscribers.remove(subscriber.id);
+        subscriber.queue.clear();
+        subscriber.emitter.complete();
+    }
+
+    private record Subscriber(long id, Topic topic, Predicate<Object> filter, SseEmitter emitter,
+                              Queue<SseEmitter.SseEventBuilder> queue, AtomicBoolean draining,
+                              AtomicBoolean overflowed) {
+
+        Subscriber(long id, Topic topic, Predicate<Object> filter, SseEmitter emitter,
+                   Queue<SseEmitter.SseEventBuilder> queue) {
+            this(id, topic, filter, emitter, queue, new AtomicBoolean(), new AtomicBoolean());
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.hotel.reservation.stream;
+
+import com.hotel.reservation.cache.CacheInvalidation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Sends stream subscribers on every instance a "resync" when rooms or
+ * reservations change, whichever instance made the change.
+ *
+ * Changes arrive as {@link CacheInvalidation} events from the change stream
+ * relay, which runs on every instance, and are coalesced: each interval,
+ * availability subscribers get one resync per changed room (or one for
+ * everything when the room is unknown) and dashboard subscribers get at most
+ * one resync. Subscribers of the instance that dispatched the outbox event
+ * also receive its delta, so they may reload what they have just applied.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class SseResyncListener {
+
+    private final SseHub sseHub;
+
+    private final Set<String> changedRooms = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean allRoomsChanged = new AtomicBoolean();
+    private final AtomicBoolean dashboardChanged = new AtomicBoolean();
+
+    @EventListener
+    public void onReservationChanged(CacheInvalidation.ReservationChanged event) {
+        roomChanged(event.roomId());
+        dashboardChanged.set(true);
+    }
+
+    @EventListener
+    public void onRoomChanged(CacheInvalidation.RoomChanged event) {
+        roomChanged(event.id());
+    }
+
+    /**
+     * Send the resyncs for the changes seen since the last flush.
+     */
+    @Scheduled(fixedDelayString = "${app.sse.resync-interval-ms:2000}")
+    public void flush() {
+        if (allRoomsChanged.getAndSet(false)) {
+            changedRooms.clear();
+            sseHub.resync(SseHub.Topic.AVAILABILITY, Map.of());
+        } else {
+            Iterator<String> rooms = changedRooms.iterator();
+            while (rooms.hasNext()) {
+                String roomId = rooms.next();
+                rooms.remove();
+                sseHub.resync(SseHub.Topic.AVAILABILITY, Map.of("roomId", roomId));
+            }
+        }
+        if (dashboardChanged.getAndSet(false)) {
+            sseHub.resync(SseHub.Topic.DASHBOARD, Map.of());
+        }
+    }
+
+    private void roomChanged(String roomId) {
+        if (roomId == null) {
+            allRoomsChanged.set(true);
+        } else {
+            changedRooms.add(roomId);
+        }
+    }
+}
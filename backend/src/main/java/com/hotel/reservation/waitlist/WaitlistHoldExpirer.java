@@ -0,0 +1,39 @@
+package com.hotel.reservation.waitlist;
+
+import com.hotel.reservation.service.WaitlistService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduled job that releases waitlist holds nobody paid for in time.
+ * Cancelling the hold publishes RESERVATION_CANCELLED, so the room is offered
+ * to the next waiting entry by the outbox dispatcher.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.waitlist", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class WaitlistHoldExpirer {
+
+    private final WaitlistService waitlistService;
+    private final MeterRegistry meterRegistry;
+
+    public WaitlistHoldExpirer(WaitlistService waitlistService, MeterRegistry meterRegistry) {
+        this.waitlistService = waitlistService;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Scheduled(fixedDelayString = "${app.waitlist.sweep-interval-ms:60000}")
+    public void expire() {
+        int released = waitlistService.expireHolds();
+        meterRegistry.counter("hotelx.waitlist.holds.expired").increment(released);
+        if (released > 0) {
+            log.info("Released {} lapsed waitlist holds", released);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.hotel.reservation.waitlist;
+
+import com.hotel.reservation.model.Room;
+import com.hotel.reservation.model.WaitlistEntry;
+import com.hotel.reservation.repository.WaitlistRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * In-memory interval index over the WAITING waitlist entries.
+ *
+ * Entries are keyed by the specific room or the room type they want, then
+ * by check-in epoch day in a sorted map. Because no stay is longer than the
+ * longest one indexed, the entries overlapping a freed window [start, end)
+ * all check in within (start - longestStay, end): one sub-map range scan per
+ * key instead of a pass over the whole waitlist.
+ *
+ * Entries added or offered on this instance are applied immediately; the
+ * index is rebuilt from the database at most every app.waitlist.max-age-ms so
+ * replicas pick up registrations made elsewhere.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class WaitlistIndex {
+
+    private static final Comparator<WaitlistEntry> FIFO = Comparator
+            .comparing(WaitlistEntry::getCreatedAt, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(WaitlistEntry::getId, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final WaitlistRepository waitlistRepository;
+
+    @Value("${app.waitlist.max-age-ms:60000}")
+    private long maxAgeMs;
+
+    private final Map<String, NavigableMap<Long, List<WaitlistEntry>>> byKey = new HashMap<>();
+    private long longestStay;
+    private long builtAt;
+    private boolean stale = true;
+
+    public WaitlistIndex(WaitlistRepository waitlistRepository) {
+        this.waitlistRepository = waitlistRepository;
+    }
+
+    /**
+     * Add a WAITING entry.
+     *
+     * @param entry the entry
+     */
+    public synchronized void add(WaitlistEntry entry) {
+        if (stale) {
+            // Picked up by the rebuild
+            return;
+        }
+        insert(entry);
+    }
+
+    /**
+     * Remove an entry that is no longer WAITING.
+     *
+     * @param entry the entry
+     */
+    public synchronized void remove(WaitlistEntry entry) {
+        NavigableMap<Long, List<WaitlistEntry>> byCheckIn = byKey.get(key(entry));
+        if (byCheckIn == null) {
+            return;
+        }
+        long checkIn = entry.getCheckInDate().toEpochDay();
+        List<WaitlistEntry> entries = byCheckIn.get(checkIn);
+        if (entries != null) {
+            entries.removeIf(indexed -> indexed.getId().equals(entry.getId()));
+            if (entries.isEmpty()) {
+                byCheckIn.remove(checkIn);
+            }
+        }
+    }
+
+    /**
+     * Force a rebuild on the next lookup.
+     */
+    public synchronized void invalidate() {
+        stale = true;
+    }
+
+    /**
+     * WAITING entries that could use a room freed for [start, end): entries
+     * for that room or its type whose stay overlaps the window, oldest first.
+     *
+     * @param room the freed room
+     * @param start first freed night
+     * @param end day after the last freed night
+     * @return candidate entries in FIFO order
+     */
+    public synchronized List<WaitlistEntry> candidates(Room room, LocalDate start, LocalDate end) {
+        if (stale || System.currentTimeMillis() - builtAt > maxAgeMs) {
+            rebuild();
+        }
+
+        long startDay = start.toEpochDay();
+        long endDay = end.toEpochDay();
+        List<WaitlistEntry> candidates = new ArrayList<>();
+        collect(candidates, roomKey(room.getId()), startDay, endDay);
+        if (room.getType() != null) {
+            collect(candidates, typeKey(room.getType()), startDay, endDay);
+        }
+        candidates.sort(FIFO);
+        return candidates;
+    }
+
+    private void collect(List<WaitlistEntry> candidates, String key, long startDay, long endDay) {
+        NavigableMap<Long, List<WaitlistEntry>> byCheckIn = byKey.get(key);
+        if (byCheckIn == null) {
+            return;
+        }
+        for (List<WaitlistEntry> entries : byCheckIn.subMap(startDay - longestStay, false, endDay, false).values()) {
+            for (WaitlistEntry entry : entries) {
+                if (entry.getCheckOutDate().toEpochDay() > startDay) {
+                    candidates.add(entry);
+                }
+            }
+        }
+    }
+
+    private void rebuild() {
+        byKey.clear();
+        longestStay = 0;
+        List<WaitlistEntry> waiting = waitlistRepository.findByStatus(WaitlistEntry.WaitlistStatus.WAITING);
+        waiting.forEach(this::insert);
+        builtAt = System.currentTimeMillis();
+        stale = false;
+        log.debug("Rebuilt waitlist index: {} waiting entries", waiting.size());
+    }
+
+    private void insert(WaitlistEntry entry) {
+        long checkIn = entry.getCheckInDate().toEpochDay();
+        longestStay = Math.max(longestStay, entry.getCheckOutDate().toEpochDay() - checkIn);
+        byKey.computeIfAbsent(key(entry), k -> new TreeMap<>())
+                .computeIfAbsent(checkIn, day -> new ArrayList<>())
+                .add(entry);
+    }
+
+    private static String key(WaitlistEntry entry) {
+        return entry.getRoomId() != null ? roomKey(entry.getRoomId()) : typeKey(entry.getRoomType());
+    }
+
+    private static String roomKey(String roomId) {
+        return "room:" + roomId;
+    }
+
+    private static String typeKey(Room.RoomType type) {
+        return "type:" + type.name();
+    }
+}
@@ -0,0 +1,50 @@
+package com.hotel.reservation.archive;
+
+import com.hotel.reservation.repository.ReservationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ReservationArchiverTest {
+
+    private ReservationRepository repository;
+    private SimpleMeterRegistry meterRegistry;
+    private ReservationArchiver archiver;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(ReservationRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+
+        archiver = new ReservationArchiver(repository, meterRegistry);
+        ReflectionTestUtils.setField(archiver, "horizonDays", 365);
+        ReflectionTestUtils.setField(archiver, "batchSize", 100);
+        ReflectionTestUtils.setField(archiver, "maxBatches", 5);
+    }
+
+    @Test
+    void archive_StopsAfterShortBatch() {
+        when(repository.archiveBatch(any(LocalDate.class), eq(100))).thenReturn(100, 100, 40);
+
+        archiver.archive();
+
+        verify(repository, times(3)).archiveBatch(LocalDate.now().minusDays(365), 100);
+        assertEquals(240, meterRegistry.counter("hotelx.archive.reservations").count());
+    }
+
+    @Test
+    void archive_StopsAtBatchCap() {
+        when(repository.archiveBatch(any(LocalDate.class), eq(100))).thenReturn(100);
+
+        archiver.archive();
+
+        verify(repository, times(5)).archiveBatch(any(LocalDate.class), eq(100));
+    }
+}
@@ -0,0 +1,95 @@
+package com.hotel.reservation.benchmark;
+
+import com.hotel.reservation.exception.GlobalExceptionHandler;
+import com.hotel.reservation.exception.NotFoundException;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares the not-found error path before and after stackless domain exceptions:
+ * a plain RuntimeException mapped to a generic 500, versus a NotFoundException
+ * mapped to problem+json. Both are thrown from a deep call stack, as they would be
+ * behind the servlet filters, security chain and Spring proxies. The old handler
+ * also logged every trace at ERROR; that is left out here, so the gap is a floor.
+ * Run with: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+class ErrorPathBenchmark {
+
+    private static final int STACK_DEPTH = 120;
+    private static final int WARMUP_ROUNDS = 20_000;
+    private static final int MEASURED_ROUNDS = 100_000;
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    void notFound_RuntimeExceptionVersusDomainException() {
+        Result before = measure(id -> new RuntimeException("Room not found"),
+                ErrorPathBenchmark::genericResponse);
+        Result after = measure(id -> new NotFoundException("Room", id),
+                ex -> handler.handleDomainException((NotFoundException) ex));
+
+        System.out.printf("Not-found error path (stack depth %d)%n", STACK_DEPTH);
+        System.out.printf("  RuntimeException:  %10.0f ns/op  %,10d bytes/op%n", before.nanos, before.bytes);
+        System.out.printf("  NotFoundException: %10.0f ns/op  %,10d bytes/op%n", after.nanos, after.bytes);
+        System.out.printf("  time ratio: %.2f%n", after.nanos / before.nanos);
+
+        assertTrue(after.nanos < before.nanos);
+        assertTrue(after.bytes < before.bytes);
+    }
+
+    private Result measure(Function<String, RuntimeException> factory,
+                           Function<RuntimeException, ResponseEntity<?>> mapping) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            call(factory, mapping, "room" + (i & 63));
+        }
+        long thread = Thread.currentThread().getId();
+        long allocated = threads.getThreadAllocatedBytes(thread);
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            call(factory, mapping, "room" + (i & 63));
+        }
+        double nanos = (double) (System.nanoTime() - start) / MEASURED_ROUNDS;
+        long bytes = (threads.getThreadAllocatedBytes(thread) - allocated) / MEASURED_ROUNDS;
+        return new Result(nanos, bytes);
+    }
+
+    private static ResponseEntity<?> genericResponse(RuntimeException ex) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("timestamp", LocalDateTime.now());
+        response.put("status", HttpStatus.INTERNAL_SERVER_ERROR.value());
+        response.put("message", "An error occurred while processing your request. Please try again later.");
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+    }
+
+    private static void call(Function<String, RuntimeException> factory,
+                             Function<RuntimeException, ResponseEntity<?>> mapping, String id) {
+        try {
+            descend(STACK_DEPTH, factory, id);
+        } catch (RuntimeException e) {
+            mapping.apply(e);
+        }
+    }
+
+    private static int descend(int depth, Function<String, RuntimeException> factory, String id) {
+        if (depth == 0) {
+            throw factory.apply(id);
+        }
+        return descend(depth - 1, factory, id) + 1;
+    }
+
+    private record Result(double nanos, long bytes) {
+    }
+}
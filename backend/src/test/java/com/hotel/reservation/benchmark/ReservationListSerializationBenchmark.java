@@ -0,0 +1,122 @@
+package com.hotel.reservation.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hotel.reservation.dto.view.ReservationSummary;
+import com.hotel.reservation.model.Reservation;
+import com.hotel.reservation.model.Room;
+import com.hotel.reservation.model.User;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares the /api/admin/reservations payload before and after projection DTOs.
+ * Run with: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+class ReservationListSerializationBenchmark {
+
+    private static final int RESERVATIONS = 1_000;
+    private static final int ROOMS = 50;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 50;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Test
+    void reservationList_EntitiesVersusSummaries() throws Exception {
+        List<Reservation> entities = reservations();
+        List<ReservationSummary> summaries = entities.stream().map(ReservationSummary::from).toList();
+
+        Result full = measure(entities);
+        Result slim = measure(summaries);
+
+        System.out.printf("Reservation list (%d rows)%n", RESERVATIONS);
+        System.out.printf("  entities:  %,10d bytes  %8.3f ms/response%n", full.bytes, full.millis);
+        System.out.printf("  summaries: %,10d bytes  %8.3f ms/response%n", slim.bytes, slim.millis);
+        System.out.printf("  size ratio: %.2f%n", (double) slim.bytes / full.bytes);
+
+        assertTrue(slim.bytes < full.bytes);
+    }
+
+    private Result measure(Object payload) throws Exception {
+        int bytes = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            bytes = objectMapper.writeValueAsBytes(payload).length;
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            bytes = objectMapper.writeValueAsBytes(payload).length;
+        }
+        double millis = (System.nanoTime() - start) / 1_000_000.0 / MEASURED_ROUNDS;
+        return new Result(bytes, millis);
+    }
+
+    private List<Reservation> reservations() {
+        List<Room> rooms = new ArrayList<>();
+        for (int i = 0; i < ROOMS; i++) {
+            Room room = new Room();
+            room.setId("room" + i);
+            room.setName("Deluxe Suite " + i);
+            room.setType(Room.RoomType.DELUXE);
+            room.setDescription("Spacious suite with a king bed, city views, a separate lounge area "
+                    + "and a marble bathroom with rain shower and soaking tub.");
+            room.setPricePerNight(new BigDecimal("249.00"));
+            room.setCapacity(3);
+            room.setAmenities(List.of("WiFi", "Mini Bar", "Air Conditioning", "Smart TV", "Safe", "Coffee Maker"));
+            room.setImageUrl("https://images.example.com/rooms/" + i + "/main.jpg");
+            room.setAdditionalImages(List.of(
+                    "https://images.example.com/rooms/" + i + "/1.jpg",
+                    "https://images.example.com/rooms/" + i + "/2.jpg",
+                    "https://images.example.com/rooms/" + i + "/3.jpg"));
+            room.setFloorNumber(i / 10 + 1);
+            room.setSize(45);
+            room.setCreatedAt(LocalDateTime.now());
+            room.setUpdatedAt(LocalDateTime.now());
+            rooms.add(room);
+        }
+
+        List<Reservation> reservations = new ArrayList<>(RESERVATIONS);
+        for (int i = 0; i < RESERVATIONS; i++) {
+            User user = new User();
+            user.setId("user" + i);
+            user.setFirstName("Guest");
+            user.setLastName("Number" + i);
+            user.setEmail("guest" + i + "@example.com");
+            user.setPassword("$2a$10$abcdefghijklmnopqrstuvABCDEFGHIJKLMNOPQRSTUVWXYZ01234");
+            user.setPhoneNumber("+1555000" + i);
+            user.setRoles(Set.of(User.Role.GUEST));
+            user.setAvatar("https://images.example.com/avatars/" + i + ".png");
+            user.setCreatedAt(LocalDateTime.now());
+            user.setUpdatedAt(LocalDateTime.now());
+
+            Reservation reservation = new Reservation();
+            reservation.setId("res" + i);
+            reservation.setUser(user);
+            reservation.setRoom(rooms.get(i % ROOMS));
+            reservation.setCheckInDate(LocalDate.now().plusDays(i % 30));
+            reservation.setCheckOutDate(LocalDate.now().plusDays(i % 30 + 3));
+            reservation.setNumberOfGuests(2);
+            reservation.setTotalAmount(new BigDecimal("747.00"));
+            reservation.setStatus(Reservation.ReservationStatus.CONFIRMED);
+            reservation.setSpecialRequests("Late check-in, extra pillows");
+            reservation.setPaymentId("payment" + i);
+            reservation.setCreatedAt(LocalDateTime.now());
+            reservation.setUpdatedAt(LocalDateTime.now());
+            reservations.add(reservation);
+        }
+        return reservations;
+    }
+
+    private record Result(int bytes, double millis) {
+    }
+}
@@ -1,6 +1,7 @@
 package com.hotel.reservation.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hotel.reservation.dto.view.ReservationSummary;
 import com.hotel.reservation.model.Reservation;
 import com.hotel.reservation.model.Room;
 import com.hotel.reservation.model.User;
@@ -162,7 +163,11 @@ class AdminControllerTest {
         when(userRepository.findById("invalid")).thenReturn(Optional.empty());
 
         mockMvc.perform(get("/api/admin/users/invalid"))
-                .andExpect(status().isInternalServerError());
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.type").value("urn:hotelx:problem:not-found"))
+                .andExpect(jsonPath("$.detail").value("User not found with id: invalid"))
+                .andExpect(jsonPath("$.id").value("invalid"));
     }
 
     @Test
@@ -238,7 +243,8 @@ class AdminControllerTest {
     @Test
     @WithMockUser(roles = "ADMIN")
     void getAllReservations_Success() throws Exception {
-        when(reservationRepository.findAll()).thenReturn(Arrays.asList(testReservation));
+        when(reservationRepository.findSummaries())
+                .thenReturn(Arrays.asList(ReservationSummary.from(testReservation)));
 
         mockMvc.perform(get("/api/admin/reservations"))
                 .andExpect(status().isOk())
@@ -252,8 +258,8 @@ class AdminControllerTest {
         LocalDate startDate = LocalDate.now();
         LocalDate endDate = LocalDate.now().plusDays(7);
 
-        when(reservationRepository.findByCheckInDateBetween(startDate, endDate))
-                .thenReturn(Arrays.asList(testReservation));
+        when(reservationRepository.findSummariesByCheckInDateBetween(startDate, endDate))
+                .thenReturn(Arrays.asList(ReservationSummary.from(testReservation)));
 
         mockMvc.perform(get("/api/admin/reservations/date-range")
                         .param("startDate", startDate.toString())
@@ -265,8 +271,9 @@ class AdminControllerTest {
     @Test
     @WithMockUser(roles = "ADMIN")
     void updateReservationStatus_Success() throws Exception {
-        when(reservationRepository.findById("res123")).thenReturn(Optional.of(testReservation));
-        when(reservationRepository.save(any(Reservation.class))).thenReturn(testReservation);
+        testReservation.setStatus(Reservation.ReservationStatus.CHECKED_IN);
+        when(reservationRepository.transitionStatus(eq("res123"), eq(Reservation.ReservationStatus.CHECKED_IN), any()))
+                .thenReturn(testReservation);
 
         Map<String, String> request = new HashMap<>();
         request.put("status", "CHECKED_IN");
@@ -275,10 +282,29 @@ class AdminControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.id").value("res123"));
+                .andExpect(jsonPath("$.id").value("res123"))
+                .andExpect(jsonPath("$.status").value("CHECKED_IN"));
+
+        verify(reservationRepository).transitionStatus(eq("res123"), eq(Reservation.ReservationStatus.CHECKED_IN), any());
+        verify(reservationRepository, never()).save(any(Reservation.class));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void updateReservationStatus_IllegalTransition_Conflict() throws Exception {
+        when(reservationRepository.transitionStatus(eq("res123"), eq(Reservation.ReservationStatus.CHECKED_OUT), any()))
+                .thenReturn(null);
+        when(reservationRepository.findStatusById("res123"))
+                .thenReturn(Optional.of(Reservation.ReservationStatus.CONFIRMED));
+
+        Map<String, String> request = new HashMap<>();
+        request.put("status", "CHECKED_OUT");
 
-        verify(reservationRepository).save(argThat(res ->
-            res.getStatus() == Reservation.ReservationStatus.CHECKED_IN));
+        mockMvc.perform(put("/api/admin/reservations/res123/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("Cannot change reservation status from CONFIRMED to CHECKED_OUT"));
     }
 
     @Test
@@ -208,7 +208,7 @@ class AuthControllerTest {
 
         mockMvc.perform(get("/api/auth/me")
                         .with(user(userPrincipal)))
-                .andExpect(status().isInternalServerError());
+                .andExpect(status().isNotFound());
     }
 
     @Test
@@ -253,7 +253,7 @@ class AuthControllerTest {
                         .with(user(userPrincipal))
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(updateDto)))
-                .andExpect(status().isInternalServerError());
+                .andExpect(status().isNotFound());
     }
 
     @Test
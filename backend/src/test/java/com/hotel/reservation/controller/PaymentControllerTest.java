@@ -1,6 +1,7 @@
 package com.hotel.reservation.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hotel.reservation.dto.view.PaymentSummary;
 import com.hotel.reservation.model.Payment;
 import com.hotel.reservation.model.Reservation;
 import com.hotel.reservation.model.Room;
@@ -183,7 +184,7 @@ class PaymentControllerTest {
     @Test
     void getPaymentHistory_Success() throws Exception {
         when(paymentService.getUserPaymentHistory("user123"))
-                .thenReturn(Arrays.asList(testPayment));
+                .thenReturn(Arrays.asList(PaymentSummary.from(testPayment)));
 
         mockMvc.perform(get("/api/payments/history")
                         .with(user(userPrincipal)))
@@ -208,7 +209,7 @@ class PaymentControllerTest {
     @Test
     @WithMockUser(roles = "ADMIN")
     void getAllPayments_AsAdmin_Success() throws Exception {
-        when(paymentService.getAllPayments()).thenReturn(Arrays.asList(testPayment));
+        when(paymentService.getAllPayments()).thenReturn(Arrays.asList(PaymentSummary.from(testPayment)));
 
         mockMvc.perform(get("/api/payments/all"))
                 .andExpect(status().isOk())
@@ -220,7 +221,7 @@ class PaymentControllerTest {
     @Test
     @WithMockUser(roles = "MANAGER")
     void getAllPayments_AsManager_Success() throws Exception {
-        when(paymentService.getAllPayments()).thenReturn(Arrays.asList(testPayment));
+        when(paymentService.getAllPayments()).thenReturn(Arrays.asList(PaymentSummary.from(testPayment)));
 
         mockMvc.perform(get("/api/payments/all"))
                 .andExpect(status().isOk());
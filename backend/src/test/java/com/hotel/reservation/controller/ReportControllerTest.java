@@ -0,0 +1,118 @@
+package com.hotel.reservation.controller;
+
+import com.hotel.reservation.model.Room;
+import com.hotel.reservation.repository.ReservationRepository;
+import com.hotel.reservation.repository.ReservationRepositoryCustom;
+import com.hotel.reservation.repository.RoomRepository;
+import com.hotel.reservation.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ReportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private UserRepository userRepository;
+
+    @MockBean
+    private RoomRepository roomRepository;
+
+    @MockBean
+    private ReservationRepository reservationRepository;
+
+    @MockBean
+    private com.hotel.reservation.repository.PaymentRepository paymentRepository;
+
+    @BeforeEach
+    void setUp() {
+        Room deluxe = new Room();
+        deluxe.setId("room123");
+        deluxe.setType(Room.RoomType.DELUXE);
+        deluxe.setTotalRooms(10);
+        deluxe.setPricePerNight(new BigDecimal("100.00"));
+        when(roomRepository.findAll()).thenReturn(Arrays.asList(deluxe));
+
+        doAnswer(invocation -> {
+            ReservationRepositoryCustom.StayVisitor visitor = invocation.getArgument(4);
+            // 3 nights at 100.00, the first one before the range
+            visitor.visit("room123", LocalDate.of(2024, 12, 31).toEpochDay(),
+                    LocalDate.of(2025, 1, 3).toEpochDay(), 30000);
+            // 2 nights at 125.00, the last one after the range
+            visitor.visit("room123", LocalDate.of(2025, 1, 2).toEpochDay(),
+                    LocalDate.of(2025, 1, 4).toEpochDay(), 25000);
+            return null;
+        }).when(reservationRepository).streamStays(any(), any(), any(), anyBoolean(), any());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getOccupancyReport_Success() throws Exception {
+        mockMvc.perform(get("/api/admin/reports/occupancy")
+                        .param("startDate", "2025-01-01")
+                        .param("endDate", "2025-01-02"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.series[0].roomType").value("DELUXE"))
+                .andExpect(jsonPath("$.series[0].roomCount").value(10))
+                .andExpect(jsonPath("$.series[0].points[0].roomsSold").value(1))
+                .andExpect(jsonPath("$.series[0].points[0].revenue").value(100.00))
+                .andExpect(jsonPath("$.series[0].points[1].roomsSold").value(2))
+                .andExpect(jsonPath("$.series[0].points[1].revenue").value(225.00))
+                .andExpect(jsonPath("$.series[0].points[1].adr").value(112.50))
+                .andExpect(jsonPath("$.series[0].roomNightsSold").value(3))
+                .andExpect(jsonPath("$.series[0].occupancyRate").value(15.0))
+                .andExpect(jsonPath("$.series[0].revpar").value(16.25))
+                .andExpect(jsonPath("$.series[1].roomType").value("ALL"));
+
+        verify(reservationRepository).streamStays(eq(LocalDate.of(2025, 1, 1)),
+                eq(LocalDate.of(2025, 1, 3)), any(), eq(false), any());
+    }
+
+    @Test
+    @WithMockUser(roles = "MANAGER")
+    void getOccupancyReport_IncludeArchived() throws Exception {
+        mockMvc.perform(get("/api/admin/reports/occupancy")
+                        .param("startDate", "2025-01-01")
+                        .param("endDate", "2025-01-02")
+                        .param("includeArchived", "true"))
+                .andExpect(status().isOk());
+
+        verify(reservationRepository).streamStays(any(), any(), any(), eq(true), any());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getOccupancyReport_EndBeforeStart_BadRequest() throws Exception {
+        mockMvc.perform(get("/api/admin/reports/occupancy")
+                        .param("startDate", "2025-01-05")
+                        .param("endDate", "2025-01-01"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void getOccupancyReport_AsUser_Forbidden() throws Exception {
+        mockMvc.perform(get("/api/admin/reports/occupancy")
+                        .param("startDate", "2025-01-01")
+                        .param("endDate", "2025-01-02"))
+                .andExpect(status().isForbidden());
+    }
+}
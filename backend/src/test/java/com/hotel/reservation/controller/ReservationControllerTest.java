@@ -1,11 +1,15 @@
 package com.hotel.reservation.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hotel.reservation.dto.GroupBookingRequest;
+import com.hotel.reservation.dto.GroupBookingResponse;
+import com.hotel.reservation.dto.view.ReservationSummary;
 import com.hotel.reservation.model.Reservation;
 import com.hotel.reservation.model.Room;
 import com.hotel.reservation.model.User;
 import com.hotel.reservation.repository.UserRepository;
 import com.hotel.reservation.security.UserPrincipal;
+import com.hotel.reservation.service.GroupBookingService;
 import com.hotel.reservation.service.ReservationService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,6 +24,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.*;
 
 import static org.mockito.ArgumentMatchers.*;
@@ -41,6 +46,9 @@ class ReservationControllerTest {
     @MockBean
     private ReservationService reservationService;
 
+    @MockBean
+    private GroupBookingService groupBookingService;
+
     @MockBean
     private UserRepository userRepository;
 
@@ -94,7 +102,7 @@ class ReservationControllerTest {
     @Test
     @WithMockUser(roles = "ADMIN")
     void getAllReservations_AsAdmin_Success() throws Exception {
-        when(reservationService.getAllReservations()).thenReturn(Arrays.asList(testReservation));
+        when(reservationService.getAllReservations()).thenReturn(Arrays.asList(ReservationSummary.from(testReservation)));
 
         mockMvc.perform(get("/api/reservations"))
                 .andExpect(status().isOk())
@@ -107,7 +115,7 @@ class ReservationControllerTest {
     @Test
     @WithMockUser(roles = "MANAGER")
     void getAllReservations_AsManager_Success() throws Exception {
-        when(reservationService.getAllReservations()).thenReturn(Arrays.asList(testReservation));
+        when(reservationService.getAllReservations()).thenReturn(Arrays.asList(ReservationSummary.from(testReservation)));
 
         mockMvc.perform(get("/api/reservations"))
                 .andExpect(status().isOk());
@@ -123,7 +131,7 @@ class ReservationControllerTest {
     @Test
     void getUserReservations_Success() throws Exception {
         when(reservationService.getUserReservations("user123"))
-                .thenReturn(Arrays.asList(testReservation));
+                .thenReturn(Arrays.asList(ReservationSummary.from(testReservation)));
 
         mockMvc.perform(get("/api/reservations/my-reservations")
                         .with(user(userPrincipal)))
@@ -134,6 +142,22 @@ class ReservationControllerTest {
         verify(reservationService).getUserReservations("user123");
     }
 
+    @Test
+    void getUserReservations_CancelledReservation_IncludesCancellationDetails() throws Exception {
+        testReservation.setStatus(Reservation.ReservationStatus.CANCELLED);
+        testReservation.setCancelledAt(LocalDateTime.of(2025, 3, 1, 10, 30));
+        testReservation.setCancellationReason("Change of plans");
+        when(reservationService.getUserReservations("user123"))
+                .thenReturn(Arrays.asList(ReservationSummary.from(testReservation)));
+
+        mockMvc.perform(get("/api/reservations/my-reservations")
+                        .with(user(userPrincipal)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("CANCELLED"))
+                .andExpect(jsonPath("$[0].cancelledAt").exists())
+                .andExpect(jsonPath("$[0].cancellationReason").value("Change of plans"));
+    }
+
     @Test
     void getUserReservations_EmptyList() throws Exception {
         when(reservationService.getUserReservations("user123"))
@@ -219,6 +243,43 @@ class ReservationControllerTest {
         );
     }
 
+    @Test
+    void createGroupBooking_Success() throws Exception {
+        when(userRepository.findById("user123")).thenReturn(Optional.of(testUser));
+        when(groupBookingService.book(any(User.class), any(GroupBookingRequest.class)))
+                .thenReturn(new GroupBookingResponse("group1", List.of(ReservationSummary.from(testReservation)),
+                        new BigDecimal("300.00"), "pay1", "secret_123"));
+
+        GroupBookingRequest request = new GroupBookingRequest(null, Room.RoomType.DELUXE, 12,
+                LocalDate.now().plusDays(1), LocalDate.now().plusDays(3), 2, null);
+
+        mockMvc.perform(post("/api/reservations/group")
+                        .with(user(userPrincipal))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.groupBookingId").value("group1"))
+                .andExpect(jsonPath("$.reservations[0].id").value("res123"))
+                .andExpect(jsonPath("$.clientSecret").value("secret_123"));
+
+        verify(groupBookingService).book(any(User.class), argThat(booking ->
+                booking.getRoomType() == Room.RoomType.DELUXE && booking.getQuantity() == 12));
+    }
+
+    @Test
+    void createGroupBooking_TooManyRooms_BadRequest() throws Exception {
+        GroupBookingRequest request = new GroupBookingRequest(null, Room.RoomType.DELUXE, 80,
+                LocalDate.now().plusDays(1), LocalDate.now().plusDays(3), 2, null);
+
+        mockMvc.perform(post("/api/reservations/group")
+                        .with(user(userPrincipal))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(groupBookingService);
+    }
+
     @Test
     void createReservation_WithoutSpecialRequests_Success() throws Exception {
         when(userRepository.findById("user123")).thenReturn(Optional.of(testUser));
@@ -344,7 +405,7 @@ class ReservationControllerTest {
         LocalDate endDate = LocalDate.now().plusDays(7);
 
         when(reservationService.getReservationsByDateRange(startDate, endDate))
-                .thenReturn(Arrays.asList(testReservation));
+                .thenReturn(Arrays.asList(ReservationSummary.from(testReservation)));
 
         mockMvc.perform(get("/api/reservations/date-range")
                         .param("startDate", startDate.toString())
@@ -362,7 +423,7 @@ class ReservationControllerTest {
         LocalDate endDate = LocalDate.now().plusDays(7);
 
         when(reservationService.getReservationsByDateRange(startDate, endDate))
-                .thenReturn(Arrays.asList(testReservation));
+                .thenReturn(Arrays.asList(ReservationSummary.from(testReservation)));
 
         mockMvc.perform(get("/api/reservations/date-range")
                         .param("startDate", startDate.toString())
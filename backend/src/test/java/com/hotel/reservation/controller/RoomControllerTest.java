@@ -1,7 +1,14 @@
 package com.hotel.reservation.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hotel.reservation.dto.quote.QuoteRequest;
+import com.hotel.reservation.dto.quote.StayQuote;
+import com.hotel.reservation.dto.search.AlternativeStay;
+import com.hotel.reservation.dto.search.RoomSearchResult;
+import com.hotel.reservation.exception.NotFoundException;
 import com.hotel.reservation.model.Room;
+import com.hotel.reservation.search.RoomSearchQuery;
+import com.hotel.reservation.service.QuoteService;
 import com.hotel.reservation.service.RoomService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -17,6 +24,9 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -36,6 +46,9 @@ class RoomControllerTest {
     @MockBean
     private RoomService roomService;
 
+    @MockBean
+    private QuoteService quoteService;
+
     @MockBean
     private com.hotel.reservation.repository.PaymentRepository paymentRepository;
 
@@ -137,10 +150,13 @@ class RoomControllerTest {
     @Test
     void getRoomById_NotFound() throws Exception {
         when(roomService.getRoomById("invalid"))
-                .thenThrow(new RuntimeException("Room not found"));
+                .thenThrow(new NotFoundException("Room", "invalid"));
 
         mockMvc.perform(get("/api/rooms/invalid"))
-                .andExpect(status().isInternalServerError());
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.status").value(404))
+                .andExpect(jsonPath("$.message").value("Room not found with id: invalid"))
+                .andExpect(jsonPath("$.resource").value("Room"));
     }
 
     @Test
@@ -156,6 +172,7 @@ class RoomControllerTest {
                         .param("checkOutDate", checkOut.toString())
                         .param("guests", "2"))
                 .andExpect(status().isOk())
+                .andExpect(header().string("Deprecation", "true"))
                 .andExpect(jsonPath("$[0].id").value("room123"));
 
         verify(roomService).getAvailableRooms(checkIn, checkOut, 2);
@@ -286,4 +303,95 @@ class RoomControllerTest {
         mockMvc.perform(delete("/api/rooms/room123"))
                 .andExpect(status().isForbidden());
     }
+
+    @Test
+    void searchRooms_PassesCriteriaToService() throws Exception {
+        RoomSearchResult result = RoomSearchResult.builder()
+                .total(1)
+                .rooms(List.of(testRoom))
+                .amenityFacets(Map.of("WiFi", 1))
+                .typeFacets(Map.of("DELUXE", 1))
+                .build();
+        when(roomService.searchRooms(any(RoomSearchQuery.class))).thenReturn(result);
+
+        mockMvc.perform(get("/api/rooms/search")
+                        .param("amenities", "WiFi", "Mini Bar")
+                        .param("type", "DELUXE")
+                        .param("maxPrice", "300")
+                        .param("checkInDate", "2030-01-10")
+                        .param("checkOutDate", "2030-01-12"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(1))
+                .andExpect(jsonPath("$.rooms[0].id").value("room123"))
+                .andExpect(jsonPath("$.amenityFacets.WiFi").value(1));
+
+        verify(roomService).searchRooms(argThat(query ->
+                query.getAmenities().equals(List.of("WiFi", "Mini Bar"))
+                        && query.getTypes().equals(Set.of(Room.RoomType.DELUXE))
+                        && query.getMaxPrice().compareTo(new BigDecimal("300")) == 0
+                        && query.getCheckInDate().equals(LocalDate.of(2030, 1, 10))));
+    }
+
+    @Test
+    void getAlternatives_ReturnsSuggestions() throws Exception {
+        AlternativeStay stay = AlternativeStay.builder()
+                .roomId("room123")
+                .checkInDate(LocalDate.of(2030, 1, 12))
+                .checkOutDate(LocalDate.of(2030, 1, 14))
+                .offsetDays(2)
+                .totalPrice(new BigDecimal("300.00"))
+                .build();
+        when(roomService.findAlternatives("room123", null, LocalDate.of(2030, 1, 10), 2, 7, 5))
+                .thenReturn(List.of(stay));
+
+        mockMvc.perform(get("/api/rooms/alternatives")
+                        .param("roomId", "room123")
+                        .param("checkInDate", "2030-01-10")
+                        .param("nights", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].checkInDate").value("2030-01-12"))
+                .andExpect(jsonPath("$[0].offsetDays").value(2));
+    }
+
+    @Test
+    void getQuotes_ReturnsOneQuotePerItem() throws Exception {
+        QuoteRequest request = new QuoteRequest(List.of(
+                new QuoteRequest.Item("room123", LocalDate.of(2030, 1, 10), LocalDate.of(2030, 1, 12), 2),
+                new QuoteRequest.Item("room123", LocalDate.of(2030, 2, 10), LocalDate.of(2030, 2, 12), 2)));
+        when(quoteService.quote(request.getItems())).thenReturn(List.of(
+                StayQuote.builder().roomId("room123").available(true).totalPrice(new BigDecimal("300.00")).build(),
+                StayQuote.builder().roomId("room123").reason(StayQuote.Unavailable.SOLD_OUT).build()));
+
+        mockMvc.perform(post("/api/rooms/quotes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].available").value(true))
+                .andExpect(jsonPath("$[0].totalPrice").value(300.00))
+                .andExpect(jsonPath("$[1].reason").value("SOLD_OUT"));
+    }
+
+    @Test
+    void getQuotes_EmptyBatch_BadRequest() throws Exception {
+        mockMvc.perform(post("/api/rooms/quotes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"items\":[]}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void streamAvailability_StartsAsyncStream() throws Exception {
+        mockMvc.perform(get("/api/rooms/availability/stream")
+                        .param("startDate", "2030-01-01")
+                        .param("endDate", "2030-01-31"))
+                .andExpect(request().asyncStarted());
+    }
+
+    @Test
+    void streamAvailability_InvalidWindow_BadRequest() throws Exception {
+        mockMvc.perform(get("/api/rooms/availability/stream")
+                        .param("startDate", "2030-01-31")
+                        .param("endDate", "2030-01-01"))
+                .andExpect(status().isBadRequest());
+    }
 }
@@ -0,0 +1,135 @@
+package com.hotel.reservation.datagen;
+
+import com.hotel.reservation.model.Payment;
+import com.hotel.reservation.model.Reservation;
+import com.hotel.reservation.model.Room;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for SyntheticData.
+ */
+class SyntheticDataTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 6, 1);
+
+    private final SyntheticData data = new SyntheticData(42, TODAY, 0.75, 365);
+
+    @Test
+    void sameSeed_ProducesSameDocuments() {
+        SyntheticData again = new SyntheticData(42, TODAY, 0.75, 365);
+
+        assertEquals(data.room(7), again.room(7));
+        assertEquals(data.user(123, "hash"), again.user(123, "hash"));
+        List<SyntheticData.Stay> first = data.stays(data.room(7), 7, 50, 1000);
+        List<SyntheticData.Stay> second = again.stays(again.room(7), 7, 50, 1000);
+        for (int i = 0; i < first.size(); i++) {
+            assertEquals(first.get(i).reservation().getId(), second.get(i).reservation().getId());
+            assertEquals(first.get(i).reservation().getCheckInDate(), second.get(i).reservation().getCheckInDate());
+            assertEquals(first.get(i).reservation().getStatus(), second.get(i).reservation().getStatus());
+        }
+    }
+
+    @Test
+    void differentSeed_ProducesDifferentStays() {
+        SyntheticData other = new SyntheticData(43, TODAY, 0.75, 365);
+        Room room = data.room(0);
+
+        List<LocalDate> mine = data.stays(room, 0, 20, 1000).stream()
+                .map(stay -> stay.reservation().getCheckInDate()).toList();
+        List<LocalDate> theirs = other.stays(room, 0, 20, 1000).stream()
+                .map(stay -> stay.reservation().getCheckInDate()).toList();
+
+        assertNotEquals(mine, theirs);
+    }
+
+    @Test
+    void ids_AreValidAndUniquePerKind() {
+        Set<String> ids = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            assertTrue(ids.add(data.room(i).getId()));
+            assertTrue(ids.add(data.user(i, "hash").getId()));
+        }
+        assertEquals(24, SyntheticData.id(SyntheticData.KIND_RESERVATION, 1L << 40).length());
+    }
+
+    @Test
+    void stays_DoNotOverlapAndFollowDates() {
+        Room room = data.room(3);
+        List<SyntheticData.Stay> stays = data.stays(room, 3, 500, 1000);
+
+        assertEquals(500, stays.size());
+        LocalDate previousCheckIn = null;
+        for (SyntheticData.Stay stay : stays) {
+            Reservation reservation = stay.reservation();
+            assertTrue(reservation.getCheckOutDate().isAfter(reservation.getCheckInDate()));
+            assertFalse(reservation.getCheckOutDate().isAfter(TODAY.plusDays(365)));
+            if (previousCheckIn != null) {
+                // Latest first: each stay ends on or before the next one starts
+                assertFalse(reservation.getCheckOutDate().isAfter(previousCheckIn));
+            }
+            previousCheckIn = reservation.getCheckInDate();
+
+            long nights = ChronoUnit.DAYS.between(reservation.getCheckInDate(), reservation.getCheckOutDate());
+            assertEquals(0, room.getPricePerNight().multiply(BigDecimal.valueOf(nights))
+                    .compareTo(reservation.getTotalAmount()));
+            assertTrue(reservation.getNumberOfGuests() >= 1 && reservation.getNumberOfGuests() <= room.getCapacity());
+            assertFalse(reservation.getCreatedAt().isAfter(TODAY.atStartOfDay()));
+
+            switch (reservation.getStatus()) {
+                case CHECKED_OUT -> assertFalse(reservation.getCheckOutDate().isAfter(TODAY));
+                case CHECKED_IN -> assertTrue(!reservation.getCheckInDate().isAfter(TODAY)
+                        && reservation.getCheckOutDate().isAfter(TODAY));
+                case PENDING, CONFIRMED -> assertTrue(reservation.getCheckInDate().isAfter(TODAY));
+                case CANCELLED -> assertNotNull(reservation.getCancelledAt());
+            }
+        }
+    }
+
+    @Test
+    void payments_MatchReservationStatus() {
+        List<SyntheticData.Stay> stays = data.stays(data.room(11), 11, 500, 1000);
+
+        for (SyntheticData.Stay stay : stays) {
+            Reservation reservation = stay.reservation();
+            Payment payment = stay.payment();
+            switch (reservation.getStatus()) {
+                case CONFIRMED, CHECKED_IN, CHECKED_OUT -> {
+                    assertNotNull(payment);
+                    assertEquals(Payment.PaymentStatus.SUCCEEDED, payment.getStatus());
+                }
+                case CANCELLED -> {
+                    if (payment != null) {
+                        assertNotNull(payment.getRefundedAt());
+                        assertTrue(payment.getRefundAmount().compareTo(payment.getAmount()) <= 0);
+                    }
+                }
+                case PENDING -> {
+                    if (payment != null) {
+                        assertEquals(Payment.PaymentStatus.PENDING, payment.getStatus());
+                    }
+                }
+            }
+            if (payment == null) {
+                assertNull(reservation.getPaymentId());
+            } else {
+                assertEquals(payment.getId(), reservation.getPaymentId());
+                assertEquals(reservation.getUser().getId(), payment.getUser().getId());
+                assertEquals(0, reservation.getTotalAmount().compareTo(payment.getAmount()));
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.hotel.reservation.email;
+
+import com.hotel.reservation.model.EmailMessage;
+import com.hotel.reservation.repository.EmailMessageRepository;
+import com.hotel.reservation.repository.ReservationRepository;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class EmailDispatcherTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private EmailMessageRepository emailMessageRepository;
+    private ReservationRepository reservationRepository;
+    private JavaMailSenderImpl mailSender;
+    private EmailDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        emailMessageRepository = mock(EmailMessageRepository.class);
+        reservationRepository = mock(ReservationRepository.class);
+
+        mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(ServerSetupTest.SMTP.getPort());
+
+        dispatcher = new EmailDispatcher(emailMessageRepository, reservationRepository,
+                new EmailTemplateEngine(), mailSender, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(dispatcher, "from", "no-reply@hotelx.test");
+        ReflectionTestUtils.setField(dispatcher, "workers", 2);
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 2);
+        ReflectionTestUtils.setField(dispatcher, "maxAttempts", 3);
+        ReflectionTestUtils.setField(dispatcher, "leaseMs", 60000L);
+        ReflectionTestUtils.setField(dispatcher, "retryBaseMs", 1000L);
+        ReflectionTestUtils.setField(dispatcher, "retryMaxMs", 60000L);
+        dispatcher.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.stop();
+    }
+
+    @Test
+    void dispatch_SendsBatchesAndFlagsConfirmedReservations() throws Exception {
+        List<EmailMessage> queued = List.of(
+                message("e1", "res1", EmailMessage.Template.RESERVATION_CONFIRMED),
+                message("e2", "res2", EmailMessage.Template.RESERVATION_CONFIRMED),
+                message("e3", "res3", EmailMessage.Template.RESERVATION_CANCELLED));
+        when(emailMessageRepository.claimBatch(eq(4), any(Duration.class))).thenReturn(queued);
+
+        dispatcher.dispatch();
+
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertEquals(3, received.length);
+        assertTrue(GreenMailUtil.getBody(received[0]).contains("Deluxe Suite"));
+        verify(emailMessageRepository).markSent(argThat(ids -> ids.containsAll(List.of("e1", "e2", "e3"))), eq("claim1"));
+        verify(reservationRepository).markConfirmationEmailsSent(
+                argThat(ids -> ids.size() == 2 && ids.containsAll(List.of("res1", "res2"))));
+    }
+
+    @Test
+    void sendBatch_SmtpUnavailable_SchedulesRetry() {
+        mailSender.setPort(ServerSetupTest.SMTP.getPort() + 1);
+
+        List<EmailMessage> sent = dispatcher.sendBatch(
+                List.of(message("e1", "res1", EmailMessage.Template.RESERVATION_CONFIRMED)));
+
+        assertTrue(sent.isEmpty());
+        verify(emailMessageRepository).markFailed(eq("e1"), eq("claim1"), anyString(), notNull());
+    }
+
+    @Test
+    void templateEngine_EscapesVariables() {
+        String body = new EmailTemplateEngine().render(EmailMessage.Template.RESERVATION_CANCELLED,
+                Map.of("guestName", "<b>Jane</b>", "reason", "Plans & dates changed"));
+
+        assertTrue(body.contains("&lt;b&gt;Jane&lt;/b&gt;"));
+        assertTrue(body.contains("Plans &amp; dates changed"));
+        assertFalse(body.contains("{{"));
+    }
+
+    private EmailMessage message(String id, String reservationId, EmailMessage.Template template) {
+        EmailMessage message = new EmailMessage();
+        message.setId(id);
+        message.setReservationId(reservationId);
+        message.setTemplate(template);
+        message.setRecipient("guest@example.com");
+        message.setVariables(Map.of("guestName", "Jane Doe", "roomName", "Deluxe Suite"));
+        message.setClaimToken("claim1");
+        return message;
+    }
+}
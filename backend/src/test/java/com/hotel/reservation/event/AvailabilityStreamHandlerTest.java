@@ -0,0 +1,48 @@
+package com.hotel.reservation.event;
+
+import com.hotel.reservation.event.handler.AvailabilityStreamHandler;
+import com.hotel.reservation.model.OutboxEvent;
+import com.hotel.reservation.stream.AvailabilityDelta;
+import com.hotel.reservation.stream.SseHub;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AvailabilityStreamHandlerTest {
+
+    @Test
+    void handle_Update_PublishesReleaseThenBooking() {
+        SseHub mockHub = mock(SseHub.class);
+        AvailabilityStreamHandler handler = new AvailabilityStreamHandler(mockHub);
+
+        OutboxEvent event = new OutboxEvent();
+        event.setType(OutboxEvent.EventType.RESERVATION_UPDATED);
+        event.setAggregateId("res1");
+        event.setPayload(Map.of(
+                "roomId", "room1",
+                "previousCheckInDate", "2030-01-01",
+                "previousCheckOutDate", "2030-01-03",
+                "checkInDate", "2030-01-05",
+                "checkOutDate", "2030-01-07"));
+
+        handler.handle(event);
+
+        ArgumentCaptor<Object> deltas = ArgumentCaptor.forClass(Object.class);
+        verify(mockHub, times(2)).publish(eq(SseHub.Topic.AVAILABILITY), anyString(), deltas.capture());
+        List<Object> published = deltas.getAllValues();
+        AvailabilityDelta released = (AvailabilityDelta) published.get(0);
+        AvailabilityDelta booked = (AvailabilityDelta) published.get(1);
+        assertEquals(AvailabilityDelta.Change.RELEASED, released.getChange());
+        assertEquals(LocalDate.of(2030, 1, 1), released.getFrom());
+        assertEquals(AvailabilityDelta.Change.BOOKED, booked.getChange());
+        assertTrue(booked.overlaps(LocalDate.of(2030, 1, 6), LocalDate.of(2030, 1, 10)));
+        assertFalse(booked.overlaps(LocalDate.of(2030, 1, 7), LocalDate.of(2030, 1, 10)));
+    }
+}
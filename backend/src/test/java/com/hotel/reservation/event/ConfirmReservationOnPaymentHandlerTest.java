@@ -0,0 +1,65 @@
+package com.hotel.reservation.event;
+
+import com.hotel.reservation.event.handler.ConfirmReservationOnPaymentHandler;
+import com.hotel.reservation.exception.InvalidStatusTransitionException;
+import com.hotel.reservation.model.OutboxEvent;
+import com.hotel.reservation.model.Reservation;
+import com.hotel.reservation.payment.RefundQueue;
+import com.hotel.reservation.service.ReservationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ConfirmReservationOnPaymentHandlerTest {
+
+    private ReservationService reservationService;
+    private RefundQueue refundQueue;
+    private ConfirmReservationOnPaymentHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        reservationService = mock(ReservationService.class);
+        refundQueue = mock(RefundQueue.class);
+        handler = new ConfirmReservationOnPaymentHandler(reservationService, refundQueue);
+    }
+
+    @Test
+    void handle_ConfirmsTheReservation() {
+        handler.handle(paymentSucceeded("pay1", "res1"));
+
+        verify(reservationService).confirmReservation("res1");
+        verifyNoInteractions(refundQueue);
+    }
+
+    @Test
+    void handle_ReservationCancelledBeforePayment_QueuesFullRefundKeyedByPayment() {
+        when(reservationService.confirmReservation("res1")).thenThrow(new InvalidStatusTransitionException(
+                Reservation.ReservationStatus.CANCELLED, Reservation.ReservationStatus.CONFIRMED));
+
+        handler.handle(paymentSucceeded("pay1", "res1"));
+
+        verify(refundQueue).enqueueLatePayment(eq("res1"), eq("pay1"), anyString());
+    }
+
+    @Test
+    void handle_ReservationCheckedIn_QueuesNoRefund() {
+        when(reservationService.confirmReservation("res1")).thenThrow(new InvalidStatusTransitionException(
+                Reservation.ReservationStatus.CHECKED_IN, Reservation.ReservationStatus.CONFIRMED));
+
+        handler.handle(paymentSucceeded("pay1", "res1"));
+
+        verifyNoInteractions(refundQueue);
+    }
+
+    private static OutboxEvent paymentSucceeded(String paymentId, String reservationId) {
+        OutboxEvent event = new OutboxEvent();
+        event.setType(OutboxEvent.EventType.PAYMENT_SUCCEEDED);
+        event.setAggregateId(paymentId);
+        event.setPayload(Map.of(ConfirmReservationOnPaymentHandler.RESERVATION_ID, reservationId));
+        return event;
+    }
+}
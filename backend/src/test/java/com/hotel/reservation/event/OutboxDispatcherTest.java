@@ -0,0 +1,125 @@
+package com.hotel.reservation.event;
+
+import com.hotel.reservation.model.OutboxEvent;
+import com.hotel.reservation.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class OutboxDispatcherTest {
+
+    private OutboxEventRepository repository;
+    private DomainEventHandler handler;
+    private OutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(OutboxEventRepository.class);
+        handler = handler("emails");
+        when(repository.markFailed(anyString(), anyString(), anyCollection(), anyString(), any())).thenReturn(true);
+
+        dispatcher = dispatcher(List.of(handler));
+    }
+
+    @Test
+    void dispatch_DeliversSupportedEventsAndMarksBatchDispatched() {
+        OutboxEvent cancelled = event("e1", OutboxEvent.EventType.RESERVATION_CANCELLED, 0);
+        OutboxEvent created = event("e2", OutboxEvent.EventType.RESERVATION_CREATED, 0);
+        when(repository.claimBatch(eq(10), any(Duration.class))).thenReturn(List.of(cancelled, created));
+
+        dispatcher.dispatch();
+
+        verify(handler).handle(cancelled);
+        verify(handler, never()).handle(created);
+        verify(repository).markDispatched(List.of("e1", "e2"), "claim1");
+    }
+
+    @Test
+    void dispatch_HandlerFailure_SchedulesRetry() {
+        OutboxEvent cancelled = event("e1", OutboxEvent.EventType.RESERVATION_CANCELLED, 0);
+        when(repository.claimBatch(eq(10), any(Duration.class))).thenReturn(List.of(cancelled));
+        doThrow(new RuntimeException("Stripe unavailable")).when(handler).handle(cancelled);
+
+        dispatcher.dispatch();
+
+        verify(repository).markFailed(eq("e1"), eq("claim1"), eq(List.of()), eq("Stripe unavailable"), notNull());
+        verify(repository).markDispatched(List.of(), "claim1");
+    }
+
+    @Test
+    void dispatch_LastAttemptFails_GivesUp() {
+        OutboxEvent cancelled = event("e1", OutboxEvent.EventType.RESERVATION_CANCELLED, 2);
+        when(repository.claimBatch(eq(10), any(Duration.class))).thenReturn(List.of(cancelled));
+        doThrow(new RuntimeException("Stripe unavailable")).when(handler).handle(cancelled);
+
+        dispatcher.dispatch();
+
+        verify(repository).markFailed("e1", "claim1", List.of(), "Stripe unavailable", null);
+    }
+
+    @Test
+    void dispatch_HandlerFailure_RecordsHandlersThatSucceeded() {
+        DomainEventHandler metrics = handler("metrics");
+        dispatcher = dispatcher(List.of(handler, metrics));
+
+        OutboxEvent cancelled = event("e1", OutboxEvent.EventType.RESERVATION_CANCELLED, 0);
+        when(repository.claimBatch(eq(10), any(Duration.class))).thenReturn(List.of(cancelled));
+        doThrow(new RuntimeException("Stripe unavailable")).when(handler).handle(cancelled);
+
+        dispatcher.dispatch();
+
+        // The failing handler does not keep the event from the next one
+        verify(metrics).handle(cancelled);
+        verify(repository).markFailed(eq("e1"), eq("claim1"), eq(List.of("metrics")), eq("Stripe unavailable"), notNull());
+    }
+
+    @Test
+    void dispatch_Retry_SkipsHandlersThatAlreadyHandledTheEvent() {
+        DomainEventHandler metrics = handler("metrics");
+        dispatcher = dispatcher(List.of(handler, metrics));
+
+        OutboxEvent cancelled = event("e1", OutboxEvent.EventType.RESERVATION_CANCELLED, 1);
+        cancelled.getHandledBy().add("metrics");
+        when(repository.claimBatch(eq(10), any(Duration.class))).thenReturn(List.of(cancelled));
+
+        dispatcher.dispatch();
+
+        verify(handler).handle(cancelled);
+        verify(metrics, never()).handle(any());
+        verify(repository).markDispatched(List.of("e1"), "claim1");
+    }
+
+    private OutboxDispatcher dispatcher(List<DomainEventHandler> handlers) {
+        OutboxDispatcher dispatcher = new OutboxDispatcher(repository, handlers, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 10);
+        ReflectionTestUtils.setField(dispatcher, "maxAttempts", 3);
+        ReflectionTestUtils.setField(dispatcher, "leaseMs", 60000L);
+        ReflectionTestUtils.setField(dispatcher, "retryBaseMs", 1000L);
+        ReflectionTestUtils.setField(dispatcher, "retryMaxMs", 60000L);
+        return dispatcher;
+    }
+
+    private static DomainEventHandler handler(String name) {
+        DomainEventHandler handler = mock(DomainEventHandler.class);
+        when(handler.name()).thenReturn(name);
+        when(handler.supports(OutboxEvent.EventType.RESERVATION_CANCELLED)).thenReturn(true);
+        return handler;
+    }
+
+    private OutboxEvent event(String id, OutboxEvent.EventType type, int attempts) {
+        OutboxEvent event = new OutboxEvent();
+        event.setId(id);
+        event.setType(type);
+        event.setAggregateId("res123");
+        event.setAttempts(attempts);
+        event.setClaimToken("claim1");
+        return event;
+    }
+}
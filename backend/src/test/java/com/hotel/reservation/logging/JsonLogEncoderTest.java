@@ -0,0 +1,54 @@
+package com.hotel.reservation.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonLogEncoderTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final Logger logger = context.getLogger("com.hotel.reservation.service.PaymentService");
+
+    @Test
+    void encode_WritesOneParsableLineWithMdcFields() throws Exception {
+        JsonLogEncoder encoder = new JsonLogEncoder();
+        encoder.setService("hotelx-backend");
+        LoggingEvent event = new LoggingEvent("test", logger, Level.INFO,
+                "Payment {} marked \"paid\"\n", null, new Object[]{"p1"});
+        event.setMDCPropertyMap(Map.of("correlationId", "abc123", "userId", "u1"));
+
+        String line = new String(encoder.encode(event), StandardCharsets.UTF_8);
+        JsonNode json = new ObjectMapper().readTree(line);
+
+        assertTrue(line.endsWith("}\n"));
+        assertEquals(1, line.split("\n").length);
+        assertEquals("INFO", json.get("level").asText());
+        assertEquals("hotelx-backend", json.get("service").asText());
+        assertEquals("Payment p1 marked \"paid\"\n", json.get("message").asText());
+        assertEquals("abc123", json.get("correlationId").asText());
+        assertEquals("u1", json.get("userId").asText());
+        assertNull(json.get("exception"));
+    }
+
+    @Test
+    void encode_IncludesStackTrace() throws Exception {
+        JsonLogEncoder encoder = new JsonLogEncoder();
+        LoggingEvent event = new LoggingEvent("test", logger, Level.ERROR, "Failed",
+                new IllegalStateException("boom"), null);
+        event.setMDCPropertyMap(Map.of());
+
+        JsonNode json = new ObjectMapper().readTree(encoder.encode(event));
+
+        assertTrue(json.get("exception").asText().contains("IllegalStateException: boom"));
+        assertNull(json.get("service"));
+    }
+}
@@ -0,0 +1,37 @@
+package com.hotel.reservation.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SamplingTurboFilterTest {
+
+    private final LoggerContext context = new LoggerContext();
+
+    @Test
+    void decide_DropsMostDebugFromListedLoggersOnly() {
+        SamplingTurboFilter filter = new SamplingTurboFilter();
+        filter.setLoggers("org.springframework.security, org.mongodb.driver");
+        filter.setEvery(10);
+        Logger security = context.getLogger("org.springframework.security.web.FilterChainProxy");
+        Logger lookalike = context.getLogger("org.springframework.securityx.Other");
+        security.setLevel(Level.DEBUG);
+        lookalike.setLevel(Level.DEBUG);
+
+        int kept = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.decide(null, security, Level.DEBUG, "Securing {}", null, null) == FilterReply.NEUTRAL) {
+                kept++;
+            }
+        }
+
+        assertTrue(kept > 700 && kept < 1300, "kept " + kept);
+        assertEquals(FilterReply.NEUTRAL, filter.decide(null, security, Level.INFO, "Started", null, null));
+        assertEquals(FilterReply.NEUTRAL, filter.decide(null, security, Level.DEBUG, null, null, null));
+        assertEquals(FilterReply.NEUTRAL, filter.decide(null, lookalike, Level.DEBUG, "Other", null, null));
+    }
+}
@@ -0,0 +1,63 @@
+package com.hotel.reservation.payment;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong(1_000);
+    private final CircuitBreaker breaker = new CircuitBreaker(3, 30_000, now::get);
+
+    @Test
+    void opensAfterConsecutiveFailures() {
+        fail(2);
+        breaker.onSuccess();
+        fail(2);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+
+        assertTrue(breaker.tryAcquire());
+        assertTrue(breaker.onFailure());
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    @Test
+    void halfOpen_LetsOneTrialThrough() {
+        fail(3);
+        now.addAndGet(30_000);
+
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+
+        breaker.onSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        assertTrue(breaker.tryAcquire());
+    }
+
+    @Test
+    void halfOpen_FailedTrialReopens() {
+        fail(3);
+        now.addAndGet(30_000);
+        assertTrue(breaker.tryAcquire());
+
+        assertTrue(breaker.onFailure());
+
+        assertFalse(breaker.tryAcquire());
+        now.addAndGet(29_999);
+        assertFalse(breaker.tryAcquire());
+        now.addAndGet(1);
+        assertTrue(breaker.tryAcquire());
+    }
+
+    private void fail(int times) {
+        for (int i = 0; i < times; i++) {
+            assertTrue(breaker.tryAcquire());
+            breaker.onFailure();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.hotel.reservation.payment;
+
+import com.hotel.reservation.model.RefundJob;
+import com.hotel.reservation.model.Reservation;
+import com.hotel.reservation.repository.RefundJobRepository;
+import com.hotel.reservation.repository.ReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class RefundQueueTest {
+
+    private static final LocalDateTime REQUESTED_AT = LocalDateTime.of(2030, 6, 1, 12, 0);
+
+    private ReservationRepository reservationRepository;
+    private RefundJobRepository refundJobRepository;
+    private RefundQueue refundQueue;
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository = mock(ReservationRepository.class);
+        refundJobRepository = mock(RefundJobRepository.class);
+        refundQueue = new RefundQueue(reservationRepository, refundJobRepository);
+    }
+
+    @Test
+    void relayPending_QueuesJobThenClearsTheReservation() {
+        when(reservationRepository.findPendingRefunds(10)).thenReturn(List.of(
+                cancelled("res1", new Reservation.PendingRefund("p1", new BigDecimal("80.00"), "Changed plans",
+                        REQUESTED_AT))));
+        when(refundJobRepository.enqueue(any())).thenReturn(true);
+
+        assertEquals(1, refundQueue.relayPending(10));
+
+        InOrder order = inOrder(refundJobRepository, reservationRepository);
+        order.verify(refundJobRepository).enqueue(argThat(job ->
+                RefundJob.cancellationId("res1").equals(job.getId())
+                        && "res1".equals(job.getReservationId())
+                        && "p1".equals(job.getPaymentId())
+                        && new BigDecimal("80.00").equals(job.getAmount())
+                        && "Changed plans".equals(job.getReason())
+                        && job.getStatus() == RefundJob.RefundJobStatus.PENDING));
+        order.verify(reservationRepository).clearPendingRefund("res1", REQUESTED_AT);
+    }
+
+    @Test
+    void relayPending_JobAlreadyQueued_StillClearsTheReservation() {
+        // A relay that crashed after queueing the job and before clearing the reservation
+        when(reservationRepository.findPendingRefunds(10)).thenReturn(List.of(
+                cancelled("res1", new Reservation.PendingRefund(null, null, "Changed plans", REQUESTED_AT))));
+        when(refundJobRepository.enqueue(any())).thenReturn(false);
+
+        assertEquals(1, refundQueue.relayPending(10));
+
+        verify(refundJobRepository, times(1)).enqueue(any());
+        verify(reservationRepository).clearPendingRefund("res1", REQUESTED_AT);
+    }
+
+    @Test
+    void enqueueLatePayment_QueuesFullRefundOfThePayment() {
+        when(refundJobRepository.enqueue(any())).thenReturn(true);
+
+        assertTrue(refundQueue.enqueueLatePayment("res1", "pay1", "Paid after cancellation"));
+
+        verify(refundJobRepository).enqueue(argThat(job ->
+                RefundJob.latePaymentId("pay1").equals(job.getId())
+                        && "res1".equals(job.getReservationId())
+                        && "pay1".equals(job.getPaymentId())
+                        && job.getAmount() == null));
+        verifyNoInteractions(reservationRepository);
+    }
+
+    private static Reservation cancelled(String id, Reservation.PendingRefund refund) {
+        Reservation reservation = new Reservation();
+        reservation.setId(id);
+        reservation.setPendingRefund(refund);
+        return reservation;
+    }
+}
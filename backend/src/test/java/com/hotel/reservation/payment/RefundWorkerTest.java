@@ -0,0 +1,176 @@
+package com.hotel.reservation.payment;
+
+import com.hotel.reservation.model.Payment;
+import com.hotel.reservation.model.RefundJob;
+import com.hotel.reservation.repository.PaymentRepository;
+import com.hotel.reservation.repository.RefundJobRepository;
+import com.hotel.reservation.service.PaymentService;
+import com.stripe.exception.ApiConnectionException;
+import com.stripe.exception.InvalidRequestException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class RefundWorkerTest {
+
+    private RefundQueue refundQueue;
+    private RefundJobRepository refundJobRepository;
+    private PaymentRepository paymentRepository;
+    private PaymentService paymentService;
+    private SimpleMeterRegistry meterRegistry;
+    private RefundWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        refundQueue = mock(RefundQueue.class);
+        refundJobRepository = mock(RefundJobRepository.class);
+        paymentRepository = mock(PaymentRepository.class);
+        paymentService = mock(PaymentService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        when(refundJobRepository.markDone(anyString(), anyString(), any(), any())).thenReturn(true);
+        when(refundJobRepository.markFailed(anyString(), anyString(), any(), any())).thenReturn(true);
+
+        worker = new RefundWorker(refundQueue, refundJobRepository, paymentRepository, paymentService, meterRegistry);
+        ReflectionTestUtils.setField(worker, "workers", 2);
+        ReflectionTestUtils.setField(worker, "maxAttempts", 3);
+        ReflectionTestUtils.setField(worker, "leaseMs", 60000L);
+        ReflectionTestUtils.setField(worker, "retryBaseMs", 1000L);
+        ReflectionTestUtils.setField(worker, "retryMaxMs", 60000L);
+        worker.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.stop();
+    }
+
+    @Test
+    void dispatch_RefundsClaimedJobsWithTheJobIdAsIdempotencyKey() throws Exception {
+        when(refundJobRepository.claimBatch(eq(2), any(Duration.class)))
+                .thenReturn(List.of(job("res1", "p1", "80.00"), job("res2", null, null)))
+                .thenReturn(List.of());
+        when(paymentRepository.findById("p1")).thenReturn(Optional.of(payment("p1", Payment.PaymentStatus.SUCCEEDED)));
+        when(paymentRepository.findByReservationId("res2"))
+                .thenReturn(Optional.of(payment("p2", Payment.PaymentStatus.SUCCEEDED)));
+
+        worker.dispatch();
+
+        verify(paymentService).processRefund("p1", new BigDecimal("80.00"), "Changed plans",
+                RefundJob.cancellationId("res1"));
+        verify(paymentService).processRefund("p2", new BigDecimal("200.00"), "Changed plans",
+                RefundJob.cancellationId("res2"));
+        verify(refundJobRepository).markDone(RefundJob.cancellationId("res1"), "claim1",
+                RefundJob.RefundJobStatus.SUCCEEDED, null);
+        verify(refundJobRepository).markDone(RefundJob.cancellationId("res2"), "claim1",
+                RefundJob.RefundJobStatus.SUCCEEDED, null);
+        verify(refundJobRepository, times(2)).claimBatch(eq(2), any(Duration.class));
+    }
+
+    @Test
+    void dispatch_QueuesPendingRefundsBeforeClaiming() {
+        when(refundQueue.relayPending(anyInt())).thenReturn(100, 3);
+        when(refundJobRepository.claimBatch(eq(2), any(Duration.class))).thenReturn(List.of());
+
+        worker.dispatch();
+
+        InOrder order = inOrder(refundQueue, refundJobRepository);
+        order.verify(refundQueue, times(2)).relayPending(100);
+        order.verify(refundJobRepository).claimBatch(eq(2), any(Duration.class));
+    }
+
+    @Test
+    void execute_SkipsPaymentThatIsNoLongerSucceeded() throws Exception {
+        when(paymentRepository.findById("p1")).thenReturn(Optional.of(payment("p1", Payment.PaymentStatus.REFUNDED)));
+
+        worker.execute(job("res1", "p1", "80.00"));
+
+        verify(paymentService, never()).processRefund(anyString(), any(), any(), any());
+        verify(refundJobRepository).markDone(eq(RefundJob.cancellationId("res1")), eq("claim1"),
+                eq(RefundJob.RefundJobStatus.SKIPPED), contains("REFUNDED"));
+    }
+
+    @Test
+    void execute_SkipsFullRefundOfGroupPayment() throws Exception {
+        Payment payment = payment("p1", Payment.PaymentStatus.SUCCEEDED);
+        payment.setGroupBookingId("g1");
+        when(paymentRepository.findByReservationId("res1")).thenReturn(Optional.of(payment));
+
+        worker.execute(job("res1", null, null));
+
+        verify(paymentService, never()).processRefund(anyString(), any(), any(), any());
+        verify(refundJobRepository).markDone(eq(RefundJob.cancellationId("res1")), eq("claim1"),
+                eq(RefundJob.RefundJobStatus.SKIPPED), contains("g1"));
+    }
+
+    @Test
+    void execute_TransientFailureIsRetriedWithBackoff() throws Exception {
+        when(paymentRepository.findById("p1")).thenReturn(Optional.of(payment("p1", Payment.PaymentStatus.SUCCEEDED)));
+        when(paymentService.processRefund(anyString(), any(), any(), any()))
+                .thenThrow(new ApiConnectionException("Read timed out"));
+
+        LocalDateTime before = LocalDateTime.now();
+        worker.execute(job("res1", "p1", "80.00"));
+
+        verify(refundJobRepository).markFailed(eq(RefundJob.cancellationId("res1")), eq("claim1"), eq("Read timed out"),
+                argThat(retryAt -> retryAt != null && !retryAt.isBefore(before.plus(Duration.ofMillis(500)))));
+    }
+
+    @Test
+    void execute_RejectedRefundFailsAtOnce() throws Exception {
+        when(paymentRepository.findById("p1")).thenReturn(Optional.of(payment("p1", Payment.PaymentStatus.SUCCEEDED)));
+        when(paymentService.processRefund(anyString(), any(), any(), any()))
+                .thenThrow(new InvalidRequestException("Charge already refunded", null, "req_1",
+                        "charge_already_refunded", 400, null));
+
+        worker.execute(job("res1", "p1", "80.00"));
+
+        verify(refundJobRepository).markFailed(eq(RefundJob.cancellationId("res1")), eq("claim1"), anyString(),
+                isNull());
+        verify(refundJobRepository, never()).markDone(any(), any(), any(), any());
+    }
+
+    @Test
+    void execute_ClaimExpiredBeforeDone_LeavesOutcomeToCurrentWorker() throws Exception {
+        when(paymentRepository.findById("p1")).thenReturn(Optional.of(payment("p1", Payment.PaymentStatus.SUCCEEDED)));
+        when(refundJobRepository.markDone(anyString(), anyString(), any(), any())).thenReturn(false);
+
+        worker.execute(job("res1", "p1", "80.00"));
+
+        verify(refundJobRepository).markDone(RefundJob.cancellationId("res1"), "claim1",
+                RefundJob.RefundJobStatus.SUCCEEDED, null);
+        assertEquals(0, meterRegistry.counter("hotelx.refunds.succeeded").count());
+    }
+
+    private static RefundJob job(String reservationId, String paymentId, String amount) {
+        RefundJob job = new RefundJob();
+        job.setId(RefundJob.cancellationId(reservationId));
+        job.setReservationId(reservationId);
+        job.setPaymentId(paymentId);
+        job.setAmount(amount != null ? new BigDecimal(amount) : null);
+        job.setReason("Changed plans");
+        job.setStatus(RefundJob.RefundJobStatus.PROCESSING);
+        job.setClaimToken("claim1");
+        return job;
+    }
+
+    private static Payment payment(String id, Payment.PaymentStatus status) {
+        Payment payment = new Payment();
+        payment.setId(id);
+        payment.setAmount(new BigDecimal("200.00"));
+        payment.setStatus(status);
+        return payment;
+    }
+}
@@ -0,0 +1,106 @@
+package com.hotel.reservation.payment;
+
+import com.stripe.exception.ApiConnectionException;
+import com.stripe.exception.ApiException;
+import com.stripe.exception.CardException;
+import com.stripe.exception.StripeException;
+import com.stripe.net.RequestOptions;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StripeGatewayTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StripeProperties properties = new StripeProperties();
+    private StripeGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        properties.setRetryBase(Duration.ofMillis(1));
+        properties.setRetryMax(Duration.ofMillis(2));
+        properties.getCircuit().setFailureThreshold(4);
+        gateway = new StripeGateway(properties, meterRegistry);
+    }
+
+    @Test
+    void call_RetriesTransientFailuresWithTheSameIdempotencyKey() throws StripeException {
+        List<RequestOptions> seen = new ArrayList<>();
+
+        String result = gateway.call(StripeGateway.Operation.REFUND, "refund-p1-500", options -> {
+            seen.add(options);
+            if (seen.size() < 3) {
+                throw new ApiConnectionException("Read timed out");
+            }
+            return "re_1";
+        });
+
+        assertEquals("re_1", result);
+        assertEquals(3, seen.size());
+        assertTrue(seen.stream().allMatch(options -> "refund-p1-500".equals(options.getIdempotencyKey())));
+        assertEquals(0, seen.get(0).getMaxNetworkRetries());
+        assertEquals(2.0, meterRegistry.counter("hotelx.stripe.retries", "operation", "refund").count());
+    }
+
+    @Test
+    void call_GeneratesKeyForWritesOnly() throws StripeException {
+        List<RequestOptions> seen = new ArrayList<>();
+
+        gateway.call(StripeGateway.Operation.CREATE_INTENT, options -> seen.add(options));
+        gateway.call(StripeGateway.Operation.RETRIEVE_INTENT, options -> seen.add(options));
+
+        assertTrue(seen.get(0).getIdempotencyKey().startsWith("create-intent-"));
+        assertNull(seen.get(1).getIdempotencyKey());
+    }
+
+    @Test
+    void call_DoesNotRetryDeclines() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThrows(CardException.class, () -> gateway.call(StripeGateway.Operation.CREATE_INTENT, options -> {
+            calls.incrementAndGet();
+            throw new CardException("Your card was declined.", "req_1", "card_declined", null, null, null, 402, null);
+        }));
+
+        assertEquals(1, calls.get());
+        assertEquals(CircuitBreaker.State.CLOSED, gateway.circuitState());
+    }
+
+    @Test
+    void call_OpensCircuitAndFailsFast() {
+        AtomicInteger calls = new AtomicInteger();
+        StripeGateway.StripeCall<Object> failing = options -> {
+            calls.incrementAndGet();
+            throw new ApiException("Internal error", "req_1", null, 500, null);
+        };
+
+        assertThrows(ApiException.class, () -> gateway.call(StripeGateway.Operation.RETRIEVE_INTENT, failing));
+        assertThrows(StripeUnavailableException.class,
+                () -> gateway.call(StripeGateway.Operation.RETRIEVE_INTENT, failing));
+        int callsWhenOpened = calls.get();
+        assertThrows(StripeUnavailableException.class,
+                () -> gateway.call(StripeGateway.Operation.REFUND, options -> "re_1"));
+
+        assertEquals(4, callsWhenOpened);
+        assertEquals(4, calls.get());
+        assertEquals(CircuitBreaker.State.OPEN, gateway.circuitState());
+        assertEquals(2.0, meterRegistry.get("hotelx.stripe.circuit.state").gauge().value());
+        assertEquals(1.0, meterRegistry.counter("hotelx.stripe.circuit.opened").count());
+    }
+
+    @Test
+    void isTransient_ClassifiesFailures() {
+        assertTrue(StripeGateway.isTransient(new ApiConnectionException("timeout")));
+        assertTrue(StripeGateway.isTransient(new ApiException("down", "req", null, 503, null)));
+        assertTrue(StripeGateway.isTransient(new StripeUnavailableException("refund", null)));
+        assertFalse(StripeGateway.isTransient(
+                new CardException("declined", "req", "card_declined", null, null, null, 402, null)));
+    }
+}
@@ -0,0 +1,161 @@
+package com.hotel.reservation.persistence;
+
+import com.mongodb.ReadPreference;
+import com.mongodb.client.MongoCollection;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ReadRouteInterceptorTest {
+
+    interface CatalogRepository {
+
+        @ReadRoute(value = "catalog", maxStalenessSeconds = 120)
+        ReadRouting.Route catalog();
+
+        @ReadRoute(value = "availability", preference = ReadRoute.Preference.PRIMARY)
+        ReadRouting.Route availability();
+
+        ReadRouting.Route unrouted();
+
+        @ReadRoute("catalog")
+        ReadRouting.Route catalogThenAvailability();
+    }
+
+    static class Catalog implements CatalogRepository {
+
+        CatalogRepository self;
+
+        @Override
+        public ReadRouting.Route catalog() {
+            return ReadRouting.current();
+        }
+
+        @Override
+        public ReadRouting.Route availability() {
+            return ReadRouting.current();
+        }
+
+        @Override
+        public ReadRouting.Route unrouted() {
+            return ReadRouting.current();
+        }
+
+        @Override
+        public ReadRouting.Route catalogThenAvailability() {
+            ReadRouting.Route inner = self.availability();
+            assertEquals("catalog", ReadRouting.current().name());
+            return inner;
+        }
+    }
+
+    interface Misconfigured {
+
+        @ReadRoute(value = "too-fresh", maxStalenessSeconds = 30)
+        void read();
+    }
+
+    private MeterRegistry meterRegistry;
+    private CatalogRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        Catalog target = new Catalog();
+        repository = proxy(target, CatalogRepository.class);
+        target.self = repository;
+    }
+
+    @Test
+    void routesAnnotatedMethodAndRestoresDefault() {
+        ReadRouting.Route route = repository.catalog();
+
+        assertEquals("catalog", route.name());
+        assertEquals(ReadPreference.secondaryPreferred(120, TimeUnit.SECONDS), route.readPreference());
+        assertNull(ReadRouting.current());
+        assertNull(repository.unrouted());
+    }
+
+    @Test
+    void innermostRouteWins() {
+        ReadRouting.Route inner = repository.catalogThenAvailability();
+
+        assertEquals("availability", inner.name());
+        assertEquals(ReadPreference.primary(), inner.readPreference());
+        assertNull(ReadRouting.current());
+    }
+
+    @Test
+    void timesCallsPerRoute() {
+        repository.catalog();
+        repository.catalog();
+        repository.availability();
+
+        Timer catalog = meterRegistry.get("hotelx.mongo.read.route")
+                .tag("route", "catalog").tag("readPreference", "secondaryPreferred").timer();
+        Timer availability = meterRegistry.get("hotelx.mongo.read.route")
+                .tag("route", "availability").tag("readPreference", "primary").timer();
+        assertEquals(2, catalog.count());
+        assertEquals(1, availability.count());
+    }
+
+    @Test
+    void rejectsStalenessBelowServerMinimum() {
+        Misconfigured misconfigured = proxy(() -> { }, Misconfigured.class);
+
+        assertThrows(IllegalStateException.class, misconfigured::read);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void templateAppliesCurrentRouteToCollections() {
+        MongoDatabaseFactory databaseFactory = mock(MongoDatabaseFactory.class);
+        RoutingMongoTemplate template = new RoutingMongoTemplate(databaseFactory,
+                new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, new MongoMappingContext()));
+        MongoCollection<Document> collection = mock(MongoCollection.class);
+        MongoCollection<Document> routed = mock(MongoCollection.class);
+        when(collection.getReadPreference()).thenReturn(ReadPreference.primary());
+        when(collection.withReadPreference(any())).thenReturn(routed);
+
+        assertSame(collection, template.prepareCollection(collection));
+
+        ReadRouting.Route previous = ReadRouting.enter(
+                new ReadRouting.Route("catalog", ReadPreference.secondaryPreferred()));
+        try {
+            assertSame(routed, template.prepareCollection(collection));
+            verify(collection).withReadPreference(ReadPreference.secondaryPreferred());
+        } finally {
+            ReadRouting.restore(previous);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T proxy(T target, Class<T> type) {
+        ProxyFactory factory = new ProxyFactory(target);
+        factory.addInterface(type);
+        factory.addAdvice(new ReadRouteInterceptor(provider()));
+        return (T) factory.getProxy();
+    }
+
+    @SuppressWarnings("unchecked")
+    private ObjectProvider<MeterRegistry> provider() {
+        ObjectProvider<MeterRegistry> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(meterRegistry);
+        return provider;
+    }
+}
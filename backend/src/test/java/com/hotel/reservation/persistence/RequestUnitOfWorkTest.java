@@ -0,0 +1,73 @@
+package com.hotel.reservation.persistence;
+
+import com.hotel.reservation.model.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestUnitOfWorkTest {
+
+    private final RequestUnitOfWork unitOfWork = new RequestUnitOfWork(new MongoMappingContext());
+    private final AtomicInteger queries = new AtomicInteger();
+    private final Function<String, Optional<User>> loader = id -> {
+        queries.incrementAndGet();
+        User user = new User();
+        user.setId(id);
+        return Optional.of(user);
+    };
+
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() {
+        request = new MockHttpServletRequest();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void find_LoadsOncePerRequest() {
+        User first = unitOfWork.find(User.class, "user123", loader).orElseThrow();
+        User second = unitOfWork.find(User.class, "user123", loader).orElseThrow();
+
+        assertSame(first, second);
+        assertEquals(1, queries.get());
+
+        RequestUnitOfWork.State state = (RequestUnitOfWork.State) request.getAttribute(RequestUnitOfWork.ATTRIBUTE);
+        assertEquals(1, state.getHits());
+        assertEquals(1, state.getLoads());
+    }
+
+    @Test
+    void evict_ForcesReload() {
+        unitOfWork.find(User.class, "user123", loader);
+        unitOfWork.evict("users", "user123");
+        unitOfWork.find(User.class, "user123", loader);
+
+        assertEquals(2, queries.get());
+    }
+
+    @Test
+    void find_OutsideRequest_AlwaysQueries() {
+        RequestContextHolder.resetRequestAttributes();
+
+        unitOfWork.find(User.class, "user123", loader);
+        unitOfWork.find(User.class, "user123", loader);
+
+        assertEquals(2, queries.get());
+    }
+}
@@ -0,0 +1,99 @@
+package com.hotel.reservation.pricing;
+
+import com.hotel.reservation.model.RateCalendar;
+import com.hotel.reservation.model.Room;
+import com.hotel.reservation.repository.RateCalendarRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PricingEngineTest {
+
+    private static final LocalDate START = LocalDate.of(2030, 6, 1);
+
+    private RateCalendarRepository rateCalendarRepository;
+    private PricingEngine pricingEngine;
+    private Room room;
+
+    @BeforeEach
+    void setUp() {
+        rateCalendarRepository = mock(RateCalendarRepository.class);
+        pricingEngine = new PricingEngine(rateCalendarRepository);
+        ReflectionTestUtils.setField(pricingEngine, "maxAgeMs", 60000L);
+
+        room = new Room();
+        room.setId("r1");
+        room.setType(Room.RoomType.DELUXE);
+        room.setPricePerNight(new BigDecimal("200.00"));
+    }
+
+    @Test
+    void quote_NoCalendar_UsesBaseRate() {
+        when(rateCalendarRepository.findById("DELUXE")).thenReturn(Optional.empty());
+
+        assertEquals(new BigDecimal("600.00"), pricingEngine.quote(room, START, START.plusDays(3)));
+    }
+
+    @Test
+    void quote_MixesOverridesAndBaseNights() {
+        // Nights 1 and 2 of the calendar are priced at 250, the rest fall back to the base rate
+        calendar(new long[]{0, 25000, 25000, 0}, List.of());
+
+        // One night before the calendar, all four calendar nights, one night after
+        assertEquals(new BigDecimal("1300.00"),
+                pricingEngine.quote(room, START.minusDays(1), START.plusDays(5)));
+        assertEquals(new BigDecimal("500.00"), pricingEngine.quote(room, START.plusDays(1), START.plusDays(3)));
+    }
+
+    @Test
+    void quote_AppliesLongestQualifyingDiscount() {
+        calendar(new long[0], List.of(
+                new RateCalendar.LengthOfStayDiscount(3, 500),
+                new RateCalendar.LengthOfStayDiscount(7, 1500)));
+
+        assertEquals(new BigDecimal("400.00"), pricingEngine.quote(room, START, START.plusDays(2)));
+        assertEquals(new BigDecimal("570.00"), pricingEngine.quote(room, START, START.plusDays(3)));
+        assertEquals(new BigDecimal("1190.00"), pricingEngine.quote(room, START, START.plusDays(7)));
+    }
+
+    @Test
+    void quote_CachesCalendarUntilInvalidated() {
+        calendar(new long[]{30000}, List.of());
+
+        pricingEngine.quote(room, START, START.plusDays(1));
+        pricingEngine.quote(room, START, START.plusDays(1));
+        verify(rateCalendarRepository, times(1)).findById("DELUXE");
+
+        pricingEngine.invalidate(Room.RoomType.DELUXE);
+        pricingEngine.quote(room, START, START.plusDays(1));
+        verify(rateCalendarRepository, times(2)).findById("DELUXE");
+    }
+
+    @Test
+    void rates_PinsCalendarsForTheBatch() {
+        calendar(new long[]{30000}, List.of());
+
+        PricingEngine.RateSheet rates = pricingEngine.rates(List.of(Room.RoomType.DELUXE));
+        pricingEngine.invalidate(Room.RoomType.DELUXE);
+        calendar(new long[]{40000}, List.of());
+
+        assertEquals(new BigDecimal("300.00"), rates.quote(room, START, START.plusDays(1)));
+        verify(rateCalendarRepository, times(1)).findById("DELUXE");
+
+        room.setType(Room.RoomType.STANDARD);
+        assertThrows(IllegalArgumentException.class, () -> rates.quote(room, START, START.plusDays(1)));
+    }
+
+    private void calendar(long[] rates, List<RateCalendar.LengthOfStayDiscount> discounts) {
+        RateCalendar calendar = new RateCalendar("DELUXE", Room.RoomType.DELUXE, START, rates, discounts, null);
+        when(rateCalendarRepository.findById("DELUXE")).thenReturn(Optional.of(calendar));
+    }
+}
@@ -0,0 +1,134 @@
+package com.hotel.reservation.reconciliation;
+
+import com.hotel.reservation.model.OutboxEvent;
+import com.hotel.reservation.model.Payment;
+import com.hotel.reservation.model.ReconciliationReport.Discrepancy;
+import com.hotel.reservation.model.ReconciliationReport.DiscrepancyType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PaymentReconcilerTest {
+
+    private final PaymentReconciler reconciler = new PaymentReconciler();
+
+    @Test
+    void compareIntents_RepairsPendingPaymentThatSucceeded() {
+        PaymentReconciler.LocalPayment payment = payment("p1", Payment.PaymentStatus.PENDING, null, null);
+
+        PaymentReconciler.Outcome outcome = reconciler.compareIntents(
+                List.of(new PaymentReconciler.Intent("pi_1", "succeeded", 20000, "ch_1")),
+                Map.of("pi_1", payment));
+
+        PaymentReconciler.Repair repair = outcome.repairs().get(0);
+        assertEquals(Payment.PaymentStatus.SUCCEEDED, repair.changes().get("status"));
+        assertEquals("ch_1", repair.changes().get("stripeChargeId"));
+        assertEquals(OutboxEvent.EventType.PAYMENT_SUCCEEDED, repair.event());
+        assertEquals("r1", repair.payload().get("reservationId"));
+        assertEquals(DiscrepancyType.STATUS, only(outcome).getType());
+        assertTrue(only(outcome).isRepaired());
+    }
+
+    @Test
+    void compareIntents_ReportsButNeverRevertsPaidPayment() {
+        PaymentReconciler.LocalPayment payment = payment("p1", Payment.PaymentStatus.SUCCEEDED, "ch_1", null);
+
+        PaymentReconciler.Outcome outcome = reconciler.compareIntents(
+                List.of(new PaymentReconciler.Intent("pi_1", "requires_payment_method", 0, null)),
+                Map.of("pi_1", payment));
+
+        assertTrue(outcome.repairs().isEmpty());
+        assertEquals(DiscrepancyType.UNCONFIRMED, only(outcome).getType());
+        assertFalse(only(outcome).isRepaired());
+    }
+
+    @Test
+    void compareIntents_FillsMissingChargeAndFlagsAmount() {
+        PaymentReconciler.LocalPayment payment = payment("p1", Payment.PaymentStatus.SUCCEEDED, null, null);
+
+        PaymentReconciler.Outcome outcome = reconciler.compareIntents(
+                List.of(new PaymentReconciler.Intent("pi_1", "succeeded", 15000, "ch_1")),
+                Map.of("pi_1", payment));
+
+        assertEquals(Map.of("stripeChargeId", "ch_1"), outcome.repairs().get(0).changes());
+        assertNull(outcome.repairs().get(0).event());
+        assertEquals(List.of(DiscrepancyType.CHARGE, DiscrepancyType.AMOUNT),
+                outcome.discrepancies().stream().map(Discrepancy::getType).toList());
+    }
+
+    @Test
+    void compareIntents_IgnoresMatchesAndUnpaidStrangers() {
+        PaymentReconciler.LocalPayment payment = payment("p1", Payment.PaymentStatus.SUCCEEDED, "ch_1", null);
+
+        PaymentReconciler.Outcome outcome = reconciler.compareIntents(List.of(
+                        new PaymentReconciler.Intent("pi_1", "succeeded", 20000, "ch_1"),
+                        new PaymentReconciler.Intent("pi_2", "requires_payment_method", 0, null),
+                        new PaymentReconciler.Intent("pi_3", "succeeded", 5000, "ch_3")),
+                Map.of("pi_1", payment));
+
+        assertTrue(outcome.repairs().isEmpty());
+        assertEquals(DiscrepancyType.UNKNOWN_INTENT, only(outcome).getType());
+        assertEquals("pi_3", only(outcome).getStripeId());
+    }
+
+    @Test
+    void compareRefunds_RecordsRefundMadeOutsideTheApp() {
+        LocalDateTime refundedAt = LocalDateTime.of(2026, 3, 1, 12, 0);
+        PaymentReconciler.LocalPayment payment = payment("p1", Payment.PaymentStatus.PARTIALLY_REFUNDED, "ch_1",
+                new BigDecimal("50.00"));
+
+        PaymentReconciler.Outcome outcome = reconciler.compareRefunds(
+                List.of(new PaymentReconciler.ChargeRefunds("pi_1", "ch_1", 20000, 20000, refundedAt)),
+                Map.of("pi_1", payment));
+
+        PaymentReconciler.Repair repair = outcome.repairs().get(0);
+        assertEquals(Payment.PaymentStatus.REFUNDED, repair.changes().get("status"));
+        assertEquals(new BigDecimal("200.00"), repair.changes().get("refundAmount"));
+        assertEquals(refundedAt, repair.changes().get("refundedAt"));
+        assertEquals(OutboxEvent.EventType.PAYMENT_REFUNDED, repair.event());
+        assertEquals("150.00", repair.payload().get("refundAmount"));
+    }
+
+    @Test
+    void compareRefunds_LeavesMatchingAndUnpaidPaymentsAlone() {
+        LocalDateTime refundedAt = LocalDateTime.of(2026, 3, 1, 12, 0);
+        PaymentReconciler.LocalPayment matching = payment("p1", Payment.PaymentStatus.PARTIALLY_REFUNDED, "ch_1",
+                new BigDecimal("50.00"));
+        PaymentReconciler.LocalPayment pending = payment("p2", Payment.PaymentStatus.PENDING, null, null);
+
+        PaymentReconciler.Outcome outcome = reconciler.compareRefunds(List.of(
+                        new PaymentReconciler.ChargeRefunds("pi_1", "ch_1", 20000, 5000, refundedAt),
+                        new PaymentReconciler.ChargeRefunds("pi_2", "ch_2", 20000, 5000, refundedAt)),
+                Map.of("pi_1", matching, "pi_2", pending));
+
+        assertTrue(outcome.repairs().isEmpty());
+        assertEquals("p2", only(outcome).getPaymentId());
+        assertFalse(only(outcome).isRepaired());
+    }
+
+    @Test
+    void expectedStatus_OnlyMovesForward() {
+        assertEquals(Payment.PaymentStatus.FAILED,
+                PaymentReconciler.expectedStatus("canceled", Payment.PaymentStatus.PROCESSING));
+        assertEquals(Payment.PaymentStatus.PROCESSING,
+                PaymentReconciler.expectedStatus("processing", Payment.PaymentStatus.PENDING));
+        assertNull(PaymentReconciler.expectedStatus("processing", Payment.PaymentStatus.FAILED));
+        assertNull(PaymentReconciler.expectedStatus("canceled", Payment.PaymentStatus.REFUNDED));
+    }
+
+    private static PaymentReconciler.LocalPayment payment(String id, Payment.PaymentStatus status, String chargeId,
+                                                          BigDecimal refundAmount) {
+        return new PaymentReconciler.LocalPayment(id, "r1", null, new BigDecimal("200.00"), status, "pi_1",
+                chargeId, refundAmount, LocalDateTime.of(2026, 3, 1, 10, 0));
+    }
+
+    private static Discrepancy only(PaymentReconciler.Outcome outcome) {
+        assertEquals(1, outcome.discrepancies().size());
+        return outcome.discrepancies().get(0);
+    }
+}
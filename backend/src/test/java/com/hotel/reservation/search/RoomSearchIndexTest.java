@@ -0,0 +1,95 @@
+package com.hotel.reservation.search;
+
+import com.hotel.reservation.dto.search.RoomSearchResult;
+import com.hotel.reservation.model.Room;
+import com.hotel.reservation.repository.RoomRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class RoomSearchIndexTest {
+
+    private RoomRepository roomRepository;
+    private RoomSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        roomRepository = mock(RoomRepository.class);
+        when(roomRepository.findAll()).thenReturn(List.of(
+                room("r1", Room.RoomType.DELUXE, "250.00", 2, "Ocean View", "King Bed"),
+                room("r2", Room.RoomType.SUITE, "420.00", 4, "ocean view", "King Bed", "Jacuzzi"),
+                room("r3", Room.RoomType.STANDARD, "120.00", 2, "WiFi"),
+                room("r4", Room.RoomType.DELUXE, "299.99", 3, "Ocean  View", "King Bed", "WiFi")));
+
+        index = new RoomSearchIndex(roomRepository);
+        ReflectionTestUtils.setField(index, "maxAgeMs", 60000L);
+    }
+
+    @Test
+    void search_AmenitiesAndPrice_ReturnsCheapestFirst() {
+        RoomSearchResult result = index.search(RoomSearchQuery.builder()
+                .amenities(List.of("ocean view", "KING BED"))
+                .maxPrice(new BigDecimal("300"))
+                .build(), Set.of());
+
+        assertEquals(2, result.getTotal());
+        assertEquals("r1", result.getRooms().get(0).getId());
+        assertEquals("r4", result.getRooms().get(1).getId());
+        assertEquals(new BigDecimal("299.99"), result.getMaxPrice());
+        assertEquals(2, result.getAmenityFacets().get("Ocean View"));
+        assertEquals(1, result.getAmenityFacets().get("WiFi"));
+    }
+
+    @Test
+    void search_TypeFacetsIgnoreTypeFilter() {
+        RoomSearchResult result = index.search(RoomSearchQuery.builder()
+                .types(Set.of(Room.RoomType.SUITE))
+                .build(), Set.of());
+
+        assertEquals(1, result.getTotal());
+        assertEquals(2, result.getTypeFacets().get("DELUXE"));
+        assertEquals(1, result.getTypeFacets().get("STANDARD"));
+    }
+
+    @Test
+    void search_ExcludesBookedAndUnknownAmenity() {
+        RoomSearchResult booked = index.search(RoomSearchQuery.builder()
+                .amenities(List.of("King Bed"))
+                .guests(3)
+                .build(), Set.of("r2"));
+        assertEquals(List.of("r4"), booked.getRooms().stream().map(Room::getId).toList());
+
+        RoomSearchResult unknown = index.search(RoomSearchQuery.builder()
+                .amenities(List.of("Helipad"))
+                .build(), Set.of());
+        assertEquals(0, unknown.getTotal());
+    }
+
+    @Test
+    void invalidate_RebuildsOnNextSearch() {
+        index.search(new RoomSearchQuery(), Set.of());
+        index.search(new RoomSearchQuery(), Set.of());
+        verify(roomRepository, times(1)).findAll();
+
+        index.invalidate();
+        index.search(new RoomSearchQuery(), Set.of());
+        verify(roomRepository, times(2)).findAll();
+    }
+
+    private Room room(String id, Room.RoomType type, String price, int capacity, String... amenities) {
+        Room room = new Room();
+        room.setId(id);
+        room.setType(type);
+        room.setPricePerNight(new BigDecimal(price));
+        room.setCapacity(capacity);
+        room.setAmenities(List.of(amenities));
+        return room;
+    }
+}
@@ -0,0 +1,83 @@
+package com.hotel.reservation.security;
+
+import com.hotel.reservation.cache.CacheInvalidation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrincipalCacheTest {
+
+    private final PrincipalCache cache = new PrincipalCache();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Function<String, UserPrincipal> loader = id -> {
+        loads.incrementAndGet();
+        return new UserPrincipal(id, id + "@hotelx.test", "hash", List.of(), true);
+    };
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(cache, "ttlMs", 60_000L);
+        ReflectionTestUtils.setField(cache, "maxEntries", 100);
+    }
+
+    @Test
+    void get_LoadsOncePerUser() {
+        UserPrincipal first = cache.get("u1", loader);
+
+        assertSame(first, cache.get("u1", loader));
+        cache.get("u2", loader);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void onUserChanged_DropsThatUser() {
+        cache.get("u1", loader);
+        cache.get("u2", loader);
+
+        cache.onUserChanged(new CacheInvalidation.UserChanged("u1"));
+        cache.get("u1", loader);
+        cache.get("u2", loader);
+
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void onUserChanged_WithoutIdDropsEveryone() {
+        cache.get("u1", loader);
+        cache.get("u2", loader);
+
+        cache.onUserChanged(new CacheInvalidation.UserChanged(null));
+        cache.get("u1", loader);
+        cache.get("u2", loader);
+
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void get_DoesNotKeepPrincipalLoadedDuringChange() {
+        cache.get("u1", id -> {
+            // The user changes on another instance while this load is in flight
+            cache.onUserChanged(new CacheInvalidation.UserChanged(id));
+            return loader.apply(id);
+        });
+
+        cache.get("u1", loader);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_ZeroTtlDisablesCache() {
+        ReflectionTestUtils.setField(cache, "ttlMs", 0L);
+
+        cache.get("u1", loader);
+        cache.get("u1", loader);
+
+        assertEquals(2, loads.get());
+    }
+}
@@ -0,0 +1,203 @@
+package com.hotel.reservation.security.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hotel.reservation.dto.LoginRequest;
+import com.hotel.reservation.security.UserPrincipal;
+import com.hotel.reservation.service.AuthService;
+import com.hotel.reservation.service.RoomService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Runs the filter inside the real security chain with small buckets that do
+ * not refill during a test. Buckets outlive a test, so every test uses its
+ * own client addresses and users.
+ */
+@SpringBootTest(properties = {
+        "server.forward-headers-strategy=native",
+        "app.rate-limit.enabled=true",
+        "app.rate-limit.store=local",
+        "app.rate-limit.groups.auth.patterns[0]=/api/auth/login",
+        "app.rate-limit.groups.auth.methods[0]=POST",
+        "app.rate-limit.groups.auth.key=ip",
+        "app.rate-limit.groups.auth.capacity=2",
+        "app.rate-limit.groups.auth.refill-tokens=1",
+        "app.rate-limit.groups.auth.refill-period=1h",
+        "app.rate-limit.groups.room-search.patterns[0]=/api/rooms/**",
+        "app.rate-limit.groups.room-search.methods[0]=GET",
+        "app.rate-limit.groups.room-search.capacity=2",
+        "app.rate-limit.groups.room-search.refill-tokens=1",
+        "app.rate-limit.groups.room-search.refill-period=1h"
+})
+@AutoConfigureMockMvc
+class RateLimitFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockBean
+    private AuthService authService;
+
+    @MockBean
+    private RoomService roomService;
+
+    @MockBean
+    private com.hotel.reservation.repository.PaymentRepository paymentRepository;
+
+    @MockBean
+    private com.hotel.reservation.repository.ReservationRepository reservationRepository;
+
+    @MockBean
+    private com.hotel.reservation.repository.RoomRepository roomRepository;
+
+    @MockBean
+    private com.hotel.reservation.repository.UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        when(authService.login(any(LoginRequest.class))).thenReturn(null);
+        when(roomService.getAllRooms()).thenReturn(List.of());
+    }
+
+    @Test
+    void login_OverLimit_TooManyRequestsWithRetryAfter() throws Exception {
+        double rejectedBefore = rejected("auth");
+
+        login("10.0.1.1")
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-RateLimit-Limit", "2"))
+                .andExpect(header().string("X-RateLimit-Remaining", "1"));
+        login("10.0.1.1")
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-RateLimit-Remaining", "0"));
+
+        String retryAfter = login("10.0.1.1")
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("X-RateLimit-Remaining", "0"))
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.status").value(429))
+                .andReturn().getResponse().getHeader("Retry-After");
+
+        assertNotNull(retryAfter);
+        assertTrue(Long.parseLong(retryAfter) > 0);
+        verify(authService, times(2)).login(any(LoginRequest.class));
+        assertEquals(rejectedBefore + 1, rejected("auth"));
+    }
+
+    @Test
+    void login_AnonymousClientsAreKeyedByAddress() throws Exception {
+        login("10.0.2.1").andExpect(status().isOk());
+        login("10.0.2.1").andExpect(status().isOk());
+        login("10.0.2.1").andExpect(status().isTooManyRequests());
+
+        login("10.0.2.2").andExpect(status().isOk());
+    }
+
+    @Test
+    void login_SpoofedForwardedForDoesNotResetTheLimit() throws Exception {
+        login("10.0.5.1", "203.0.113.1").andExpect(status().isOk());
+        login("10.0.5.1", "203.0.113.2").andExpect(status().isOk());
+
+        // A new x-forwarded-for value per request must not buy a fresh bucket
+        login("10.0.5.1", "203.0.113.3")
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"));
+        verify(authService, times(2)).login(any(LoginRequest.class));
+    }
+
+    @Test
+    void roomSearch_AuthenticatedClientsAreKeyedByUser() throws Exception {
+        UserPrincipal alice = principal("rl-alice");
+        UserPrincipal bob = principal("rl-bob");
+
+        mockMvc.perform(searchRooms("10.0.3.1").with(user(alice))).andExpect(status().isOk());
+        mockMvc.perform(searchRooms("10.0.3.1").with(user(alice))).andExpect(status().isOk());
+        mockMvc.perform(searchRooms("10.0.3.1").with(user(alice)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"));
+
+        // Same address, different user
+        mockMvc.perform(searchRooms("10.0.3.1").with(user(bob))).andExpect(status().isOk());
+        // Alice's bucket follows her to another address
+        mockMvc.perform(searchRooms("10.0.3.2").with(user(alice))).andExpect(status().isTooManyRequests());
+        // Anonymous requests from the address are counted separately
+        mockMvc.perform(searchRooms("10.0.3.1")).andExpect(status().isOk());
+    }
+
+    @Test
+    void roomSearch_OnlyGetRequestsAreCounted() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(post("/api/rooms")
+                            .with(remoteAddr("10.0.4.1"))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{}"))
+                    .andExpect(header().doesNotExist("X-RateLimit-Limit"));
+        }
+    }
+
+    private ResultActions login(String remoteAddr) throws Exception {
+        return mockMvc.perform(loginRequest(remoteAddr));
+    }
+
+    private ResultActions login(String remoteAddr, String forwardedFor) throws Exception {
+        return mockMvc.perform(loginRequest(remoteAddr).header("X-Forwarded-For", forwardedFor));
+    }
+
+    private MockHttpServletRequestBuilder loginRequest(String remoteAddr) throws Exception {
+        LoginRequest loginRequest = new LoginRequest();
+        loginRequest.setEmail("john@example.com");
+        loginRequest.setPassword("password123");
+
+        return post("/api/auth/login")
+                .with(remoteAddr(remoteAddr))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(loginRequest));
+    }
+
+    private MockHttpServletRequestBuilder searchRooms(String remoteAddr) {
+        return get("/api/rooms").with(remoteAddr(remoteAddr));
+    }
+
+    private static RequestPostProcessor remoteAddr(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
+
+    private static UserPrincipal principal(String id) {
+        return new UserPrincipal(id, id + "@example.com", "password",
+                Collections.singletonList(new SimpleGrantedAuthority("ROLE_GUEST")), true);
+    }
+
+    private double rejected(String group) {
+        return meterRegistry.counter("hotelx.ratelimit.rejected", "group", group).count();
+    }
+}
@@ -0,0 +1,54 @@
+package com.hotel.reservation.security.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void tryConsume_AllowsBurstUpToCapacity() {
+        TokenBucket bucket = new TokenBucket();
+        long now = 0;
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(bucket.tryConsume(now, SECOND, 5).isAllowed());
+        }
+
+        RateLimitDecision rejected = bucket.tryConsume(now, SECOND, 5);
+        assertFalse(rejected.isAllowed());
+        assertTrue(rejected.getRetryAfterMillis() > 0);
+    }
+
+    @Test
+    void tryConsume_RefillsOverTime() {
+        TokenBucket bucket = new TokenBucket();
+
+        for (int i = 0; i < 3; i++) {
+            bucket.tryConsume(0, SECOND, 3);
+        }
+        assertFalse(bucket.tryConsume(0, SECOND, 3).isAllowed());
+        assertTrue(bucket.tryConsume(SECOND, SECOND, 3).isAllowed());
+        assertFalse(bucket.isFull(SECOND));
+        assertTrue(bucket.isFull(10 * SECOND));
+    }
+
+    @Test
+    void localStore_StaysBounded() {
+        RateLimitProperties.RouteGroup group = new RateLimitProperties.RouteGroup();
+        group.setCapacity(1);
+        group.setRefillTokens(1);
+        group.setRefillPeriod(Duration.ofHours(1));
+
+        LocalRateLimitStore store = new LocalRateLimitStore(100);
+        for (int i = 0; i < 1_000; i++) {
+            store.tryConsume("ip:" + i, group);
+        }
+
+        assertTrue(store.size() <= 100);
+    }
+}
@@ -0,0 +1,108 @@
+package com.hotel.reservation.service;
+
+import com.hotel.reservation.dto.quote.QuoteRequest;
+import com.hotel.reservation.dto.quote.StayQuote;
+import com.hotel.reservation.model.Room;
+import com.hotel.reservation.pricing.PricingEngine;
+import com.hotel.reservation.repository.RateCalendarRepository;
+import com.hotel.reservation.repository.ReservationRepository;
+import com.hotel.reservation.repository.ReservationRepositoryCustom;
+import com.hotel.reservation.search.RoomSearchIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class QuoteServiceTest {
+
+    private static final LocalDate CHECK_IN = LocalDate.now().plusDays(20);
+
+    private RoomSearchIndex roomSearchIndex;
+    private ReservationRepository reservationRepository;
+    private RateCalendarRepository rateCalendarRepository;
+    private QuoteService quoteService;
+
+    @BeforeEach
+    void setUp() {
+        roomSearchIndex = mock(RoomSearchIndex.class);
+        reservationRepository = mock(ReservationRepository.class);
+        rateCalendarRepository = mock(RateCalendarRepository.class);
+        PricingEngine pricingEngine = new PricingEngine(rateCalendarRepository);
+        ReflectionTestUtils.setField(pricingEngine, "maxAgeMs", 60000L);
+        quoteService = new QuoteService(roomSearchIndex, reservationRepository, pricingEngine);
+        ReflectionTestUtils.setField(quoteService, "threads", 2);
+        ReflectionTestUtils.setField(quoteService, "queueCapacity", 4);
+        quoteService.start();
+
+        when(roomSearchIndex.room("r1")).thenReturn(room("r1", 2));
+        when(roomSearchIndex.room("r2")).thenReturn(room("r2", 4));
+        // r1 is booked for the first two nights after CHECK_IN
+        doAnswer(invocation -> {
+            ReservationRepositoryCustom.StayVisitor visitor = invocation.getArgument(4);
+            visitor.visit("r1", CHECK_IN.toEpochDay(), CHECK_IN.plusDays(2).toEpochDay(), 0);
+            return null;
+        }).when(reservationRepository).streamStays(any(), any(), any(), eq(false), any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        quoteService.stop();
+    }
+
+    @Test
+    void quote_EvaluatesEveryItemInOrder() {
+        List<StayQuote> quotes = quoteService.quote(List.of(
+                item("r1", CHECK_IN, CHECK_IN.plusDays(3), 2),
+                item("r1", CHECK_IN.plusDays(2), CHECK_IN.plusDays(4), 2),
+                item("r2", CHECK_IN, CHECK_IN.plusDays(3), 3),
+                item("r1", CHECK_IN.plusDays(2), CHECK_IN.plusDays(4), 3),
+                item("missing", CHECK_IN, CHECK_IN.plusDays(1), 1),
+                item("r2", CHECK_IN.plusDays(3), CHECK_IN, 1)));
+
+        assertEquals(StayQuote.Unavailable.SOLD_OUT, quotes.get(0).getReason());
+        assertEquals(new BigDecimal("300.00"), quotes.get(0).getTotalPrice());
+
+        assertTrue(quotes.get(1).isAvailable());
+        assertEquals(2, quotes.get(1).getNights());
+        assertNotNull(quotes.get(1).getCancellationPolicy());
+        assertEquals(CHECK_IN.plusDays(2).minusDays(7), quotes.get(1).getFreeCancellationUntil());
+
+        assertTrue(quotes.get(2).isAvailable());
+        assertEquals(StayQuote.Unavailable.CAPACITY_EXCEEDED, quotes.get(3).getReason());
+        assertEquals(StayQuote.Unavailable.ROOM_NOT_FOUND, quotes.get(4).getReason());
+        assertEquals(StayQuote.Unavailable.INVALID_DATES, quotes.get(5).getReason());
+
+        verify(reservationRepository, times(1)).streamStays(any(), any(), any(), eq(false), any());
+        // Rates are loaded once per room type before the parallel evaluation
+        verify(rateCalendarRepository, times(1)).findById("DELUXE");
+    }
+
+    @Test
+    void quote_SpanLongerThanAYear_Throws() {
+        assertThrows(IllegalArgumentException.class, () -> quoteService.quote(List.of(
+                item("r1", CHECK_IN, CHECK_IN.plusDays(1), 1),
+                item("r2", CHECK_IN.plusDays(400), CHECK_IN.plusDays(401), 1))));
+    }
+
+    private QuoteRequest.Item item(String roomId, LocalDate checkIn, LocalDate checkOut, int guests) {
+        return new QuoteRequest.Item(roomId, checkIn, checkOut, guests);
+    }
+
+    private Room room(String id, int capacity) {
+        Room room = new Room();
+        room.setId(id);
+        room.setType(Room.RoomType.DELUXE);
+        room.setPricePerNight(new BigDecimal("100.00"));
+        room.setCapacity(capacity);
+        room.setAvailable(true);
+        return room;
+    }
+}
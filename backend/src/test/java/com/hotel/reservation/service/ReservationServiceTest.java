@@ -0,0 +1,236 @@
+package com.hotel.reservation.service;
+
+import com.hotel.reservation.dto.GroupBookingRequest;
+import com.hotel.reservation.event.DomainEventPublisher;
+import com.hotel.reservation.exception.InvalidStatusTransitionException;
+import com.hotel.reservation.exception.UnavailableException;
+import com.hotel.reservation.model.OutboxEvent;
+import com.hotel.reservation.model.Reservation;
+import com.hotel.reservation.model.Room;
+import com.hotel.reservation.model.User;
+import com.hotel.reservation.persistence.RequestUnitOfWork;
+import com.hotel.reservation.pricing.PricingEngine;
+import com.hotel.reservation.repository.RateCalendarRepository;
+import com.hotel.reservation.repository.ReservationRepository;
+import com.hotel.reservation.repository.RoomRepository;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ReservationServiceTest {
+
+    private static final LocalDate CHECK_IN = LocalDate.now().plusDays(10);
+    private static final LocalDate CHECK_OUT = CHECK_IN.plusDays(2);
+
+    private ReservationRepository reservationRepository;
+    private RoomRepository roomRepository;
+    private DomainEventPublisher eventPublisher;
+    private ReservationService reservationService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository = mock(ReservationRepository.class);
+        roomRepository = mock(RoomRepository.class);
+        PricingEngine pricingEngine = new PricingEngine(mock(RateCalendarRepository.class));
+        ReflectionTestUtils.setField(pricingEngine, "maxAgeMs", 60000L);
+        eventPublisher = mock(DomainEventPublisher.class);
+        reservationService = new ReservationService(reservationRepository, roomRepository, mock(RoomService.class),
+                eventPublisher, new RequestUnitOfWork(new MongoMappingContext()), pricingEngine);
+
+        user = new User();
+        user.setId("user1");
+        when(reservationRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void createGroupReservations_ByType_TakesCheapestFreeRooms() {
+        when(roomRepository.findByTypeAndAvailable(Room.RoomType.STANDARD, true)).thenReturn(List.of(
+                room("a", "120.00", 2), room("b", "100.00", 2), room("c", "90.00", 2),
+                room("d", "80.00", 1), room("e", "110.00", 2)));
+        when(reservationRepository.findBookedRoomIds(CHECK_IN, CHECK_OUT)).thenReturn(Set.of("c"));
+
+        List<Reservation> group = reservationService.createGroupReservations(user, typeRequest(3), "g1");
+
+        assertEquals(List.of("b", "e", "a"), group.stream().map(r -> r.getRoom().getId()).toList());
+        assertTrue(group.stream().allMatch(r -> "g1".equals(r.getGroupBookingId())));
+        assertEquals(new BigDecimal("200.00"), group.get(0).getTotalAmount());
+        verify(reservationRepository, times(1)).findBookedRoomIds(CHECK_IN, CHECK_OUT);
+        verify(reservationRepository, never()).findOverlappingReservations(any(), any(), any());
+    }
+
+    @Test
+    void createGroupReservations_NotEnoughRooms_InsertsNothing() {
+        when(roomRepository.findByTypeAndAvailable(Room.RoomType.STANDARD, true))
+                .thenReturn(List.of(room("a", "120.00", 2), room("b", "100.00", 2)));
+        when(reservationRepository.findBookedRoomIds(CHECK_IN, CHECK_OUT)).thenReturn(Set.of("a"));
+
+        assertThrows(UnavailableException.class,
+                () -> reservationService.createGroupReservations(user, typeRequest(2), "g1"));
+        verify(reservationRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void createGroupReservations_ListedRoomBooked_InsertsNothing() {
+        when(roomRepository.findAllById(anyIterable()))
+                .thenReturn(List.of(room("a", "120.00", 2), room("b", "100.00", 2)));
+        when(reservationRepository.findBookedRoomIds(CHECK_IN, CHECK_OUT)).thenReturn(Set.of("b"));
+        GroupBookingRequest request = new GroupBookingRequest(List.of("a", "b"), null, null,
+                CHECK_IN, CHECK_OUT, 2, null);
+
+        UnavailableException error = assertThrows(UnavailableException.class,
+                () -> reservationService.createGroupReservations(user, request, "g1"));
+        assertTrue(error.getMessage().contains("b"));
+        verify(reservationRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void createGroupReservations_InsertFails_RemovesPartialGroup() {
+        when(roomRepository.findByTypeAndAvailable(Room.RoomType.STANDARD, true))
+                .thenReturn(List.of(room("a", "120.00", 2), room("b", "100.00", 2)));
+        when(reservationRepository.findBookedRoomIds(CHECK_IN, CHECK_OUT)).thenReturn(Set.of());
+        when(reservationRepository.saveAll(anyList())).thenThrow(new RuntimeException("write failed"));
+
+        assertThrows(RuntimeException.class,
+                () -> reservationService.createGroupReservations(user, typeRequest(2), "g1"));
+        verify(reservationRepository).deleteByGroupBookingId("g1");
+    }
+
+    @Test
+    void cancelReservation_RecordsFullRefundInTheCancellingUpdate() {
+        Reservation cancelled = new Reservation();
+        cancelled.setId("res1");
+        when(reservationRepository.transitionStatus(eq("res1"), eq(Reservation.ReservationStatus.CANCELLED), any()))
+                .thenReturn(cancelled);
+
+        assertSame(cancelled, reservationService.cancelReservation("res1", "Changed plans"));
+
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(reservationRepository).transitionStatus(eq("res1"), eq(Reservation.ReservationStatus.CANCELLED),
+                update.capture());
+        Reservation.PendingRefund refund = (Reservation.PendingRefund) setFields(update.getValue()).get("pendingRefund");
+        assertNotNull(refund);
+        assertNull(refund.getPaymentId());
+        assertNull(refund.getAmount());
+        assertEquals("Changed plans", refund.getReason());
+        assertNotNull(refund.getRequestedAt());
+        verify(eventPublisher).reservationCancelled(cancelled);
+    }
+
+    @Test
+    void updateStatus_CancelledByStaff_QueuesNoRefund() {
+        Reservation cancelled = new Reservation();
+        cancelled.setId("res1");
+        when(reservationRepository.transitionStatus(eq("res1"), eq(Reservation.ReservationStatus.CANCELLED), any()))
+                .thenReturn(cancelled);
+
+        reservationService.updateStatus("res1", Reservation.ReservationStatus.CANCELLED);
+
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(reservationRepository).transitionStatus(eq("res1"), eq(Reservation.ReservationStatus.CANCELLED),
+                update.capture());
+        assertFalse(setFields(update.getValue()).containsKey("pendingRefund"));
+    }
+
+    @Test
+    void updateReservation_WritesOnlyTheStayConditionally() {
+        Reservation reservation = reservation("res1", Reservation.ReservationStatus.CONFIRMED);
+        Reservation updated = reservation("res1", Reservation.ReservationStatus.CONFIRMED);
+        when(reservationRepository.findById("res1")).thenReturn(Optional.of(reservation));
+        when(reservationRepository.findOverlappingReservations("a", CHECK_IN.plusDays(1), CHECK_OUT.plusDays(1)))
+                .thenReturn(List.of(reservation));
+        when(reservationRepository.updateStay("res1", CHECK_IN.plusDays(1), CHECK_OUT.plusDays(1), 1,
+                new BigDecimal("200.00"))).thenReturn(updated);
+
+        assertSame(updated, reservationService.updateReservation("res1", CHECK_IN.plusDays(1), CHECK_OUT.plusDays(1), 1));
+
+        verify(reservationRepository, never()).save(any());
+        verify(eventPublisher).publish(eq(OutboxEvent.EventType.RESERVATION_UPDATED), eq("res1"),
+                argThat(payload -> CHECK_IN.toString().equals(payload.get("previousCheckInDate"))));
+    }
+
+    @Test
+    void updateReservation_CancelledWhileUpdating_Conflict() {
+        when(reservationRepository.findById("res1"))
+                .thenReturn(Optional.of(reservation("res1", Reservation.ReservationStatus.PENDING)));
+        when(reservationRepository.findOverlappingReservations(any(), any(), any())).thenReturn(List.of());
+        when(reservationRepository.updateStay(eq("res1"), any(), any(), anyInt(), any())).thenReturn(null);
+        when(reservationRepository.findStatusById("res1")).thenReturn(Optional.of(Reservation.ReservationStatus.CANCELLED));
+
+        InvalidStatusTransitionException error = assertThrows(InvalidStatusTransitionException.class,
+                () -> reservationService.updateReservation("res1", CHECK_IN, CHECK_OUT, 2));
+
+        assertEquals(Reservation.ReservationStatus.CANCELLED, error.getCurrent());
+        verify(reservationRepository, never()).save(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void updateReservation_CheckedIn_Conflict() {
+        when(reservationRepository.findById("res1"))
+                .thenReturn(Optional.of(reservation("res1", Reservation.ReservationStatus.CHECKED_IN)));
+
+        assertThrows(InvalidStatusTransitionException.class,
+                () -> reservationService.updateReservation("res1", CHECK_IN, CHECK_OUT, 2));
+        verify(reservationRepository, never()).updateStay(any(), any(), any(), anyInt(), any());
+    }
+
+    @Test
+    void updateReservation_Archived_ConflictWithoutWriting() {
+        when(reservationRepository.findById("res1")).thenReturn(Optional.empty());
+        when(reservationRepository.findArchivedById("res1"))
+                .thenReturn(Optional.of(reservation("res1", Reservation.ReservationStatus.CHECKED_OUT)));
+
+        InvalidStatusTransitionException error = assertThrows(InvalidStatusTransitionException.class,
+                () -> reservationService.updateReservation("res1", CHECK_IN, CHECK_OUT, 2));
+
+        assertEquals(Reservation.ReservationStatus.CHECKED_OUT, error.getCurrent());
+        verify(reservationRepository, never()).save(any());
+        verify(reservationRepository, never()).updateStay(any(), any(), any(), anyInt(), any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    private static Document setFields(Update update) {
+        return (Document) update.getUpdateObject().get("$set");
+    }
+
+    private Reservation reservation(String id, Reservation.ReservationStatus status) {
+        Reservation reservation = new Reservation();
+        reservation.setId(id);
+        reservation.setUser(user);
+        reservation.setRoom(room("a", "100.00", 2));
+        reservation.setCheckInDate(CHECK_IN);
+        reservation.setCheckOutDate(CHECK_OUT);
+        reservation.setNumberOfGuests(2);
+        reservation.setStatus(status);
+        return reservation;
+    }
+
+    private GroupBookingRequest typeRequest(int quantity) {
+        return new GroupBookingRequest(null, Room.RoomType.STANDARD, quantity, CHECK_IN, CHECK_OUT, 2, null);
+    }
+
+    private Room room(String id, String price, int capacity) {
+        Room room = new Room();
+        room.setId(id);
+        room.setName("Room " + id);
+        room.setType(Room.RoomType.STANDARD);
+        room.setPricePerNight(new BigDecimal(price));
+        room.setCapacity(capacity);
+        return room;
+    }
+}
@@ -0,0 +1,115 @@
+package com.hotel.reservation.service;
+
+import com.hotel.reservation.dto.search.AlternativeStay;
+import com.hotel.reservation.model.Room;
+import com.hotel.reservation.pricing.PricingEngine;
+import com.hotel.reservation.repository.RateCalendarRepository;
+import com.hotel.reservation.repository.ReservationRepository;
+import com.hotel.reservation.repository.ReservationRepositoryCustom;
+import com.hotel.reservation.repository.RoomRepository;
+import com.hotel.reservation.search.RoomSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class RoomServiceTest {
+
+    private static final LocalDate PREFERRED = LocalDate.now().plusDays(30);
+
+    private RoomRepository roomRepository;
+    private ReservationRepository reservationRepository;
+    private RoomService roomService;
+
+    @BeforeEach
+    void setUp() {
+        roomRepository = mock(RoomRepository.class);
+        reservationRepository = mock(ReservationRepository.class);
+        PricingEngine pricingEngine = new PricingEngine(mock(RateCalendarRepository.class));
+        ReflectionTestUtils.setField(pricingEngine, "maxAgeMs", 60000L);
+        roomService = new RoomService(roomRepository, reservationRepository, mock(RoomSearchIndex.class),
+                pricingEngine);
+    }
+
+    @Test
+    void findAlternatives_SoldOutRoom_ReturnsNearestFreeWindows() {
+        when(roomRepository.findById("r1")).thenReturn(Optional.of(room("r1", "200.00")));
+        // Booked for PREFERRED-1 .. PREFERRED+3 (check-out day excluded)
+        stays(new Object[]{"r1", PREFERRED.minusDays(1), PREFERRED.plusDays(3)});
+
+        List<AlternativeStay> result = roomService.findAlternatives("r1", null, PREFERRED, 2, 5, 3);
+
+        assertEquals(3, result.size());
+        assertEquals(PREFERRED.minusDays(3), result.get(0).getCheckInDate());
+        assertEquals(-3, result.get(0).getOffsetDays());
+        assertEquals(PREFERRED.plusDays(3), result.get(1).getCheckInDate());
+        assertEquals(PREFERRED.minusDays(4), result.get(2).getCheckInDate());
+        assertEquals(0, new BigDecimal("400.00").compareTo(result.get(0).getTotalPrice()));
+        verify(reservationRepository, never()).findOverlappingReservations(any(), any(), any());
+    }
+
+    @Test
+    void findAlternatives_ByType_PicksCheapestFreeRoomPerDate() {
+        when(roomRepository.findByTypeAndAvailable(Room.RoomType.DELUXE, true))
+                .thenReturn(List.of(room("expensive", "300.00"), room("cheap", "150.00")));
+        stays(new Object[]{"cheap", PREFERRED, PREFERRED.plusDays(1)});
+
+        List<AlternativeStay> result = roomService.findAlternatives(
+                null, Room.RoomType.DELUXE, PREFERRED, 2, 3, 3);
+
+        assertEquals("expensive", result.get(0).getRoomId());
+        assertEquals(PREFERRED, result.get(0).getCheckInDate());
+        assertEquals("expensive", result.get(1).getRoomId());
+        assertEquals(PREFERRED.minusDays(1), result.get(1).getCheckInDate());
+        assertEquals("cheap", result.get(2).getRoomId());
+        assertEquals(PREFERRED.plusDays(1), result.get(2).getCheckInDate());
+    }
+
+    @Test
+    void findAlternatives_NeverSuggestsPastDates() {
+        when(roomRepository.findById("r1")).thenReturn(Optional.of(room("r1", "100.00")));
+        stays();
+
+        List<AlternativeStay> result = roomService.findAlternatives(
+                "r1", null, LocalDate.now().plusDays(1), 1, 5, 20);
+
+        assertTrue(result.stream().noneMatch(stay -> stay.getCheckInDate().isBefore(LocalDate.now())));
+        assertEquals(LocalDate.now().plusDays(1), result.get(0).getCheckInDate());
+    }
+
+    @Test
+    void findAlternatives_RoomAndTypeBothGiven_Throws() {
+        assertThrows(IllegalArgumentException.class, () ->
+                roomService.findAlternatives("r1", Room.RoomType.DELUXE, PREFERRED, 2, 3, 3));
+    }
+
+    private void stays(Object[]... bookings) {
+        doAnswer(invocation -> {
+            ReservationRepositoryCustom.StayVisitor visitor = invocation.getArgument(4);
+            for (Object[] booking : bookings) {
+                visitor.visit((String) booking[0], ((LocalDate) booking[1]).toEpochDay(),
+                        ((LocalDate) booking[2]).toEpochDay(), 0);
+            }
+            return null;
+        }).when(reservationRepository).streamStays(any(), any(), any(), eq(false), any());
+    }
+
+    private Room room(String id, String price) {
+        Room room = new Room();
+        room.setId(id);
+        room.setName("Room " + id);
+        room.setType(Room.RoomType.DELUXE);
+        room.setPricePerNight(new BigDecimal(price));
+        room.setCapacity(2);
+        room.setAvailable(true);
+        return room;
+    }
+}
@@ -0,0 +1,162 @@
+package com.hotel.reservation.service;
+
+import com.hotel.reservation.model.EmailMessage;
+import com.hotel.reservation.model.Reservation;
+import com.hotel.reservation.model.Room;
+import com.hotel.reservation.model.User;
+import com.hotel.reservation.model.WaitlistEntry;
+import com.hotel.reservation.repository.EmailMessageRepository;
+import com.hotel.reservation.repository.ReservationRepository;
+import com.hotel.reservation.repository.RoomRepository;
+import com.hotel.reservation.repository.UserRepository;
+import com.hotel.reservation.repository.WaitlistRepository;
+import com.hotel.reservation.waitlist.WaitlistIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class WaitlistServiceTest {
+
+    private static final LocalDate CHECK_IN = LocalDate.now().plusDays(5);
+    private static final LocalDate CHECK_OUT = CHECK_IN.plusDays(2);
+
+    private WaitlistRepository waitlistRepository;
+    private WaitlistIndex waitlistIndex;
+    private ReservationRepository reservationRepository;
+    private ReservationService reservationService;
+    private RoomService roomService;
+    private EmailMessageRepository emailMessageRepository;
+    private WaitlistService waitlistService;
+    private Room room;
+
+    @BeforeEach
+    void setUp() {
+        waitlistRepository = mock(WaitlistRepository.class);
+        waitlistIndex = mock(WaitlistIndex.class);
+        RoomRepository roomRepository = mock(RoomRepository.class);
+        UserRepository userRepository = mock(UserRepository.class);
+        reservationRepository = mock(ReservationRepository.class);
+        reservationService = mock(ReservationService.class);
+        roomService = mock(RoomService.class);
+        emailMessageRepository = mock(EmailMessageRepository.class);
+        waitlistService = new WaitlistService(waitlistRepository, waitlistIndex, roomRepository, userRepository,
+                reservationRepository, reservationService, roomService, emailMessageRepository);
+        ReflectionTestUtils.setField(waitlistService, "holdMinutes", 30L);
+        ReflectionTestUtils.setField(waitlistService, "maxEntriesPerUser", 10L);
+
+        room = new Room();
+        room.setId("r1");
+        room.setName("101");
+        room.setType(Room.RoomType.DELUXE);
+        room.setCapacity(2);
+        when(roomRepository.findById("r1")).thenReturn(Optional.of(room));
+        when(userRepository.findById(anyString())).thenAnswer(invocation -> {
+            User user = new User();
+            user.setId(invocation.getArgument(0));
+            user.setEmail(invocation.getArgument(0) + "@example.com");
+            return Optional.of(user);
+        });
+        when(waitlistRepository.transition(anyString(), any(), any(), any()))
+                .thenAnswer(invocation -> entry(invocation.getArgument(0), "u", 2));
+    }
+
+    @Test
+    void offerFreedRoom_OffersFirstFittingEntryOnly() {
+        WaitlistEntry tooBig = entry("w1", "u1", 4);
+        WaitlistEntry first = entry("w2", "u2", 2);
+        WaitlistEntry second = entry("w3", "u3", 2);
+        when(waitlistIndex.candidates(room, CHECK_IN, CHECK_OUT)).thenReturn(List.of(tooBig, first, second));
+        // Free for the first fitting entry, held by it for the next one
+        when(roomService.isRoomAvailable("r1", CHECK_IN, CHECK_OUT)).thenReturn(true, false);
+        when(reservationService.createReservation(any(User.class), eq("r1"), eq(CHECK_IN), eq(CHECK_OUT), eq(2),
+                anyString())).thenReturn(hold("res1"));
+
+        int offers = waitlistService.offerFreedRoom("r1", CHECK_IN, CHECK_OUT);
+
+        assertEquals(1, offers);
+        verify(waitlistRepository).transition(eq("w2"), eq(WaitlistEntry.WaitlistStatus.WAITING),
+                eq(WaitlistEntry.WaitlistStatus.OFFERED), any());
+        verify(waitlistRepository, never()).transition(eq("w1"), any(), any(), any());
+        verify(waitlistRepository, never()).transition(eq("w3"), any(), any(), any());
+        verify(reservationService, times(1)).createReservation(any(), any(), any(), any(), anyInt(), any());
+        // Email is disabled by default, so no offer email is queued
+        verifyNoInteractions(emailMessageRepository);
+    }
+
+    @Test
+    void offerFreedRoom_EmailEnabled_QueuesOfferEmail() {
+        ReflectionTestUtils.setField(waitlistService, "emailEnabled", true);
+        when(waitlistIndex.candidates(room, CHECK_IN, CHECK_OUT)).thenReturn(List.of(entry("w1", "u1", 2)));
+        when(roomService.isRoomAvailable("r1", CHECK_IN, CHECK_OUT)).thenReturn(true);
+        when(reservationService.createReservation(any(User.class), eq("r1"), eq(CHECK_IN), eq(CHECK_OUT), eq(2),
+                anyString())).thenReturn(hold("res1"));
+
+        assertEquals(1, waitlistService.offerFreedRoom("r1", CHECK_IN, CHECK_OUT));
+
+        verify(emailMessageRepository).enqueue(argThat(message ->
+                message.getTemplate() == EmailMessage.Template.WAITLIST_OFFER
+                        && "res1".equals(message.getReservationId())
+                        && "u1@example.com".equals(message.getRecipient())));
+    }
+
+    @Test
+    void offerFreedRoom_HoldFails_PutsEntryBackInLine() {
+        WaitlistEntry entry = entry("w1", "u1", 2);
+        when(waitlistIndex.candidates(room, CHECK_IN, CHECK_OUT)).thenReturn(List.of(entry));
+        when(roomService.isRoomAvailable("r1", CHECK_IN, CHECK_OUT)).thenReturn(true);
+        when(reservationService.createReservation(any(), any(), any(), any(), anyInt(), any()))
+                .thenThrow(new RuntimeException("Room is not available for the selected dates"));
+
+        assertEquals(0, waitlistService.offerFreedRoom("r1", CHECK_IN, CHECK_OUT));
+
+        verify(waitlistRepository).transition(eq("w1"), eq(WaitlistEntry.WaitlistStatus.OFFERED),
+                eq(WaitlistEntry.WaitlistStatus.WAITING), any());
+        verify(waitlistIndex).add(any(WaitlistEntry.class));
+    }
+
+    @Test
+    void expireHolds_CancelsUnpaidHoldAndKeepsPaidOne() {
+        WaitlistEntry unpaid = entry("w1", "u1", 2);
+        unpaid.setReservationId("res1");
+        WaitlistEntry paid = entry("w2", "u2", 2);
+        paid.setReservationId("res2");
+        when(waitlistRepository.findByStatusAndHoldExpiresAtBefore(eq(WaitlistEntry.WaitlistStatus.OFFERED), any()))
+                .thenReturn(List.of(unpaid, paid));
+        when(reservationRepository.findStatusById("res1")).thenReturn(Optional.of(Reservation.ReservationStatus.PENDING));
+        when(reservationRepository.findStatusById("res2")).thenReturn(Optional.of(Reservation.ReservationStatus.CONFIRMED));
+
+        assertEquals(1, waitlistService.expireHolds());
+
+        verify(reservationService).cancelReservation("res1", "Waitlist hold expired");
+        verify(reservationService, never()).cancelReservation(eq("res2"), any());
+        verify(waitlistRepository).transition("w2", WaitlistEntry.WaitlistStatus.OFFERED,
+                WaitlistEntry.WaitlistStatus.BOOKED, null);
+    }
+
+    private WaitlistEntry entry(String id, String userId, int guests) {
+        WaitlistEntry entry = new WaitlistEntry();
+        entry.setId(id);
+        entry.setUserId(userId);
+        entry.setRoomId("r1");
+        entry.setCheckInDate(CHECK_IN);
+        entry.setCheckOutDate(CHECK_OUT);
+        entry.setGuests(guests);
+        return entry;
+    }
+
+    private Reservation hold(String id) {
+        Reservation reservation = new Reservation();
+        reservation.setId(id);
+        reservation.setTotalAmount(new BigDecimal("300.00"));
+        return reservation;
+    }
+}
@@ -0,0 +1,37 @@
+package com.hotel.reservation.stream;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SseHubTest {
+
+    private SseHub hub;
+
+    @BeforeEach
+    void setUp() {
+        hub = new SseHub(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(hub, "maxConnections", 2);
+        ReflectionTestUtils.setField(hub, "queueCapacity", 4);
+        ReflectionTestUtils.setField(hub, "timeoutMs", 60000L);
+        ReflectionTestUtils.setField(hub, "senderThreads", 1);
+        hub.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        hub.stop();
+    }
+
+    @Test
+    void subscribe_RejectsAboveConnectionLimit() {
+        assertNotNull(hub.subscribe(SseHub.Topic.DASHBOARD, data -> true));
+        assertNotNull(hub.subscribe(SseHub.Topic.AVAILABILITY, data -> true));
+        assertNull(hub.subscribe(SseHub.Topic.DASHBOARD, data -> true));
+        assertEquals(2, hub.size());
+    }
+}
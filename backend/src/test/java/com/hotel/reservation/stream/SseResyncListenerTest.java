@@ -0,0 +1,41 @@
+package com.hotel.reservation.stream;
+
+import com.hotel.reservation.cache.CacheInvalidation;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.mockito.Mockito.*;
+
+class SseResyncListenerTest {
+
+    @Test
+    void flush_CoalescesChangesIntoOneResyncPerRoom() {
+        SseHub mockHub = mock(SseHub.class);
+        SseResyncListener listener = new SseResyncListener(mockHub);
+
+        listener.onReservationChanged(new CacheInvalidation.ReservationChanged("res1", "room1"));
+        listener.onReservationChanged(new CacheInvalidation.ReservationChanged("res2", "room1"));
+        listener.flush();
+
+        verify(mockHub).resync(SseHub.Topic.AVAILABILITY, Map.of("roomId", "room1"));
+        verify(mockHub).resync(SseHub.Topic.DASHBOARD, Map.of());
+
+        listener.flush();
+
+        verifyNoMoreInteractions(mockHub);
+    }
+
+    @Test
+    void flush_UnknownRoomResyncsEveryRoom() {
+        SseHub mockHub = mock(SseHub.class);
+        SseResyncListener listener = new SseResyncListener(mockHub);
+
+        listener.onRoomChanged(new CacheInvalidation.RoomChanged("room1"));
+        listener.onReservationChanged(new CacheInvalidation.ReservationChanged(null, null));
+        listener.flush();
+
+        verify(mockHub).resync(SseHub.Topic.AVAILABILITY, Map.of());
+        verify(mockHub, never()).resync(SseHub.Topic.AVAILABILITY, Map.of("roomId", "room1"));
+    }
+}
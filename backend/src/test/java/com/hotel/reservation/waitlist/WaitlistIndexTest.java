@@ -0,0 +1,77 @@
+package com.hotel.reservation.waitlist;
+
+import com.hotel.reservation.model.Room;
+import com.hotel.reservation.model.WaitlistEntry;
+import com.hotel.reservation.repository.WaitlistRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class WaitlistIndexTest {
+
+    private static final LocalDate DAY = LocalDate.of(2030, 3, 10);
+
+    private WaitlistRepository waitlistRepository;
+    private WaitlistIndex index;
+    private Room room;
+
+    @BeforeEach
+    void setUp() {
+        waitlistRepository = mock(WaitlistRepository.class);
+        when(waitlistRepository.findByStatus(WaitlistEntry.WaitlistStatus.WAITING)).thenReturn(List.of(
+                entry("late", "r1", null, DAY, DAY.plusDays(2), 3),
+                entry("early", null, Room.RoomType.DELUXE, DAY.plusDays(1), DAY.plusDays(3), 1),
+                entry("long", "r1", null, DAY.minusDays(10), DAY.plusDays(1), 2),
+                entry("before", "r1", null, DAY.minusDays(5), DAY, 0),
+                entry("otherRoom", "r2", null, DAY, DAY.plusDays(1), 0),
+                entry("otherType", null, Room.RoomType.SUITE, DAY, DAY.plusDays(1), 0)));
+
+        index = new WaitlistIndex(waitlistRepository);
+        ReflectionTestUtils.setField(index, "maxAgeMs", 60000L);
+
+        room = new Room();
+        room.setId("r1");
+        room.setType(Room.RoomType.DELUXE);
+    }
+
+    @Test
+    void candidates_OverlappingEntriesForRoomAndType_OldestFirst() {
+        List<WaitlistEntry> candidates = index.candidates(room, DAY, DAY.plusDays(2));
+
+        assertEquals(List.of("late", "long", "early"), candidates.stream().map(WaitlistEntry::getId).toList());
+    }
+
+    @Test
+    void candidates_RemovedEntryIsSkipped_AddedEntryIsFound() {
+        List<WaitlistEntry> initial = index.candidates(room, DAY, DAY.plusDays(1));
+        index.remove(initial.get(0));
+        index.add(entry("new", "r1", null, DAY, DAY.plusDays(1), 0));
+
+        List<String> ids = index.candidates(room, DAY, DAY.plusDays(1)).stream()
+                .map(WaitlistEntry::getId).toList();
+
+        assertFalse(ids.contains(initial.get(0).getId()));
+        assertTrue(ids.contains("new"));
+        verify(waitlistRepository, times(1)).findByStatus(WaitlistEntry.WaitlistStatus.WAITING);
+    }
+
+    private WaitlistEntry entry(String id, String roomId, Room.RoomType type, LocalDate checkIn,
+                                LocalDate checkOut, int minutesAgo) {
+        WaitlistEntry entry = new WaitlistEntry();
+        entry.setId(id);
+        entry.setRoomId(roomId);
+        entry.setRoomType(type);
+        entry.setCheckInDate(checkIn);
+        entry.setCheckOutDate(checkOut);
+        entry.setGuests(2);
+        entry.setCreatedAt(LocalDateTime.of(2030, 1, 1, 12, 0).minusMinutes(minutesAgo));
+        return entry;
+    }
+}
@@ -0,0 +1,93 @@
+package com.hotel.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Blocking JSON client for the backend API that times every call into the
+ * step's {@link StepMetrics}. One instance is shared by all virtual users.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+final class ApiClient {
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+    private final Duration timeout;
+    private final Map<StepMetrics.Step, StepMetrics> metrics;
+
+    ApiClient(String baseUrl, int timeoutSeconds, Map<StepMetrics.Step, StepMetrics> metrics) {
+        this.baseUrl = baseUrl;
+        this.timeout = Duration.ofSeconds(timeoutSeconds);
+        this.metrics = metrics;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(timeout)
+                .build();
+    }
+
+    /**
+     * Call the API and record the outcome under the step.
+     *
+     * @param step funnel step the call belongs to
+     * @param method HTTP method
+     * @param path path and query, starting with /api
+     * @param body request body serialized as JSON, or null
+     * @param token bearer token, or null
+     * @return parsed response body on a 2xx status, otherwise null
+     */
+    JsonNode call(StepMetrics.Step step, String method, String path, Object body, String token) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(timeout)
+                .header("Accept", "application/json");
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        try {
+            if (body != null) {
+                request.header("Content-Type", "application/json")
+                        .method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+            } else {
+                request.method(method, HttpRequest.BodyPublishers.noBody());
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unserializable request body", e);
+        }
+
+        long start = System.nanoTime();
+        HttpResponse<byte[]> response;
+        try {
+            response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            metrics.get(step).record(System.nanoTime() - start, e.getClass().getSimpleName(), false);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        long elapsed = System.nanoTime() - start;
+
+        JsonNode json = null;
+        if (response.statusCode() / 100 == 2) {
+            try {
+                json = response.body().length == 0
+                        ? objectMapper.createObjectNode()
+                        : objectMapper.readTree(response.body());
+            } catch (IOException e) {
+                // Counted as a failure below: the funnel cannot continue without the body
+            }
+        }
+        metrics.get(step).record(elapsed, String.valueOf(response.statusCode()), json != null);
+        return json;
+    }
+}
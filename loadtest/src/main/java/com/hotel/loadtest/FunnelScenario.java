@@ -0,0 +1,98 @@
+package com.hotel.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * One virtual user walking the booking funnel: search, reserve, create and
+ * confirm a payment intent, then (for a share of bookings) cancel with a
+ * refund. Logs in on its first iteration, retrying once a second until it
+ * succeeds. A failed step ends the iteration; the next one starts over with
+ * a new search.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+final class FunnelScenario {
+
+    private static final long LOGIN_RETRY_MILLIS = 1000;
+
+    private final ApiClient api;
+    private final LoadTestConfig config;
+    private final SplittableRandom random;
+    private final String email;
+    private String token;
+
+    FunnelScenario(ApiClient api, LoadTestConfig config, int virtualUser) {
+        this.api = api;
+        this.config = config;
+        this.random = new SplittableRandom(config.seed ^ ((long) virtualUser << 32));
+        this.email = String.format(config.emailPattern, config.firstUser + virtualUser % config.userCount);
+    }
+
+    /**
+     * Run one pass through the funnel.
+     */
+    void iterate() {
+        if (token == null && !login()) {
+            return;
+        }
+
+        LocalDate checkIn = LocalDate.now().plusDays(config.minLeadDays + random.nextInt(config.horizonDays));
+        LocalDate checkOut = checkIn.plusDays(1 + random.nextInt(config.maxNights));
+        int guests = 1 + random.nextInt(2);
+
+        JsonNode rooms = api.call(StepMetrics.Step.SEARCH, "GET", "/api/rooms/available?checkInDate=" + checkIn
+                + "&checkOutDate=" + checkOut + "&guests=" + guests, null, token);
+        if (rooms == null || !rooms.isArray() || rooms.isEmpty()) {
+            return;
+        }
+        String roomId = rooms.get(random.nextInt(rooms.size())).path("id").asText();
+
+        JsonNode reservation = api.call(StepMetrics.Step.RESERVE, "POST", "/api/reservations", Map.of(
+                "roomId", roomId,
+                "checkInDate", checkIn.toString(),
+                "checkOutDate", checkOut.toString(),
+                "numberOfGuests", guests,
+                "specialRequests", ""), token);
+        if (reservation == null) {
+            return;
+        }
+        String reservationId = reservation.path("id").asText();
+
+        JsonNode intent = api.call(StepMetrics.Step.CREATE_INTENT, "POST", "/api/payments/create-intent",
+                Map.of("reservationId", reservationId), token);
+        if (intent == null) {
+            return;
+        }
+
+        JsonNode payment = api.call(StepMetrics.Step.CONFIRM, "POST", "/api/payments/confirm",
+                Map.of("paymentIntentId", intent.path("paymentIntentId").asText()), token);
+        if (payment == null) {
+            return;
+        }
+
+        if (random.nextDouble() < config.cancelRatio) {
+            api.call(StepMetrics.Step.CANCEL, "POST", "/api/reservations/" + reservationId + "/cancel-with-refund",
+                    Map.of("reason", "Load test", "acknowledgePolicy", true), token);
+        }
+    }
+
+    private boolean login() {
+        JsonNode auth = api.call(StepMetrics.Step.LOGIN, "POST", "/api/auth/login",
+                Map.of("email", email, "password", config.password), null);
+        token = auth == null ? null : auth.path("token").asText(null);
+        if (token == null) {
+            // Back off rather than hammering a backend that is down or rejecting the account
+            try {
+                Thread.sleep(LOGIN_RETRY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return token != null;
+    }
+}
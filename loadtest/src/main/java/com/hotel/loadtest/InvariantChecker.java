@@ -0,0 +1,140 @@
+package com.hotel.loadtest;
+
+import com.mongodb.DBRef;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+
+import java.io.PrintStream;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Checks booking invariants directly in the shared database, bypassing every
+ * application instance and cache:
+ *
+ * <ul>
+ *   <li>no room-night is held by more blocking reservations (PENDING,
+ *       CONFIRMED, CHECKED_IN) than the room's totalRooms</li>
+ *   <li>every cancellation the API acknowledged is still cancelled (a
+ *       concurrent update must not write the old status back)</li>
+ * </ul>
+ *
+ * Dates are read back in the local time zone, matching how the backend
+ * stores LocalDate, so run it in the same zone as the backend.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+final class InvariantChecker implements AutoCloseable {
+
+    private static final List<String> BLOCKING = List.of("PENDING", "CONFIRMED", "CHECKED_IN");
+    private static final int MAX_PRINTED = 20;
+
+    private final MongoClient client;
+    private final MongoDatabase database;
+
+    InvariantChecker(String uri, String databaseName) {
+        this.client = MongoClients.create(uri);
+        this.database = client.getDatabase(databaseName);
+    }
+
+    /**
+     * Over-sold room-nights.
+     */
+    record Oversold(String roomId, LocalDate night, int held, int capacity, List<String> reservationIds) {
+    }
+
+    /**
+     * Find room-nights held by more blocking reservations than the room has units.
+     *
+     * @param roomIds rooms to check
+     * @return violations, by room then night
+     */
+    List<Oversold> oversold(Collection<String> roomIds) {
+        List<Object> ids = roomIds.stream().map(InvariantChecker::storedId).toList();
+        Map<String, Integer> capacities = new HashMap<>();
+        for (Document room : database.getCollection("rooms").find(Filters.in("_id", ids))
+                .projection(Projections.include("totalRooms"))) {
+            capacities.put(room.get("_id").toString(), Math.max(1, room.getInteger("totalRooms", 1)));
+        }
+
+        Map<String, TreeMap<LocalDate, List<String>>> nights = new HashMap<>();
+        Bson filter = Filters.and(Filters.in("room.$id", ids), Filters.in("status", BLOCKING));
+        for (Document reservation : database.getCollection("reservations").find(filter)
+                .projection(Projections.include("room", "checkInDate", "checkOutDate"))) {
+            String roomId = reservation.get("room", DBRef.class).getId().toString();
+            LocalDate checkIn = localDate(reservation.getDate("checkInDate"));
+            LocalDate checkOut = localDate(reservation.getDate("checkOutDate"));
+            TreeMap<LocalDate, List<String>> roomNights = nights.computeIfAbsent(roomId, key -> new TreeMap<>());
+            for (LocalDate night = checkIn; night.isBefore(checkOut); night = night.plusDays(1)) {
+                roomNights.computeIfAbsent(night, key -> new ArrayList<>()).add(reservation.get("_id").toString());
+            }
+        }
+
+        List<Oversold> violations = new ArrayList<>();
+        nights.forEach((roomId, roomNights) -> {
+            int capacity = capacities.getOrDefault(roomId, 1);
+            roomNights.forEach((night, holders) -> {
+                if (holders.size() > capacity) {
+                    violations.add(new Oversold(roomId, night, holders.size(), capacity, holders));
+                }
+            });
+        });
+        return violations;
+    }
+
+    /**
+     * Reservations whose cancellation succeeded but which are no longer cancelled.
+     *
+     * @param cancelledIds reservations the API reported as cancelled
+     * @return IDs with their current status
+     */
+    Map<String, String> resurrected(Collection<String> cancelledIds) {
+        Map<String, String> resurrected = new TreeMap<>();
+        List<Object> ids = cancelledIds.stream().map(InvariantChecker::storedId).toList();
+        for (Document reservation : database.getCollection("reservations").find(Filters.in("_id", ids))
+                .projection(Projections.include("status"))) {
+            String status = reservation.getString("status");
+            if (!"CANCELLED".equals(status)) {
+                resurrected.put(reservation.get("_id").toString(), status);
+            }
+        }
+        return resurrected;
+    }
+
+    static void print(List<Oversold> oversold, Map<String, String> resurrected, PrintStream out) {
+        out.printf("%nOver-sold room-nights: %d%n", oversold.size());
+        oversold.stream().limit(MAX_PRINTED).forEach(violation ->
+                out.printf("  room %s night %s: %d held, capacity %d %s%n", violation.roomId(), violation.night(),
+                        violation.held(), violation.capacity(), violation.reservationIds()));
+        out.printf("Cancelled reservations no longer cancelled: %d%n", resurrected.size());
+        resurrected.entrySet().stream().limit(MAX_PRINTED)
+                .forEach(entry -> out.printf("  %s is %s%n", entry.getKey(), entry.getValue()));
+    }
+
+    @Override
+    public void close() {
+        client.close();
+    }
+
+    private static Object storedId(String id) {
+        return ObjectId.isValid(id) ? new ObjectId(id) : id;
+    }
+
+    private static LocalDate localDate(Date date) {
+        return date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
+    }
+}
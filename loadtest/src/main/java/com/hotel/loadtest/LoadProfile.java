@@ -0,0 +1,70 @@
+package com.hotel.loadtest;
+
+/**
+ * Number of active virtual users over time.
+ *
+ * <ul>
+ *   <li>ramp: linear from 0 to the target over the ramp-up, then held</li>
+ *   <li>step: four equal steps over the ramp-up, then held</li>
+ *   <li>spike: a quarter of the target through the ramp-up and the first
+ *       and last third of the hold, the full target in the middle third</li>
+ *   <li>steady: the full target from the start (ramp-up ignored)</li>
+ * </ul>
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+final class LoadProfile {
+
+    private final String name;
+    private final int users;
+    private final long rampUpMillis;
+    private final long holdMillis;
+
+    private LoadProfile(String name, int users, int rampUpSeconds, int holdSeconds) {
+        this.name = name;
+        this.users = users;
+        this.rampUpMillis = "steady".equals(name) ? 0 : rampUpSeconds * 1000L;
+        this.holdMillis = holdSeconds * 1000L;
+    }
+
+    static LoadProfile of(String name, int users, int rampUpSeconds, int holdSeconds) {
+        switch (name) {
+            case "ramp", "step", "spike", "steady" -> {
+                return new LoadProfile(name, users, rampUpSeconds, holdSeconds);
+            }
+            default -> throw new IllegalArgumentException("Unknown profile: " + name
+                    + " (expected ramp, step, spike or steady)");
+        }
+    }
+
+    String name() {
+        return name;
+    }
+
+    long totalMillis() {
+        return rampUpMillis + holdMillis;
+    }
+
+    /**
+     * @param elapsedMillis time since the run started
+     * @return virtual users that should be active
+     */
+    int usersAt(long elapsedMillis) {
+        int quarter = Math.max(1, users / 4);
+        if (elapsedMillis < rampUpMillis) {
+            double progress = (double) elapsedMillis / rampUpMillis;
+            return switch (name) {
+                case "ramp" -> Math.max(1, (int) Math.ceil(users * progress));
+                case "step" -> Math.max(1, users * Math.min(4, (int) (progress * 4) + 1) / 4);
+                case "spike" -> quarter;
+                default -> users;
+            };
+        }
+        if ("spike".equals(name)) {
+            long inHold = elapsedMillis - rampUpMillis;
+            return inHold >= holdMillis / 3 && inHold < 2 * holdMillis / 3 ? users : quarter;
+        }
+        return users;
+    }
+}
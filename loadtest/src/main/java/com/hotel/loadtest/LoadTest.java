@@ -0,0 +1,101 @@
+package com.hotel.loadtest;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Closed-model load driver for the booking funnel.
+ *
+ * Each virtual user is a thread looping through {@link FunnelScenario}; the
+ * {@link LoadProfile} decides how many are active at any moment, and idle
+ * ones wait until the profile needs them. At the end the per-step report is
+ * printed and optionally saved as, or compared with, a baseline. Exits with
+ * status 2 when the comparison finds a regression.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        LoadProfile profile = LoadProfile.of(config.profile, config.users, config.rampUpSeconds,
+                config.durationSeconds);
+
+        StripeStandIn stripe = null;
+        if (config.stripePort > 0) {
+            stripe = new StripeStandIn(config.stripePort, config.stripeLatencyMillis);
+            stripe.start();
+            System.out.printf("Stripe stand-in on http://localhost:%d%n", config.stripePort);
+        }
+
+        Map<StepMetrics.Step, StepMetrics> metrics = StepMetrics.forSteps(StepMetrics.FUNNEL);
+        ApiClient api = new ApiClient(config.baseUrl, config.timeoutSeconds, metrics);
+
+        AtomicInteger active = new AtomicInteger();
+        AtomicBoolean running = new AtomicBoolean(true);
+        List<Thread> virtualUsers = new ArrayList<>(config.users);
+        for (int i = 0; i < config.users; i++) {
+            int index = i;
+            Thread thread = new Thread(() -> runVirtualUser(new FunnelScenario(api, config, index), index,
+                    active, running, config.thinkMillis), "vu-" + i);
+            thread.setDaemon(true);
+            virtualUsers.add(thread);
+        }
+
+        System.out.printf("Running %s profile against %s: up to %d virtual users for %ds%n",
+                profile.name(), config.baseUrl, config.users, profile.totalMillis() / 1000);
+        long start = System.currentTimeMillis();
+        virtualUsers.forEach(Thread::start);
+        long elapsed;
+        while ((elapsed = System.currentTimeMillis() - start) < profile.totalMillis()) {
+            active.set(profile.usersAt(elapsed));
+            Thread.sleep(100);
+        }
+        running.set(false);
+        for (Thread thread : virtualUsers) {
+            thread.join(config.timeoutSeconds * 1000L);
+        }
+        double elapsedSeconds = (System.currentTimeMillis() - start) / 1000.0;
+        if (stripe != null) {
+            stripe.stop();
+        }
+
+        Report report = Report.of(config.profile, config.users, config.rampUpSeconds, config.durationSeconds,
+                metrics, elapsedSeconds);
+        report.print(System.out);
+        if (config.saveBaseline != null) {
+            report.save(Path.of(config.saveBaseline));
+            System.out.printf("Baseline saved to %s%n", config.saveBaseline);
+        }
+        if (config.compareBaseline != null
+                && report.compare(Report.load(Path.of(config.compareBaseline)), config.tolerance, System.out)) {
+            System.exit(2);
+        }
+    }
+
+    private static void runVirtualUser(FunnelScenario scenario, int index, AtomicInteger active,
+                                       AtomicBoolean running, int thinkMillis) {
+        try {
+            while (running.get()) {
+                if (index >= active.get()) {
+                    Thread.sleep(50);
+                    continue;
+                }
+                scenario.iterate();
+                if (thinkMillis > 0) {
+                    Thread.sleep(thinkMillis);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.hotel.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Load test settings, parsed from --key=value arguments.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+final class LoadTestConfig {
+
+    String baseUrl = "http://localhost:8080";
+    String profile = "ramp";
+    int users = 50;
+    int rampUpSeconds = 60;
+    int durationSeconds = 300;
+
+    /** Login accounts: String.format(emailPattern, n) for n in [firstUser, firstUser + userCount). */
+    String emailPattern = "guest%d@datagen.hotelx.test";
+    String password = "datagen123";
+    int firstUser = 2;
+    int userCount = 1000;
+
+    int minLeadDays = 30;
+    int horizonDays = 365;
+    int maxNights = 4;
+    double cancelRatio = 1.0;
+    int thinkMillis = 0;
+    int timeoutSeconds = 30;
+    long seed = 42;
+
+    /** Port for the in-process Stripe stand-in; 0 to use whatever the backend is pointed at. */
+    int stripePort = 12111;
+    int stripeLatencyMillis = 0;
+
+    String saveBaseline;
+    String compareBaseline;
+    double tolerance = 0.2;
+
+    static LoadTestConfig parse(String[] args) {
+        Map<String, String> options = options(args);
+        LoadTestConfig config = new LoadTestConfig();
+        config.baseUrl = options.getOrDefault("base-url", config.baseUrl).replaceAll("/+$", "");
+        config.profile = options.getOrDefault("profile", config.profile);
+        config.users = intOption(options, "users", config.users);
+        config.rampUpSeconds = intOption(options, "ramp-up", config.rampUpSeconds);
+        config.durationSeconds = intOption(options, "duration", config.durationSeconds);
+        config.emailPattern = options.getOrDefault("email-pattern", config.emailPattern);
+        config.password = options.getOrDefault("password", config.password);
+        config.firstUser = intOption(options, "first-user", config.firstUser);
+        config.userCount = intOption(options, "user-count", config.userCount);
+        config.minLeadDays = intOption(options, "min-lead-days", config.minLeadDays);
+        config.horizonDays = intOption(options, "horizon-days", config.horizonDays);
+        config.maxNights = intOption(options, "max-nights", config.maxNights);
+        config.cancelRatio = Double.parseDouble(
+                options.getOrDefault("cancel-ratio", String.valueOf(config.cancelRatio)));
+        config.thinkMillis = intOption(options, "think-ms", config.thinkMillis);
+        config.timeoutSeconds = intOption(options, "timeout", config.timeoutSeconds);
+        config.seed = Long.parseLong(options.getOrDefault("seed", String.valueOf(config.seed)));
+        config.stripePort = intOption(options, "stripe-port", config.stripePort);
+        config.stripeLatencyMillis = intOption(options, "stripe-latency-ms", config.stripeLatencyMillis);
+        config.saveBaseline = options.get("save-baseline");
+        config.compareBaseline = options.get("compare");
+        config.tolerance = Double.parseDouble(options.getOrDefault("tolerance", String.valueOf(config.tolerance)));
+
+        if (config.users < 1 || config.userCount < 1 || config.maxNights < 1 || config.horizonDays < 1) {
+            throw new IllegalArgumentException("users, user-count, max-nights and horizon-days must be positive");
+        }
+        if (config.cancelRatio < 0 || config.cancelRatio > 1) {
+            throw new IllegalArgumentException("cancel-ratio must be between 0 and 1");
+        }
+        return config;
+    }
+
+    /**
+     * Split --key=value arguments into a map.
+     */
+    static Map<String, String> options(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --key=value, got: " + arg);
+            }
+            int split = arg.indexOf('=');
+            options.put(arg.substring(2, split), arg.substring(split + 1));
+        }
+        return options;
+    }
+
+    static int intOption(Map<String, String> options, String key, int defaultValue) {
+        String value = options.get(key);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+}
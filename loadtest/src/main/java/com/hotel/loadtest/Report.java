@@ -0,0 +1,128 @@
+package com.hotel.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-step results of a run: throughput, latency percentiles and error
+ * rates. Can be saved as a JSON baseline and compared against a saved one.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+record Report(String profile, int users, int rampUpSeconds, int durationSeconds, String finishedAt,
+              double elapsedSeconds, List<StepResult> steps) {
+
+    private static final ObjectMapper JSON = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    /**
+     * Results of one funnel step. Latencies are in milliseconds.
+     */
+    record StepResult(String step, long requests, long errors, double errorRate, double throughput,
+                      double p50, double p90, double p99, double p999, double max, Map<String, Long> outcomes) {
+    }
+
+    static Report of(String profile, int users, int rampUpSeconds, int durationSeconds,
+                     Map<StepMetrics.Step, StepMetrics> metrics, double elapsedSeconds) {
+        List<StepResult> steps = new ArrayList<>();
+        for (Map.Entry<StepMetrics.Step, StepMetrics> entry : metrics.entrySet()) {
+            StepMetrics step = entry.getValue();
+            Histogram histogram = step.histogram();
+            long requests = step.successes() + step.errors();
+            steps.add(new StepResult(entry.getKey().name(), requests, step.errors(),
+                    requests == 0 ? 0 : (double) step.errors() / requests,
+                    requests / elapsedSeconds,
+                    millis(histogram, 50), millis(histogram, 90), millis(histogram, 99), millis(histogram, 99.9),
+                    histogram.getTotalCount() == 0 ? 0 : histogram.getMaxValue() / 1000.0,
+                    step.outcomes()));
+        }
+        return new Report(profile, users, rampUpSeconds, durationSeconds, Instant.now().toString(),
+                elapsedSeconds, steps);
+    }
+
+    void print(PrintStream out) {
+        out.printf("%nProfile %s, %d virtual users, %.0fs%n", profile, users, elapsedSeconds);
+        out.printf("%-14s %9s %8s %7s %9s %9s %9s %9s %9s %9s%n",
+                "step", "requests", "errors", "err%", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (StepResult step : steps) {
+            out.printf("%-14s %9d %8d %6.2f%% %9.1f %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    step.step(), step.requests(), step.errors(), step.errorRate() * 100, step.throughput(),
+                    step.p50(), step.p90(), step.p99(), step.p999(), step.max());
+        }
+        for (StepResult step : steps) {
+            if (step.errors() > 0) {
+                out.printf("  %s outcomes: %s%n", step.step(), step.outcomes());
+            }
+        }
+    }
+
+    void save(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        JSON.writeValue(path.toFile(), this);
+    }
+
+    static Report load(Path path) throws IOException {
+        return JSON.readValue(path.toFile(), Report.class);
+    }
+
+    /**
+     * Print this run against a baseline and flag regressions: p99 latency or
+     * throughput worse by more than the tolerance, or an error rate more than
+     * one percentage point higher.
+     *
+     * @param baseline earlier run
+     * @param tolerance allowed relative change, e.g. 0.2 for 20%
+     * @param out where to print
+     * @return true if any step regressed
+     */
+    boolean compare(Report baseline, double tolerance, PrintStream out) {
+        Map<String, StepResult> before = new LinkedHashMap<>();
+        baseline.steps().forEach(step -> before.put(step.step(), step));
+
+        out.printf("%nAgainst baseline from %s (%s, %d users)%n",
+                baseline.finishedAt(), baseline.profile(), baseline.users());
+        out.printf("%-14s %12s %12s %12s %12s%n", "step", "req/s", "p50", "p99", "err% (pp)");
+        boolean regressed = false;
+        for (StepResult step : steps) {
+            StepResult old = before.get(step.step());
+            if (old == null || old.requests() == 0) {
+                continue;
+            }
+            boolean slower = step.p99() > old.p99() * (1 + tolerance);
+            boolean fewer = step.throughput() < old.throughput() * (1 - tolerance);
+            boolean failing = step.errorRate() > old.errorRate() + 0.01;
+            out.printf("%-14s %11s%s %11s %11s%s %11.2f%s%n", step.step(),
+                    change(step.throughput(), old.throughput()), fewer ? "!" : " ",
+                    change(step.p50(), old.p50()),
+                    change(step.p99(), old.p99()), slower ? "!" : " ",
+                    (step.errorRate() - old.errorRate()) * 100, failing ? "!" : " ");
+            regressed |= slower || fewer || failing;
+        }
+        out.println(regressed ? "REGRESSION (marked with !)" : "No regression beyond tolerance");
+        return regressed;
+    }
+
+    private static String change(double now, double before) {
+        if (before == 0) {
+            return "n/a";
+        }
+        return String.format("%+.1f%%", (now - before) / before * 100);
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getTotalCount() == 0 ? 0 : histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
@@ -0,0 +1,89 @@
+package com.hotel.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram and outcome counters for one API operation. Safe to
+ * record from any number of threads.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+final class StepMetrics {
+
+    /** Timed API operations. */
+    enum Step {
+        LOGIN,
+        SEARCH,
+        RESERVE,
+        UPDATE,
+        CREATE_INTENT,
+        CONFIRM,
+        CANCEL
+    }
+
+    /** Steps of the booking funnel, in order. */
+    static final List<Step> FUNNEL = List.of(Step.LOGIN, Step.SEARCH, Step.RESERVE, Step.CREATE_INTENT,
+            Step.CONFIRM, Step.CANCEL);
+
+    private static final long MAX_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final Recorder recorder = new Recorder(MAX_MICROS, 3);
+    private final Histogram total = new Histogram(MAX_MICROS, 3);
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+
+    /**
+     * Fresh metrics for each of the given steps, in order.
+     */
+    static Map<Step, StepMetrics> forSteps(List<Step> steps) {
+        Map<Step, StepMetrics> metrics = new EnumMap<>(Step.class);
+        steps.forEach(step -> metrics.put(step, new StepMetrics()));
+        return metrics;
+    }
+
+    /**
+     * Record one request.
+     *
+     * @param nanos time from sending the request to reading the whole response
+     * @param outcome HTTP status, or the exception name if no response arrived
+     * @param success whether the step achieved its purpose
+     */
+    void record(long nanos, String outcome, boolean success) {
+        recorder.recordValue(Math.min(MAX_MICROS, Math.max(1, TimeUnit.NANOSECONDS.toMicros(nanos))));
+        (success ? successes : errors).increment();
+        outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * Cumulative latency histogram (microseconds) since the run started.
+     */
+    synchronized Histogram histogram() {
+        total.add(recorder.getIntervalHistogram());
+        return total.copy();
+    }
+
+    long successes() {
+        return successes.sum();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    Map<String, Long> outcomes() {
+        Map<String, Long> counts = new TreeMap<>();
+        outcomes.forEach((outcome, count) -> counts.put(outcome, count.sum()));
+        return counts;
+    }
+}
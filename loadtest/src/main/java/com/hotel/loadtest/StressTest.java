@@ -0,0 +1,230 @@
+package com.hotel.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Double-booking stress suite. Fires thousands of concurrent create, update
+ * and cancel calls at a handful of rooms over a short date window, so most
+ * requests contend for the same room-nights. Requests are spread over one or
+ * more backend instances sharing one database, which exposes races between
+ * instances as well as within one. Afterwards {@link InvariantChecker} reads
+ * the database directly and the run fails (exit status 1) if any room-night
+ * is over-sold or an acknowledged cancellation was undone.
+ *
+ * Rejections are expected under contention and are not failures; the
+ * per-operation outcome counts show how many requests lost a race.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+public final class StressTest {
+
+    private final List<ApiClient> instances = new ArrayList<>();
+    private final List<String> roomIds;
+    private final String[] tokens;
+    private final long seed;
+    private final LocalDate windowStart;
+    private final int windowDays;
+    private final int maxNights;
+    private final int createPercent;
+    private final int updatePercent;
+
+    private final List<Booking> live = new ArrayList<>();
+    private final Set<String> cancelled = ConcurrentHashMap.newKeySet();
+
+    private record Booking(String id, int user) {
+    }
+
+    private StressTest(List<String> roomIds, String[] tokens, Map<String, String> options) {
+        this.roomIds = roomIds;
+        this.tokens = tokens;
+        this.seed = Long.parseLong(options.getOrDefault("seed", "42"));
+        this.windowStart = LocalDate.now().plusDays(LoadTestConfig.intOption(options, "lead-days", 500));
+        this.windowDays = LoadTestConfig.intOption(options, "window-days", 14);
+        this.maxNights = LoadTestConfig.intOption(options, "max-nights", 3);
+        this.createPercent = LoadTestConfig.intOption(options, "create-percent", 60);
+        this.updatePercent = LoadTestConfig.intOption(options, "update-percent", 25);
+        if (windowDays < 1 || maxNights < 1 || createPercent < 1 || createPercent + updatePercent > 100) {
+            throw new IllegalArgumentException("window-days and max-nights must be positive, and "
+                    + "create-percent + update-percent at most 100");
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = LoadTestConfig.options(args);
+        List<String> baseUrls = Arrays.stream(options.getOrDefault("base-urls", "http://localhost:8080").split(","))
+                .map(url -> url.trim().replaceAll("/+$", ""))
+                .toList();
+        int operations = LoadTestConfig.intOption(options, "operations", 5000);
+        int concurrency = LoadTestConfig.intOption(options, "concurrency", 200);
+        int timeoutSeconds = LoadTestConfig.intOption(options, "timeout", 30);
+
+        Map<StepMetrics.Step, StepMetrics> metrics = StepMetrics.forSteps(List.of(StepMetrics.Step.LOGIN,
+                StepMetrics.Step.SEARCH, StepMetrics.Step.RESERVE, StepMetrics.Step.UPDATE, StepMetrics.Step.CANCEL));
+        List<ApiClient> instances = baseUrls.stream()
+                .map(url -> new ApiClient(url, timeoutSeconds, metrics))
+                .toList();
+
+        String[] tokens = login(instances, options);
+        List<String> roomIds = rooms(instances.get(0), options);
+        System.out.printf("Stress: %d operations, %d concurrent, rooms %s, instances %s%n",
+                operations, concurrency, roomIds, baseUrls);
+
+        StressTest test = new StressTest(roomIds, tokens, options);
+        test.instances.addAll(instances);
+        long start = System.currentTimeMillis();
+        test.run(operations, concurrency);
+        double elapsedSeconds = (System.currentTimeMillis() - start) / 1000.0;
+        Report.of("stress", concurrency, 0, 0, metrics, elapsedSeconds).print(System.out);
+
+        boolean failed;
+        try (InvariantChecker checker = new InvariantChecker(
+                options.getOrDefault("mongo-uri", "mongodb://localhost:27017"),
+                options.getOrDefault("database", "hotel_reservation"))) {
+            List<InvariantChecker.Oversold> oversold = checker.oversold(roomIds);
+            Map<String, String> resurrected = checker.resurrected(test.cancelled);
+            InvariantChecker.print(oversold, resurrected, System.out);
+            failed = !oversold.isEmpty() || !resurrected.isEmpty();
+        }
+
+        if (Boolean.parseBoolean(options.getOrDefault("cleanup", "true"))) {
+            test.cancelRemaining();
+        }
+        System.out.println(failed ? "FAILED: booking invariants violated" : "PASSED: no over-sold room-nights");
+        System.exit(failed ? 1 : 0);
+    }
+
+    private void run(int operations, int concurrency) throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(concurrency);
+        CountDownLatch startGate = new CountDownLatch(1);
+        for (int i = 0; i < operations; i++) {
+            int operation = i;
+            pool.execute(() -> {
+                try {
+                    startGate.await();
+                    execute(new SplittableRandom(seed ^ ((long) operation << 24)));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        // Release everything at once so the first wave collides
+        startGate.countDown();
+        pool.shutdown();
+        if (!pool.awaitTermination(1, TimeUnit.HOURS)) {
+            pool.shutdownNow();
+        }
+    }
+
+    private void execute(SplittableRandom random) {
+        ApiClient api = instances.get(random.nextInt(instances.size()));
+        int roll = random.nextInt(100);
+        Booking target = roll < createPercent ? null : pick(random);
+
+        if (target == null) {
+            int user = random.nextInt(tokens.length);
+            LocalDate checkIn = windowStart.plusDays(random.nextInt(windowDays));
+            JsonNode created = api.call(StepMetrics.Step.RESERVE, "POST", "/api/reservations", Map.of(
+                    "roomId", roomIds.get(random.nextInt(roomIds.size())),
+                    "checkInDate", checkIn.toString(),
+                    "checkOutDate", checkIn.plusDays(1 + random.nextInt(maxNights)).toString(),
+                    "numberOfGuests", 1,
+                    "specialRequests", "stress"), tokens[user]);
+            if (created != null) {
+                synchronized (live) {
+                    live.add(new Booking(created.path("id").asText(), user));
+                }
+            }
+        } else if (roll < createPercent + updatePercent) {
+            LocalDate checkIn = windowStart.plusDays(random.nextInt(windowDays));
+            api.call(StepMetrics.Step.UPDATE, "PUT", "/api/reservations/" + target.id(), Map.of(
+                    "checkInDate", checkIn.toString(),
+                    "checkOutDate", checkIn.plusDays(1 + random.nextInt(maxNights)).toString(),
+                    "numberOfGuests", 1), tokens[target.user()]);
+        } else if (cancel(api, target)) {
+            synchronized (live) {
+                live.remove(target);
+            }
+        }
+    }
+
+    private boolean cancel(ApiClient api, Booking booking) {
+        JsonNode result = api.call(StepMetrics.Step.CANCEL, "POST", "/api/reservations/" + booking.id() + "/cancel",
+                Map.of("reason", "stress"), tokens[booking.user()]);
+        if (result != null) {
+            cancelled.add(booking.id());
+        }
+        return result != null;
+    }
+
+    private Booking pick(SplittableRandom random) {
+        synchronized (live) {
+            return live.isEmpty() ? null : live.get(random.nextInt(live.size()));
+        }
+    }
+
+    /**
+     * Cancel what the run left behind so the next run starts from free rooms.
+     */
+    private void cancelRemaining() {
+        List<Booking> remaining;
+        synchronized (live) {
+            remaining = new ArrayList<>(live);
+            live.clear();
+        }
+        remaining.forEach(booking -> cancel(instances.get(0), booking));
+        System.out.printf("Cleaned up %d remaining reservations%n", remaining.size());
+    }
+
+    private static String[] login(List<ApiClient> instances, Map<String, String> options) {
+        String emailPattern = options.getOrDefault("email-pattern", "guest%d@datagen.hotelx.test");
+        String password = options.getOrDefault("password", "datagen123");
+        int firstUser = LoadTestConfig.intOption(options, "first-user", 2);
+        String[] tokens = new String[LoadTestConfig.intOption(options, "user-count", 50)];
+        for (int i = 0; i < tokens.length; i++) {
+            JsonNode auth = instances.get(i % instances.size()).call(StepMetrics.Step.LOGIN, "POST",
+                    "/api/auth/login", Map.of("email", String.format(emailPattern, firstUser + i),
+                            "password", password), null);
+            tokens[i] = auth == null ? null : auth.path("token").asText(null);
+            if (tokens[i] == null) {
+                throw new IllegalStateException("Login failed for " + String.format(emailPattern, firstUser + i));
+            }
+        }
+        return tokens;
+    }
+
+    private static List<String> rooms(ApiClient api, Map<String, String> options) {
+        if (options.containsKey("room-ids")) {
+            return Arrays.stream(options.get("room-ids").split(",")).map(String::trim).toList();
+        }
+        JsonNode rooms = api.call(StepMetrics.Step.SEARCH, "GET", "/api/rooms", null, null);
+        if (rooms == null || !rooms.isArray()) {
+            throw new IllegalStateException("Could not list rooms");
+        }
+        List<String> ids = new ArrayList<>();
+        rooms.forEach(room -> {
+            if (room.path("available").asBoolean() && room.path("capacity").asInt() >= 1) {
+                ids.add(room.path("id").asText());
+            }
+        });
+        ids.sort(null);
+        int count = LoadTestConfig.intOption(options, "rooms", 3);
+        if (ids.size() < count) {
+            throw new IllegalStateException("Only " + ids.size() + " listed rooms, need " + count);
+        }
+        return ids.subList(0, count);
+    }
+}
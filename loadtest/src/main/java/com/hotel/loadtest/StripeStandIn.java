@@ -0,0 +1,148 @@
+package com.hotel.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Minimal stand-in for the Stripe API, covering the calls the booking funnel
+ * makes: create and retrieve payment intents, retrieve payment methods and
+ * create refunds. Every intent reads back as succeeded, so the funnel never
+ * needs a browser. Start the backend with STRIPE_API_BASE pointing here.
+ *
+ * An optional fixed delay per call approximates the network round trip to
+ * the real API.
+ *
+ * @author Hotel Reservation Team
+ * @version 1.0
+ */
+public final class StripeStandIn {
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final int latencyMillis;
+    private final AtomicLong nextId = new AtomicLong();
+    private final Map<String, Long> intentAmounts = new ConcurrentHashMap<>();
+
+    StripeStandIn(int port, int latencyMillis) throws IOException {
+        this.latencyMillis = latencyMillis;
+        this.server = HttpServer.create(new InetSocketAddress(port), 512);
+        server.createContext("/v1/", this::handle);
+        server.setExecutor(executor);
+    }
+
+    /**
+     * Run the stand-in on its own, e.g. when the load driver runs elsewhere.
+     *
+     * @param args [port] [latency ms]
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 12111;
+        int latency = args.length > 1 ? Integer.parseInt(args[1]) : 0;
+        new StripeStandIn(port, latency).start();
+        System.out.printf("Stripe stand-in listening on http://localhost:%d%n", port);
+    }
+
+    void start() {
+        server.start();
+    }
+
+    void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (latencyMillis > 0) {
+                Thread.sleep(latencyMillis);
+            }
+            String method = exchange.getRequestMethod();
+            String[] path = exchange.getRequestURI().getPath().substring("/v1/".length()).split("/");
+            Map<String, String> form = parseForm(new String(exchange.getRequestBody().readAllBytes(),
+                    StandardCharsets.UTF_8));
+
+            if ("POST".equals(method) && path.length == 1 && "payment_intents".equals(path[0])) {
+                String id = "pi_standin" + nextId.incrementAndGet();
+                long amount = Long.parseLong(form.getOrDefault("amount", "0"));
+                intentAmounts.put(id, amount);
+                respond(exchange, 200, intent(id, amount, "requires_payment_method"));
+            } else if ("GET".equals(method) && path.length == 2 && "payment_intents".equals(path[0])) {
+                Long amount = intentAmounts.get(path[1]);
+                if (amount == null) {
+                    respond(exchange, 404, error("No such payment_intent: " + path[1]));
+                } else {
+                    respond(exchange, 200, intent(path[1], amount, "succeeded"));
+                }
+            } else if ("GET".equals(method) && path.length == 2 && "payment_methods".equals(path[0])) {
+                respond(exchange, 200, "{\"id\":\"" + path[1] + "\",\"object\":\"payment_method\",\"type\":\"card\","
+                        + "\"card\":{\"brand\":\"visa\",\"last4\":\"4242\"}}");
+            } else if ("POST".equals(method) && path.length == 1 && "refunds".equals(path[0])) {
+                String intentId = form.getOrDefault("payment_intent", "");
+                long amount = Long.parseLong(form.getOrDefault("amount",
+                        String.valueOf(intentAmounts.getOrDefault(intentId, 0L))));
+                respond(exchange, 200, "{\"id\":\"re_standin" + nextId.incrementAndGet() + "\",\"object\":\"refund\","
+                        + "\"amount\":" + amount + ",\"currency\":\"usd\",\"payment_intent\":\"" + intentId + "\","
+                        + "\"status\":\"succeeded\"}");
+            } else {
+                respond(exchange, 404, error("Unrecognized request URL (" + method + " "
+                        + exchange.getRequestURI().getPath() + ")"));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static String intent(String id, long amount, String status) {
+        String suffix = id.substring("pi_".length());
+        return "{\"id\":\"" + id + "\",\"object\":\"payment_intent\",\"amount\":" + amount
+                + ",\"currency\":\"usd\",\"status\":\"" + status + "\","
+                + "\"client_secret\":\"" + id + "_secret_standin\","
+                + ("succeeded".equals(status)
+                    ? "\"latest_charge\":\"ch_" + suffix + "\",\"payment_method\":\"pm_" + suffix + "\""
+                    : "\"latest_charge\":null,\"payment_method\":null")
+                + "}";
+    }
+
+    private static String error(String message) {
+        return "{\"error\":{\"type\":\"invalid_request_error\",\"message\":\"" + message.replace("\"", "'") + "\"}}";
+    }
+
+    private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.getResponseHeaders().set("Request-Id", "req_standin" + System.nanoTime());
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static Map<String, String> parseForm(String body) {
+        Map<String, String> form = new HashMap<>();
+        if (body.isEmpty()) {
+            return form;
+        }
+        for (String pair : body.split("&")) {
+            int split = pair.indexOf('=');
+            if (split > 0) {
+                form.put(URLDecoder.decode(pair.substring(0, split), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(split + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return form;
+    }
+}